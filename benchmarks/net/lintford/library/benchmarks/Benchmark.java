@@ -0,0 +1,51 @@
+package net.lintford.library.benchmarks;
+
+/**
+ * A single benchmarked operation, run by the {@link BenchmarkRunner}. The runner calls {@link #run(int)} with an increasing number of operations until one invocation takes long enough to be timed
+ * reliably, and then reports the time per operation over a number of warmup and measured iterations.
+ */
+public abstract class Benchmark {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final String mName;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public String name() {
+		return mName;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	protected Benchmark(String pName) {
+		mName = pName;
+
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/** Called once before the benchmark is calibrated and run. Any state the operation needs should be created here, so that it isn't part of the measurement. */
+	public void setup() throws Exception {
+
+	}
+
+	/**
+	 * Performs the benchmarked operation pOperations times. The returned value should be derived from the results of the operations, so that the JIT compiler cannot remove the work as dead code.
+	 */
+	public abstract double run(int pOperations);
+
+	/** Called once after the benchmark has been measured. */
+	public void tearDown() {
+
+	}
+
+}
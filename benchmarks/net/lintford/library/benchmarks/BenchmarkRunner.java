@@ -0,0 +1,252 @@
+package net.lintford.library.benchmarks;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import net.lintford.library.benchmarks.audio.OggStreamDecodeBenchmarks;
+import net.lintford.library.benchmarks.box2d.PObjectSpawnBenchmarks;
+import net.lintford.library.benchmarks.collisions.BroadPhaseBenchmarks;
+import net.lintford.library.benchmarks.collisions.SatBenchmarks;
+import net.lintford.library.benchmarks.debug.FrameProfilerBenchmarks;
+import net.lintford.library.benchmarks.definitions.DefinitionLoadingBenchmarks;
+import net.lintford.library.benchmarks.fonts.BitmapFontBenchmarks;
+import net.lintford.library.benchmarks.maths.Matrix4fBenchmarks;
+import net.lintford.library.benchmarks.maths.SplineBenchmarks;
+import net.lintford.library.benchmarks.noise.SimplexNoiseBenchmarks;
+import net.lintford.library.benchmarks.particles.ParticleUpdateBenchmarks;
+import net.lintford.library.benchmarks.particles.ParticleVertexBuilderBenchmarks;
+import net.lintford.library.benchmarks.textures.SpriteCommandBufferBenchmarks;
+import net.lintford.library.benchmarks.textures.TextureDecodeBenchmarks;
+import net.lintford.library.core.debug.Debug;
+import net.lintford.library.core.debug.Debug.DebugLogLevel;
+
+/**
+ * Runs the CPU-side benchmarks of the library and reports the time per operation of each. None of the benchmarks require a window or GL context, so the suite can be run headless (i.e. on a build server,
+ * to track regressions per commit).
+ * <p>
+ * Arguments:
+ * <ul>
+ * <li>-filter [text] : only run the benchmarks whose name contains the given text</li>
+ * <li>-csv [filename] : append the results to the given csv file</li>
+ * <li>-label [text] : the label written into the first column of the csv file (i.e. the commit id)</li>
+ * <li>-warmup [n] : the number of warmup iterations (default {@value #DEFAULT_WARMUP_ITERATIONS})</li>
+ * <li>-iterations [n] : the number of measured iterations (default {@value #DEFAULT_MEASURED_ITERATIONS})</li>
+ * <li>-time [ms] : the minimum duration of a single iteration (default {@value #DEFAULT_ITERATION_TIME_MILLI})</li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int DEFAULT_WARMUP_ITERATIONS = 5;
+	public static final int DEFAULT_MEASURED_ITERATIONS = 10;
+	public static final int DEFAULT_ITERATION_TIME_MILLI = 100;
+
+	public static final String CSV_HEADER = "label,benchmark,ns/op,min ns/op,max ns/op,stddev ns/op,ops/iteration,iterations";
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final List<Benchmark> mBenchmarks = new ArrayList<>();
+
+	private String mFilter;
+	private String mCsvFilename;
+	private String mLabel = "local";
+	private int mWarmupIterations = DEFAULT_WARMUP_ITERATIONS;
+	private int mMeasuredIterations = DEFAULT_MEASURED_ITERATIONS;
+	private long mIterationTimeNano = DEFAULT_ITERATION_TIME_MILLI * 1000000L;
+
+	// Written to, so that the JIT cannot remove the benchmarked operations
+	private static double sBlackhole;
+
+	// --------------------------------------
+	// Entry-Point
+	// --------------------------------------
+
+	public static void main(String[] pArgs) {
+		System.setProperty("java.awt.headless", "true");
+		Debug.debugManager(DebugLogLevel.off);
+
+		final var lRunner = new BenchmarkRunner();
+		if (!lRunner.parseArguments(pArgs))
+			return;
+
+		lRunner.addBenchmarks(SatBenchmarks.create());
+		lRunner.addBenchmarks(BroadPhaseBenchmarks.create());
+		lRunner.addBenchmarks(Matrix4fBenchmarks.create());
+		lRunner.addBenchmarks(SplineBenchmarks.create());
+		lRunner.addBenchmarks(SimplexNoiseBenchmarks.create());
+		lRunner.addBenchmarks(ParticleUpdateBenchmarks.create());
+		lRunner.addBenchmarks(ParticleVertexBuilderBenchmarks.create());
+		lRunner.addBenchmarks(DefinitionLoadingBenchmarks.create());
+		lRunner.addBenchmarks(BitmapFontBenchmarks.create());
+		lRunner.addBenchmarks(TextureDecodeBenchmarks.create());
+		lRunner.addBenchmarks(OggStreamDecodeBenchmarks.create());
+		lRunner.addBenchmarks(SpriteCommandBufferBenchmarks.create());
+		lRunner.addBenchmarks(FrameProfilerBenchmarks.create());
+		lRunner.addBenchmarks(PObjectSpawnBenchmarks.create());
+
+		lRunner.runAll();
+
+		System.out.println("(" + sBlackhole + ")");
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void addBenchmarks(Benchmark... pBenchmarks) {
+		for (final var lBenchmark : pBenchmarks) {
+			if (mFilter == null || lBenchmark.name().contains(mFilter))
+				mBenchmarks.add(lBenchmark);
+
+		}
+
+	}
+
+	private boolean parseArguments(String[] pArgs) {
+		for (int i = 0; i < pArgs.length; i++) {
+			final var lArg = pArgs[i];
+			if (i + 1 >= pArgs.length) {
+				System.err.println("Missing value for argument " + lArg);
+				return false;
+			}
+
+			final var lValue = pArgs[++i];
+			switch (lArg) {
+			case "-filter":
+				mFilter = lValue;
+				break;
+			case "-csv":
+				mCsvFilename = lValue;
+				break;
+			case "-label":
+				mLabel = lValue;
+				break;
+			case "-warmup":
+				mWarmupIterations = Integer.parseInt(lValue);
+				break;
+			case "-iterations":
+				mMeasuredIterations = Math.max(1, Integer.parseInt(lValue));
+				break;
+			case "-time":
+				mIterationTimeNano = Long.parseLong(lValue) * 1000000L;
+				break;
+			default:
+				System.err.println("Unknown argument " + lArg);
+				return false;
+			}
+
+		}
+
+		return true;
+
+	}
+
+	private void runAll() {
+		System.out.println(String.format("%-40s %14s %14s %14s %12s", "benchmark", "ns/op", "min", "max", "stddev"));
+
+		final var lResults = new ArrayList<String>();
+		for (final var lBenchmark : mBenchmarks) {
+			try {
+				lBenchmark.setup();
+
+			} catch (Exception e) {
+				System.err.println(String.format("%-40s setup failed: %s", lBenchmark.name(), e.getMessage()));
+				continue;
+
+			}
+
+			lResults.add(runBenchmark(lBenchmark));
+			lBenchmark.tearDown();
+
+		}
+
+		if (mCsvFilename != null)
+			writeCsv(lResults);
+
+	}
+
+	private String runBenchmark(Benchmark pBenchmark) {
+		// Find a number of operations which takes at least the iteration time
+		int lOperations = 1;
+		while (true) {
+			final long lStartTime = System.nanoTime();
+			sBlackhole += pBenchmark.run(lOperations);
+			final long lElapsedTime = System.nanoTime() - lStartTime;
+
+			if (lElapsedTime >= mIterationTimeNano || lOperations >= Integer.MAX_VALUE / 2)
+				break;
+
+			lOperations *= 2;
+
+		}
+
+		for (int i = 0; i < mWarmupIterations; i++) {
+			sBlackhole += pBenchmark.run(lOperations);
+
+		}
+
+		final double[] lTimesPerOperation = new double[mMeasuredIterations];
+		for (int i = 0; i < mMeasuredIterations; i++) {
+			final long lStartTime = System.nanoTime();
+			sBlackhole += pBenchmark.run(lOperations);
+			lTimesPerOperation[i] = (double) (System.nanoTime() - lStartTime) / lOperations;
+
+		}
+
+		double lMin = Double.MAX_VALUE;
+		double lMax = 0;
+		double lSum = 0;
+		for (int i = 0; i < mMeasuredIterations; i++) {
+			lMin = Math.min(lMin, lTimesPerOperation[i]);
+			lMax = Math.max(lMax, lTimesPerOperation[i]);
+			lSum += lTimesPerOperation[i];
+
+		}
+
+		final double lMean = lSum / mMeasuredIterations;
+		double lVariance = 0;
+		for (int i = 0; i < mMeasuredIterations; i++) {
+			lVariance += (lTimesPerOperation[i] - lMean) * (lTimesPerOperation[i] - lMean);
+
+		}
+
+		final double lStdDev = Math.sqrt(lVariance / mMeasuredIterations);
+
+		System.out.println(String.format("%-40s %14.1f %14.1f %14.1f %12.1f", pBenchmark.name(), lMean, lMin, lMax, lStdDev));
+
+		return String.format(Locale.US, "%s,%s,%.2f,%.2f,%.2f,%.2f,%d,%d", mLabel, pBenchmark.name(), lMean, lMin, lMax, lStdDev, lOperations, mMeasuredIterations);
+
+	}
+
+	private void writeCsv(List<String> pResults) {
+		final var lCsvFile = new File(mCsvFilename);
+		final boolean lWriteHeader = !lCsvFile.exists() || lCsvFile.length() == 0;
+
+		try (final var lWriter = new PrintWriter(new FileWriter(lCsvFile, true))) {
+			if (lWriteHeader)
+				lWriter.println(CSV_HEADER);
+
+			for (final var lLine : pResults) {
+				lWriter.println(lLine);
+
+			}
+
+		} catch (IOException e) {
+			System.err.println("Unable to write the benchmark results to " + mCsvFilename + ": " + e.getMessage());
+
+		}
+
+	}
+
+}
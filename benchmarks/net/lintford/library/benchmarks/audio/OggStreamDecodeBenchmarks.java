@@ -0,0 +1,403 @@
+package net.lintford.library.benchmarks.audio;
+
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.openal.AL;
+import org.lwjgl.openal.AL10;
+import org.lwjgl.openal.ALC;
+import org.lwjgl.openal.ALC10;
+import org.lwjgl.stb.STBVorbis;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.libc.LibCStdlib;
+
+import net.lintford.library.GameInfo;
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.audio.AudioManager;
+import net.lintford.library.core.audio.AudioSource;
+import net.lintford.library.core.audio.AudioStream;
+import net.lintford.library.core.audio.data.OggVorbisStreamDecoder;
+import net.lintford.library.core.audio.data.StreamingOGGAudioData;
+import net.lintford.library.options.AudioConfig;
+
+/**
+ * Benchmarks decoding the embedded Ogg Vorbis check file with the {@link OggVorbisStreamDecoder}, in the chunks an {@link AudioStream} decodes, against decoding the whole file in one call. One operation is
+ * the decoding of the whole file.
+ * <p>
+ * The decoder doesn't need an audio device, so its output is also checked here: {@link #checkStreamDecoder()} compares the chunked decode, seeks and rewinds against a full stb_vorbis_decode_filename
+ * decode. {@link #checkAudioStream()} seeks and rewinds an {@link AudioStream} (checking the chunks of older generations are dropped), but needs an OpenAL device and is skipped without one. The checks are
+ * run in the setup of the benchmarks, and can be run on their own through {@link #main(String[])}.
+ */
+public class OggStreamDecodeBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final String OGG_RESOURCE = "/res/music/streamCheck.ogg";
+
+	private static final long AUDIO_STREAM_TIMEOUT_MILLI = 2000;
+
+	// --------------------------------------
+	// Entry-Point
+	// --------------------------------------
+
+	public static void main(String[] pArgs) {
+		try {
+			checkStreamDecoder();
+			if (!checkAudioStream())
+				System.out.println("No OpenAL device, the AudioStream checks were skipped");
+
+		} catch (IllegalStateException e) {
+			System.err.println("Ogg stream check failed: " + e.getMessage());
+			System.exit(1);
+
+		}
+
+		System.out.println("Ogg stream checks passed");
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				new Benchmark("Ogg decode OggVorbisStreamDecoder (chunks)") {
+					private ByteBuffer mVorbisData;
+					private ShortBuffer mPcm;
+
+					@Override
+					public void setup() {
+						checkStreamDecoder();
+
+						mVorbisData = readVorbisData();
+						mPcm = BufferUtils.createShortBuffer(AudioStream.SAMPLES_PER_BUFFER * 2);
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							try (final var lDecoder = openDecoder(mVorbisData)) {
+								while (!lDecoder.isEndOfStream()) {
+									mPcm.clear();
+									mPcm.limit(AudioStream.SAMPLES_PER_BUFFER * lDecoder.channels());
+									if (lDecoder.decode(mPcm) == 0)
+										break;
+
+								}
+
+								lResult += lDecoder.sampleOffset();
+
+							}
+
+						}
+
+						return lResult;
+
+					}
+				},
+
+				new Benchmark("Ogg decode stb_vorbis_decode_memory (whole)") {
+					private ByteBuffer mVorbisData;
+
+					@Override
+					public void setup() {
+						mVorbisData = readVorbisData();
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						try (final var lStack = MemoryStack.stackPush()) {
+							final IntBuffer lChannels = lStack.mallocInt(1);
+							final IntBuffer lSampleRate = lStack.mallocInt(1);
+							for (int i = 0; i < pOperations; i++) {
+								final var lPcm = STBVorbis.stb_vorbis_decode_memory(mVorbisData, lChannels, lSampleRate);
+								lResult += lPcm.remaining();
+								LibCStdlib.free(lPcm);
+
+							}
+
+						}
+
+						return lResult;
+
+					}
+				} };
+
+	}
+
+	/** Decodes the check file in chunks, after seeks and after a rewind, and compares the samples against a full decode of the file. Throws an {@link IllegalStateException} describing the first mismatch. */
+	public static void checkStreamDecoder() {
+		final ShortBuffer lExpected = decodeWholeFile();
+		final var lVorbisData = readVorbisData();
+
+		try (final var lDecoder = openDecoder(lVorbisData)) {
+			final int lChannels = lDecoder.channels();
+			check("length in samples", lExpected.remaining() / lChannels, lDecoder.lengthInSamples());
+
+			// odd chunk sizes, so chunks end inside the frames of the decoder
+			checkChunkedDecode("from start", lDecoder, lExpected, 0, 1000);
+			check("end of stream", true, lDecoder.isEndOfStream());
+			check("decode at end of stream", 0, lDecoder.decode(BufferUtils.createShortBuffer(lChannels * 16)));
+
+			check("rewind", true, lDecoder.rewind());
+			check("rewind offset", 0, lDecoder.sampleOffset());
+			checkChunkedDecode("after rewind", lDecoder, lExpected, 0, 777);
+
+			final int lSeekSample = lDecoder.lengthInSamples() / 3 + 17;
+			check("seek", true, lDecoder.seek(lSeekSample));
+			check("seek offset", lSeekSample, lDecoder.sampleOffset());
+			checkChunkedDecode("after seek", lDecoder, lExpected, lSeekSample, 513);
+
+			check("seek to end", true, lDecoder.seek(lDecoder.lengthInSamples()));
+			check("seek to end of stream", true, lDecoder.isEndOfStream());
+
+			check("seek back to start", true, lDecoder.seek(0));
+			checkChunkedDecode("after seek to start", lDecoder, lExpected, 0, AudioStream.SAMPLES_PER_BUFFER);
+
+		}
+
+	}
+
+	/**
+	 * Plays the check file on an {@link AudioStream}, and seeks and rewinds it while chunks of the previous generation are still waiting to be queued. The first buffer queued after each seek has to start at the
+	 * seeked sample. Returns false (without checking anything) if no OpenAL device could be opened.
+	 */
+	public static boolean checkAudioStream() {
+		final long lDevice = ALC10.alcOpenDevice((ByteBuffer) null);
+		if (lDevice == NULL)
+			return false;
+
+		final long lContext = ALC10.alcCreateContext(lDevice, (IntBuffer) null);
+		try {
+			ALC10.alcMakeContextCurrent(lContext);
+			AL.createCapabilities(ALC.createCapabilities(lDevice));
+
+			final var lAudioData = new StreamingOGGAudioData();
+			try (final var lInputStream = OggStreamDecodeBenchmarks.class.getResourceAsStream(OGG_RESOURCE)) {
+				check("audio data decoded", true, lAudioData.decodeAudioFromInputStream(OGG_RESOURCE, lInputStream));
+
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+
+			}
+
+			check("audio data uploaded", true, lAudioData.uploadDecodedAudio());
+
+			// the source needs the music volume of an audio manager, whose config is written to a temporary file
+			final var lConfigFile = createTempFile("audioCheck", ".ini");
+			final var lAudioManager = new AudioManager(new AudioConfig(new GameInfo() {
+			}, lConfigFile.toString()));
+
+			final var lAudioSource = new AudioSource();
+			lAudioSource.assign(lAudioSource.hashCode(), lAudioManager.musicNubble());
+
+			final var lAudioStream = new AudioStream(lAudioSource);
+			try {
+				final int lSampleRate = lAudioData.frequency();
+
+				check("play", true, lAudioStream.play(lAudioData));
+				lAudioStream.pause();
+				waitForDecodedChunks();
+
+				// the chunks decoded from the start belong to the previous generation, and mustn't be queued
+				final float lSeekTime = .5f;
+				final int lSeekSample = (int) (lSeekTime * lSampleRate);
+				lAudioStream.seek(lSeekTime);
+				waitForQueuedBuffer(lAudioStream);
+				check("seek playback sample", lSeekSample, Math.round(lAudioStream.playbackTimeInSeconds() * lSampleRate));
+
+				waitForDecodedChunks();
+				lAudioStream.seek(0.f);
+				waitForQueuedBuffer(lAudioStream);
+				check("rewind playback sample", 0, Math.round(lAudioStream.playbackTimeInSeconds() * lSampleRate));
+
+				lAudioStream.stop();
+				check("stopped", AudioStream.STATE_STOPPED, lAudioStream.state());
+
+			} finally {
+				lAudioStream.dispose();
+				lAudioSource.dispose();
+				deleteFile(lConfigFile);
+
+			}
+
+		} finally {
+			ALC10.alcMakeContextCurrent(NULL);
+			ALC10.alcDestroyContext(lContext);
+			ALC10.alcCloseDevice(lDevice);
+
+		}
+
+		return true;
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private static void checkChunkedDecode(String pName, OggVorbisStreamDecoder pDecoder, ShortBuffer pExpected, int pStartSample, int pChunkSamples) {
+		final int lChannels = pDecoder.channels();
+		final var lPcm = BufferUtils.createShortBuffer(pChunkSamples * lChannels);
+
+		int lSample = pStartSample;
+		while (true) {
+			lPcm.clear();
+			final int lSamplesDecoded = pDecoder.decode(lPcm);
+			if (lSamplesDecoded == 0)
+				break;
+
+			check(pName + " buffer position", lSamplesDecoded * lChannels, lPcm.position());
+			for (int i = 0; i < lSamplesDecoded * lChannels; i++) {
+				final int lIndex = lSample * lChannels + i;
+				if (lPcm.get(i) != pExpected.get(lIndex))
+					throw new IllegalStateException(pName + " sample " + lIndex + ": expected " + pExpected.get(lIndex) + " but was " + lPcm.get(i));
+
+			}
+
+			lSample += lSamplesDecoded;
+			check(pName + " sample offset", lSample, pDecoder.sampleOffset());
+
+		}
+
+		check(pName + " samples decoded", pExpected.remaining() / lChannels, lSample);
+
+	}
+
+	/** The reference decode, which goes through a file as stb_vorbis_decode_filename can't read from the classpath. */
+	private static ShortBuffer decodeWholeFile() {
+		final var lFile = createTempFile("streamCheck", ".ogg");
+		try {
+			try (final var lInputStream = OggStreamDecodeBenchmarks.class.getResourceAsStream(OGG_RESOURCE)) {
+				Files.copy(lInputStream, lFile, StandardCopyOption.REPLACE_EXISTING);
+
+			}
+
+			try (final var lStack = MemoryStack.stackPush()) {
+				final IntBuffer lChannels = lStack.mallocInt(1);
+				final IntBuffer lSampleRate = lStack.mallocInt(1);
+				final var lPcm = STBVorbis.stb_vorbis_decode_filename(lFile.toString(), lChannels, lSampleRate);
+				if (lPcm == null)
+					throw new IllegalStateException("stb_vorbis_decode_filename couldn't decode " + OGG_RESOURCE);
+
+				// copied onto the heap, so the native buffer can be freed right away
+				final var lResult = ShortBuffer.allocate(lPcm.remaining());
+				lResult.put(lPcm.duplicate()).flip();
+				LibCStdlib.free(lPcm);
+
+				return lResult;
+
+			}
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+
+		} finally {
+			deleteFile(lFile);
+
+		}
+
+	}
+
+	private static Path createTempFile(String pPrefix, String pSuffix) {
+		try {
+			return Files.createTempFile(pPrefix, pSuffix);
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+
+		}
+
+	}
+
+	private static void deleteFile(Path pFile) {
+		try {
+			Files.deleteIfExists(pFile);
+
+		} catch (IOException e) {
+			// only a temporary file
+
+		}
+
+	}
+
+	private static ByteBuffer readVorbisData() {
+		try (final var lInputStream = OggStreamDecodeBenchmarks.class.getResourceAsStream(OGG_RESOURCE)) {
+			if (lInputStream == null)
+				throw new IllegalStateException("Missing resource " + OGG_RESOURCE);
+
+			return OggVorbisStreamDecoder.readVorbisData(lInputStream);
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+
+		}
+
+	}
+
+	private static OggVorbisStreamDecoder openDecoder(ByteBuffer pVorbisData) {
+		try {
+			return new OggVorbisStreamDecoder(pVorbisData);
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+
+		}
+
+	}
+
+	/** Gives the decoder thread of the stream time to fill its free chunks, without handing them to the source. */
+	private static void waitForDecodedChunks() {
+		try {
+			Thread.sleep(50);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+		}
+
+	}
+
+	private static void waitForQueuedBuffer(AudioStream pAudioStream) {
+		final long lTimeout = System.currentTimeMillis() + AUDIO_STREAM_TIMEOUT_MILLI;
+		while (AL10.alGetSourcei(pAudioStream.audioSource().sourceID(), AL10.AL_BUFFERS_QUEUED) == 0) {
+			if (System.currentTimeMillis() > lTimeout)
+				throw new IllegalStateException("No buffer was queued on the stream within " + AUDIO_STREAM_TIMEOUT_MILLI + "ms");
+
+			pAudioStream.update();
+			Thread.onSpinWait();
+
+		}
+
+	}
+
+	private static void check(String pName, int pExpected, int pActual) {
+		if (pExpected != pActual)
+			throw new IllegalStateException(pName + ": expected " + pExpected + " but was " + pActual);
+
+	}
+
+	private static void check(String pName, boolean pExpected, boolean pActual) {
+		if (pExpected != pActual)
+			throw new IllegalStateException(pName + ": expected " + pExpected + " but was " + pActual);
+
+	}
+
+}
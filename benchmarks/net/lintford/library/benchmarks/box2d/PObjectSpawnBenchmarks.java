@@ -0,0 +1,161 @@
+package net.lintford.library.benchmarks.box2d;
+
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.BodyType;
+import org.jbox2d.dynamics.World;
+import org.jbox2d.dynamics.joints.RevoluteJointDef;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.box2d.PObjectManager;
+import net.lintford.library.core.box2d.definition.Box2dBodyDefinition;
+import net.lintford.library.core.box2d.definition.Box2dFixtureDefinition;
+import net.lintford.library.core.box2d.definition.Box2dJointDefinition;
+import net.lintford.library.core.box2d.definition.PObjectDefinition;
+import net.lintford.library.core.box2d.entities.JBox2dEntityInstance;
+import net.lintford.library.core.box2d.instance.Box2dPolygonInstance;
+
+/**
+ * Benchmarks spawning PObjects into a headless JBox2D {@link World} through the {@link PObjectManager}, and despawning them again. A fixed number of instances are kept alive in a ring, so each operation
+ * despawns the oldest instance (unloading its physics and returning it to the pool) and spawns a new one (taking it from the pool and loading its physics). The world takes a zero length step every
+ * {@link #SPAWNS_PER_FRAME} operations, as it would once per frame, which flushes the moved proxies out of the broad-phase (without it, destroying a proxy gets slower with every spawn).
+ */
+public class PObjectSpawnBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_LIVE_INSTANCES = 256;
+	public static final int SPAWNS_PER_FRAME = 16;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				createSpawnBenchmark("PObjectManager.spawn (ragdoll, 6 bodies, 5 revolute joints)", 6), //
+				createSpawnBenchmark("PObjectManager.spawn (debris, 1 body)", 1) };
+
+	}
+
+	private static Benchmark createSpawnBenchmark(String pName, int pNumBodies) {
+		return new Benchmark(pName) {
+			private World mWorld;
+			private PObjectManager mPObjectManager;
+			private PObjectDefinition mDefinition;
+			private JBox2dEntityInstance[] mLiveInstances;
+			private int mNextInstanceIndex;
+
+			@Override
+			public void setup() {
+				mWorld = new World(new Vec2(0f, -10f));
+				mPObjectManager = new PObjectManager();
+				mDefinition = createChainDefinition(pNumBodies);
+				mLiveInstances = new JBox2dEntityInstance[NUM_LIVE_INSTANCES];
+				mNextInstanceIndex = 0;
+
+			}
+
+			@Override
+			public double run(int pOperations) {
+				double lResult = 0;
+				for (int i = 0; i < pOperations; i++) {
+					final int lIndex = mNextInstanceIndex;
+					mNextInstanceIndex = (mNextInstanceIndex + 1) % NUM_LIVE_INSTANCES;
+
+					final var lOldInstance = mLiveInstances[lIndex];
+					if (lOldInstance != null) {
+						lOldInstance.unloadPhysics();
+						mPObjectManager.returnPooledItem(lOldInstance);
+
+					}
+
+					final var lNewInstance = mPObjectManager.getNewInstanceFromPObject(mWorld, mDefinition);
+					lNewInstance.loadPhysics(mWorld);
+					lNewInstance.transformEntityInstance(lIndex * 64f, 0f);
+					mLiveInstances[lIndex] = lNewInstance;
+
+					lResult += lNewInstance.bodies().size();
+
+					if (mNextInstanceIndex % SPAWNS_PER_FRAME == 0)
+						mWorld.step(0f, 1, 1);
+
+				}
+
+				return lResult;
+
+			}
+
+			@Override
+			public void tearDown() {
+				for (int i = 0; i < NUM_LIVE_INSTANCES; i++) {
+					if (mLiveInstances[i] != null) {
+						mLiveInstances[i].unloadPhysics();
+						mPObjectManager.returnPooledItem(mLiveInstances[i]);
+
+					}
+
+				}
+
+			}
+		};
+
+	}
+
+	/** Creates a definition of a chain of dynamic boxes, each joined to the previous by a revolute joint (a crude ragdoll). */
+	public static PObjectDefinition createChainDefinition(int pNumBodies) {
+		final var lDefinition = new PObjectDefinition();
+
+		for (int i = 0; i < pNumBodies; i++) {
+			final var lBodyDefinition = new Box2dBodyDefinition();
+			lBodyDefinition.name = i == 0 ? JBox2dEntityInstance.MAIN_BODY_NAME : "Body" + i;
+			lBodyDefinition.bodyTypeIndex = Box2dBodyDefinition.BODY_TYPE_INDEX_DYNAMIC;
+			lBodyDefinition.bodyDefinition.type = BodyType.DYNAMIC;
+			lBodyDefinition.bodyDefinition.position.set(0f, -i * 0.5f);
+			lBodyDefinition.massCenter = new Vec2();
+
+			final var lShape = new PolygonShape();
+			lShape.setAsBox(0.2f, 0.25f);
+
+			final var lShapeInstance = new Box2dPolygonInstance();
+			lShapeInstance.vertexCount = lShape.getVertexCount();
+			lShapeInstance.vertices = new Vec2[lShapeInstance.vertexCount];
+			for (int j = 0; j < lShapeInstance.vertexCount; j++)
+				lShapeInstance.vertices[j] = new Vec2(lShape.getVertex(j));
+
+			final var lFixtureDefinition = new Box2dFixtureDefinition();
+			lFixtureDefinition.name = i == 0 ? JBox2dEntityInstance.MAIN_FIXTURE_NAME : "Fixture" + i;
+			lFixtureDefinition.fixtureDef.density = 1f;
+			lFixtureDefinition.fixtureDef.friction = 0.5f;
+			lFixtureDefinition.shape = lShapeInstance;
+			lBodyDefinition.fixtureList.add(lFixtureDefinition);
+
+			lDefinition.bodies().add(lBodyDefinition);
+
+			if (i > 0) {
+				final var lRevoluteJointDef = new RevoluteJointDef();
+				lRevoluteJointDef.localAnchorA.set(0f, -0.25f);
+				lRevoluteJointDef.localAnchorB.set(0f, 0.25f);
+				lRevoluteJointDef.enableLimit = true;
+				lRevoluteJointDef.lowerAngle = -0.5f;
+				lRevoluteJointDef.upperAngle = 0.5f;
+
+				final var lJointDefinition = new Box2dJointDefinition();
+				lJointDefinition.name = "Joint" + i;
+				lJointDefinition.jointDef = lRevoluteJointDef;
+				lJointDefinition.bodyAIndex = i - 1;
+				lJointDefinition.bodyBIndex = i;
+				lDefinition.joints().add(lJointDefinition);
+
+			}
+
+		}
+
+		return lDefinition;
+
+	}
+
+}
@@ -0,0 +1,119 @@
+package net.lintford.library.benchmarks.collisions;
+
+import java.util.Random;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.collisions.broadphase.BroadPhase;
+import net.lintford.library.core.collisions.broadphase.DynamicAABBTree;
+import net.lintford.library.core.collisions.broadphase.ProxyPairList;
+import net.lintford.library.core.collisions.broadphase.SpatialHashGrid;
+import net.lintford.library.core.geometry.Circle;
+import net.lintford.library.core.geometry.Rectangle;
+import net.lintford.library.core.geometry.Shape;
+
+/**
+ * Benchmarks a frame of the broad-phase with {@link #NUM_ENTITIES} moving rectangles and circles: every entity is moved and updated in the broad-phase, after which the overlapping pairs are queried. One
+ * operation is one frame.
+ */
+public class BroadPhaseBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_ENTITIES = 10000;
+	public static final float WORLD_SIZE = 4096.f;
+	public static final float MIN_ENTITY_SIZE = 4.f;
+	public static final float MAX_ENTITY_SIZE = 16.f;
+	public static final float MAX_SPEED = 2.f;
+
+	public static final float GRID_CELL_SIZE = 32.f;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				createBenchmark("BroadPhase frame (hash grid)", false, true), //
+				createBenchmark("BroadPhase frame (aabb tree)", true, true), //
+				createBenchmark("BroadPhase queryPairs (hash grid)", false, false), //
+				createBenchmark("BroadPhase queryPairs (aabb tree)", true, false) };
+
+	}
+
+	private static Benchmark createBenchmark(String pName, boolean pUseTree, boolean pMoveEntities) {
+		return new Benchmark(pName) {
+			private BroadPhase mBroadPhase;
+			private Shape[] mShapes;
+			private int[] mProxyIds;
+			private float[] mVelocities;
+			private final ProxyPairList mPairs = new ProxyPairList();
+
+			@Override
+			public void setup() {
+				mBroadPhase = pUseTree ? new DynamicAABBTree() : new SpatialHashGrid(GRID_CELL_SIZE);
+				mShapes = new Shape[NUM_ENTITIES];
+				mProxyIds = new int[NUM_ENTITIES];
+				mVelocities = new float[NUM_ENTITIES * 2];
+
+				final var lRandom = new Random(1234);
+				for (int i = 0; i < NUM_ENTITIES; i++) {
+					final float lX = lRandom.nextFloat() * WORLD_SIZE;
+					final float lY = lRandom.nextFloat() * WORLD_SIZE;
+					final float lSize = MIN_ENTITY_SIZE + lRandom.nextFloat() * (MAX_ENTITY_SIZE - MIN_ENTITY_SIZE);
+
+					mShapes[i] = i % 2 == 0 ? new Rectangle(lX, lY, lSize, lSize) : new Circle(lX, lY, lSize / 2.f);
+					mProxyIds[i] = mBroadPhase.insert(mShapes[i]);
+
+					mVelocities[i * 2] = (lRandom.nextFloat() * 2.f - 1.f) * MAX_SPEED;
+					mVelocities[i * 2 + 1] = (lRandom.nextFloat() * 2.f - 1.f) * MAX_SPEED;
+
+				}
+
+			}
+
+			@Override
+			public double run(int pOperations) {
+				for (int i = 0; i < pOperations; i++) {
+					if (pMoveEntities)
+						moveEntities();
+
+					mPairs.clear();
+					mBroadPhase.queryPairs(mPairs);
+
+				}
+
+				return mPairs.pairCount();
+
+			}
+
+			private void moveEntities() {
+				for (int i = 0; i < NUM_ENTITIES; i++) {
+					final var lShape = mShapes[i];
+
+					float lX = lShape.centerX() + mVelocities[i * 2];
+					float lY = lShape.centerY() + mVelocities[i * 2 + 1];
+
+					// Bounce off the edges of the world
+					if (lX < 0 || lX > WORLD_SIZE)
+						mVelocities[i * 2] = -mVelocities[i * 2];
+					if (lY < 0 || lY > WORLD_SIZE)
+						mVelocities[i * 2 + 1] = -mVelocities[i * 2 + 1];
+
+					if (lShape instanceof Rectangle)
+						((Rectangle) lShape).setCenterPosition(lX, lY);
+					else
+						((Circle) lShape).setPosition(lX, lY);
+
+					mBroadPhase.move(mProxyIds[i]);
+
+				}
+
+			}
+		};
+
+	}
+
+}
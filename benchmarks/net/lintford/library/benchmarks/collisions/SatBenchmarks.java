@@ -0,0 +1,154 @@
+package net.lintford.library.benchmarks.collisions;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.collisions.SAT;
+import net.lintford.library.core.collisions.SATContext;
+import net.lintford.library.core.geometry.Circle;
+import net.lintford.library.core.geometry.Polygon;
+import net.lintford.library.core.geometry.Rectangle;
+import net.lintford.library.core.maths.Vector2f;
+
+/** Benchmarks {@link SAT#intersects} between the different {@link net.lintford.library.core.geometry.Shape}s, as well as the {@link Polygon#getAxes()} and {@link Polygon#project} it is built on. */
+public class SatBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_SHAPES = 64;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		final var lPolygons = new Polygon[NUM_SHAPES];
+		final var lRectangles = new Rectangle[NUM_SHAPES];
+		final var lCircles = new Circle[NUM_SHAPES];
+
+		for (int i = 0; i < NUM_SHAPES; i++) {
+			// Half of the shapes overlap their neighbours, so that both the early-out and the full test are measured
+			final float lX = i * 12.f;
+			final float lY = (i % 4) * 12.f;
+
+			lPolygons[i] = createPolygon(lX, lY, 3 + i % 6, 10.f);
+			lRectangles[i] = new Rectangle(lX, lY, 16.f, 16.f);
+			lRectangles[i].rotateAbs(i * 0.1f);
+			lCircles[i] = new Circle(lX, lY, 8.f);
+
+		}
+
+		return new Benchmark[] {
+
+				new Benchmark("SAT.intersects polygon-polygon") {
+					@Override
+					public double run(int pOperations) {
+						int lHits = 0;
+						for (int i = 0; i < pOperations; i++) {
+							if (SAT.intersects(lPolygons[i % NUM_SHAPES], lPolygons[(i + 1) % NUM_SHAPES]))
+								lHits++;
+
+						}
+
+						return lHits;
+
+					}
+				},
+
+				new Benchmark("SAT.intersects rectangle-rectangle") {
+					@Override
+					public double run(int pOperations) {
+						int lHits = 0;
+						for (int i = 0; i < pOperations; i++) {
+							if (SAT.intersects(lRectangles[i % NUM_SHAPES], lRectangles[(i + 1) % NUM_SHAPES]))
+								lHits++;
+
+						}
+
+						return lHits;
+
+					}
+				},
+
+				new Benchmark("SAT.intersects circle-polygon") {
+					@Override
+					public double run(int pOperations) {
+						int lHits = 0;
+						for (int i = 0; i < pOperations; i++) {
+							if (SAT.intersects(lCircles[i % NUM_SHAPES], lPolygons[(i + 1) % NUM_SHAPES]))
+								lHits++;
+
+						}
+
+						return lHits;
+
+					}
+				},
+
+				new Benchmark("SAT.intersects rectangle-polygon (contact)") {
+					private final SATContext mContext = new SATContext();
+
+					@Override
+					public double run(int pOperations) {
+						double lDepth = 0;
+						for (int i = 0; i < pOperations; i++) {
+							if (SAT.intersects(lRectangles[i % NUM_SHAPES], lPolygons[(i + 1) % NUM_SHAPES], mContext))
+								lDepth += mContext.depth();
+
+						}
+
+						return lDepth;
+
+					}
+				},
+
+				new Benchmark("Polygon.getAxes (rotating)") {
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							final var lPolygon = lPolygons[i % NUM_SHAPES];
+
+							// Rotating the polygon marks its axes dirty, so they are recalculated on every call
+							lPolygon.rotateAbs(lPolygon.rotation);
+							lResult += lPolygon.getAxes()[0].x;
+
+						}
+
+						return lResult;
+
+					}
+				},
+
+				new Benchmark("Polygon.project") {
+					private final Vector2f mAxis = new Vector2f(0.6f, 0.8f);
+					private final Vector2f mProjection = new Vector2f();
+
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							lResult += lPolygons[i % NUM_SHAPES].project(mAxis, mProjection).y;
+
+						}
+
+						return lResult;
+
+					}
+				} };
+
+	}
+
+	private static Polygon createPolygon(float pCenterX, float pCenterY, int pNumVertices, float pRadius) {
+		final var lPolygon = new Polygon(pCenterX, pCenterY);
+		for (int i = 0; i < pNumVertices; i++) {
+			final double lAngle = Math.PI * 2.0 * i / pNumVertices;
+			lPolygon.addVertex(new Vector2f(pCenterX + (float) Math.cos(lAngle) * pRadius, pCenterY + (float) Math.sin(lAngle) * pRadius));
+
+		}
+
+		return lPolygon;
+
+	}
+
+}
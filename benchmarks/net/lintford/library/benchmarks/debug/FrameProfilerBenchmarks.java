@@ -0,0 +1,84 @@
+package net.lintford.library.benchmarks.debug;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.debug.FrameProfiler;
+
+/** Benchmarks the cost of a profiled scope (a begin/end pair), with the {@link FrameProfiler} disabled and enabled. */
+public class FrameProfilerBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	/** The number of scopes per profiled frame. */
+	public static final int SCOPES_PER_FRAME = 1000;
+
+	private static final String[] SCOPE_NAMES = new String[] { "ControllerManager.update", "CameraController", "ParticleFrameworkController", "TextureBatch.flush" };
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				new Benchmark("FrameProfiler.scope (disabled)") {
+					private FrameProfiler mProfiler;
+
+					@Override
+					public void setup() {
+						mProfiler = new FrameProfiler();
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						return profileScopes(mProfiler, pOperations);
+
+					}
+				},
+
+				new Benchmark("FrameProfiler.scope (enabled)") {
+					private FrameProfiler mProfiler;
+
+					@Override
+					public void setup() {
+						mProfiler = new FrameProfiler();
+						mProfiler.isEnabled(true);
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						return profileScopes(mProfiler, pOperations);
+
+					}
+				} };
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private static double profileScopes(FrameProfiler pProfiler, int pOperations) {
+		pProfiler.beginFrame();
+		for (int i = 0; i < pOperations; i++) {
+			final var lScopeName = SCOPE_NAMES[i % SCOPE_NAMES.length];
+			pProfiler.begin(lScopeName);
+			pProfiler.end(lScopeName);
+
+			if (i % SCOPES_PER_FRAME == SCOPES_PER_FRAME - 1) {
+				pProfiler.endFrame();
+				pProfiler.beginFrame();
+
+			}
+
+		}
+
+		pProfiler.endFrame();
+		return pProfiler.frameCount();
+
+	}
+
+}
@@ -0,0 +1,92 @@
+package net.lintford.library.benchmarks.definitions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import com.google.gson.GsonBuilder;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.benchmarks.particles.ParticleStorageBenchmark;
+import net.lintford.library.core.particles.ParticleFrameworkData;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemDefinition;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemManager.ParticleSystemDefinitionManager;
+
+/**
+ * Benchmarks loading json definition files through a {@link net.lintford.library.core.entity.definitions.DefinitionManager}, using particle system definitions (which go through a custom deserializer).
+ * The definition files are written into a temporary directory during setup. One operation is the loading of one file.
+ */
+public class DefinitionLoadingBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_DEFINITION_FILES = 32;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				new Benchmark("DefinitionManager.loadDefinitionFromFile") {
+					private File mDirectory;
+					private String[] mFilepaths;
+					private ParticleSystemDefinitionManager mDefinitionManager;
+
+					@Override
+					public void setup() throws IOException {
+						mDirectory = Files.createTempDirectory("ldlibrary-benchmark").toFile();
+						mFilepaths = new String[NUM_DEFINITION_FILES];
+
+						final var lGson = new GsonBuilder().setPrettyPrinting().create();
+						for (int i = 0; i < NUM_DEFINITION_FILES; i++) {
+							final var lDefinition = ParticleStorageBenchmark.createDefinition(i % 2 == 0 ? ParticleSystemDefinition.STORAGE_MODE_OBJECTS : ParticleSystemDefinition.STORAGE_MODE_ARRAYS);
+							lDefinition.name = "BenchmarkParticleSystem" + i;
+							lDefinition.textureName = "TEXTURE_PARTICLES";
+							lDefinition.textureFilename = "/res/textures/particles.png";
+
+							final var lFile = new File(mDirectory, lDefinition.name + ".json");
+							Files.writeString(lFile.toPath(), lGson.toJson(lDefinition));
+							mFilepaths[i] = lFile.getPath();
+
+						}
+
+						mDefinitionManager = new ParticleFrameworkData().particleSystemManager().definitionManager();
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						mDefinitionManager.definitions().clear();
+
+						for (int i = 0; i < pOperations; i++) {
+							mDefinitionManager.loadDefinitionFromFile(mFilepaths[i % NUM_DEFINITION_FILES]);
+
+							// Don't let the list of definitions grow unbounded
+							if (mDefinitionManager.definitionCount() >= NUM_DEFINITION_FILES)
+								mDefinitionManager.definitions().clear();
+
+						}
+
+						return mDefinitionManager.definitionCount();
+
+					}
+
+					@Override
+					public void tearDown() {
+						for (final var lFilepath : mFilepaths) {
+							new File(lFilepath).delete();
+
+						}
+
+						mDirectory.delete();
+
+					}
+				} };
+
+	}
+
+}
@@ -0,0 +1,190 @@
+package net.lintford.library.benchmarks.fonts;
+
+import java.awt.Font;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.graphics.fonts.BitmapFont;
+import net.lintford.library.core.graphics.fonts.FontAtlasBuilder;
+
+/** Benchmarks measuring and laying out strings with a {@link BitmapFont}. Only the glyph metrics are loaded (see {@link BitmapFont#loadGlyphs()}), so no GL context is needed. */
+public class BitmapFontBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final String FONT_FILE_LOCATION = "/res/fonts/Rajdhani-Bold.ttf";
+	public static final float FONT_POINT_SIZE = 18.f;
+
+	private static final String[] TEXT_LINES = new String[] { "New Game", "Options", "Exit", "The quick brown fox jumps over the lazy dog.",
+			"Press any key to continue...\nOr press escape to return to the main menu.", "Score: 1234567890", };
+
+	/** The labels of a text-heavy menu screen, laid out once per frame. */
+	private static final String[] MENU_LABELS = new String[] { "Options", "Video", "Audio", "Controls", "Gameplay", "Back", "Apply", "Resolution", "1920 x 1080", "Fullscreen", "On", "VSync", "Off",
+			"Master Volume", "Music Volume", "Effects Volume", "Difficulty", "Normal", "Show Tutorials", "Language", "English" };
+	private static final String MENU_DESCRIPTION = "Changes to the video settings take effect once they are applied. If the new settings don't work on your display, the previous settings are restored after fifteen seconds.";
+	private static final float MENU_DESCRIPTION_WRAP_WIDTH = 300.f;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				new Benchmark("BitmapFont.getStringWidth") {
+					private BitmapFont mFont;
+
+					@Override
+					public void setup() {
+						mFont = new BitmapFont("FONT_BENCHMARK", FONT_FILE_LOCATION, FONT_POINT_SIZE, true);
+						if (mFont.loadGlyphs() == null)
+							throw new IllegalStateException("Unable to load the font " + FONT_FILE_LOCATION);
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							lResult += mFont.getStringWidth(TEXT_LINES[i % TEXT_LINES.length]);
+
+						}
+
+						return lResult;
+
+					}
+				},
+
+				new Benchmark("BitmapFont.menuLayout (uncached)") {
+					private BitmapFont mFont;
+
+					@Override
+					public void setup() {
+						mFont = createFont();
+						mFont.layoutCacheSize(0);
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						return layoutMenu(mFont, pOperations);
+
+					}
+				},
+
+				new Benchmark("BitmapFont.menuLayout (cached)") {
+					private BitmapFont mFont;
+
+					@Override
+					public void setup() {
+						mFont = createFont();
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						return layoutMenu(mFont, pOperations);
+
+					}
+				},
+
+				new Benchmark("FontAtlasBuilder.build (Latin-1)") {
+					private FontAtlasBuilder mFontAtlasBuilder;
+					private int[] mCodePoints;
+
+					@Override
+					public void setup() {
+						try (var lFontInputStream = BitmapFont.class.getResourceAsStream(FONT_FILE_LOCATION)) {
+							mFontAtlasBuilder = new FontAtlasBuilder(Font.createFont(Font.TRUETYPE_FONT, lFontInputStream).deriveFont(FONT_POINT_SIZE), true);
+
+						} catch (Exception e) {
+							throw new IllegalStateException("Unable to load the font " + FONT_FILE_LOCATION, e);
+
+						}
+
+						mCodePoints = new int[256 - 32 - 1];
+						for (int i = 32, j = 0; i < 256; i++) {
+							if (i != 127)
+								mCodePoints[j++] = i;
+
+						}
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							lResult += mFontAtlasBuilder.build(mCodePoints).glyphCount();
+
+						}
+
+						return lResult;
+
+					}
+				},
+
+				new Benchmark("BitmapFont.loadGlyphs (cached atlas)") {
+					@Override
+					public void setup() {
+						try {
+							FontAtlasBuilder.cacheDirectory(Files.createTempDirectory("fontatlas").toString());
+
+						} catch (IOException e) {
+							throw new IllegalStateException("Unable to create the atlas cache directory", e);
+
+						}
+
+						createFont();
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							lResult += createFont().fontHeight();
+
+						}
+
+						return lResult;
+
+					}
+				} };
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private static BitmapFont createFont() {
+		final var lFont = new BitmapFont("FONT_BENCHMARK", FONT_FILE_LOCATION, FONT_POINT_SIZE, true);
+		if (lFont.loadGlyphs() == null)
+			throw new IllegalStateException("Unable to load the font " + FONT_FILE_LOCATION);
+
+		return lFont;
+
+	}
+
+	/** Lays out all the text of the menu screen once per operation, as the AWTBitmapFontSpriteBatch does when drawing it. */
+	private static double layoutMenu(BitmapFont pFont, int pOperations) {
+		double lResult = 0;
+		for (int i = 0; i < pOperations; i++) {
+			for (int j = 0; j < MENU_LABELS.length; j++) {
+				lResult += pFont.getTextLayout(MENU_LABELS[j], 1.f, BitmapFont.NO_WORD_WRAP, BitmapFont.NO_WIDTH_CAP, true).glyphCount();
+
+			}
+
+			lResult += pFont.getTextLayout(MENU_DESCRIPTION, 1.f, MENU_DESCRIPTION_WRAP_WIDTH, BitmapFont.NO_WIDTH_CAP, true).height();
+
+		}
+
+		return lResult;
+
+	}
+
+}
@@ -0,0 +1,140 @@
+package net.lintford.library.benchmarks.geometry;
+
+import java.nio.FloatBuffer;
+import java.util.List;
+
+import net.lintford.library.core.geometry.Rectangle;
+import net.lintford.library.core.maths.Vector2f;
+
+/**
+ * Compares generating the sprite vertices of a texture batch from {@link Rectangle#getVertices()} (the list of {@link Vector2f}) against {@link Rectangle#fillVertices(float[])}, for rectangles which are
+ * static (cached vertices) and rectangles which move and rotate every frame.
+ */
+public class RectangleVertexBenchmark {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_RECTANGLES = 10000;
+	public static final int FLOATS_PER_SPRITE = 4 * 10;
+
+	public static final int WARMUP_FRAMES = 200;
+	public static final int MEASURED_FRAMES = 1000;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private static final float[] sTempVertices = new float[Rectangle.NUM_VERTICES * 2];
+
+	// Written to, so that the JIT cannot remove the vertex generation
+	private static float sBlackhole;
+
+	// --------------------------------------
+	// Entry-Point
+	// --------------------------------------
+
+	public static void main(String[] pArgs) {
+		final var lRectangles = new Rectangle[NUM_RECTANGLES];
+		for (int i = 0; i < NUM_RECTANGLES; i++) {
+			lRectangles[i] = new Rectangle(i % 100 * 10, i / 100 * 10, 8, 8);
+
+		}
+
+		final var lBuffer = FloatBuffer.allocate(NUM_RECTANGLES * FLOATS_PER_SPRITE);
+
+		for (int lRound = 0; lRound < 2; lRound++) {
+			runBenchmark("list   static", lRectangles, lBuffer, false, false);
+			runBenchmark("array  static", lRectangles, lBuffer, true, false);
+			runBenchmark("list   moving", lRectangles, lBuffer, false, true);
+			runBenchmark("array  moving", lRectangles, lBuffer, true, true);
+
+		}
+
+		System.out.println("(" + sBlackhole + ")");
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	private static void runBenchmark(String pName, Rectangle[] pRectangles, FloatBuffer pBuffer, boolean pUseArray, boolean pMoveRectangles) {
+		for (int i = 0; i < WARMUP_FRAMES; i++) {
+			runFrame(i, pRectangles, pBuffer, pUseArray, pMoveRectangles);
+
+		}
+
+		final long lStartTime = System.nanoTime();
+		for (int i = 0; i < MEASURED_FRAMES; i++) {
+			runFrame(i, pRectangles, pBuffer, pUseArray, pMoveRectangles);
+
+		}
+
+		final double lMicroPerFrame = (System.nanoTime() - lStartTime) / 1000.0 / MEASURED_FRAMES;
+		System.out.println(String.format("%s  rectangles: %d  %.1f us/frame", pName, pRectangles.length, lMicroPerFrame));
+
+	}
+
+	private static void runFrame(int pFrame, Rectangle[] pRectangles, FloatBuffer pBuffer, boolean pUseArray, boolean pMoveRectangles) {
+		pBuffer.clear();
+
+		final int lNumRectangles = pRectangles.length;
+		for (int i = 0; i < lNumRectangles; i++) {
+			final var lRectangle = pRectangles[i];
+			if (pMoveRectangles) {
+				lRectangle.setPosition(lRectangle.x() + ((pFrame & 1) == 0 ? 1 : -1), lRectangle.y());
+				lRectangle.rotateAbs(pFrame * 0.01f);
+
+			}
+
+			if (pUseArray)
+				putSpriteFromArray(pBuffer, lRectangle);
+			else
+				putSpriteFromList(pBuffer, lRectangle);
+
+		}
+
+		sBlackhole += pBuffer.get(pFrame % pBuffer.position());
+
+	}
+
+	private static void putSpriteFromList(FloatBuffer pBuffer, Rectangle pDestRect) {
+		final List<Vector2f> lVertList = pDestRect.getVertices();
+
+		putVertex(pBuffer, lVertList.get(0).x, lVertList.get(0).y, 0, 0);
+		putVertex(pBuffer, lVertList.get(2).x, lVertList.get(2).y, 0, 1);
+		putVertex(pBuffer, lVertList.get(1).x, lVertList.get(1).y, 1, 0);
+		putVertex(pBuffer, lVertList.get(3).x, lVertList.get(3).y, 1, 1);
+
+	}
+
+	private static void putSpriteFromArray(FloatBuffer pBuffer, Rectangle pDestRect) {
+		final float[] lDestVertices = sTempVertices;
+		pDestRect.fillVertices(lDestVertices);
+
+		putVertex(pBuffer, lDestVertices[0], lDestVertices[1], 0, 0);
+		putVertex(pBuffer, lDestVertices[4], lDestVertices[5], 0, 1);
+		putVertex(pBuffer, lDestVertices[2], lDestVertices[3], 1, 0);
+		putVertex(pBuffer, lDestVertices[6], lDestVertices[7], 1, 1);
+
+	}
+
+	private static void putVertex(FloatBuffer pBuffer, float pX, float pY, float pU, float pV) {
+		pBuffer.put(pX);
+		pBuffer.put(pY);
+		pBuffer.put(0.f);
+		pBuffer.put(1.f);
+
+		pBuffer.put(1.f);
+		pBuffer.put(1.f);
+		pBuffer.put(1.f);
+		pBuffer.put(1.f);
+
+		pBuffer.put(pU);
+		pBuffer.put(pV);
+
+	}
+
+}
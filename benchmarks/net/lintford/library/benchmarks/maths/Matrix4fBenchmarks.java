@@ -0,0 +1,86 @@
+package net.lintford.library.benchmarks.maths;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.maths.Matrix4f;
+
+/** Benchmarks the multiplication and inversion of {@link Matrix4f}s, as done when building the view and projection matrices of the cameras. */
+public class Matrix4fBenchmarks {
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				new Benchmark("Matrix4f.multiply") {
+					private final Matrix4f mLeft = createTransform(0.3f, 10.f, -4.f, 2.f);
+					private final Matrix4f mResult = new Matrix4f();
+
+					@Override
+					public double run(int pOperations) {
+						mResult.setIdentity();
+						for (int i = 0; i < pOperations; i++) {
+							mResult.multiply(mLeft);
+
+							// Keep the values from growing out of range
+							if ((i & 63) == 63)
+								mResult.setIdentity();
+
+						}
+
+						return mResult.m30;
+
+					}
+				},
+
+				new Benchmark("Matrix4f.mul") {
+					private final Matrix4f mLeft = createTransform(0.3f, 10.f, -4.f, 2.f);
+					private final Matrix4f mRight = createTransform(-1.2f, 3.f, 7.f, 0.5f);
+					private final Matrix4f mResult = new Matrix4f();
+
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							mLeft.m30 = i;
+							lResult += Matrix4f.mul(mLeft, mRight, mResult).m31;
+
+						}
+
+						return lResult;
+
+					}
+				},
+
+				new Benchmark("Matrix4f.invert") {
+					private final Matrix4f mSource = createTransform(0.7f, 10.f, -4.f, 2.f);
+					private final Matrix4f mResult = new Matrix4f();
+
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							mSource.m30 = i;
+							lResult += Matrix4f.invert(mSource, mResult).m30;
+
+						}
+
+						return lResult;
+
+					}
+				} };
+
+	}
+
+	private static Matrix4f createTransform(float pAngle, float pX, float pY, float pScale) {
+		final var lMatrix = new Matrix4f();
+		lMatrix.translate(pX, pY, 0.f);
+		lMatrix.rotate(pAngle, 0.f, 0.f, 1.f);
+		lMatrix.scale(pScale, pScale, 1.f);
+
+		return lMatrix;
+
+	}
+
+}
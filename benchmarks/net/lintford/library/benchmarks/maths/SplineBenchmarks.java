@@ -0,0 +1,57 @@
+package net.lintford.library.benchmarks.maths;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.maths.spline.Spline;
+import net.lintford.library.core.maths.spline.SplinePoint;
+
+/** Benchmarks sampling points along a (looped) Catmull-Rom {@link Spline}. */
+public class SplineBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_CONTROL_POINTS = 32;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				new Benchmark("Spline.getPointOnSpline") {
+					private Spline mSpline;
+
+					@Override
+					public void setup() {
+						final var lPoints = new SplinePoint[NUM_CONTROL_POINTS];
+						for (int i = 0; i < NUM_CONTROL_POINTS; i++) {
+							final double lAngle = Math.PI * 2.0 * i / NUM_CONTROL_POINTS;
+							lPoints[i] = new SplinePoint((float) Math.cos(lAngle) * 100.f, (float) Math.sin(lAngle) * 50.f);
+
+						}
+
+						mSpline = new Spline(lPoints);
+						mSpline.isLooped(true);
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						final float lStep = (float) NUM_CONTROL_POINTS / 1024.f;
+
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							lResult += mSpline.getPointOnSpline((i & 1023) * lStep).x;
+
+						}
+
+						return lResult;
+
+					}
+				} };
+
+	}
+
+}
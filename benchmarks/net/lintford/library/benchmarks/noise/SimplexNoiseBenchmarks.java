@@ -0,0 +1,56 @@
+package net.lintford.library.benchmarks.noise;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.noise.SimplexNoise;
+
+/** Benchmarks sampling the 2d and 3d octave {@link SimplexNoise}, as used when generating noise maps. */
+public class SimplexNoiseBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int LARGEST_FEATURE = 128;
+	public static final double PERSISTENCE = 0.5;
+	public static final int SEED = 1234;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		final var lNoise = new SimplexNoise(LARGEST_FEATURE, PERSISTENCE, SEED);
+
+		return new Benchmark[] {
+
+				new Benchmark("SimplexNoise.getNoise 2d") {
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							lResult += lNoise.getNoise(i & 255, i >> 8);
+
+						}
+
+						return lResult;
+
+					}
+				},
+
+				new Benchmark("SimplexNoise.getNoise 3d") {
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							lResult += lNoise.getNoise(i & 63, (i >> 6) & 63, i >> 12);
+
+						}
+
+						return lResult;
+
+					}
+				} };
+
+	}
+
+}
@@ -0,0 +1,117 @@
+package net.lintford.library.benchmarks.particles;
+
+import net.lintford.library.core.HeadlessCore;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemDefinition;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemInstance;
+import net.lintford.library.core.particles.particlesystems.initializers.ParticleColorInitializer;
+import net.lintford.library.core.particles.particlesystems.initializers.ParticleDestinationRegionInitializer;
+import net.lintford.library.core.particles.particlesystems.initializers.ParticleSourceRegionInitializer;
+import net.lintford.library.core.particles.particlesystems.modifiers.ParticleGravityModifier;
+import net.lintford.library.core.particles.particlesystems.modifiers.ParticleLifetimeAlphaFadeOutModifier;
+import net.lintford.library.core.particles.particlesystems.modifiers.ParticlePhysicsModifier;
+import net.lintford.library.core.particles.particlesystems.modifiers.ParticleScaleModifier;
+
+/** Compares the per-frame cost of spawning and updating a large particle system using object storage against array storage. */
+public class ParticleStorageBenchmark {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int PARTICLE_CAPACITY = 50000;
+	public static final float PARTICLE_LIFE = 1000.f;
+	public static final float FRAME_TIME = 16.f;
+
+	public static final int WARMUP_FRAMES = 120;
+	public static final int MEASURED_FRAMES = 240;
+
+	// --------------------------------------
+	// Entry-Point
+	// --------------------------------------
+
+	public static void main(String[] pArgs) {
+		final var lCore = new HeadlessCore();
+
+		// Keep the system close to full: spawn as many particles per frame as die per frame
+		final int lSpawnsPerFrame = (int) (PARTICLE_CAPACITY * FRAME_TIME / PARTICLE_LIFE);
+
+		for (int lRound = 0; lRound < 2; lRound++) {
+			runBenchmark(lCore, ParticleSystemDefinition.STORAGE_MODE_OBJECTS, lSpawnsPerFrame);
+			runBenchmark(lCore, ParticleSystemDefinition.STORAGE_MODE_ARRAYS, lSpawnsPerFrame);
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	private static void runBenchmark(HeadlessCore pCore, int pStorageMode, int pSpawnsPerFrame) {
+		final var lParticleSystem = new ParticleSystemInstance();
+		lParticleSystem.initialize(0, createDefinition(pStorageMode));
+
+		for (int i = 0; i < WARMUP_FRAMES; i++) {
+			runFrame(pCore, lParticleSystem, pSpawnsPerFrame);
+
+		}
+
+		final long lStartTime = System.nanoTime();
+		for (int i = 0; i < MEASURED_FRAMES; i++) {
+			runFrame(pCore, lParticleSystem, pSpawnsPerFrame);
+
+		}
+
+		final double lMilliPerFrame = (System.nanoTime() - lStartTime) / 1000000.0 / MEASURED_FRAMES;
+		final String lModeName = pStorageMode == ParticleSystemDefinition.STORAGE_MODE_ARRAYS ? "arrays" : "objects";
+
+		System.out.println(String.format("%-8s capacity: %d  spawns/frame: %d  alive: %d  hwm: %d  %.3f ms/frame", lModeName, PARTICLE_CAPACITY, pSpawnsPerFrame, lParticleSystem.aliveCount(),
+				lParticleSystem.highWaterMark(), lMilliPerFrame));
+
+	}
+
+	private static void runFrame(HeadlessCore pCore, ParticleSystemInstance pParticleSystem, int pSpawnsPerFrame) {
+		pCore.stepTime(FRAME_TIME);
+
+		for (int i = 0; i < pSpawnsPerFrame; i++) {
+			pParticleSystem.spawnParticle(i, -i, 10.f, -20.f);
+
+		}
+
+		pParticleSystem.update(pCore);
+
+	}
+
+	public static ParticleSystemDefinition createDefinition(int pStorageMode) {
+		final var lDefinition = new ParticleSystemDefinition();
+		lDefinition.name = "BenchmarkParticleSystem";
+		lDefinition.maxParticleCount = PARTICLE_CAPACITY;
+		lDefinition.particleLife = PARTICLE_LIFE;
+		lDefinition.storageMode = pStorageMode;
+
+		final var lSourceRegion = new ParticleSourceRegionInitializer();
+		lSourceRegion.srcW = 16;
+		lSourceRegion.srcH = 16;
+		lDefinition.initializers.add(lSourceRegion);
+
+		final var lDestRegion = new ParticleDestinationRegionInitializer();
+		lDestRegion.width = 8;
+		lDestRegion.height = 8;
+		lDefinition.initializers.add(lDestRegion);
+
+		final var lColor = new ParticleColorInitializer();
+		lColor.r = lColor.g = lColor.b = lColor.a = 1.f;
+		lDefinition.initializers.add(lColor);
+
+		final var lGravity = new ParticleGravityModifier();
+		lGravity.gravity = 0.01f;
+		lDefinition.modifiers.add(lGravity);
+		lDefinition.modifiers.add(new ParticlePhysicsModifier());
+		lDefinition.modifiers.add(new ParticleLifetimeAlphaFadeOutModifier());
+		lDefinition.modifiers.add(new ParticleScaleModifier());
+
+		return lDefinition;
+
+	}
+
+}
@@ -0,0 +1,66 @@
+package net.lintford.library.benchmarks.particles;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.HeadlessCore;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemDefinition;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemInstance;
+
+/** Benchmarks a single frame (spawn and update) of a particle system which is kept close to full, for both storage modes. One operation is one frame. */
+public class ParticleUpdateBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final float FRAME_TIME = ParticleStorageBenchmark.FRAME_TIME;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] { createBenchmark("ParticleSystem.update (objects)", ParticleSystemDefinition.STORAGE_MODE_OBJECTS),
+				createBenchmark("ParticleSystem.update (arrays)", ParticleSystemDefinition.STORAGE_MODE_ARRAYS) };
+
+	}
+
+	private static Benchmark createBenchmark(String pName, int pStorageMode) {
+		return new Benchmark(pName) {
+			private HeadlessCore mCore;
+			private ParticleSystemInstance mParticleSystem;
+			private int mSpawnsPerFrame;
+
+			@Override
+			public void setup() {
+				mCore = new HeadlessCore();
+
+				mParticleSystem = new ParticleSystemInstance();
+				mParticleSystem.initialize(0, ParticleStorageBenchmark.createDefinition(pStorageMode));
+
+				// Spawn as many particles per frame as die per frame
+				mSpawnsPerFrame = (int) (ParticleStorageBenchmark.PARTICLE_CAPACITY * FRAME_TIME / ParticleStorageBenchmark.PARTICLE_LIFE);
+
+			}
+
+			@Override
+			public double run(int pOperations) {
+				for (int i = 0; i < pOperations; i++) {
+					mCore.stepTime(FRAME_TIME);
+
+					for (int j = 0; j < mSpawnsPerFrame; j++) {
+						mParticleSystem.spawnParticle(j, -j, 10.f, -20.f);
+
+					}
+
+					mParticleSystem.update(mCore);
+
+				}
+
+				return mParticleSystem.aliveCount();
+
+			}
+		};
+
+	}
+
+}
@@ -0,0 +1,267 @@
+package net.lintford.library.benchmarks.particles;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.HeadlessCore;
+import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemDefinition;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemInstance;
+import net.lintford.library.renderers.particles.ParticleVertexBuilder;
+
+/**
+ * Benchmarks building the vertices of a full particle system with the {@link ParticleVertexBuilder}, for both storage modes. One operation is one build of the whole system.
+ * <p>
+ * As the builder doesn't need a GL context, its output is also checked here: {@link #checkVertexBuilder()} builds known particles and compares the contents of the buffer against the expected vertices. The
+ * checks are run in the setup of the benchmarks (so a broken builder fails the benchmark run), and can be run on their own through {@link #main(String[])}.
+ */
+public class ParticleVertexBuilderBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final float FRAME_TIME = ParticleStorageBenchmark.FRAME_TIME;
+
+	private static final float EPSILON = 0.0001f;
+
+	private static final int FLOATS_PER_VERTEX = ParticleVertexBuilder.FLOATS_PER_PARTICLE / ParticleVertexBuilder.VERTICES_PER_PARTICLE;
+
+	// --------------------------------------
+	// Entry-Point
+	// --------------------------------------
+
+	public static void main(String[] pArgs) {
+		try {
+			checkVertexBuilder();
+
+		} catch (IllegalStateException e) {
+			System.err.println("ParticleVertexBuilder check failed: " + e.getMessage());
+			System.exit(1);
+
+		}
+
+		System.out.println("ParticleVertexBuilder checks passed");
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] { createBenchmark("ParticleVertexBuilder.build (objects)", ParticleSystemDefinition.STORAGE_MODE_OBJECTS),
+				createBenchmark("ParticleVertexBuilder.build (arrays)", ParticleSystemDefinition.STORAGE_MODE_ARRAYS) };
+
+	}
+
+	private static Benchmark createBenchmark(String pName, int pStorageMode) {
+		return new Benchmark(pName) {
+			private ParticleSystemInstance mParticleSystem;
+			private ParticleVertexBuilder mVertexBuilder;
+			private FloatBuffer mBuffer;
+
+			@Override
+			public void setup() {
+				checkVertexBuilder();
+
+				final var lCore = new HeadlessCore();
+
+				mParticleSystem = new ParticleSystemInstance();
+				mParticleSystem.initialize(0, ParticleStorageBenchmark.createDefinition(pStorageMode));
+
+				// Fill the system, and let the modifiers run once so the particles have been scaled and faded
+				lCore.stepTime(FRAME_TIME);
+				for (int i = 0; i < ParticleStorageBenchmark.PARTICLE_CAPACITY; i++) {
+					mParticleSystem.spawnParticle(i, -i, 10.f, -20.f);
+
+				}
+
+				mParticleSystem.update(lCore);
+
+				mVertexBuilder = new ParticleVertexBuilder();
+				mVertexBuilder.textureSize(256, 256);
+				mBuffer = FloatBuffer.allocate(ParticleVertexBuilder.floatsRequired(mParticleSystem.capacity()));
+
+			}
+
+			@Override
+			public double run(int pOperations) {
+				int lVertexCount = 0;
+				for (int i = 0; i < pOperations; i++) {
+					mBuffer.clear();
+					lVertexCount += mVertexBuilder.buildVertices(mParticleSystem, mBuffer);
+
+				}
+
+				return lVertexCount;
+
+			}
+		};
+
+	}
+
+	/** Builds the vertices of known particles and compares them against the expected values. Throws an {@link IllegalStateException} describing the first mismatch. */
+	public static void checkVertexBuilder() {
+		checkUnrotatedParticle();
+		checkRotatedParticle();
+		checkScaledParticle();
+		checkStorageModesMatch();
+		checkBufferOverflow();
+
+	}
+
+	private static void checkUnrotatedParticle() {
+		final var lParticles = new ParticleArrays(4);
+		final int lSlot = spawnParticle(lParticles, 100.f, 50.f, 10.f, 20.f, 1.f, 0.f);
+
+		final var lBuffer = FloatBuffer.allocate(ParticleVertexBuilder.floatsRequired(4));
+		final var lVertexBuilder = new ParticleVertexBuilder();
+		lVertexBuilder.textureSize(64, 64);
+
+		final int lVertexCount = lVertexBuilder.buildVertices(lParticles, lBuffer);
+		check("unrotated vertex count", ParticleVertexBuilder.VERTICES_PER_PARTICLE, lVertexCount);
+		check("unrotated buffer position", ParticleVertexBuilder.FLOATS_PER_PARTICLE, lBuffer.position());
+
+		// The corners are written top-left, bottom-left, top-right, bottom-right (see IndexedQuadBuffer)
+		checkVertex("unrotated", lBuffer, 0, 95.f, 40.f, lParticles, lSlot, 0.f, 0.f);
+		checkVertex("unrotated", lBuffer, 1, 95.f, 60.f, lParticles, lSlot, 0.f, .5f);
+		checkVertex("unrotated", lBuffer, 2, 105.f, 40.f, lParticles, lSlot, .25f, 0.f);
+		checkVertex("unrotated", lBuffer, 3, 105.f, 60.f, lParticles, lSlot, .25f, .5f);
+
+		check("unrotated z", ParticleVertexBuilder.DEFAULT_PARTICLE_Z, lBuffer.get(2));
+		check("unrotated w", 1.f, lBuffer.get(3));
+
+	}
+
+	private static void checkRotatedParticle() {
+		final var lParticles = new ParticleArrays(1);
+		final int lSlot = spawnParticle(lParticles, 100.f, 50.f, 10.f, 20.f, 1.f, (float) (Math.PI / 2.));
+
+		final var lBuffer = FloatBuffer.allocate(ParticleVertexBuilder.floatsRequired(1));
+		final var lVertexBuilder = new ParticleVertexBuilder();
+		lVertexBuilder.textureSize(64, 64);
+		lVertexBuilder.buildVertices(lParticles, lBuffer);
+
+		// A quarter turn swaps the half extents, and moves the top-left corner to the top-right
+		checkVertex("rotated", lBuffer, 0, 110.f, 45.f, lParticles, lSlot, 0.f, 0.f);
+		checkVertex("rotated", lBuffer, 1, 90.f, 45.f, lParticles, lSlot, 0.f, .5f);
+		checkVertex("rotated", lBuffer, 2, 110.f, 55.f, lParticles, lSlot, .25f, 0.f);
+		checkVertex("rotated", lBuffer, 3, 90.f, 55.f, lParticles, lSlot, .25f, .5f);
+
+	}
+
+	private static void checkScaledParticle() {
+		final var lParticles = new ParticleArrays(1);
+		final int lSlot = spawnParticle(lParticles, 0.f, 0.f, 10.f, 20.f, 2.f, 0.f);
+
+		final var lBuffer = FloatBuffer.allocate(ParticleVertexBuilder.floatsRequired(1));
+		final var lVertexBuilder = new ParticleVertexBuilder();
+		lVertexBuilder.textureSize(64, 64);
+		lVertexBuilder.buildVertices(lParticles, lBuffer);
+
+		// The scale is applied twice (see ParticleVertexBuilder), so a scale of 2 quadruples the size
+		checkVertex("scaled", lBuffer, 0, -20.f, -40.f, lParticles, lSlot, 0.f, 0.f);
+		checkVertex("scaled", lBuffer, 3, 20.f, 40.f, lParticles, lSlot, .25f, .5f);
+
+	}
+
+	private static void checkStorageModesMatch() {
+		final int lNumParticles = 16;
+		final var lParticles = new ParticleArrays(lNumParticles);
+		final List<Particle> lParticleList = new ArrayList<>();
+		for (int i = 0; i < lNumParticles; i++) {
+			final int lSlot = spawnParticle(lParticles, i * 7.f, i * -3.f, 4.f + i, 8.f, 1.f + i * .1f, i * .3f);
+			lParticles.rox[lSlot] = i;
+			lParticles.roy[lSlot] = -i;
+
+			final var lParticle = new Particle();
+			lParticles.copyToParticle(lSlot, lParticle);
+			lParticleList.add(lParticle);
+
+		}
+
+		final var lVertexBuilder = new ParticleVertexBuilder();
+		lVertexBuilder.textureSize(64, 64);
+
+		final var lArrayBuffer = FloatBuffer.allocate(ParticleVertexBuilder.floatsRequired(lNumParticles));
+		final var lObjectBuffer = FloatBuffer.allocate(ParticleVertexBuilder.floatsRequired(lNumParticles));
+		check("arrays vertex count", lNumParticles * ParticleVertexBuilder.VERTICES_PER_PARTICLE, lVertexBuilder.buildVertices(lParticles, lArrayBuffer));
+		check("objects vertex count", lNumParticles * ParticleVertexBuilder.VERTICES_PER_PARTICLE, lVertexBuilder.buildVertices(lParticleList, lNumParticles, lObjectBuffer));
+
+		for (int i = 0; i < lArrayBuffer.position(); i++) {
+			check("objects and arrays float " + i, lArrayBuffer.get(i), lObjectBuffer.get(i));
+
+		}
+
+	}
+
+	private static void checkBufferOverflow() {
+		final var lParticles = new ParticleArrays(4);
+		for (int i = 0; i < 4; i++) {
+			spawnParticle(lParticles, i, i, 1.f, 1.f, 1.f, 0.f);
+
+		}
+
+		// Room for two and a half particles: the third doesn't fit and is skipped
+		final var lBuffer = FloatBuffer.allocate(ParticleVertexBuilder.floatsRequired(2) + ParticleVertexBuilder.FLOATS_PER_PARTICLE / 2);
+		final var lVertexBuilder = new ParticleVertexBuilder();
+
+		check("overflow vertex count", 2 * ParticleVertexBuilder.VERTICES_PER_PARTICLE, lVertexBuilder.buildVertices(lParticles, lBuffer));
+		check("overflow buffer position", ParticleVertexBuilder.floatsRequired(2), lBuffer.position());
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private static int spawnParticle(ParticleArrays pParticles, float pX, float pY, float pWidth, float pHeight, float pScale, float pRotation) {
+		final int lSlot = pParticles.spawnParticle(pX, pY, 0.f, 0.f, 1000.f);
+		pParticles.setupDestTexture(lSlot, pWidth, pHeight);
+		pParticles.setupSourceTexture(lSlot, 0.f, 0.f, 16.f, 32.f);
+		pParticles.scale[lSlot] = pScale;
+		pParticles.rotationInRadians[lSlot] = pRotation;
+
+		pParticles.r[lSlot] = 1.f;
+		pParticles.g[lSlot] = .5f;
+		pParticles.b[lSlot] = .25f;
+		pParticles.a[lSlot] = .75f;
+
+		return lSlot;
+
+	}
+
+	private static void checkVertex(String pName, FloatBuffer pBuffer, int pVertexIndex, float pX, float pY, ParticleArrays pParticles, int pSlot, float pU, float pV) {
+		final int lOffset = pVertexIndex * FLOATS_PER_VERTEX;
+		final var lName = pName + " vertex " + pVertexIndex;
+
+		check(lName + " x", pX, pBuffer.get(lOffset));
+		check(lName + " y", pY, pBuffer.get(lOffset + 1));
+
+		check(lName + " r", pParticles.r[pSlot], pBuffer.get(lOffset + 4));
+		check(lName + " g", pParticles.g[pSlot], pBuffer.get(lOffset + 5));
+		check(lName + " b", pParticles.b[pSlot], pBuffer.get(lOffset + 6));
+		check(lName + " a", pParticles.a[pSlot], pBuffer.get(lOffset + 7));
+
+		check(lName + " u", pU, pBuffer.get(lOffset + 8));
+		check(lName + " v", pV, pBuffer.get(lOffset + 9));
+
+	}
+
+	private static void check(String pName, float pExpected, float pActual) {
+		if (Math.abs(pExpected - pActual) > EPSILON)
+			throw new IllegalStateException(pName + ": expected " + pExpected + " but was " + pActual);
+
+	}
+
+	private static void check(String pName, int pExpected, int pActual) {
+		if (pExpected != pActual)
+			throw new IllegalStateException(pName + ": expected " + pExpected + " but was " + pActual);
+
+	}
+
+}
@@ -0,0 +1,196 @@
+package net.lintford.library.benchmarks.textures;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.graphics.textures.texturebatch.SpriteCommandBuffer;
+
+/**
+ * Benchmarks recording and sorting a synthetic scene of interleaved sprites with the {@link SpriteCommandBuffer} of a deferred texture batch. One operation is one frame (record, sort, clear).
+ * <p>
+ * As the command buffer doesn't need a GL context, the number of draw calls it produces is also checked here: {@link #checkSpriteCommandBuffer()} records synthetic scenes and compares the flush count
+ * and sorted order against the expected values. The checks are run in the setup of the benchmark, and can be run on their own through {@link #main(String[])}.
+ */
+public class SpriteCommandBufferBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int FLOATS_PER_VERTEX = 10;
+	public static final int VERTS_PER_SPRITE = 4;
+
+	/** The batch size of TextureBatchPCT. */
+	public static final int MAX_SPRITES_PER_BATCH = 2048;
+
+	public static final int SCENE_LAYERS = 2;
+	public static final int SCENE_TEXTURES = 3;
+	public static final int SCENE_SPRITES_PER_LAYER = 5000;
+
+	// --------------------------------------
+	// Entry-Point
+	// --------------------------------------
+
+	public static void main(String[] pArgs) {
+		try {
+			checkSpriteCommandBuffer();
+
+		} catch (IllegalStateException e) {
+			System.err.println("SpriteCommandBuffer check failed: " + e.getMessage());
+			System.exit(1);
+
+		}
+
+		System.out.println("SpriteCommandBuffer checks passed");
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] { new Benchmark("SpriteCommandBuffer.record+sort") {
+			private SpriteCommandBuffer mSpriteCommands;
+			private float[] mVertex;
+
+			@Override
+			public void setup() {
+				checkSpriteCommandBuffer();
+
+				mSpriteCommands = new SpriteCommandBuffer(FLOATS_PER_VERTEX);
+				mVertex = new float[FLOATS_PER_VERTEX];
+
+			}
+
+			@Override
+			public double run(int pOperations) {
+				int lDrawCalls = 0;
+				for (int i = 0; i < pOperations; i++) {
+					recordInterleavedScene(mSpriteCommands, mVertex);
+					mSpriteCommands.sort();
+					lDrawCalls += mSpriteCommands.countDrawCalls(MAX_SPRITES_PER_BATCH);
+					mSpriteCommands.clear();
+
+				}
+
+				return lDrawCalls;
+
+			}
+		} };
+
+	}
+
+	/** Records synthetic scenes and checks the number of draw calls and the sorted order. Throws an {@link IllegalStateException} describing the first mismatch. */
+	public static void checkSpriteCommandBuffer() {
+		checkInterleavedSceneFlushCount();
+		checkFullBatchFlushCount();
+		checkSortOrder();
+
+	}
+
+	private static void checkInterleavedSceneFlushCount() {
+		final var lSpriteCommands = new SpriteCommandBuffer(FLOATS_PER_VERTEX);
+		recordInterleavedScene(lSpriteCommands, new float[FLOATS_PER_VERTEX]);
+
+		// Drawn in the recorded order, every sprite changes the texture and so flushes the batch
+		check("interleaved sprites", SCENE_LAYERS * SCENE_SPRITES_PER_LAYER, lSpriteCommands.spriteCount());
+		check("interleaved flushes (unsorted)", SCENE_LAYERS * SCENE_SPRITES_PER_LAYER, countUnsortedDrawCalls(lSpriteCommands, MAX_SPRITES_PER_BATCH));
+
+		// Sorted, there is one flush per texture and layer
+		check("interleaved flushes (sorted)", SCENE_LAYERS * SCENE_TEXTURES, lSpriteCommands.countDrawCalls(MAX_SPRITES_PER_BATCH));
+
+	}
+
+	private static void checkFullBatchFlushCount() {
+		final var lSpriteCommands = new SpriteCommandBuffer(FLOATS_PER_VERTEX);
+		final var lVertex = new float[FLOATS_PER_VERTEX];
+
+		// A single texture still flushes every time the batch is full
+		final int lNumSprites = MAX_SPRITES_PER_BATCH * 2 + 1;
+		for (int i = 0; i < lNumSprites; i++) {
+			recordSprite(lSpriteCommands, lVertex, 0, 7, 0.f, i);
+
+		}
+
+		check("full batch flushes", 3, lSpriteCommands.countDrawCalls(MAX_SPRITES_PER_BATCH));
+
+	}
+
+	private static void checkSortOrder() {
+		final var lSpriteCommands = new SpriteCommandBuffer(FLOATS_PER_VERTEX);
+		final var lVertex = new float[FLOATS_PER_VERTEX];
+
+		// The first float of each sprite is its recording index, to identify it after the sort
+		recordSprite(lSpriteCommands, lVertex, 1, 2, 0.f, 0);
+		recordSprite(lSpriteCommands, lVertex, 0, 3, 0.f, 1);
+		recordSprite(lSpriteCommands, lVertex, 0, 2, .5f, 2);
+		recordSprite(lSpriteCommands, lVertex, 0, 2, -.5f, 3);
+		recordSprite(lSpriteCommands, lVertex, 0, 3, 0.f, 4);
+		recordSprite(lSpriteCommands, lVertex, -1, 3, 0.f, 5);
+
+		lSpriteCommands.sort();
+
+		// Layer first, then texture, then depth (ascending), and the recorded order for equal keys
+		final int[] lExpectedOrder = { 5, 3, 2, 1, 4, 0 };
+		for (int i = 0; i < lExpectedOrder.length; i++) {
+			final int lSpriteIndex = lSpriteCommands.sortedSprite(i);
+			check("sorted sprite " + i, lExpectedOrder[i], (int) lSpriteCommands.vertexData()[lSpriteIndex * lSpriteCommands.floatsPerSprite()]);
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	/** Records SCENE_SPRITES_PER_LAYER sprites on each layer, cycling through the textures with every sprite (i.e. tiles and props drawn in scene order). */
+	private static void recordInterleavedScene(SpriteCommandBuffer pSpriteCommands, float[] pVertex) {
+		int lSpriteIndex = 0;
+		for (int lLayer = 0; lLayer < SCENE_LAYERS; lLayer++) {
+			for (int i = 0; i < SCENE_SPRITES_PER_LAYER; i++) {
+				recordSprite(pSpriteCommands, pVertex, lLayer, 1 + i % SCENE_TEXTURES, 0.f, lSpriteIndex++);
+
+			}
+
+		}
+
+	}
+
+	private static void recordSprite(SpriteCommandBuffer pSpriteCommands, float[] pVertex, int pLayer, int pTextureId, float pDepth, int pSpriteIndex) {
+		pVertex[0] = pSpriteIndex;
+		for (int i = 0; i < VERTS_PER_SPRITE; i++) {
+			pSpriteCommands.addVertex(pLayer, pTextureId, pDepth, pVertex);
+
+		}
+
+	}
+
+	/** Counts the draw calls of the recorded sprites in the order they were recorded, as an immediate (unsorted) batch would submit them. */
+	private static int countUnsortedDrawCalls(SpriteCommandBuffer pSpriteCommands, int pMaxSpritesPerBatch) {
+		int lDrawCalls = 0;
+		int lCurrentTextureId = -1;
+		int lSpritesInBatch = 0;
+		for (int i = 0; i < pSpriteCommands.spriteCount(); i++) {
+			final int lTextureId = pSpriteCommands.textureId(i);
+			if (lSpritesInBatch == 0 || lTextureId != lCurrentTextureId || lSpritesInBatch >= pMaxSpritesPerBatch) {
+				lDrawCalls++;
+				lSpritesInBatch = 0;
+				lCurrentTextureId = lTextureId;
+
+			}
+
+			lSpritesInBatch++;
+
+		}
+
+		return lDrawCalls;
+
+	}
+
+	private static void check(String pName, int pExpected, int pActual) {
+		if (pExpected != pActual)
+			throw new IllegalStateException(pName + ": expected " + pExpected + " but was " + pActual);
+
+	}
+
+}
@@ -0,0 +1,153 @@
+package net.lintford.library.benchmarks.textures;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.imageio.ImageIO;
+
+import org.lwjgl.system.MemoryUtil;
+
+import net.lintford.library.benchmarks.Benchmark;
+import net.lintford.library.core.graphics.textures.DecodedTexture;
+import net.lintford.library.core.graphics.textures.TextureDecoder;
+
+/**
+ * Benchmarks the CPU side of loading textures (no GL context is needed): the synchronous ImageIO path of {@link net.lintford.library.core.graphics.textures.Texture} against the stb_image path of the
+ * {@link TextureDecoder}, both on the calling thread and on the worker pool. One operation is the decoding of one texture, cycling through the embedded core textures.
+ */
+public class TextureDecodeBenchmarks {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final String[] TEXTURE_RESOURCES = new String[] { "/res/textures/PM5544.png", "/res/textures/CheckerBoard.png", "/res/textures/CheckerBoardIndexed.png", "/res/textures/core/system.png",
+			"/res/textures/core/loadingscreen.png" };
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static Benchmark[] create() {
+		return new Benchmark[] {
+
+				new Benchmark("Texture decode ImageIO + swizzle") {
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						try {
+							for (int i = 0; i < pOperations; i++) {
+								lResult += decodeWithImageIO(TEXTURE_RESOURCES[i % TEXTURE_RESOURCES.length]);
+
+							}
+
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+
+						}
+
+						return lResult;
+
+					}
+				},
+
+				new Benchmark("Texture decode stb_image") {
+					@Override
+					public double run(int pOperations) {
+						double lResult = 0;
+						for (int i = 0; i < pOperations; i++) {
+							final var lTexture = createRequest(i);
+							TextureDecoder.decode(lTexture);
+							lResult += lTexture.width();
+							lTexture.free();
+
+						}
+
+						return lResult;
+
+					}
+				},
+
+				new Benchmark("Texture decode stb_image (worker pool)") {
+					private TextureDecoder mDecoder;
+
+					@Override
+					public void setup() {
+						mDecoder = new TextureDecoder();
+
+					}
+
+					@Override
+					public double run(int pOperations) {
+						for (int i = 0; i < pOperations; i++) {
+							mDecoder.submit(createRequest(i));
+
+						}
+
+						// Drain the queue, as the GL thread would (minus the upload)
+						double lResult = 0;
+						int lNumDrained = 0;
+						while (lNumDrained < pOperations) {
+							final var lTexture = mDecoder.pollDecoded();
+							if (lTexture == null) {
+								Thread.onSpinWait();
+								continue;
+
+							}
+
+							lResult += lTexture.width();
+							lTexture.free();
+							lNumDrained++;
+
+						}
+
+						return lResult;
+
+					}
+
+					@Override
+					public void tearDown() {
+						mDecoder.shutdown();
+
+					}
+				} };
+
+	}
+
+	private static DecodedTexture createRequest(int pIndex) {
+		return new DecodedTexture("BenchmarkTexture" + pIndex, TEXTURE_RESOURCES[pIndex % TEXTURE_RESOURCES.length], 0, 0, 0, 0);
+
+	}
+
+	/** The steps Texture.loadTextureFromResource takes before the upload: decode, read the pixels, swap the channels and copy them into an off-heap buffer. */
+	private static int decodeWithImageIO(String pResourceName) throws IOException {
+		final BufferedImage lImage = ImageIO.read(TextureDecodeBenchmarks.class.getResourceAsStream(pResourceName));
+
+		final int lWidth = lImage.getWidth();
+		final int lHeight = lImage.getHeight();
+
+		final int[] lPixels = new int[lWidth * lHeight];
+		lImage.getRGB(0, 0, lWidth, lHeight, lPixels, 0, lWidth);
+
+		final int[] lSwizzled = new int[lWidth * lHeight];
+		for (int i = 0; i < lPixels.length; i++) {
+			final int a = (lPixels[i] & 0xff000000) >> 24;
+			final int r = (lPixels[i] & 0xff0000) >> 16;
+			final int g = (lPixels[i] & 0xff00) >> 8;
+			final int b = (lPixels[i] & 0xff);
+
+			lSwizzled[i] = a << 24 | b << 16 | g << 8 | r;
+
+		}
+
+		final var lIntBuffer = MemoryUtil.memAllocInt(lSwizzled.length);
+		lIntBuffer.put(lSwizzled).flip();
+		final int lResult = lIntBuffer.get(0);
+		MemoryUtil.memFree(lIntBuffer);
+
+		return lResult;
+
+	}
+
+}
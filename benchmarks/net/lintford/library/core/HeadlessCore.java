@@ -0,0 +1,40 @@
+package net.lintford.library.core;
+
+import net.lintford.library.GameInfo;
+
+/**
+ * A {@link LintfordCore} which never opens a window. The time of the {@link CoreTime} and {@link GameTime} is advanced manually, so that controllers and data which read the elapsed time can be driven
+ * deterministically without a GL context (i.e. from benchmarks).
+ */
+public class HeadlessCore extends LintfordCore {
+
+	// ---------------------------------------------
+	// Constructor
+	// ---------------------------------------------
+
+	public HeadlessCore() {
+		this(new GameInfo() {
+		});
+
+	}
+
+	public HeadlessCore(GameInfo pGameInfo) {
+		super(pGameInfo, null, true);
+
+	}
+
+	// ---------------------------------------------
+	// Methods
+	// ---------------------------------------------
+
+	/** Advances the app and game time by the given amount of milliseconds. */
+	public void stepTime(double pElapsedTimeMilli) {
+		mCoreTime.elapsedTimeMilli = pElapsedTimeMilli;
+		mCoreTime.totalTimeMilli += pElapsedTimeMilli;
+
+		mGameTime.elapsedTimeMilli = pElapsedTimeMilli * mGameTime.timeModifier;
+		mGameTime.totalTimeMilli += mGameTime.elapsedTimeMilli;
+
+	}
+
+}
@@ -6,10 +6,15 @@ import net.lintford.library.controllers.BaseController;
 import net.lintford.library.controllers.core.ControllerManager;
 import net.lintford.library.controllers.core.ResourceController;
 import net.lintford.library.core.LintfordCore;
+import net.lintford.library.core.box2d.Box2dWorldStepper;
 import net.lintford.library.core.box2d.entities.JBox2dEntityInstance;
 import net.lintford.library.core.debug.Debug;
 import net.lintford.library.core.maths.MathHelper;
 
+/**
+ * Steps the JBox2D world with a {@link Box2dWorldStepper}. By default, the world is stepped once per update (see {@link Box2dWorldStepper#STEP_MODE_VARIABLE}); use {@link #stepMode(int)} to step it at a
+ * fixed rate with interpolated rendering, or on a dedicated physics thread.
+ */
 public class Box2dWorldController extends BaseController {
 
 	// --------------------------------------
@@ -24,44 +29,59 @@ public class Box2dWorldController extends BaseController {
 
 	protected ResourceController mResourceController;
 	protected World mWorld;
+	protected Box2dWorldStepper mWorldStepper;
 
 	protected boolean singleStep;
 	protected boolean isPaused;
-	protected int mLogicalStepCounter;
-
-	protected int mVelocityIterations;
-	protected int mPositionIterations;
 
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
 
 	public int velocityIterations() {
-		return mVelocityIterations;
+		return mWorldStepper.velocityIterations();
 	}
 
 	public void velocityIterations(int pNewVelocityIterationCount) {
 		pNewVelocityIterationCount = MathHelper.clampi(pNewVelocityIterationCount, 1, 50);
-		mVelocityIterations = pNewVelocityIterationCount;
+		mWorldStepper.velocityIterations(pNewVelocityIterationCount);
 	}
 
 	public int positionIterations() {
-		return mPositionIterations;
+		return mWorldStepper.positionIterations();
 	}
 
 	public void positionIterations(int pNewPositionIterationCount) {
 		pNewPositionIterationCount = MathHelper.clampi(pNewPositionIterationCount, 1, 50);
-		mPositionIterations = pNewPositionIterationCount;
+		mWorldStepper.positionIterations(pNewPositionIterationCount);
 	}
 
 	public int logicalStepCounter() {
-		return mLogicalStepCounter;
+		return mWorldStepper.stepCounter();
 	}
 
 	public World world() {
 		return mWorld;
 	}
 
+	public Box2dWorldStepper worldStepper() {
+		return mWorldStepper;
+	}
+
+	public int stepMode() {
+		return mWorldStepper.stepMode();
+	}
+
+	/** Sets how the world is stepped, one of the {@link Box2dWorldStepper} STEP_MODE_ constants. */
+	public void stepMode(int pNewStepMode) {
+		mWorldStepper.stepMode(pNewStepMode);
+	}
+
+	/** The lock to hold while changing the world, when it is stepped on the physics thread. */
+	public Object worldLock() {
+		return mWorldStepper.worldLock();
+	}
+
 	@Override
 	public boolean isInitialized() {
 		return mWorld != null;
@@ -80,10 +100,8 @@ public class Box2dWorldController extends BaseController {
 	public Box2dWorldController(ControllerManager pControllerManager, String pControllerNamer, World pWorld, int pEntityGroupID) {
 		super(pControllerManager, pControllerNamer, pEntityGroupID);
 
-		mVelocityIterations = 8;
-		mPositionIterations = 3;
-
 		mWorld = pWorld;
+		mWorldStepper = new Box2dWorldStepper(pWorld);
 		isPaused = false;
 
 	}
@@ -102,8 +120,12 @@ public class Box2dWorldController extends BaseController {
 	public void update(LintfordCore pCore) {
 		super.update(pCore);
 
+		if (mWorld == null)
+			return;
+
 		if (singleStep) {
-			stepWorld(pCore);
+			mWorldStepper.isPaused(true);
+			mWorldStepper.singleStep();
 
 			singleStep = false;
 			isPaused = true;
@@ -111,28 +133,15 @@ public class Box2dWorldController extends BaseController {
 			return;
 		}
 
-		if (isPaused) {
-			return;
-
-		}
-
-		if (mWorld != null && !pCore.gameTime().isTimePaused()) {
-			stepWorld(pCore);
-
-		}
-
-	}
-
-	private void stepWorld(LintfordCore pCore) {
-		mLogicalStepCounter++;
-
-		mWorld.step((1f / 60f) * pCore.gameTime().timeModifier(), mVelocityIterations, mPositionIterations);
+		final var lGameTime = pCore.gameTime();
+		mWorldStepper.isPaused(isPaused || lGameTime.isTimePaused());
+		mWorldStepper.update((float) lGameTime.elapsedTimeSeconds(), lGameTime.timeModifier());
 
 	}
 
 	@Override
 	public void unload() {
-		// TODO Auto-generated method stub
+		mWorldStepper.dispose();
 
 	}
 
@@ -151,15 +160,27 @@ public class Box2dWorldController extends BaseController {
 
 		}
 
+		mWorldStepper.removeEntityInstance(pJBox2dEntityInstanceToReturn);
+
 		pJBox2dEntityInstanceToReturn.unloadPhysics();
+
 		final var lResourceManager = mResourceController.resourceManager();
 
 		lResourceManager.pobjectManager().returnPooledItem(pJBox2dEntityInstanceToReturn);
 
 	}
 
+	/** Interpolates the rendered transforms of the bodies of the instance (see {@link net.lintford.library.core.box2d.instance.Box2dBodyInstance#renderPositionX()}). */
+	public void addEntityInstance(JBox2dEntityInstance pJBox2dEntityInstance) {
+		mWorldStepper.addEntityInstance(pJBox2dEntityInstance);
+	}
+
+	public void removeEntityInstance(JBox2dEntityInstance pJBox2dEntityInstance) {
+		mWorldStepper.removeEntityInstance(pJBox2dEntityInstance);
+	}
+
 	public void reset() {
-		mLogicalStepCounter = 0;
+		mWorldStepper.reset();
 		singleStep = false;
 		isPaused = true;
 	}
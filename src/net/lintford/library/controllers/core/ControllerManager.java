@@ -82,15 +82,23 @@ public class ControllerManager {
 		if (lControllerList == null)
 			return;
 
+		final var lProfiler = Debug.debugManager().profiler();
+		lProfiler.begin("ControllerManager.update");
+
 		int lCount = lControllerList.size();
 		for (int i = 0; i < lCount; i++) {
-			if (!lControllerList.get(i).isActive())
+			final var lController = lControllerList.get(i);
+			if (!lController.isActive())
 				continue;
 
-			lControllerList.get(i).update(pCore);
+			lProfiler.begin(lController.controllerName());
+			lController.update(pCore);
+			lProfiler.end(lController.controllerName());
 
 		}
 
+		lProfiler.end("ControllerManager.update");
+
 	}
 
 	// --------------------------------------
@@ -3,6 +3,8 @@ package net.lintford.library.controllers.core.particles;
 import net.lintford.library.controllers.BaseController;
 import net.lintford.library.controllers.core.ControllerManager;
 import net.lintford.library.core.LintfordCore;
+import net.lintford.library.core.debug.Debug;
+import net.lintford.library.core.debug.stats.DebugStats;
 import net.lintford.library.core.particles.ParticleFrameworkData;
 
 public class ParticleFrameworkController extends BaseController {
@@ -89,16 +91,25 @@ public class ParticleFrameworkController extends BaseController {
 
 		}
 
+		mParticleFrameworkData.particleSystemManager().update(pCore);
+
+		int lNumAliveParticles = 0;
+		int lHighWaterMark = 0;
+
 		final int lNumParticleSystems = lSystemInstanceList.size();
 		for (int i = 0; i < lNumParticleSystems; i++) {
 			final var lParticleSystemInstance = lSystemInstanceList.get(i);
 			if (!lParticleSystemInstance.isAssigned())
 				continue;
 
-			lParticleSystemInstance.update(pCore);
+			lNumAliveParticles += lParticleSystemInstance.aliveCount();
+			lHighWaterMark = Math.max(lHighWaterMark, lParticleSystemInstance.highWaterMark());
 
 		}
 
+		Debug.debugManager().stats().setTagValue(DebugStats.TAG_ID_PARTICLES, lNumAliveParticles);
+		Debug.debugManager().stats().setTagValue(DebugStats.TAG_ID_PARTICLES_HWM, lHighWaterMark);
+
 	}
 
 	// --------------------------------------
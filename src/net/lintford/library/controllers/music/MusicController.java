@@ -100,8 +100,8 @@ public class MusicController extends BaseController {
 
 		if (!mMusicManager.isMusicEnabled()) {
 			if (mIsPlaying) {
-				mMusicManager.audioSourceBank0().stop();
-				mMusicManager.audioSourceBank1().stop();
+				mMusicManager.audioStreamBank0().stop();
+				mMusicManager.audioStreamBank1().stop();
 
 				mIsPlaying = false;
 
@@ -121,11 +121,11 @@ public class MusicController extends BaseController {
 		mMusicManager.audioSourceBank1().setPitch(lGameTimeModifer);
 
 		if (mBank0Active) {
-			if (!mMusicManager.audioSourceBank0().isPlaying()) {
+			if (!mMusicManager.audioStreamBank0().isPlaying()) {
 				nextSong();
 			}
 		} else {
-			if (!mMusicManager.audioSourceBank1().isPlaying()) {
+			if (!mMusicManager.audioStreamBank1().isPlaying()) {
 				prevSong();
 			}
 		}
@@ -159,21 +159,21 @@ public class MusicController extends BaseController {
 
 		if (mBank0Active) {
 			if (mIsPaused) {
-				mMusicManager.audioSourceBank0().continuePlaying();
+				mMusicManager.audioStreamBank0().resume();
 
 			} else {
 				final var lSongAudioDataBuffer = mMusicManager.getAudioDataByIndex(mCurrentSongIndex);
-				mMusicManager.audioSourceBank0().play(lSongAudioDataBuffer.bufferID());
+				mMusicManager.audioStreamBank0().play(lSongAudioDataBuffer);
 			}
 			mIsPlaying = true;
 
 		} else {
 			if (mIsPaused) {
-				mMusicManager.audioSourceBank1().continuePlaying();
+				mMusicManager.audioStreamBank1().resume();
 
 			} else {
 				final var lSongAudioDataBuffer = mMusicManager.getAudioDataByIndex(mCurrentSongIndex);
-				mMusicManager.audioSourceBank1().play(lSongAudioDataBuffer.bufferID());
+				mMusicManager.audioStreamBank1().play(lSongAudioDataBuffer);
 			}
 
 			mIsPlaying = true;
@@ -193,10 +193,10 @@ public class MusicController extends BaseController {
 		mIsPlaying = false;
 
 		if (mBank0Active) {
-			mMusicManager.audioSourceBank0().stop();
+			mMusicManager.audioStreamBank0().stop();
 
 		} else {
-			mMusicManager.audioSourceBank1().stop();
+			mMusicManager.audioStreamBank1().stop();
 
 		}
 	}
@@ -211,10 +211,10 @@ public class MusicController extends BaseController {
 		mIsPaused = true;
 
 		if (mBank0Active) {
-			mMusicManager.audioSourceBank0().pause();
+			mMusicManager.audioStreamBank0().pause();
 
 		} else {
-			mMusicManager.audioSourceBank1().pause();
+			mMusicManager.audioStreamBank1().pause();
 
 		}
 
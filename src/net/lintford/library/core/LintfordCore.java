@@ -474,6 +474,7 @@ public abstract class LintfordCore {
 		int lUpdateFrameLag = 0;
 
 		DisplayManager lDisplayConfig = mMasterConfig.display();
+		final var lProfiler = Debug.debugManager().profiler();
 
 		// Game loop
 		while (!glfwWindowShouldClose(lDisplayConfig.windowID())) {
@@ -496,7 +497,11 @@ public abstract class LintfordCore {
 
 			}
 
+			lProfiler.beginFrame();
+
+			lProfiler.begin("LintfordCore.handleInput");
 			onHandleInput();
+			lProfiler.end("LintfordCore.handleInput");
 
 			// Do not allow any update to take longer than our maximum allowed per frame.
 			if (mCoreTime.accumulatedElapsedTimeMilli > mCoreTime.maxElapsedTimeMilli)
@@ -516,7 +521,9 @@ public abstract class LintfordCore {
 					mCoreTime.accumulatedElapsedTimeMilli -= mCoreTime.targetElapsedTimeMilli;
 					++lStepCount;
 
+					lProfiler.begin("LintfordCore.update");
 					onUpdate();
+					lProfiler.end("LintfordCore.update");
 
 				}
 
@@ -561,20 +568,28 @@ public abstract class LintfordCore {
 
 				mCoreTime.accumulatedElapsedTimeMilli = 0.0; // consume all the time in a variable length step
 
+				lProfiler.begin("LintfordCore.update");
 				onUpdate();
+				lProfiler.end("LintfordCore.update");
 
 			}
 
+			lProfiler.begin("LintfordCore.draw");
 			onDraw();
 
 			Debug.debugManager().draw(this);
+			lProfiler.end("LintfordCore.draw");
 
 			mInputState.endUpdate();
 
+			lProfiler.begin("glfwSwapBuffers");
 			glfwSwapBuffers(lDisplayConfig.windowID());
+			lProfiler.end("glfwSwapBuffers");
 
 			glfwPollEvents();
 
+			lProfiler.endFrame();
+
 		}
 
 		onUnloadGLContent();
@@ -1,31 +1,20 @@
 package net.lintford.library.core;
 
-import java.io.IOException;
-import java.nio.file.FileVisitResult;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.StandardWatchEventKinds;
-import java.nio.file.WatchEvent;
-import java.nio.file.WatchKey;
-import java.nio.file.WatchService;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.util.List;
-
 import net.lintford.library.ConstantsApp;
 import net.lintford.library.core.audio.AudioManager;
 import net.lintford.library.core.audio.music.MusicManager;
 import net.lintford.library.core.box2d.PObjectManager;
+import net.lintford.library.core.debug.Debug;
 import net.lintford.library.core.geometry.spritegraph.SpriteGraphRepository;
 import net.lintford.library.core.graphics.fonts.FontManager;
 import net.lintford.library.core.graphics.sprites.spritesheet.SpriteSheetManager;
 import net.lintford.library.core.graphics.textures.TextureManager;
+import net.lintford.library.core.resources.ResourceWatcher;
 import net.lintford.library.options.MasterConfig;
 
 /**
- * @References Path Watcher: https://docs.oracle.com/javase/tutorial/essential/io/notification.html
- * @TODO Need to put the directory watcher into a separate thread, because it is blocking
+ * Owns the resource managers. When live reloading is enabled, a {@link ResourceWatcher} watches the resource directories on a background thread, and only the resources loaded from a changed file are
+ * reloaded.
  */
 public class ResourceManager {
 
@@ -38,10 +27,7 @@ public class ResourceManager {
 
 	protected MasterConfig mConfig;
 
-	protected Path mResourceTexturePath;
-	protected Path mResourceSpriteSheetPath;
-	protected WatchService mTexturePathWatcher;
-	protected WatchService mSpriteSheetPathWatcher;
+	protected ResourceWatcher mResourceWatcher;
 
 	protected TextureManager mTextureManager;
 	protected FontManager mFontManager;
@@ -64,6 +50,11 @@ public class ResourceManager {
 		return mIsLoaded;
 	}
 
+	/** The watcher which reloads modified resource files, or null if live reloading is disabled. */
+	public ResourceWatcher resourceWatcher() {
+		return mResourceWatcher;
+	}
+
 	public MasterConfig config() {
 		return mConfig;
 	}
@@ -113,34 +104,19 @@ public class ResourceManager {
 
 		ConstantsApp.registerValue(DEBUG_LIVE_RESOURCES_RELOAD_NAME, DEBUG_LIVE_RESOURCES_RELOAD_ENABLED);
 
-		// Setup the Texture Manager*
-		// *textureManager is actually setup as a singletonclass in the LWJGLCore. Here we just add a directory watcher to watch for changes.
+		// Add a directory watcher to watch for changes to the resources loaded from files (the watcher is started in loadGLContent)
 		if (ConstantsApp.getBooleanValueDef(DEBUG_LIVE_RESOURCES_RELOAD_NAME, false)) {
-			try {
-				Path lTexturesDirectory = Paths.get("res//textures//");
-				mTexturePathWatcher = lTexturesDirectory.getFileSystem().newWatchService();
-				Files.walkFileTree(lTexturesDirectory, new SimpleFileVisitor<Path>() {
-					@Override
-					public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-						dir.register(mTexturePathWatcher, StandardWatchEventKinds.ENTRY_MODIFY);
-						return FileVisitResult.CONTINUE;
-					}
-				});
-
-				Path lSpriteSheetDirectory = Paths.get("res//spritesheets//game//");
-				mSpriteSheetPathWatcher = lSpriteSheetDirectory.getFileSystem().newWatchService();
-				Files.walkFileTree(lSpriteSheetDirectory, new SimpleFileVisitor<Path>() {
-					@Override
-					public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-						dir.register(mSpriteSheetPathWatcher, StandardWatchEventKinds.ENTRY_MODIFY);
-						return FileVisitResult.CONTINUE;
-					}
-
-				});
-
-			} catch (Exception e) {
-
-			}
+			mResourceWatcher = new ResourceWatcher();
+			mResourceWatcher.watchDirectory("res//textures//");
+			mResourceWatcher.watchDirectory("res//spritesheets//");
+			mResourceWatcher.watchDirectory("res//pobjects//");
+			mResourceWatcher.watchDirectory("res//audio//");
+
+			mResourceWatcher.addListener(mTextureManager);
+			mResourceWatcher.addListener(mSpriteSheetManager);
+			mResourceWatcher.addListener(mPObjectManager.definitionRepository());
+			mResourceWatcher.addListener(mAudioManager);
+
 		}
 
 	}
@@ -157,11 +133,17 @@ public class ResourceManager {
 		mPObjectManager.loadGLContent(this);
 		mSpriteGraphRepository.loadGLContent(this);
 
+		if (mResourceWatcher != null)
+			mResourceWatcher.start();
+
 		mIsLoaded = true;
 
 	}
 
 	public void unloadContent() {
+		if (mResourceWatcher != null)
+			mResourceWatcher.stop();
+
 		mFontManager.unloadGLContent();
 		mAudioManager.unloadALContent();
 		mTextureManager.unloadGLContent();
@@ -173,41 +155,19 @@ public class ResourceManager {
 	}
 
 	public void update(LintfordCore pCore) {
-		if (ConstantsApp.getBooleanValueDef("DEBUG_TEXTURE_RELOAD_WATCHER", true)) {
-			WatchKey lKey = mTexturePathWatcher.poll();
-			if (lKey != null) {
+		final var lProfiler = Debug.debugManager().profiler();
+		lProfiler.begin("ResourceManager.update");
 
-				List<WatchEvent<?>> events = lKey.pollEvents();
-				for (WatchEvent<?> event : events) {
-					if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
-						mTextureManager.reloadTextures();
+		mTextureManager.uploadPendingTextures();
+		mAudioManager.update();
 
-					}
+		if (mResourceWatcher != null && ConstantsApp.getBooleanValueDef("DEBUG_TEXTURE_RELOAD_WATCHER", true)) {
+			mResourceWatcher.update();
 
-				}
-
-				lKey.reset();
-			}
-
-			if (mSpriteSheetPathWatcher != null) {
-				WatchKey lSpriteFileKey = mSpriteSheetPathWatcher.poll();
-				if (lSpriteFileKey != null) {
-
-					List<WatchEvent<?>> events = lSpriteFileKey.pollEvents();
-					for (WatchEvent<?> event : events) {
-						if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
-							// Reload the spritesheet in question ...
-							mSpriteSheetManager.reload();
-						}
-
-					}
-
-					lSpriteFileKey.reset();
-				}
-
-			}
 		}
 
+		lProfiler.end("ResourceManager.update");
+
 	}
 
 	public void increaseReferenceCounts(int pEntityGroupID) {
@@ -0,0 +1,75 @@
+package net.lintford.library.core.audio;
+
+/**
+ * The progress of a set of audio files being loaded asynchronously (see {@link AudioManager#loadAudioFilesFromMetafileAsync(String)}), which a loading screen can poll. The counts are updated as the files are
+ * uploaded, on the thread owning the OpenAL context.
+ */
+public class AudioBankLoad {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final String mName;
+	private final int mTotalCount;
+	private int mLoadedCount;
+	private int mFailedCount;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** The meta-file the bank is loaded from. */
+	public String name() {
+		return mName;
+	}
+
+	public int totalCount() {
+		return mTotalCount;
+	}
+
+	public int loadedCount() {
+		return mLoadedCount;
+	}
+
+	public int failedCount() {
+		return mFailedCount;
+	}
+
+	/** The fraction of the files which have been loaded (or failed to load), from 0 to 1. */
+	public float progress() {
+		if (mTotalCount == 0)
+			return 1f;
+
+		return Math.min(1f, (float) (mLoadedCount + mFailedCount) / mTotalCount);
+	}
+
+	public boolean isDone() {
+		return mLoadedCount + mFailedCount >= mTotalCount;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public AudioBankLoad(String pName, int pTotalCount) {
+		mName = pName;
+		mTotalCount = pTotalCount;
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	void audioLoaded() {
+		mLoadedCount++;
+
+	}
+
+	void audioFailed() {
+		mFailedCount++;
+
+	}
+
+}
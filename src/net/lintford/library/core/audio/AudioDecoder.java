@@ -0,0 +1,184 @@
+package net.lintford.library.core.audio;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.lintford.library.core.audio.data.AudioData;
+import net.lintford.library.core.audio.data.OGGAudioData;
+import net.lintford.library.core.audio.data.StreamingOGGAudioData;
+import net.lintford.library.core.audio.data.WaveAudioData;
+import net.lintford.library.core.storage.FileUtils;
+
+/**
+ * Decodes audio files into {@link DecodedAudio} on a pool of worker threads, without touching any OpenAL state. The decoded audio is collected in a queue, which the OpenAL thread drains to upload the buffers
+ * (see {@link AudioManager#uploadPendingAudio(long)}).
+ */
+public class AudioDecoder {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final ExecutorService mExecutor;
+	private final LinkedBlockingQueue<DecodedAudio> mDecodedAudio = new LinkedBlockingQueue<>();
+	private final AtomicInteger mNumAudioInFlight = new AtomicInteger();
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** Returns the number of files which have been submitted and not yet taken from the queue of decoded audio. */
+	public int audioInFlight() {
+		return mNumAudioInFlight.get();
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	/** Creates a decoder with one worker thread per available processor (leaving one for the game thread). */
+	public AudioDecoder() {
+		this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+	}
+
+	public AudioDecoder(int pNumWorkerThreads) {
+		final var lThreadCounter = new AtomicInteger();
+		mExecutor = Executors.newFixedThreadPool(Math.max(1, pNumWorkerThreads), pRunnable -> {
+			final var lThread = new Thread(pRunnable, "AudioDecoder-" + lThreadCounter.incrementAndGet());
+			lThread.setDaemon(true);
+			return lThread;
+
+		});
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Queues the file for decoding on a worker thread. Once decoded (or failed), it can be taken with {@link #pollDecoded()}. The file is always queued, even if the decoder throws. */
+	public void submit(DecodedAudio pAudio) {
+		mNumAudioInFlight.incrementAndGet();
+		mExecutor.execute(() -> {
+			try {
+				decode(pAudio);
+
+			} catch (RuntimeException e) {
+				pAudio.free();
+				pAudio.setDecoded(false);
+				pAudio.setErrorMessage(e.toString());
+
+			} finally {
+				mDecodedAudio.add(pAudio);
+
+			}
+
+		});
+
+	}
+
+	/** Returns the next decoded file, or null if none is ready. */
+	public DecodedAudio pollDecoded() {
+		final var lAudio = mDecodedAudio.poll();
+		if (lAudio != null)
+			mNumAudioInFlight.decrementAndGet();
+
+		return lAudio;
+
+	}
+
+	/** Waits up to the given time for the next decoded file. Returns null if none became ready in time. */
+	public DecodedAudio pollDecoded(long pTimeoutNanos) throws InterruptedException {
+		final var lAudio = mDecodedAudio.poll(pTimeoutNanos, TimeUnit.NANOSECONDS);
+		if (lAudio != null)
+			mNumAudioInFlight.decrementAndGet();
+
+		return lAudio;
+
+	}
+
+	/** Stops the worker threads and frees the samples of all files which have been decoded but not taken. */
+	public void shutdown() {
+		mExecutor.shutdownNow();
+
+		DecodedAudio lAudio;
+		while ((lAudio = pollDecoded()) != null)
+			lAudio.free();
+
+	}
+
+	/**
+	 * Reads and decodes the audio file into a new {@link AudioData}, on the calling thread. Doesn't need an OpenAL context. Returns false (and sets the error message) if the file couldn't be read or decoded.
+	 */
+	public static boolean decode(DecodedAudio pAudio) {
+		if (pAudio.filepath == null || pAudio.filepath.length() == 0) {
+			pAudio.setErrorMessage("No file given");
+			return false;
+
+		}
+
+		final AudioData lNewAudioData;
+		switch (FileUtils.getFileExtension(pAudio.filepath)) {
+		case ".wav":
+			lNewAudioData = new WaveAudioData();
+			break;
+
+		case ".ogg":
+			lNewAudioData = pAudio.streamed ? new StreamingOGGAudioData() : new OGGAudioData();
+			break;
+
+		default:
+			pAudio.setErrorMessage("Failed to recognize the audio file extension");
+			return false;
+
+		}
+
+		final InputStream lInputStream = openAudioFile(pAudio.filepath);
+		if (lInputStream == null) {
+			pAudio.setErrorMessage("Couldn't open the audio file");
+			return false;
+
+		}
+
+		pAudio.setAudioData(lNewAudioData);
+
+		try (lInputStream) {
+			pAudio.setDecoded(lNewAudioData.decodeAudioFromInputStream(pAudio.soundName, lInputStream));
+			lNewAudioData.filepath(pAudio.filepath);
+
+		} catch (IOException e) {
+			// the audio has been read by now
+
+		}
+
+		if (!pAudio.isDecoded())
+			pAudio.setErrorMessage("Couldn't decode the audio file");
+
+		return pAudio.isDecoded();
+
+	}
+
+	/** Opens the audio file from a mounted asset pack, the resources or the file system. The audio decoders need mark/reset support, so the stream is buffered. */
+	private static InputStream openAudioFile(String pFilepath) {
+		try {
+			final var lInputStream = FileUtils.openInputStream(pFilepath);
+			if (lInputStream == null || lInputStream.markSupported())
+				return lInputStream;
+
+			return new BufferedInputStream(lInputStream);
+
+		} catch (IOException e) {
+			return null;
+
+		}
+
+	}
+
+}
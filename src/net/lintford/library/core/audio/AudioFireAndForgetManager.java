@@ -1,12 +1,30 @@
 package net.lintford.library.core.audio;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import net.lintford.library.core.audio.data.AudioData;
 
+/**
+ * Plays fire and forget sounds on a fixed pool of {@link AudioSource}s (voices). Each sound is played with a priority: once all voices are busy, a new sound steals the voice of the least important sound (the
+ * lowest priority, then the quietest at the listener, then the oldest), and is dropped if every voice plays a more important sound. Sounds too far from the listener to be heard are culled before they take a
+ * voice. Whether a voice is busy is read from the playback states cached once per frame (see {@link AudioSource#isPlayingCached()}), so playing a sound doesn't query OpenAL.
+ */
 public class AudioFireAndForgetManager {
 
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int PRIORITY_LOW = 0;
+	public static final int PRIORITY_NORMAL = 1;
+	public static final int PRIORITY_HIGH = 2;
+	public static final int PRIORITY_CRITICAL = 3;
+
+	/** Sounds estimated to be quieter than this at the listener (about -60 dB) are culled. */
+	public static final float DEFAULT_MIN_AUDIBLE_GAIN = 0.001f;
+
 	// --------------------------------------
 	// Variables
 	// --------------------------------------
@@ -18,6 +36,20 @@ public class AudioFireAndForgetManager {
 	/** A pool of {@link AudioSource}s, for fire and forget sounds */
 	private List<AudioSource> mAudioSourcePool;
 
+	// The sound each voice (the source at the same index in the pool) was last started with
+	private int[] mVoicePriorities = new int[0];
+	private float[] mVoiceGains = new float[0];
+	private float[] mVoicePositionsX = new float[0];
+	private float[] mVoicePositionsY = new float[0];
+
+	private float mReferenceDistance = 1f;
+	private float mRolloffFactor = 1f;
+	private float mMinAudibleGain = DEFAULT_MIN_AUDIBLE_GAIN;
+
+	private int mCulledSoundCount;
+	private int mDroppedSoundCount;
+	private int mStolenVoiceCount;
+
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
@@ -30,6 +62,58 @@ public class AudioFireAndForgetManager {
 		return mNumberOfSources;
 	}
 
+	public float referenceDistance() {
+		return mReferenceDistance;
+	}
+
+	/** Sets the distance (in world units) under which the sounds aren't attenuated. Defaults to the OpenAL default of 1. */
+	public void referenceDistance(float pNewValue) {
+		mReferenceDistance = Math.max(0.0001f, pNewValue);
+		for (int i = 0; i < mNumberOfSources; i++) {
+			mAudioSourcePool.get(i).setReferenceDistance(mReferenceDistance);
+
+		}
+
+	}
+
+	public float rolloffFactor() {
+		return mRolloffFactor;
+	}
+
+	/** Sets how quickly the sounds are attenuated beyond the reference distance. Defaults to the OpenAL default of 1. */
+	public void rolloffFactor(float pNewValue) {
+		mRolloffFactor = Math.max(0f, pNewValue);
+		for (int i = 0; i < mNumberOfSources; i++) {
+			mAudioSourcePool.get(i).setRolloffFactor(mRolloffFactor);
+
+		}
+
+	}
+
+	public float minAudibleGain() {
+		return mMinAudibleGain;
+	}
+
+	/** Sets the gain at the listener under which sounds are culled, rather than played. Zero disables the culling. */
+	public void minAudibleGain(float pNewValue) {
+		mMinAudibleGain = pNewValue;
+	}
+
+	/** The number of sounds which weren't played because they were too far from the listener. */
+	public int culledSoundCount() {
+		return mCulledSoundCount;
+	}
+
+	/** The number of sounds which weren't played because all voices were playing more important sounds. */
+	public int droppedSoundCount() {
+		return mDroppedSoundCount;
+	}
+
+	/** The number of sounds which were cut off to play a more important sound. */
+	public int stolenVoiceCount() {
+		return mStolenVoiceCount;
+	}
+
 	// --------------------------------------
 	// Constructors
 	// --------------------------------------
@@ -67,6 +151,15 @@ public class AudioFireAndForgetManager {
 
 	}
 
+	public void play(String pAudioDataName, float pWorldX, float pWorldY, float pVelX, float pVelY, int pPriority) {
+		final var lAudioDataBuffer = mAudioManager.getAudioDataBufferByName(pAudioDataName);
+		if (lAudioDataBuffer == null || !lAudioDataBuffer.isLoaded())
+			return;
+
+		play(lAudioDataBuffer, 100f, 1f, pWorldX, pWorldY, pVelX, pVelY, pPriority);
+
+	}
+
 	/** Plays the given {@link AudioData}. */
 	public void play(AudioData pAudioDataBuffer, float pWorldX, float pWorldY, float pVelX, float pVelY) {
 		if (pAudioDataBuffer == null || !pAudioDataBuffer.isLoaded())
@@ -78,31 +171,101 @@ public class AudioFireAndForgetManager {
 
 	/** Plays the given {@link AudioData} at the specified volume and pitch. */
 	public void play(AudioData pAudioDataBuffer, float pGain, float pPitch, float pWorldX, float pWorldY, float pVelX, float pVelY) {
+		play(pAudioDataBuffer, pGain, pPitch, pWorldX, pWorldY, pVelX, pVelY, PRIORITY_NORMAL);
+
+	}
+
+	/** Plays the given {@link AudioData} at the specified volume, pitch and priority. Returns false if the sound was culled, or no voice could be taken for it. */
+	public boolean play(AudioData pAudioDataBuffer, float pGain, float pPitch, float pWorldX, float pWorldY, float pVelX, float pVelY, int pPriority) {
 		if (pAudioDataBuffer == null || !pAudioDataBuffer.isLoaded())
-			return;
+			return false;
+
+		// Sources clamp the gain to their max gain of 1
+		final float lGain = Math.min(1f, Math.max(0f, pGain));
+		final float lAudibleGain = lGain * distanceAttenuation(pWorldX, pWorldY);
+		if (lAudibleGain < mMinAudibleGain) {
+			mCulledSoundCount++;
+			return false;
+
+		}
+
+		final int lVoiceIndex = getVoice(pPriority, lAudibleGain);
+		if (lVoiceIndex == -1) {
+			mDroppedSoundCount++;
+			return false;
+
+		}
 
-		final var lAudioSource = getFreeAudioSource();
-		if (lAudioSource != null) {
-			lAudioSource.setPosition(pWorldX, pWorldY, 0f);
-			lAudioSource.setVelocity(pVelX, pVelY, 0f);
-			lAudioSource.setLooping(false);
-			lAudioSource.play(pAudioDataBuffer.bufferID(), pGain, pPitch);
+		final var lAudioSource = mAudioSourcePool.get(lVoiceIndex);
+		if (lAudioSource.isPlayingCached()) {
+			lAudioSource.stop();
+			mStolenVoiceCount++;
 
 		}
 
+		mVoicePriorities[lVoiceIndex] = pPriority;
+		mVoiceGains[lVoiceIndex] = lGain;
+		mVoicePositionsX[lVoiceIndex] = pWorldX;
+		mVoicePositionsY[lVoiceIndex] = pWorldY;
+
+		lAudioSource.setPosition(pWorldX, pWorldY, 0f);
+		lAudioSource.setVelocity(pVelX, pVelY, 0f);
+		lAudioSource.setLooping(false);
+		lAudioSource.play(pAudioDataBuffer.bufferID(), pGain, pPitch);
+
+		return true;
+
 	}
 
-	/** Returns the first non-playing {@link AudioSource} in the AudioSourcePool. Returns null if no {@link AudioSource}s are available. */
-	private AudioSource getFreeAudioSource() {
+	/**
+	 * Returns the index of a voice which isn't playing, or else of the voice playing the least important sound (lowest priority, then quietest at the listener, then oldest), provided that sound isn't more
+	 * important than the new one. Returns -1 if no voice can be taken.
+	 */
+	private int getVoice(int pPriority, float pAudibleGain) {
+		int lVictimIndex = -1;
+		int lVictimPriority = 0;
+		float lVictimGain = 0f;
+		long lVictimStartTime = 0;
+
 		for (int i = 0; i < mNumberOfSources; i++) {
-			if (!mAudioSourcePool.get(i).isPlaying()) {
-				return mAudioSourcePool.get(i);
+			final var lAudioSource = mAudioSourcePool.get(i);
+			if (!lAudioSource.isPlayingCached())
+				return i;
+
+			final int lPriority = mVoicePriorities[i];
+			final float lGain = mVoiceGains[i] * distanceAttenuation(mVoicePositionsX[i], mVoicePositionsY[i]);
+			final long lStartTime = lAudioSource.playStartTime();
+
+			final boolean lIsLessImportant = lVictimIndex == -1 || lPriority < lVictimPriority || (lPriority == lVictimPriority && (lGain < lVictimGain || (lGain == lVictimGain && lStartTime < lVictimStartTime)));
+			if (lIsLessImportant) {
+				lVictimIndex = i;
+				lVictimPriority = lPriority;
+				lVictimGain = lGain;
+				lVictimStartTime = lStartTime;
 
 			}
 
 		}
 
-		return null;
+		if (lVictimIndex == -1 || lVictimPriority > pPriority || (lVictimPriority == pPriority && lVictimGain > pAudibleGain))
+			return -1;
+
+		return lVictimIndex;
+
+	}
+
+	/** Estimates the attenuation of a sound at the position by the distance to the listener, with the OpenAL default distance model (inverse distance, clamped). */
+	private float distanceAttenuation(float pWorldX, float pWorldY) {
+		final var lListener = mAudioManager.listener();
+		final float lDeltaX = pWorldX - lListener.positionX();
+		final float lDeltaY = pWorldY - lListener.positionY();
+		final float lDeltaZ = lListener.positionZ();
+
+		final float lDistance = (float) Math.sqrt(lDeltaX * lDeltaX + lDeltaY * lDeltaY + lDeltaZ * lDeltaZ);
+		if (lDistance <= mReferenceDistance)
+			return 1f;
+
+		return mReferenceDistance / (mReferenceDistance + mRolloffFactor * (lDistance - mReferenceDistance));
 
 	}
 
@@ -114,6 +277,9 @@ public class AudioFireAndForgetManager {
 				break;
 			}
 
+			lNewAudioSource.setReferenceDistance(mReferenceDistance);
+			lNewAudioSource.setRolloffFactor(mRolloffFactor);
+
 			lActualNumberOfSourcesAvailable++;
 			mAudioSourcePool.add(lNewAudioSource);
 
@@ -121,6 +287,14 @@ public class AudioFireAndForgetManager {
 
 		mNumberOfSources = lActualNumberOfSourcesAvailable;
 
+		if (mVoicePriorities.length < mNumberOfSources) {
+			mVoicePriorities = Arrays.copyOf(mVoicePriorities, mNumberOfSources);
+			mVoiceGains = Arrays.copyOf(mVoiceGains, mNumberOfSources);
+			mVoicePositionsX = Arrays.copyOf(mVoicePositionsX, mNumberOfSources);
+			mVoicePositionsY = Arrays.copyOf(mVoicePositionsY, mNumberOfSources);
+
+		}
+
 	}
 
 	public void releaseAudioSources() {
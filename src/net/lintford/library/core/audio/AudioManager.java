@@ -18,13 +18,10 @@ import static org.lwjgl.openal.ALC11.ALC_STEREO_SOURCES;
 import static org.lwjgl.openal.EXTThreadLocalContext.alcSetThreadContext;
 import static org.lwjgl.system.MemoryUtil.NULL;
 
-import java.io.BufferedInputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -41,15 +38,15 @@ import com.google.gson.GsonBuilder;
 
 import net.lintford.library.core.ResourceManager;
 import net.lintford.library.core.audio.data.AudioData;
-import net.lintford.library.core.audio.data.OGGAudioData;
-import net.lintford.library.core.audio.data.WaveAudioData;
 import net.lintford.library.core.audio.music.MusicManager;
 import net.lintford.library.core.debug.Debug;
 import net.lintford.library.core.maths.MathHelper;
+import net.lintford.library.core.resources.IResourceChangedListener;
+import net.lintford.library.core.resources.ResourceWatcher;
 import net.lintford.library.core.storage.FileUtils;
 import net.lintford.library.options.AudioConfig;
 
-public class AudioManager {
+public class AudioManager implements IResourceChangedListener {
 
 	public class AudioNubble {
 		private boolean enabled;
@@ -91,6 +88,9 @@ public class AudioManager {
 
 	public static final String META_FILE_LOCATION = "/res/audio/meta.json";
 
+	/** The default time per frame the OpenAL thread spends on uploading audio which has been decoded asynchronously. */
+	public static final long DEFAULT_UPLOAD_TIME_BUDGET_NANOS = 1000000L;
+
 	public static final int AUDIO_SOURCE_TYPE_SOUNDFX = 0;
 	public static final int AUDIO_SOURCE_TYPE_MUSIC = 1;
 
@@ -100,12 +100,13 @@ public class AudioManager {
 
 	/** A pool of {@link AudioSource}s created for other objects (and can be reused). */
 	private List<AudioSource> mAudioSources;
+	/** The sources of the pool which aren't assigned, so they can be handed out without searching the pool. */
+	private ArrayDeque<AudioSource> mFreeAudioSources;
 	private Map<String, AudioData> mAudioDataBuffers;
 	private AudioListener mAudioListener;
 
 	private long mContext;
 	private long mDevice;
-	private int mNumberAssignedSources;
 	private boolean mOpenALInitialized;
 
 	private int mMaxMonoSourceCount;
@@ -122,6 +123,13 @@ public class AudioManager {
 	private AudioConfig mAudioConfig;
 
 	private AudioNubble mSoundFxNubble;
+
+	private AudioDecoder mAudioDecoder;
+	private int mPendingAudioCount;
+
+	// The names of the files being loaded asynchronously, with any further bank loads waiting for the same file
+	private Map<String, List<AudioBankLoad>> mPendingAudioLoads;
+	private long mUploadTimeBudgetNanos = DEFAULT_UPLOAD_TIME_BUDGET_NANOS;
 	private AudioNubble mMusicNubble;
 
 	// --------------------------------------
@@ -158,6 +166,32 @@ public class AudioManager {
 		return mMusicManager;
 	}
 
+	/** The decoder used by the asynchronous loading methods. Created on first use. */
+	public AudioDecoder audioDecoder() {
+		if (mAudioDecoder == null)
+			mAudioDecoder = new AudioDecoder();
+
+		return mAudioDecoder;
+	}
+
+	/** Returns the number of audio files which are being loaded asynchronously and have not been uploaded yet. */
+	public int pendingAudioCount() {
+		return mPendingAudioCount;
+	}
+
+	public boolean isLoadingAudio() {
+		return mPendingAudioCount > 0;
+	}
+
+	public long uploadTimeBudgetNanos() {
+		return mUploadTimeBudgetNanos;
+	}
+
+	/** Sets the time per frame {@link #uploadPendingAudio()} spends on uploading decoded audio. At least one file is uploaded per frame, regardless of the budget. */
+	public void uploadTimeBudgetNanos(long pNewValue) {
+		mUploadTimeBudgetNanos = pNewValue;
+	}
+
 	/** Returns the maxiumum numbers of sources supported by the OpenAL context. */
 	public int maxSources() {
 		return mMaxMonoSourceCount;
@@ -185,7 +219,9 @@ public class AudioManager {
 		mAudioConfig = pAudioConfig;
 
 		mAudioDataBuffers = new HashMap<>();
+		mPendingAudioLoads = new HashMap<>();
 		mAudioSources = new ArrayList<>();
+		mFreeAudioSources = new ArrayDeque<>();
 		mAudioListener = new AudioListener();
 
 		mSoundFxNubble = new AudioNubble(AUDIO_SOURCE_TYPE_SOUNDFX);
@@ -205,6 +241,17 @@ public class AudioManager {
 	// Core-Methods
 	// --------------------------------------
 
+	/** Uploads the audio which has been decoded asynchronously, and refills the buffers of the streamed audio. Must be called once per frame, on the thread owning the OpenAL context. */
+	public void update() {
+		if (!mOpenALInitialized)
+			return;
+
+		uploadPendingAudio();
+		refreshPlaybackStates();
+		mMusicManager.update();
+
+	}
+
 	public void updateSettings() {
 		// Read the current values from the audio options menu
 		final var lNormalizedMasterVolume = mAudioConfig.masterVolume();
@@ -383,6 +430,15 @@ public class AudioManager {
 	public void unloadALContent() {
 		musicManager().unloadALContent();
 
+		if (mAudioDecoder != null) {
+			mAudioDecoder.shutdown();
+			mAudioDecoder = null;
+
+		}
+
+		mPendingAudioCount = 0;
+		mPendingAudioLoads.clear();
+
 		// Remove all the sound buffers
 		for (AudioData lAudioData : mAudioDataBuffers.values()) {
 			lAudioData.unloadAudioData();
@@ -397,6 +453,9 @@ public class AudioManager {
 
 		}
 
+		mAudioSources.clear();
+		mFreeAudioSources.clear();
+
 		alcMakeContextCurrent(NULL);
 		alcDestroyContext(mContext);
 		alcCloseDevice(mDevice);
@@ -448,54 +507,56 @@ public class AudioManager {
 
 	}
 
-	/** Returns an OpenAL {@link AudioSource} object which can be used to play an OpenAL AudioBuffer. */
+	/** Returns an OpenAL {@link AudioSource} object which can be used to play an OpenAL AudioBuffer. Returns null once all of the sources supported by the OpenAL context have been assigned. */
 	public AudioSource getAudioSource(final int pOwnerHash, int pAudioSourceType) {
-		final int lNumberSourcesInPool = mAudioSources.size();
+		if (mFreeAudioSources.isEmpty())
+			increaseAudioSourcePool(8);
 
-		for (int i = 0; i < lNumberSourcesInPool; i++) {
-			if (mAudioSources.get(i).isFree()) {
-				final var lAudioSource = mAudioSources.get(i);
+		AudioSource lAudioSource;
+		while ((lAudioSource = mFreeAudioSources.pollLast()) != null) {
+			if (lAudioSource.assign(pOwnerHash, getAudioSourceNubbleBasedOnType(pAudioSourceType)))
+				return lAudioSource;
 
-				if (lAudioSource.assign(pOwnerHash, getAudioSourceNubbleBasedOnType(pAudioSourceType))) {
-					return lAudioSource;
+		}
 
-				}
+		return null;
 
-			}
+	}
 
-		}
+	/** Called by the {@link AudioSource}s of the pool when they are unassigned. */
+	void onAudioSourceUnassigned(AudioSource pAudioSource) {
+		mFreeAudioSources.addLast(pAudioSource);
 
-		final AudioSource lNewAudioSource = increaseAudioSourcePool(8);
-		if (lNewAudioSource == null) {
-			return null;
+	}
 
-		}
+	/** Refreshes the cached playback state of the assigned sources (see {@link AudioSource#isPlayingCached()}), so the state doesn't need to be queried from OpenAL whenever a sound is played. */
+	private void refreshPlaybackStates() {
+		final int lNumberOfAudioSources = mAudioSources.size();
+		for (int i = 0; i < lNumberOfAudioSources; i++) {
+			mAudioSources.get(i).refreshPlaybackState();
 
-		lNewAudioSource.assign(pOwnerHash, getAudioSourceNubbleBasedOnType(pAudioSourceType));
-		return lNewAudioSource;
+		}
 
 	}
 
-	private AudioSource increaseAudioSourcePool(int pAmt) {
-		final int lNumberFreeSourceSpaces = mMaxMonoSourceCount - mNumberAssignedSources;
+	private void increaseAudioSourcePool(int pAmt) {
+		final int lNumberFreeSourceSpaces = mMaxMonoSourceCount - mAudioSources.size();
 		if (lNumberFreeSourceSpaces <= 0) {
-			return null;
+			return;
 
 		}
 
 		pAmt = Math.min(pAmt, lNumberFreeSourceSpaces);
 
-		for (int i = 0; i < pAmt - 1; i++) {
-			createNewAudioSource();
+		for (int i = 0; i < pAmt; i++) {
+			mFreeAudioSources.addLast(createNewAudioSource());
 
 		}
 
-		return createNewAudioSource();
-
 	}
 
 	private AudioSource createNewAudioSource() {
-		final var lReturnAudioSource = new AudioSource();
+		final var lReturnAudioSource = new AudioSource(this);
 		AL10.alSourcei(lReturnAudioSource.sourceID(), AL10.AL_SOURCE_ABSOLUTE, AL10.AL_TRUE);
 		AL10.alSourcei(lReturnAudioSource.sourceID(), AL10.AL_SOURCE_RELATIVE, AL10.AL_FALSE);
 		AL10.alSourcef(lReturnAudioSource.sourceID(), AL10.AL_GAIN, 1f);
@@ -516,23 +577,13 @@ public class AudioManager {
 	public void loadAudioFilesFromMetafile(String pMetaFileLocation) {
 		Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Loading audio from meta-file %s", pMetaFileLocation));
 
-		final Gson GSON = new GsonBuilder().create();
-
-		String lMetaFileContentsString = null;
-		AudioMetaData lAudioMetaObject = null;
-
-		lMetaFileContentsString = FileUtils.loadString(pMetaFileLocation);
-		lAudioMetaObject = GSON.fromJson(lMetaFileContentsString, AudioMetaData.class);
-
-		if (lAudioMetaObject == null || lAudioMetaObject.AudioMetaDefinitions == null || lAudioMetaObject.AudioMetaDefinitions.length == 0) {
-			Debug.debugManager().logger().e(getClass().getSimpleName(), "There was an error reading the audio meta file");
+		final var lAudioMetaDefinitions = readAudioMetaFile(pMetaFileLocation);
+		if (lAudioMetaDefinitions == null)
 			return;
 
-		}
-
-		final int lNumberOfFontUnitDefinitions = lAudioMetaObject.AudioMetaDefinitions.length;
+		final int lNumberOfFontUnitDefinitions = lAudioMetaDefinitions.length;
 		for (int i = 0; i < lNumberOfFontUnitDefinitions; i++) {
-			final var lAudioDataDefinition = lAudioMetaObject.AudioMetaDefinitions[i];
+			final var lAudioDataDefinition = lAudioMetaDefinitions[i];
 
 			final var lSoundName = lAudioDataDefinition.soundname;
 			final var lFilepath = lAudioDataDefinition.filepath;
@@ -544,7 +595,199 @@ public class AudioManager {
 
 	}
 
+	/**
+	 * Starts loading the audio files listed in the meta-file on the worker threads of the {@link AudioDecoder}, and returns straight away. The files are uploaded by {@link #uploadPendingAudio()} as they are
+	 * decoded, and are only available from {@link #getSound(String)} from then on. The returned {@link AudioBankLoad} reports the progress.
+	 */
+	public AudioBankLoad loadAudioFilesFromMetafileAsync(String pMetaFileLocation) {
+		Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Loading audio asynchronously from meta-file %s", pMetaFileLocation));
+
+		final var lAudioMetaDefinitions = readAudioMetaFile(pMetaFileLocation);
+		final var lBankLoad = new AudioBankLoad(pMetaFileLocation, lAudioMetaDefinitions != null ? lAudioMetaDefinitions.length : 0);
+		if (lAudioMetaDefinitions == null)
+			return lBankLoad;
+
+		final int lNumberOfDefinitions = lAudioMetaDefinitions.length;
+		for (int i = 0; i < lNumberOfDefinitions; i++) {
+			final var lAudioDataDefinition = lAudioMetaDefinitions[i];
+			loadAudioFileAsync(lAudioDataDefinition.soundname, lAudioDataDefinition.filepath, lAudioDataDefinition.reload, false, lBankLoad);
+
+		}
+
+		return lBankLoad;
+
+	}
+
+	/** Starts decoding the audio file on the worker threads of the {@link AudioDecoder}. The bank load, which can be null, is updated once the file has been uploaded (or failed to load). */
+	public void loadAudioFileAsync(String pSoundName, String pFilepath, boolean pReload, boolean pStreamed, AudioBankLoad pBankLoad) {
+		if (!mOpenALInitialized) {
+			Debug.debugManager().logger().w(getClass().getSimpleName(), "Cannot load AudioData files until the AudioManager has been loaded");
+			if (pBankLoad != null)
+				pBankLoad.audioFailed();
+
+			return;
+
+		}
+
+		if (pSoundName == null || pSoundName.length() == 0) {
+			if (pBankLoad != null)
+				pBankLoad.audioFailed();
+
+			return;
+
+		}
+
+		if (!pReload && mAudioDataBuffers.containsKey(pSoundName)) {
+			if (pBankLoad != null)
+				pBankLoad.audioLoaded();
+
+			return;
+
+		}
+
+		// A file which is already being decoded under the same name is only loaded once, the bank load is updated when it completes
+		final var lWaitingBankLoads = mPendingAudioLoads.get(pSoundName);
+		if (lWaitingBankLoads != null) {
+			if (pBankLoad != null)
+				lWaitingBankLoads.add(pBankLoad);
+
+			return;
+
+		}
+
+		mPendingAudioLoads.put(pSoundName, new ArrayList<>());
+		mPendingAudioCount++;
+		audioDecoder().submit(new DecodedAudio(pSoundName, pFilepath, pStreamed, pBankLoad));
+
+	}
+
+	/** Uploads the audio files which have finished decoding, for up to {@link #uploadTimeBudgetNanos()}. Called once per frame by {@link #update()}. Returns the number of files uploaded. */
+	public int uploadPendingAudio() {
+		return uploadPendingAudio(mUploadTimeBudgetNanos);
+
+	}
+
+	/** Uploads the audio files which have finished decoding, until the time budget has been used up. At least one file is uploaded if any is ready. Returns the number of files uploaded. */
+	public int uploadPendingAudio(long pTimeBudgetNanos) {
+		if (mPendingAudioCount == 0)
+			return 0;
+
+		final long lStartTime = System.nanoTime();
+		int lNumUploaded = 0;
+
+		do {
+			final var lDecodedAudio = mAudioDecoder.pollDecoded();
+			if (lDecodedAudio == null)
+				break;
+
+			uploadDecodedAudio(lDecodedAudio);
+			lNumUploaded++;
+
+		} while (System.nanoTime() - lStartTime < pTimeBudgetNanos);
+
+		return lNumUploaded;
+
+	}
+
+	/** Blocks until all of the audio files which are being loaded asynchronously have been decoded and uploaded. */
+	public void finishLoadingAudio() {
+		while (mPendingAudioCount > 0) {
+			try {
+				final var lDecodedAudio = mAudioDecoder.pollDecoded(100000000L);
+				if (lDecodedAudio != null) {
+					uploadDecodedAudio(lDecodedAudio);
+
+				} else if (mAudioDecoder.audioInFlight() == 0) {
+					// Nothing left which could complete the remaining files
+					mPendingAudioCount = 0;
+					mPendingAudioLoads.clear();
+
+				}
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+
+			}
+
+		}
+
+	}
+
+	private void uploadDecodedAudio(DecodedAudio pDecodedAudio) {
+		mPendingAudioCount--;
+
+		final var lWaitingBankLoads = mPendingAudioLoads.remove(pDecodedAudio.soundName);
+
+		final var lAudioData = pDecodedAudio.audioData();
+		boolean lIsUploaded = false;
+		try {
+			lIsUploaded = pDecodedAudio.isDecoded() && lAudioData.uploadDecodedAudio();
+
+		} finally {
+			// The samples are no longer needed once uploaded, and are never used if the upload failed
+			pDecodedAudio.free();
+
+		}
+
+		if (!lIsUploaded) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("Error loading AudioData file %s (%s)", pDecodedAudio.filepath, pDecodedAudio.errorMessage()));
+			notifyBankLoads(pDecodedAudio.bankLoad, lWaitingBankLoads, false);
+
+			return;
+
+		}
+
+		// Reloaded audio replaces the buffer of the loaded audio, so existing references play the new audio
+		final var lPreviousAudioData = mAudioDataBuffers.get(pDecodedAudio.soundName);
+		if (lPreviousAudioData != null && lPreviousAudioData.isLoaded() && lPreviousAudioData.isStreamed() == lAudioData.isStreamed()) {
+			lPreviousAudioData.replaceAudioData(lAudioData);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Re-Loaded AudioData file '" + pDecodedAudio.filepath + "' as " + pDecodedAudio.soundName);
+
+		} else {
+			// A buffer which can't take over the new audio (i.e. streamed audio loaded as a sample) would otherwise be lost
+			if (lPreviousAudioData != null && lPreviousAudioData.isLoaded())
+				lPreviousAudioData.unloadAudioData();
+
+			mAudioDataBuffers.put(pDecodedAudio.soundName, lAudioData);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Loaded AudioData file '" + pDecodedAudio.filepath + "' as " + pDecodedAudio.soundName);
+
+		}
+
+		notifyBankLoads(pDecodedAudio.bankLoad, lWaitingBankLoads, true);
+
+	}
+
+	private static void notifyBankLoads(AudioBankLoad pBankLoad, List<AudioBankLoad> pWaitingBankLoads, boolean pIsLoaded) {
+		if (pBankLoad != null) {
+			if (pIsLoaded)
+				pBankLoad.audioLoaded();
+			else
+				pBankLoad.audioFailed();
+
+		}
+
+		if (pWaitingBankLoads == null)
+			return;
+
+		final int lNumBankLoads = pWaitingBankLoads.size();
+		for (int i = 0; i < lNumBankLoads; i++) {
+			if (pIsLoaded)
+				pWaitingBankLoads.get(i).audioLoaded();
+			else
+				pWaitingBankLoads.get(i).audioFailed();
+
+		}
+
+	}
+
 	public AudioData loadAudioFile(String pSoundName, String pFilepath, boolean pReload) {
+		return loadAudioFile(pSoundName, pFilepath, pReload, false);
+
+	}
+
+	/** Loads the audio file. Streamed Ogg Vorbis files are only decoded while they are played (see {@link AudioStream}), other files are always decoded up front. */
+	public AudioData loadAudioFile(String pSoundName, String pFilepath, boolean pReload, boolean pStreamed) {
 		if (!mOpenALInitialized) {
 			Debug.debugManager().logger().w(getClass().getSimpleName(), "Cannot load AudioData files until the AudioManager has been loaded");
 			return null;
@@ -562,7 +805,7 @@ public class AudioManager {
 		}
 
 		final var lSoundName = pSoundName;
-		final var lSoundData = loadAudioFile(lSoundName, pFilepath);
+		final var lSoundData = decodeAndUploadAudioFile(lSoundName, pFilepath, pStreamed);
 
 		if (lSoundData != null) {
 			if (pReload) {
@@ -579,70 +822,105 @@ public class AudioManager {
 
 	}
 
-	private AudioData loadAudioFile(String pName, String pFilepath) {
-		if (pFilepath == null || pFilepath.length() == 0) {
+	private AudioData decodeAndUploadAudioFile(String pName, String pFilepath, boolean pStreamed) {
+		final var lAudioData = decodeAudioFile(pName, pFilepath, pStreamed);
+		if (lAudioData == null)
 			return null;
 
+		try {
+			if (!lAudioData.uploadDecodedAudio())
+				return null;
+
+		} finally {
+			lAudioData.freeDecodedAudio();
+
 		}
 
-		InputStream lInputStream = null;
-		if (pFilepath.charAt(0) == '/') {
-			lInputStream = loadAudioDataFromResource(pFilepath);
+		return lAudioData;
 
-		} else {
-			lInputStream = loadAudioDataFromFile(pFilepath);
+	}
 
-		}
+	/** Reads and decodes the audio file, without uploading it into an OpenAL buffer (see {@link AudioData#uploadDecodedAudio()}). */
+	private AudioData decodeAudioFile(String pName, String pFilepath, boolean pStreamed) {
+		final var lDecodedAudio = new DecodedAudio(pName, pFilepath, pStreamed, null);
+		if (!AudioDecoder.decode(lDecodedAudio))
+			Debug.debugManager().logger().e(getClass().getSimpleName(), lDecodedAudio.errorMessage() + ": " + pFilepath);
 
-		if (lInputStream == null) {
-			Debug.debugManager().logger().e(getClass().getSimpleName(), "Couldn't open the audio file: " + pFilepath);
-			return null;
+		return lDecodedAudio.audioData();
 
-		}
+	}
 
-		final var lFileExtension = FileUtils.getFileExtension(pFilepath);
-		switch (lFileExtension) {
-		case ".wav":
-			final var lNewWavData = new WaveAudioData();
-			lNewWavData.loadAudioFromInputStream(pName, lInputStream);
-			return lNewWavData;
+	/** Reloads only the audio buffers which have been loaded from the changed file. The file is decoded on the reload thread, and the new samples replace the buffer on the game thread. */
+	@Override
+	public void onResourceFileChanged(ResourceWatcher pResourceWatcher, Path pChangedFile) {
+		if (!mOpenALInitialized)
+			return;
 
-		case ".ogg":
-			final var lNewOggAudioData = new OGGAudioData();
-			lNewOggAudioData.loadAudioFromInputStream(pName, lInputStream);
-			return lNewOggAudioData;
+		for (final var lAudioData : mAudioDataBuffers.values()) {
+			if (!lAudioData.isLoaded() || !ResourceWatcher.isResourceFile(pChangedFile, lAudioData.filepath()))
+				continue;
 
-		default:
-			Debug.debugManager().logger().w(getClass().getSimpleName(), "Failed to recognize the audio file extension.");
-			return null;
-		}
+			final var lSoundName = lAudioData.name();
+			final var lFilepath = lAudioData.filepath();
+			pResourceWatcher.reloadAsync(() -> {
+				final var lReloadedAudioData = decodeAudioFile(lSoundName, lFilepath, lAudioData.isStreamed());
 
-	}
+				return () -> {
+					boolean lIsUploaded = false;
+					if (lReloadedAudioData != null) {
+						try {
+							lIsUploaded = lReloadedAudioData.uploadDecodedAudio();
 
-	private InputStream loadAudioDataFromResource(String pResourcename) {
-		final var lInputStream = FileUtils.class.getResourceAsStream(pResourcename);
-		if (lInputStream == null)
-			return null;
+						} finally {
+							lReloadedAudioData.freeDecodedAudio();
 
-		return new BufferedInputStream(lInputStream);
+						}
 
-	}
+					}
 
-	private InputStream loadAudioDataFromFile(String pFilename) {
-		final var lNewFile = new File(pFilename);
+					if (!lIsUploaded) {
+						Debug.debugManager().logger().e(getClass().getSimpleName(), "Failed to reload AudioData file '" + lFilepath + "'");
+						return;
 
-		if (!lNewFile.exists()) {
-			return null;
+					}
+
+					// The buffer could have been unloaded in the meantime
+					if (mAudioDataBuffers.get(lSoundName) != lAudioData || !lAudioData.isLoaded()) {
+						lReloadedAudioData.unloadAudioData();
+						return;
+
+					}
+
+					lAudioData.replaceAudioData(lReloadedAudioData);
+
+					Debug.debugManager().logger().i(getClass().getSimpleName(), "Re-Loaded AudioData file '" + lFilepath + "' as " + lSoundName);
+
+				};
+
+			});
 
 		}
 
-		try {
-			return new BufferedInputStream(new FileInputStream(lNewFile));
-		} catch (FileNotFoundException e) {
+	}
+
+	/** Reads the definitions of the meta-file. Returns null (and logs an error) if the file couldn't be read or has no definitions. */
+	private AudioMetaDataDefinition[] readAudioMetaFile(String pMetaFileLocation) {
+		final Gson GSON = new GsonBuilder().create();
+
+		String lMetaFileContentsString = null;
+		AudioMetaData lAudioMetaObject = null;
+
+		lMetaFileContentsString = FileUtils.loadString(pMetaFileLocation);
+		lAudioMetaObject = GSON.fromJson(lMetaFileContentsString, AudioMetaData.class);
+
+		if (lAudioMetaObject == null || lAudioMetaObject.AudioMetaDefinitions == null || lAudioMetaObject.AudioMetaDefinitions.length == 0) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), "There was an error reading the audio meta file");
+			return null;
 
 		}
 
-		return null;
+		return lAudioMetaObject.AudioMetaDefinitions;
+
 	}
 
 	// --------------------------------------
@@ -27,6 +27,11 @@ public class AudioSource {
 	private int mOwnerHash;
 	private AudioNubble mAudioNubble;
 
+	/** The manager which pools this source, and is told when it is unassigned. */
+	private AudioManager mAudioManager;
+	private boolean mIsPlayingCached;
+	private long mPlayStartTime;
+
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
@@ -76,6 +81,19 @@ public class AudioSource {
 
 	}
 
+	/**
+	 * Returns true if the source was started and hadn't finished playing when the playback states were last refreshed (once per frame, see {@link AudioManager#update()}). Unlike {@link #isPlaying()}, this
+	 * doesn't query OpenAL.
+	 */
+	public boolean isPlayingCached() {
+		return mIsPlayingCached;
+	}
+
+	/** The time (System.nanoTime) the source was last started. */
+	public long playStartTime() {
+		return mPlayStartTime;
+	}
+
 	/** Returns true if the sourceID has been assigned and is not equal to AL10-AL_INVALID (-1, 0xFFFFFFFF) */
 	public boolean isValidSource() {
 		return mSourceID != AL10.AL_INVALID;
@@ -100,6 +118,13 @@ public class AudioSource {
 
 	}
 
+	AudioSource(AudioManager pAudioManager) {
+		this();
+
+		mAudioManager = pAudioManager;
+
+	}
+
 	// --------------------------------------
 	// Core-Methods
 	// --------------------------------------
@@ -118,8 +143,14 @@ public class AudioSource {
 	}
 
 	public boolean unassign() {
+		final boolean lWasAssigned = !isFree();
+
 		mAudioNubble = null;
 		mOwnerHash = NO_OWNER;
+
+		if (lWasAssigned && mAudioManager != null)
+			mAudioManager.onAudioSourceUnassigned(this);
+
 		return true;
 
 	}
@@ -139,6 +170,10 @@ public class AudioSource {
 		}
 
 		mOwnerHash = NO_OWNER;
+
+		if (mAudioManager != null)
+			mAudioManager.onAudioSourceUnassigned(this);
+
 		return true;
 
 	}
@@ -150,6 +185,9 @@ public class AudioSource {
 
 		}
 
+		mIsPlayingCached = false;
+		mAudioManager = null;
+
 		if (isValidSource()) {
 			AL10.alDeleteSources(mSourceID);
 
@@ -179,21 +217,34 @@ public class AudioSource {
 		AL10.alSourcei(mSourceID, AL11.AL_SEC_OFFSET, 0);
 		AL10.alSourcePlay(mSourceID);
 
+		mIsPlayingCached = true;
+		mPlayStartTime = System.nanoTime();
+
 	}
 
 	/** Pauses the {@link AudioSource}. */
 	public void pause() {
 		AL10.alSourcePause(mSourceID);
+		mIsPlayingCached = false;
 	}
 
 	/** Resumes playing the {@link AudioSource} from a last position when paused. */
 	public void continuePlaying() {
 		AL10.alSourcePlay(mSourceID);
+		mIsPlayingCached = true;
 	}
 
 	/** Stops the {@link AudioSource} playback and returns the position back to zero. */
 	public void stop() {
 		AL10.alSourceStop(mSourceID);
+		mIsPlayingCached = false;
+	}
+
+	/** Updates the cached playback state (see {@link #isPlayingCached()}). Only sources which were playing are queried. */
+	void refreshPlaybackState() {
+		if (mIsPlayingCached)
+			mIsPlayingCached = isPlaying();
+
 	}
 
 	public void updateGain() {
@@ -233,6 +284,18 @@ public class AudioSource {
 
 	}
 
+	/** Sets the distance under which the gain of this {@link AudioSource} isn't attenuated. */
+	public void setReferenceDistance(float pReferenceDistance) {
+		AL10.alSourcef(mSourceID, AL10.AL_REFERENCE_DISTANCE, pReferenceDistance);
+
+	}
+
+	/** Sets how quickly the gain of this {@link AudioSource} is attenuated beyond the reference distance. */
+	public void setRolloffFactor(float pRolloffFactor) {
+		AL10.alSourcef(mSourceID, AL10.AL_ROLLOFF_FACTOR, pRolloffFactor);
+
+	}
+
 	/** Sets the velocity of this {@link AudioSource}. */
 	public void setVelocity(float pX, float pY, float pZ) {
 		AL10.alSource3f(mSourceID, AL10.AL_VELOCITY, pX, pY, pZ);
@@ -0,0 +1,543 @@
+package net.lintford.library.core.audio;
+
+import java.io.IOException;
+import java.nio.ShortBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.openal.AL10;
+import org.lwjgl.openal.AL11;
+
+import net.lintford.library.core.audio.data.AudioData;
+import net.lintford.library.core.audio.data.OggVorbisStreamDecoder;
+import net.lintford.library.core.audio.data.StreamingOGGAudioData;
+import net.lintford.library.core.debug.Debug;
+
+/**
+ * Plays {@link AudioData} on an {@link AudioSource}. Streamed audio (see {@link AudioData#isStreamed()}) is decoded chunk by chunk on a background thread, and played through a small ring of OpenAL buffers
+ * queued on the source, which are refilled in {@link #update()}. Any other audio is played from its buffer. All methods have to be called on the thread owning the OpenAL context.
+ */
+public class AudioStream {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	/** A chunk of decoded samples, handed from the decoder thread to the game thread. */
+	private static class StreamChunk {
+		final ShortBuffer pcm;
+		int generation;
+		int startSample;
+		boolean endOfStream;
+
+		StreamChunk(int pCapacity) {
+			pcm = BufferUtils.createShortBuffer(pCapacity);
+		}
+
+	}
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int DEFAULT_BUFFER_COUNT = 4;
+
+	/** The number of samples (per channel) decoded into each buffer, which is ~0.19 seconds at 44.1kHz. */
+	public static final int SAMPLES_PER_BUFFER = 8192;
+
+	public static final int STATE_STOPPED = 0;
+	/** Waiting for the buffers to be filled before the source is (re)started. */
+	public static final int STATE_BUFFERING = 1;
+	public static final int STATE_PLAYING = 2;
+	public static final int STATE_PAUSED = 3;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private static ExecutorService sDecodeExecutor;
+
+	private final AudioSource mAudioSource;
+	private final int[] mBufferIDs;
+
+	private final int[] mFreeBufferIDs;
+	private int mFreeBufferCount;
+
+	// The buffers queued on the source (oldest first), with the stream sample they start at
+	private final int[] mQueuedBufferIDs;
+	private final int[] mQueuedStartSamples;
+	private int mQueuedHead;
+	private int mQueuedCount;
+
+	private final ConcurrentLinkedQueue<StreamChunk> mFreeChunks = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<StreamChunk> mDecodedChunks = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean mDecodeRequested = new AtomicBoolean();
+
+	private AudioData mAudioData;
+	private StreamingOGGAudioData mStreamedAudioData;
+	private volatile OggVorbisStreamDecoder mDecoder;
+	private int mFormat;
+	private int mSampleRate;
+	private int mLengthInSamples;
+
+	// Bumped on every seek, so the decoder thread knows to seek, and chunks decoded before the seek are dropped
+	private volatile int mGeneration;
+	private volatile int mGenerationStartSample;
+	private volatile boolean mIsLooping;
+
+	/** Only accessed by the decoder thread. */
+	private int mDecodedGeneration = -1;
+
+	private int mState;
+	private boolean mEndOfStreamQueued;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public AudioSource audioSource() {
+		return mAudioSource;
+	}
+
+	/** The audio data currently (or last) played by this stream. */
+	public AudioData audioData() {
+		return mAudioData;
+	}
+
+	public int state() {
+		return mState;
+	}
+
+	public boolean isStreaming() {
+		return mStreamedAudioData != null;
+	}
+
+	/** Returns true while the audio is playing, including while the first buffers of streamed audio are decoded. */
+	public boolean isPlaying() {
+		if (!isStreaming())
+			return mAudioData != null && mAudioSource.isPlaying();
+
+		return mState == STATE_BUFFERING || mState == STATE_PLAYING;
+
+	}
+
+	public boolean isPaused() {
+		return mState == STATE_PAUSED;
+	}
+
+	public boolean isLooping() {
+		return mIsLooping;
+	}
+
+	public void isLooping(boolean pNewValue) {
+		mIsLooping = pNewValue;
+
+		// streams are looped by the decoder, a source with queued buffers would loop over the queue
+		if (!isStreaming())
+			mAudioSource.setLooping(pNewValue);
+
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public AudioStream(AudioSource pAudioSource) {
+		this(pAudioSource, DEFAULT_BUFFER_COUNT);
+
+	}
+
+	public AudioStream(AudioSource pAudioSource, int pBufferCount) {
+		mAudioSource = pAudioSource;
+
+		final int lBufferCount = Math.max(2, pBufferCount);
+		mBufferIDs = new int[lBufferCount];
+		AL10.alGenBuffers(mBufferIDs);
+
+		mFreeBufferIDs = new int[lBufferCount];
+		System.arraycopy(mBufferIDs, 0, mFreeBufferIDs, 0, lBufferCount);
+		mFreeBufferCount = lBufferCount;
+
+		mQueuedBufferIDs = new int[lBufferCount];
+		mQueuedStartSamples = new int[lBufferCount];
+
+		// streams are mixed down to stereo at most
+		for (int i = 0; i < lBufferCount; i++) {
+			mFreeChunks.add(new StreamChunk(SAMPLES_PER_BUFFER * 2));
+
+		}
+
+		mState = STATE_STOPPED;
+
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/** Refills the buffers played by the source with the decoded chunks, and restarts the source if it ran out of buffers. Call once per frame. */
+	public void update() {
+		if (!isStreaming() || mState == STATE_STOPPED)
+			return;
+
+		final int lSourceID = mAudioSource.sourceID();
+
+		int lProcessedCount = AL10.alGetSourcei(lSourceID, AL10.AL_BUFFERS_PROCESSED);
+		while (lProcessedCount-- > 0 && mQueuedCount > 0) {
+			final int lBufferID = AL10.alSourceUnqueueBuffers(lSourceID);
+			mFreeBufferIDs[mFreeBufferCount++] = lBufferID;
+			mQueuedHead = (mQueuedHead + 1) % mQueuedBufferIDs.length;
+			mQueuedCount--;
+
+		}
+
+		StreamChunk lChunk;
+		while (mFreeBufferCount > 0 && !mEndOfStreamQueued && (lChunk = mDecodedChunks.poll()) != null) {
+			if (lChunk.generation == mGeneration) {
+				if (lChunk.pcm.hasRemaining())
+					queueBuffer(lSourceID, lChunk);
+
+				mEndOfStreamQueued = lChunk.endOfStream;
+
+			}
+
+			mFreeChunks.add(lChunk);
+
+		}
+
+		if (!mEndOfStreamQueued)
+			requestDecode();
+
+		switch (mState) {
+		case STATE_BUFFERING:
+			if (mQueuedCount == mBufferIDs.length || (mEndOfStreamQueued && mQueuedCount > 0)) {
+				AL10.alSourcePlay(lSourceID);
+				mState = STATE_PLAYING;
+
+			} else if (mEndOfStreamQueued) {
+				stop();
+
+			}
+			break;
+
+		case STATE_PLAYING:
+			if (AL10.alGetSourcei(lSourceID, AL10.AL_SOURCE_STATE) != AL10.AL_STOPPED)
+				break;
+
+			if (mQueuedCount > 0) {
+				// the source ran out of buffers before they were refilled
+				AL10.alSourcePlay(lSourceID);
+
+			} else if (mEndOfStreamQueued) {
+				stop();
+
+			} else {
+				mState = STATE_BUFFERING;
+
+			}
+			break;
+
+		}
+
+	}
+
+	/** Stops the playback, and releases the buffers of this stream. */
+	public void dispose() {
+		stop();
+		closeDecoder();
+
+		mAudioData = null;
+		mStreamedAudioData = null;
+
+		AL10.alDeleteBuffers(mBufferIDs);
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Plays the audio from the start. Returns false if the audio isn't loaded, or couldn't be decoded. */
+	public boolean play(AudioData pAudioData) {
+		stop();
+
+		if (pAudioData == null || !pAudioData.isLoaded())
+			return false;
+
+		if (!pAudioData.isStreamed()) {
+			closeDecoder();
+			mAudioData = pAudioData;
+			mStreamedAudioData = null;
+
+			mAudioSource.setLooping(mIsLooping);
+			mAudioSource.play(pAudioData.bufferID());
+			return true;
+
+		}
+
+		final var lStreamedAudioData = (StreamingOGGAudioData) pAudioData;
+		final OggVorbisStreamDecoder lDecoder;
+		try {
+			lDecoder = lStreamedAudioData.createDecoder();
+
+		} catch (IOException e) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), "Couldn't stream the audio '" + pAudioData.name() + "': " + e.getMessage());
+			return false;
+
+		}
+
+		closeDecoder();
+		mDecoder = lDecoder;
+		mAudioData = pAudioData;
+		mStreamedAudioData = lStreamedAudioData;
+		mFormat = lDecoder.channels() == 1 ? AL10.AL_FORMAT_MONO16 : AL10.AL_FORMAT_STEREO16;
+		mSampleRate = lDecoder.sampleRate();
+		mLengthInSamples = lDecoder.lengthInSamples();
+
+		mAudioSource.setLooping(false);
+		mAudioSource.setGain(mAudioSource.gain());
+		mAudioSource.setPitch(1f);
+
+		startFrom(0, STATE_BUFFERING);
+		return true;
+
+	}
+
+	/** Stops the playback. Streams are played from the start again when resumed. */
+	public void stop() {
+		if (!isStreaming()) {
+			if (mAudioData != null)
+				mAudioSource.stop();
+
+			return;
+
+		}
+
+		releaseQueuedBuffers();
+		mGeneration++;
+		mState = STATE_STOPPED;
+
+	}
+
+	public void pause() {
+		if (!isStreaming()) {
+			if (mAudioData != null)
+				mAudioSource.pause();
+
+			return;
+
+		}
+
+		if (mState != STATE_BUFFERING && mState != STATE_PLAYING)
+			return;
+
+		AL10.alSourcePause(mAudioSource.sourceID());
+		mState = STATE_PAUSED;
+
+	}
+
+	/** Continues a paused playback, or restarts a stopped stream. */
+	public void resume() {
+		if (!isStreaming()) {
+			if (mAudioData != null)
+				mAudioSource.continuePlaying();
+
+			return;
+
+		}
+
+		if (mState == STATE_STOPPED) {
+			startFrom(0, STATE_BUFFERING);
+
+		} else if (mState == STATE_PAUSED) {
+			if (mQueuedCount > 0) {
+				AL10.alSourcePlay(mAudioSource.sourceID());
+				mState = STATE_PLAYING;
+
+			} else {
+				mState = STATE_BUFFERING;
+
+			}
+
+		}
+
+	}
+
+	/** Moves the playback to the given time. A paused stream stays paused. */
+	public void seek(float pTimeInSeconds) {
+		if (!isStreaming()) {
+			if (mAudioData != null)
+				AL10.alSourcef(mAudioSource.sourceID(), AL11.AL_SEC_OFFSET, pTimeInSeconds);
+
+			return;
+
+		}
+
+		final int lSample = Math.max(0, Math.min((int) (pTimeInSeconds * mSampleRate), mLengthInSamples));
+		startFrom(lSample, mState == STATE_PAUSED ? STATE_PAUSED : STATE_BUFFERING);
+
+	}
+
+	/** Returns the time of the sample currently being played. */
+	public float playbackTimeInSeconds() {
+		if (!isStreaming())
+			return mAudioData != null ? mAudioSource.getCurrentPlaybackTime() : 0;
+
+		if (mQueuedCount == 0 || mSampleRate == 0)
+			return (float) mGenerationStartSample / Math.max(1, mSampleRate);
+
+		// the offset is relative to the oldest buffer still queued on the source
+		int lSample = mQueuedStartSamples[mQueuedHead] + AL10.alGetSourcei(mAudioSource.sourceID(), AL11.AL_SAMPLE_OFFSET);
+		if (mLengthInSamples > 0)
+			lSample %= mLengthInSamples;
+
+		return (float) lSample / mSampleRate;
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private void startFrom(int pSample, int pState) {
+		releaseQueuedBuffers();
+
+		mEndOfStreamQueued = false;
+		mGenerationStartSample = pSample;
+		mGeneration++;
+		mState = pState;
+
+		requestDecode();
+
+	}
+
+	private void queueBuffer(int pSourceID, StreamChunk pChunk) {
+		final int lBufferID = mFreeBufferIDs[--mFreeBufferCount];
+		AL10.alBufferData(lBufferID, mFormat, pChunk.pcm, mSampleRate);
+		AL10.alSourceQueueBuffers(pSourceID, lBufferID);
+
+		final int lQueueIndex = (mQueuedHead + mQueuedCount) % mQueuedBufferIDs.length;
+		mQueuedBufferIDs[lQueueIndex] = lBufferID;
+		mQueuedStartSamples[lQueueIndex] = pChunk.startSample;
+		mQueuedCount++;
+
+	}
+
+	/** Stops the source and detaches all queued buffers. */
+	private void releaseQueuedBuffers() {
+		final int lSourceID = mAudioSource.sourceID();
+		AL10.alSourceStop(lSourceID);
+		AL10.alSourcei(lSourceID, AL10.AL_BUFFER, 0);
+
+		for (int i = 0; i < mQueuedCount; i++) {
+			mFreeBufferIDs[mFreeBufferCount++] = mQueuedBufferIDs[(mQueuedHead + i) % mQueuedBufferIDs.length];
+
+		}
+
+		mQueuedHead = 0;
+		mQueuedCount = 0;
+
+	}
+
+	private void requestDecode() {
+		if (mDecoder == null || mFreeChunks.isEmpty() || !mDecodeRequested.compareAndSet(false, true))
+			return;
+
+		final var lDecoder = mDecoder;
+		decodeExecutor().execute(() -> decodeChunks(lDecoder));
+
+	}
+
+	/** Runs on the decoder thread, and fills all free chunks. */
+	private void decodeChunks(OggVorbisStreamDecoder pDecoder) {
+		try {
+			while (true) {
+				// the decoder is replaced before the generation is bumped, so chunks are never tagged with the generation of another decoder
+				final int lGeneration = mGeneration;
+				if (pDecoder != mDecoder)
+					break;
+
+				final var lChunk = mFreeChunks.poll();
+				if (lChunk == null)
+					break;
+
+				if (lGeneration != mDecodedGeneration) {
+					pDecoder.seek(mGenerationStartSample);
+					mDecodedGeneration = lGeneration;
+
+				}
+
+				decodeChunk(pDecoder, lChunk);
+				lChunk.generation = lGeneration;
+				mDecodedChunks.add(lChunk);
+
+			}
+
+		} finally {
+			mDecodeRequested.set(false);
+
+		}
+
+	}
+
+	private void decodeChunk(OggVorbisStreamDecoder pDecoder, StreamChunk pChunk) {
+		final var lPcm = pChunk.pcm;
+		lPcm.clear();
+		lPcm.limit(SAMPLES_PER_BUFFER * pDecoder.channels());
+
+		pChunk.startSample = pDecoder.sampleOffset();
+		pChunk.endOfStream = false;
+
+		boolean lRewound = false;
+		while (lPcm.hasRemaining()) {
+			if (pDecoder.decode(lPcm) > 0) {
+				lRewound = false;
+				continue;
+
+			}
+
+			// the end of the stream, loops carry on in the same chunk so there is no gap (unless nothing could be decoded since the last rewind)
+			if (mIsLooping && !lRewound && pDecoder.rewind()) {
+				lRewound = true;
+				continue;
+
+			}
+
+			pChunk.endOfStream = true;
+			break;
+
+		}
+
+		lPcm.flip();
+
+	}
+
+	private void closeDecoder() {
+		if (mDecoder == null)
+			return;
+
+		// closed on the decoder thread, after any decoding still queued for it
+		final var lDecoder = mDecoder;
+		mDecoder = null;
+		decodeExecutor().execute(lDecoder::close);
+
+	}
+
+	private static synchronized ExecutorService decodeExecutor() {
+		if (sDecodeExecutor == null) {
+			sDecodeExecutor = Executors.newSingleThreadExecutor(pRunnable -> {
+				final var lThread = new Thread(pRunnable, "AudioStreamDecoder");
+				lThread.setDaemon(true);
+				return lThread;
+			});
+
+		}
+
+		return sDecodeExecutor;
+
+	}
+
+}
@@ -0,0 +1,81 @@
+package net.lintford.library.core.audio;
+
+import net.lintford.library.core.audio.data.AudioData;
+
+/**
+ * An audio file which has been decoded into an {@link AudioData} (with its PCM samples in off-heap memory), but not uploaded into an OpenAL buffer yet. Instances are created with the request (name and
+ * location of the file) and filled by the {@link AudioDecoder}, which doesn't need an OpenAL context. The samples must be released with {@link #free()} if the audio is never uploaded.
+ */
+public class DecodedAudio {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	public final String soundName;
+	public final String filepath;
+	public final boolean streamed;
+
+	/** The bank load this file is part of, or null. */
+	public final AudioBankLoad bankLoad;
+
+	private AudioData mAudioData;
+	private boolean mIsDecoded;
+	private String mErrorMessage;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public boolean isDecoded() {
+		return mIsDecoded;
+	}
+
+	/** The audio data, which is created once the type of the file is known (even if it couldn't be decoded). */
+	public AudioData audioData() {
+		return mAudioData;
+	}
+
+	public String errorMessage() {
+		return mErrorMessage;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public DecodedAudio(String pSoundName, String pFilepath, boolean pStreamed, AudioBankLoad pBankLoad) {
+		soundName = pSoundName;
+		filepath = pFilepath;
+		streamed = pStreamed;
+		bankLoad = pBankLoad;
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	void setAudioData(AudioData pAudioData) {
+		mAudioData = pAudioData;
+
+	}
+
+	void setDecoded(boolean pIsDecoded) {
+		mIsDecoded = pIsDecoded;
+
+	}
+
+	void setErrorMessage(String pErrorMessage) {
+		mErrorMessage = pErrorMessage;
+
+	}
+
+	/** Releases the decoded samples. */
+	public void free() {
+		if (mAudioData != null)
+			mAudioData.freeDecodedAudio();
+
+	}
+
+}
@@ -18,6 +18,7 @@ public abstract class AudioData {
 	// --------------------------------------
 
 	protected String mName;
+	protected String mFilepath;
 	protected int mBufferID;
 
 	protected float mDurationInSeconds;
@@ -43,10 +44,24 @@ public abstract class AudioData {
 		return mBufferID;
 	}
 
+	/** Returns true if the audio is decoded while it is played (see {@link StreamingOGGAudioData}), in which case there is no {@link #bufferID()}. */
+	public boolean isStreamed() {
+		return false;
+	}
+
 	public String name() {
 		return mName;
 	}
 
+	/** The file (or resource) the audio was loaded from, which is used to find the buffers to reload when the file changes. */
+	public String filepath() {
+		return mFilepath;
+	}
+
+	public void filepath(String pFilepath) {
+		mFilepath = pFilepath;
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -59,7 +74,46 @@ public abstract class AudioData {
 	// Core-Methods
 	// --------------------------------------
 
-	public abstract boolean loadAudioFromInputStream(final String pAudioName, final InputStream pInputStream);
+	/** Decodes and uploads the audio into an OpenAL buffer. */
+	public boolean loadAudioFromInputStream(final String pAudioName, final InputStream pInputStream) {
+		if (isLoaded())
+			return false;
+
+		return decodeAudioFromInputStream(pAudioName, pInputStream) && uploadDecodedAudio();
+
+	}
+
+	/** Decodes the audio into PCM samples held by this object. Doesn't touch any OpenAL state, so it can run on any thread. */
+	public abstract boolean decodeAudioFromInputStream(final String pAudioName, final InputStream pInputStream);
+
+	/** Uploads the decoded PCM samples into a new OpenAL buffer, and releases the samples. Must be called on the thread owning the OpenAL context. */
+	public abstract boolean uploadDecodedAudio();
+
+	/** Releases the decoded PCM samples, if they haven't been uploaded (e.g. when a load is cancelled). Can be called on any thread. */
+	public void freeDecodedAudio() {
+
+	}
+
+	/**
+	 * Takes over the buffer of the (reloaded) audio data, so that existing references to this object play the new audio. The previous buffer is deleted (OpenAL refuses to delete buffers which are still
+	 * queued on a source, in which case the old buffer is left to the playing source).
+	 */
+	public void replaceAudioData(AudioData pReloadedAudioData) {
+		final int lPreviousBufferID = mBufferID;
+
+		mBufferID = pReloadedAudioData.mBufferID;
+		mDurationInSeconds = pReloadedAudioData.mDurationInSeconds;
+		mSize = pReloadedAudioData.mSize;
+		mFrequency = pReloadedAudioData.mFrequency;
+		mChannels = pReloadedAudioData.mChannels;
+		mBitsPerSample = pReloadedAudioData.mBitsPerSample;
+
+		pReloadedAudioData.mBufferID = DATA_NOT_LOADED;
+
+		if (lPreviousBufferID != DATA_NOT_LOADED)
+			AL10.alDeleteBuffers(lPreviousBufferID);
+
+	}
 
 	/** Unloads the OpenAL data stored in the buffer associated with this object. */
 	public void unloadAudioData() {
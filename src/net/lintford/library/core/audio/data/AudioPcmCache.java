@@ -0,0 +1,266 @@
+package net.lintford.library.core.audio.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.lwjgl.system.MemoryUtil;
+
+import net.lintford.library.core.storage.AppStorage;
+
+/**
+ * Caches decoded PCM samples, so compressed audio files (Ogg Vorbis) only need to be decoded once. The cache files are keyed by a hash of the contents of the compressed file (see {@link #hash(ByteBuffer)}),
+ * so renamed or moved files still hit the cache, and changed files miss it. The samples are stored uncompressed in the native byte order, and are read straight into off-heap memory. The methods can be called
+ * from any thread.
+ */
+public class AudioPcmCache {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	/** 16 bit interleaved samples read from the cache, in off-heap memory which has to be released with {@link #free()}. */
+	public static class CachedPcm {
+
+		public final ShortBuffer pcm;
+		public final int channels;
+		public final int sampleRate;
+
+		CachedPcm(ShortBuffer pPcm, int pChannels, int pSampleRate) {
+			pcm = pPcm;
+			channels = pChannels;
+			sampleRate = pSampleRate;
+		}
+
+		public void free() {
+			MemoryUtil.memFree(pcm);
+		}
+
+	}
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int MAGIC = 'L' | 'D' << 8 | 'P' << 16 | 'C' << 24;
+	public static final int VERSION = 1;
+	public static final String CACHE_FILE_EXTENSION = ".pcm";
+
+	private static final int HEADER_SIZE = 32;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private static volatile boolean sIsEnabled = true;
+	private static volatile String sCacheDirectory;
+
+	private static final AtomicInteger sHitCount = new AtomicInteger();
+	private static final AtomicInteger sMissCount = new AtomicInteger();
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public static boolean isEnabled() {
+		return sIsEnabled;
+	}
+
+	public static void isEnabled(boolean pNewValue) {
+		sIsEnabled = pNewValue;
+	}
+
+	/** Returns the directory the cache files are written to. Defaults to 'cache/audio' in the game data directory. */
+	public static String cacheDirectory() {
+		if (sCacheDirectory == null)
+			sCacheDirectory = AppStorage.getGameDataDirectory() + "cache" + AppStorage.FILE_SEPERATOR + "audio" + AppStorage.FILE_SEPERATOR;
+
+		return sCacheDirectory;
+	}
+
+	public static void cacheDirectory(String pCacheDirectory) {
+		sCacheDirectory = pCacheDirectory;
+	}
+
+	/** The number of files whose samples were read from the cache. */
+	public static int hitCount() {
+		return sHitCount.get();
+	}
+
+	/** The number of files which had to be decoded. */
+	public static int missCount() {
+		return sMissCount.get();
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Returns a 64 bit hash of the remaining bytes of the (compressed) file, without changing the position of the buffer. */
+	public static long hash(ByteBuffer pFileData) {
+		final var lData = pFileData.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+		// FNV-1a style mixing of 8 byte words (with an extra shift, as whole words are mixed in), followed by the tail bytes
+		long lHash = 0xcbf29ce484222325L ^ lData.remaining();
+		while (lData.remaining() >= Long.BYTES) {
+			lHash ^= lData.getLong();
+			lHash *= 0x100000001b3L;
+			lHash ^= lHash >>> 29;
+
+		}
+
+		while (lData.hasRemaining()) {
+			lHash ^= lData.get() & 0xff;
+			lHash *= 0x100000001b3L;
+
+		}
+
+		return lHash;
+
+	}
+
+	/** Returns the samples cached for the file hash, or null if there are none. */
+	public static CachedPcm load(long pFileHash) {
+		if (!sIsEnabled)
+			return null;
+
+		final var lCacheFile = cacheFile(pFileHash);
+		if (!Files.isRegularFile(lCacheFile) || ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) {
+			sMissCount.incrementAndGet();
+			return null;
+
+		}
+
+		ShortBuffer lPcm = null;
+		try (var lChannel = FileChannel.open(lCacheFile, StandardOpenOption.READ)) {
+			final var lHeader = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			while (lHeader.hasRemaining() && lChannel.read(lHeader) != -1)
+				;
+
+			lHeader.flip();
+			if (lHeader.remaining() < HEADER_SIZE || lHeader.getInt() != MAGIC || lHeader.getInt() != VERSION || lHeader.getLong() != pFileHash) {
+				sMissCount.incrementAndGet();
+				return null;
+
+			}
+
+			final int lChannels = lHeader.getInt();
+			final int lSampleRate = lHeader.getInt();
+			final long lSampleCount = lHeader.getLong();
+			if (lChannels <= 0 || lSampleRate <= 0 || lSampleCount < 0 || lSampleCount > Integer.MAX_VALUE / 2 || lChannel.size() != HEADER_SIZE + lSampleCount * 2) {
+				sMissCount.incrementAndGet();
+				return null;
+
+			}
+
+			lPcm = MemoryUtil.memAllocShort((int) lSampleCount);
+			final var lBytes = MemoryUtil.memByteBuffer(MemoryUtil.memAddress(lPcm), (int) lSampleCount * 2);
+			while (lBytes.hasRemaining() && lChannel.read(lBytes) != -1)
+				;
+
+			if (lBytes.hasRemaining())
+				throw new IOException("Truncated cache file");
+
+			sHitCount.incrementAndGet();
+			return new CachedPcm(lPcm, lChannels, lSampleRate);
+
+		} catch (IOException | RuntimeException e) {
+			// treated as a miss, the file is decoded again
+			if (lPcm != null)
+				MemoryUtil.memFree(lPcm);
+
+			sMissCount.incrementAndGet();
+			return null;
+
+		}
+
+	}
+
+	/** Caches the decoded samples (from the position to the limit of the buffer) of the file. Returns false if they couldn't be written. */
+	public static boolean store(long pFileHash, ShortBuffer pPcm, int pChannels, int pSampleRate) {
+		if (!sIsEnabled || pPcm == null || !pPcm.isDirect() || ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN)
+			return false;
+
+		Path lTempFile = null;
+		try {
+			final var lCacheFile = cacheFile(pFileHash);
+			Files.createDirectories(lCacheFile.getParent());
+			lTempFile = Files.createTempFile(lCacheFile.getParent(), lCacheFile.getFileName().toString(), ".tmp");
+
+			try (var lChannel = FileChannel.open(lTempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				final var lHeader = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+				lHeader.putInt(MAGIC).putInt(VERSION).putLong(pFileHash).putInt(pChannels).putInt(pSampleRate).putLong(pPcm.remaining()).flip();
+				while (lHeader.hasRemaining())
+					lChannel.write(lHeader);
+
+				final var lBytes = MemoryUtil.memByteBuffer(MemoryUtil.memAddress(pPcm), pPcm.remaining() * 2);
+				while (lBytes.hasRemaining())
+					lChannel.write(lBytes);
+
+			}
+
+			try {
+				Files.move(lTempFile, lCacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			} catch (AtomicMoveNotSupportedException e) {
+				// Some file systems can't replace a file atomically, in which case a concurrent load could see half a file (which fails its size check)
+				Files.move(lTempFile, lCacheFile, StandardCopyOption.REPLACE_EXISTING);
+
+			}
+
+			return true;
+
+		} catch (IOException | RuntimeException e) {
+			// The samples can't be cached (or the cache directory isn't writable), the file will be decoded from its source next time
+			if (lTempFile != null) {
+				try {
+					Files.deleteIfExists(lTempFile);
+
+				} catch (IOException e1) {
+					// nothing more to do, the temporary file is left behind
+
+				}
+
+			}
+
+			return false;
+
+		}
+
+	}
+
+	/** Deletes all cache files. */
+	public static void clearCache() {
+		final var lCacheDirectory = Paths.get(cacheDirectory());
+		if (!Files.isDirectory(lCacheDirectory))
+			return;
+
+		try (var lFiles = Files.list(lCacheDirectory)) {
+			lFiles.filter(pPath -> pPath.getFileName().toString().endsWith(CACHE_FILE_EXTENSION)).forEach(pPath -> pPath.toFile().delete());
+
+		} catch (IOException e) {
+			// nothing to delete
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private static Path cacheFile(long pFileHash) {
+		return Paths.get(cacheDirectory(), String.format("%016x", pFileHash) + CACHE_FILE_EXTENSION);
+
+	}
+
+}
@@ -4,99 +4,145 @@ import static org.lwjgl.BufferUtils.createByteBuffer;
 import static org.lwjgl.openal.AL10.AL_FORMAT_MONO16;
 import static org.lwjgl.openal.AL10.AL_FORMAT_STEREO16;
 import static org.lwjgl.openal.AL10.alBufferData;
-import static org.lwjgl.system.MemoryUtil.NULL;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 
 import org.lwjgl.BufferUtils;
 import org.lwjgl.openal.AL10;
-import org.lwjgl.stb.STBVorbis;
-import org.lwjgl.stb.STBVorbisInfo;
+import org.lwjgl.system.MemoryUtil;
 
 import net.lintford.library.ConstantsApp;
 import net.lintford.library.core.debug.Debug;
 
 public class OGGAudioData extends AudioData {
 
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	/** The decoded samples in off-heap memory, which are released once they have been uploaded. */
+	private ShortBuffer mDecodedPcm;
+
 	// --------------------------------------
 	// Core-Methods
 	// --------------------------------------
 
 	@Override
-	public boolean loadAudioFromInputStream(String pName, InputStream pInputStream) {
+	public boolean decodeAudioFromInputStream(String pName, InputStream pInputStream) {
 		if (isLoaded())
 			return false;
 
 		mName = pName;
-		mBufferID = AL10.alGenBuffers();
+		freeDecodedAudio();
+
+		try {
+			final var lVorbisData = ioResourceToByteBuffer(pInputStream, 32 * 1024);
+
+			// Repeat loads of the same file skip the Vorbis decode
+			final long lFileHash = AudioPcmCache.hash(lVorbisData);
+			final var lCachedPcm = AudioPcmCache.load(lFileHash);
+			if (lCachedPcm != null) {
+				mDecodedPcm = lCachedPcm.pcm;
+				mChannels = lCachedPcm.channels;
+				mFrequency = lCachedPcm.sampleRate;
+				return true;
+
+			}
+
+			try (final var lDecoder = new OggVorbisStreamDecoder(lVorbisData)) {
+				mDecodedPcm = readVorbis(lDecoder);
+				mChannels = lDecoder.channels();
+				mFrequency = lDecoder.sampleRate();
 
-		try (STBVorbisInfo info = STBVorbisInfo.malloc()) {
-			ShortBuffer pcm = readVorbis(pInputStream, 32 * 1024, info);
+			}
+
+			AudioPcmCache.store(lFileHash, mDecodedPcm, mChannels, mFrequency);
+			return true;
+
+		} catch (IOException e) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), "Couldn't decode Ogg Vorbis file '" + pName + "': " + e.getMessage());
+			return false;
+
+		}
+
+	}
+
+	@Override
+	public boolean uploadDecodedAudio() {
+		if (isLoaded() || mDecodedPcm == null)
+			return false;
+
+		final ShortBuffer pcm = mDecodedPcm;
+
+		// The samples are released whether or not the upload succeeds
+		try {
+			AL10.alGetError();
+			mBufferID = AL10.alGenBuffers();
 
 			// copy to buffer
-			alBufferData(mBufferID, info.channels() == 1 ? AL_FORMAT_MONO16 : AL_FORMAT_STEREO16, pcm, info.sample_rate());
+			alBufferData(mBufferID, mChannels == 1 ? AL_FORMAT_MONO16 : AL_FORMAT_STEREO16, pcm, mFrequency);
+			if (AL10.alGetError() != AL10.AL_NO_ERROR) {
+				AL10.alDeleteBuffers(mBufferID);
+				mBufferID = DATA_NOT_LOADED;
+				return false;
+
+			}
 
 			mSize = AL10.alGetBufferi(mBufferID, AL10.AL_SIZE);
 			mBitsPerSample = AL10.alGetBufferi(mBufferID, AL10.AL_BITS);
-			mFrequency = info.sample_rate();
-			mChannels = info.channels();
 
-			final int lLengthInSamples = pcm.capacity();
+			final int lLengthInSamples = pcm.remaining() / mChannels;
 			mDurationInSeconds = (float) lLengthInSamples / (float) mFrequency;
 
-			if (ConstantsApp.getBooleanValueDef("DEBUG_AUDIO_ENABLED", false)) {
-				Debug.debugManager().logger().i(getClass().getSimpleName(), " ------ ");
-				Debug.debugManager().logger().i(getClass().getSimpleName(), "AudioEntity Name: " + pName);
-				Debug.debugManager().logger().i(getClass().getSimpleName(), "Size: " + mSize);
-				Debug.debugManager().logger().i(getClass().getSimpleName(), "Frequency: " + mFrequency);
-				Debug.debugManager().logger().i(getClass().getSimpleName(), "Channels: " + mChannels);
-				Debug.debugManager().logger().i(getClass().getSimpleName(), "mBitsPerSample: " + mBitsPerSample);
-				Debug.debugManager().logger().i(getClass().getSimpleName(), "Duration (Seconds): " + mDurationInSeconds);
-				Debug.debugManager().logger().i(getClass().getSimpleName(), " ------ ");
+		} finally {
+			freeDecodedAudio();
 
-			}
+		}
 
-			return true;
+		if (ConstantsApp.getBooleanValueDef("DEBUG_AUDIO_ENABLED", false)) {
+			Debug.debugManager().logger().i(getClass().getSimpleName(), " ------ ");
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "AudioEntity Name: " + mName);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Size: " + mSize);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Frequency: " + mFrequency);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Channels: " + mChannels);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "mBitsPerSample: " + mBitsPerSample);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Duration (Seconds): " + mDurationInSeconds);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), " ------ ");
 
 		}
 
+		return true;
+
 	}
 
 	// --------------------------------------
 	// Methods
 	// --------------------------------------
 
-	static ShortBuffer readVorbis(InputStream pInputStream, int bufferSize, STBVorbisInfo info) {
-		ByteBuffer vorbis;
-		try {
-			vorbis = ioResourceToByteBuffer(pInputStream, bufferSize);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
-
-		IntBuffer error = BufferUtils.createIntBuffer(1);
-		long decoder = STBVorbis.stb_vorbis_open_memory(vorbis, error, null);
-		if (decoder == NULL)
-			throw new RuntimeException("Failed to open Ogg Vorbis file. Error: " + error.get(0));
-
-		STBVorbis.stb_vorbis_get_info(decoder, info);
+	@Override
+	public void freeDecodedAudio() {
+		if (mDecodedPcm == null)
+			return;
 
-		int channels = info.channels();
+		MemoryUtil.memFree(mDecodedPcm);
+		mDecodedPcm = null;
 
-		int samples = STBVorbis.stb_vorbis_stream_length_in_samples(decoder);
+	}
 
-		ShortBuffer pcm = BufferUtils.createShortBuffer(samples);
+	/** Decodes the whole stream into off-heap memory, which has to be released with {@link MemoryUtil#memFree(java.nio.Buffer)}. */
+	static ShortBuffer readVorbis(OggVorbisStreamDecoder pDecoder) {
+		final ShortBuffer lPcm = MemoryUtil.memAllocShort(pDecoder.lengthInSamples() * pDecoder.channels());
+		while (lPcm.hasRemaining() && pDecoder.decode(lPcm) > 0)
+			;
 
-		pcm.limit(STBVorbis.stb_vorbis_get_samples_short_interleaved(decoder, channels, pcm) * channels);
-		STBVorbis.stb_vorbis_close(decoder);
+		lPcm.flip();
+		return lPcm;
 
-		return pcm;
 	}
 
 	/**
@@ -0,0 +1,165 @@
+package net.lintford.library.core.audio.data;
+
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+
+import org.lwjgl.stb.STBVorbis;
+import org.lwjgl.stb.STBVorbisInfo;
+
+/**
+ * Decodes an Ogg Vorbis file chunk by chunk, into 16 bit interleaved PCM samples. Only the compressed file is held in memory. Doesn't touch any OpenAL state, so the decoder can be used on any thread (but only
+ * by one thread at a time), and without an audio device.
+ */
+public class OggVorbisStreamDecoder implements AutoCloseable {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	/** The compressed file, which stb_vorbis reads from directly, so it is referenced for as long as the decoder is open. */
+	private final ByteBuffer mVorbisData;
+	private long mDecoderHandle;
+
+	private final int mChannels;
+	private final int mSampleRate;
+	private final int mLengthInSamples;
+	private int mSampleOffset;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** The number of channels of the decoded samples. Streams with more than two channels are mixed down to stereo. */
+	public int channels() {
+		return mChannels;
+	}
+
+	public int sampleRate() {
+		return mSampleRate;
+	}
+
+	/** The length of the stream in samples per channel. */
+	public int lengthInSamples() {
+		return mLengthInSamples;
+	}
+
+	public float lengthInSeconds() {
+		return (float) mLengthInSamples / mSampleRate;
+	}
+
+	/** The (per channel) sample the next call to {@link #decode(ShortBuffer)} starts at. */
+	public int sampleOffset() {
+		return mSampleOffset;
+	}
+
+	public boolean isEndOfStream() {
+		return mSampleOffset >= mLengthInSamples;
+	}
+
+	public boolean isOpen() {
+		return mDecoderHandle != NULL;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	/** Opens the decoder on an Ogg Vorbis file held in a direct buffer (see {@link #readVorbisData(InputStream)}). The buffer mustn't be modified while the decoder is open. */
+	public OggVorbisStreamDecoder(ByteBuffer pVorbisData) throws IOException {
+		if (pVorbisData == null || !pVorbisData.isDirect())
+			throw new IllegalArgumentException("The Ogg Vorbis data has to be held in a direct buffer");
+
+		mVorbisData = pVorbisData;
+
+		final int[] lError = new int[1];
+		mDecoderHandle = STBVorbis.stb_vorbis_open_memory(mVorbisData, lError, null);
+		if (mDecoderHandle == NULL)
+			throw new IOException("Failed to open Ogg Vorbis data. Error: " + lError[0]);
+
+		try (final var lInfo = STBVorbisInfo.malloc()) {
+			STBVorbis.stb_vorbis_get_info(mDecoderHandle, lInfo);
+			mChannels = Math.min(lInfo.channels(), 2);
+			mSampleRate = lInfo.sample_rate();
+
+		}
+
+		mLengthInSamples = STBVorbis.stb_vorbis_stream_length_in_samples(mDecoderHandle);
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Reads a whole Ogg Vorbis file into a direct buffer, ready to be decoded. */
+	public static ByteBuffer readVorbisData(InputStream pInputStream) throws IOException {
+		return OGGAudioData.ioResourceToByteBuffer(pInputStream, 32 * 1024);
+
+	}
+
+	/**
+	 * Decodes as many samples as fit into the remaining space of the buffer (which should be a multiple of {@link #channels()}), starting at its position, and advances the position past them.
+	 *
+	 * @return the number of samples decoded per channel, which is 0 once the end of the stream has been reached.
+	 */
+	public int decode(ShortBuffer pPcm) {
+		if (!isOpen() || isEndOfStream())
+			return 0;
+
+		final int lSamplesDecoded = STBVorbis.stb_vorbis_get_samples_short_interleaved(mDecoderHandle, mChannels, pPcm);
+		pPcm.position(pPcm.position() + lSamplesDecoded * mChannels);
+		mSampleOffset += lSamplesDecoded;
+
+		return lSamplesDecoded;
+
+	}
+
+	/** Moves the decoder to the (per channel) sample. Returns false if the stream couldn't be seeked. */
+	public boolean seek(int pSampleOffset) {
+		if (!isOpen())
+			return false;
+
+		final int lSampleOffset = Math.max(0, Math.min(pSampleOffset, mLengthInSamples));
+		if (lSampleOffset == 0)
+			return rewind();
+
+		if (lSampleOffset == mLengthInSamples) {
+			// stb_vorbis can't seek to the very end, there is nothing left to decode
+			mSampleOffset = mLengthInSamples;
+			return true;
+
+		}
+
+		if (!STBVorbis.stb_vorbis_seek(mDecoderHandle, lSampleOffset))
+			return false;
+
+		mSampleOffset = lSampleOffset;
+		return true;
+
+	}
+
+	/** Moves the decoder back to the start of the stream. */
+	public boolean rewind() {
+		if (!isOpen() || !STBVorbis.stb_vorbis_seek_start(mDecoderHandle))
+			return false;
+
+		mSampleOffset = 0;
+		return true;
+
+	}
+
+	@Override
+	public void close() {
+		if (!isOpen())
+			return;
+
+		STBVorbis.stb_vorbis_close(mDecoderHandle);
+		mDecoderHandle = NULL;
+
+	}
+
+}
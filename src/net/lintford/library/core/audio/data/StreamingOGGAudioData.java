@@ -0,0 +1,148 @@
+package net.lintford.library.core.audio.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import net.lintford.library.ConstantsApp;
+import net.lintford.library.core.debug.Debug;
+
+/**
+ * An Ogg Vorbis file which is decoded while it is played, rather than being decoded into a single OpenAL buffer up front. Only the compressed file is held in memory, and each playback opens its own
+ * {@link OggVorbisStreamDecoder} (see {@link #createDecoder()}). Streamed audio is played with an {@link net.lintford.library.core.audio.AudioStream}, and has no {@link #bufferID()}.
+ */
+public class StreamingOGGAudioData extends AudioData {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private ByteBuffer mVorbisData;
+	private boolean mIsLoaded;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	@Override
+	public boolean isLoaded() {
+		return mIsLoaded;
+	}
+
+	@Override
+	public boolean isStreamed() {
+		return true;
+	}
+
+	public int frequency() {
+		return mFrequency;
+	}
+
+	public int channels() {
+		return mChannels;
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/** Reads the compressed file, and the format of the stream. The samples are decoded during playback. */
+	@Override
+	public boolean decodeAudioFromInputStream(String pName, InputStream pInputStream) {
+		if (isLoaded())
+			return false;
+
+		mName = pName;
+
+		try {
+			final var lVorbisData = OggVorbisStreamDecoder.readVorbisData(pInputStream);
+			try (final var lDecoder = new OggVorbisStreamDecoder(lVorbisData)) {
+				mFrequency = lDecoder.sampleRate();
+				mChannels = lDecoder.channels();
+				mBitsPerSample = 16;
+				mDurationInSeconds = lDecoder.lengthInSeconds();
+
+			}
+
+			mVorbisData = lVorbisData;
+			mSize = lVorbisData.remaining();
+			return true;
+
+		} catch (IOException e) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), "Couldn't read Ogg Vorbis file '" + pName + "': " + e.getMessage());
+			return false;
+
+		}
+
+	}
+
+	/** There is nothing to upload up front, the OpenAL buffers are filled while the audio is streamed. */
+	@Override
+	public boolean uploadDecodedAudio() {
+		if (isLoaded() || mVorbisData == null)
+			return false;
+
+		mIsLoaded = true;
+
+		if (ConstantsApp.getBooleanValueDef("DEBUG_AUDIO_ENABLED", false)) {
+			Debug.debugManager().logger().i(getClass().getSimpleName(), " ------ ");
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "AudioEntity Name: " + mName + " (streamed)");
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Compressed Size: " + mSize);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Frequency: " + mFrequency);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Channels: " + mChannels);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Duration (Seconds): " + mDurationInSeconds);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), " ------ ");
+
+		}
+
+		return true;
+
+	}
+
+	/** Takes over the file of the (reloaded) audio data. Streams already playing carry on with the previous file, new playbacks use the reloaded one. */
+	@Override
+	public void replaceAudioData(AudioData pReloadedAudioData) {
+		if (!(pReloadedAudioData instanceof StreamingOGGAudioData)) {
+			super.replaceAudioData(pReloadedAudioData);
+			return;
+
+		}
+
+		final var lReloadedAudioData = (StreamingOGGAudioData) pReloadedAudioData;
+
+		mVorbisData = lReloadedAudioData.mVorbisData;
+		mIsLoaded = lReloadedAudioData.mIsLoaded;
+		mDurationInSeconds = lReloadedAudioData.mDurationInSeconds;
+		mSize = lReloadedAudioData.mSize;
+		mFrequency = lReloadedAudioData.mFrequency;
+		mChannels = lReloadedAudioData.mChannels;
+		mBitsPerSample = lReloadedAudioData.mBitsPerSample;
+
+		lReloadedAudioData.mVorbisData = null;
+		lReloadedAudioData.mIsLoaded = false;
+
+	}
+
+	@Override
+	public void unloadAudioData() {
+		// open decoders keep a reference to the file, so it is released once the streams have finished with it
+		mVorbisData = null;
+		mIsLoaded = false;
+		mName = "";
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Opens a new decoder at the start of the stream. The caller owns the decoder and has to close it. */
+	public OggVorbisStreamDecoder createDecoder() throws IOException {
+		if (!isLoaded())
+			throw new IOException("The audio data '" + mName + "' isn't loaded");
+
+		return new OggVorbisStreamDecoder(mVorbisData);
+
+	}
+
+}
@@ -10,38 +10,65 @@ import net.lintford.library.core.debug.Debug;
 // FIXME: Fix memory allocations (https://github.com/LWJGL/lwjgl3-wiki/wiki/1.3.-Memory-FAQ) - do not use BufferUtils (cannot freely free resources)!
 public class WaveAudioData extends AudioData {
 
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private WaveData mDecodedWaveData;
+
 	// --------------------------------------
 	// Core-Methods
 	// --------------------------------------
 
 	@Override
-	public boolean loadAudioFromInputStream(String pName, InputStream pInputStream) {
+	public boolean decodeAudioFromInputStream(String pName, InputStream pInputStream) {
 		if (isLoaded())
 			return false;
 
 		mName = pName;
-		mBufferID = AL10.alGenBuffers();
+		mDecodedWaveData = WaveData.create(pInputStream);
+
+		return mDecodedWaveData != null;
 
-		final var lWaveAudioData = WaveData.create(pInputStream);
+	}
 
-		if (lWaveAudioData == null) {
+	@Override
+	public boolean uploadDecodedAudio() {
+		if (isLoaded() || mDecodedWaveData == null)
 			return false;
 
-		}
+		final var lWaveAudioData = mDecodedWaveData;
+		mDecodedWaveData = null;
+
+		// The samples are released whether or not the upload succeeds
+		try {
+			AL10.alGetError();
+			mBufferID = AL10.alGenBuffers();
+
+			AL10.alBufferData(mBufferID, lWaveAudioData.format, lWaveAudioData.data, lWaveAudioData.samplerate);
+			if (AL10.alGetError() != AL10.AL_NO_ERROR) {
+				AL10.alDeleteBuffers(mBufferID);
+				mBufferID = DATA_NOT_LOADED;
+				return false;
 
-		AL10.alBufferData(mBufferID, lWaveAudioData.format, lWaveAudioData.data, lWaveAudioData.samplerate);
+			}
 
-		mSize = AL10.alGetBufferi(mBufferID, AL10.AL_SIZE);
-		mBitsPerSample = lWaveAudioData.sizeInBits;
-		mFrequency = lWaveAudioData.samplerate;
-		mChannels = lWaveAudioData.channels;
+			mSize = AL10.alGetBufferi(mBufferID, AL10.AL_SIZE);
+			mBitsPerSample = lWaveAudioData.sizeInBits;
+			mFrequency = lWaveAudioData.samplerate;
+			mChannels = lWaveAudioData.channels;
 
-		final var lLengthInSamples = mSize * 8 / (1f * mBitsPerSample);
-		mDurationInSeconds = (float) lLengthInSamples / (float) mFrequency;
+			final var lLengthInSamples = mSize * 8 / (1f * mBitsPerSample);
+			mDurationInSeconds = (float) lLengthInSamples / (float) mFrequency;
+
+		} finally {
+			lWaveAudioData.dispose();
+
+		}
 
 		if (ConstantsApp.getBooleanValueDef("DEBUG_AUDIO_ENABLED", false)) {
 			Debug.debugManager().logger().i(getClass().getSimpleName(), " ------ ");
-			Debug.debugManager().logger().i(getClass().getSimpleName(), "AudioEntity Name: " + pName);
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "AudioEntity Name: " + mName);
 			Debug.debugManager().logger().i(getClass().getSimpleName(), "Size: " + mSize);
 			Debug.debugManager().logger().i(getClass().getSimpleName(), "Frequency: " + mFrequency);
 			Debug.debugManager().logger().i(getClass().getSimpleName(), "Channels: " + mChannels);
@@ -51,12 +78,20 @@ public class WaveAudioData extends AudioData {
 
 		}
 
-		lWaveAudioData.dispose();
-
 		return true;
 
 	}
 
+	@Override
+	public void freeDecodedAudio() {
+		if (mDecodedWaveData == null)
+			return;
+
+		mDecodedWaveData.dispose();
+		mDecodedWaveData = null;
+
+	}
+
 	// --------------------------------------
 	// Methods
 	// --------------------------------------
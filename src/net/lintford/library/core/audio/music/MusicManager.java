@@ -10,6 +10,7 @@ import net.lintford.library.core.ResourceManager;
 import net.lintford.library.core.audio.AudioManager;
 import net.lintford.library.core.audio.AudioManager.AudioMetaData;
 import net.lintford.library.core.audio.AudioSource;
+import net.lintford.library.core.audio.AudioStream;
 import net.lintford.library.core.audio.data.AudioData;
 import net.lintford.library.core.debug.Debug;
 import net.lintford.library.core.storage.FileUtils;
@@ -29,6 +30,10 @@ public class MusicManager {
 	private AudioSource mAudioSourceBank0;
 	private AudioSource mAudioSourceBank1;
 
+	/** The music is streamed through the sources of the banks, so whole tracks are never decoded into memory. */
+	private AudioStream mAudioStreamBank0;
+	private AudioStream mAudioStreamBank1;
+
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
@@ -51,6 +56,16 @@ public class MusicManager {
 
 	}
 
+	public AudioStream audioStreamBank0() {
+		return mAudioStreamBank0;
+
+	}
+
+	public AudioStream audioStreamBank1() {
+		return mAudioStreamBank1;
+
+	}
+
 	public int getNumberSondsLoaded() {
 		return mAudioDataBuffers.size();
 
@@ -103,9 +118,17 @@ public class MusicManager {
 		mAudioSourceBank0 = mAudioManager.getAudioSource(hashCode(), AudioManager.AUDIO_SOURCE_TYPE_MUSIC);
 		mAudioSourceBank1 = mAudioManager.getAudioSource(hashCode(), AudioManager.AUDIO_SOURCE_TYPE_MUSIC);
 
+		mAudioStreamBank0 = new AudioStream(mAudioSourceBank0);
+		mAudioStreamBank1 = new AudioStream(mAudioSourceBank1);
+
 	}
 
 	public void unloadALContent() {
+		mAudioStreamBank0.dispose();
+		mAudioStreamBank1.dispose();
+		mAudioStreamBank0 = null;
+		mAudioStreamBank1 = null;
+
 		mAudioDataBuffers.clear();
 		mAudioSourceBank0.unassign();
 		mAudioSourceBank1.unassign();
@@ -139,7 +162,7 @@ public class MusicManager {
 
 			var lAudioDataBuffer = getAudioDataByName(lSoundName);
 			if (lReload || lAudioDataBuffer == null) {
-				lAudioDataBuffer = mAudioManager.loadAudioFile(lSoundName, lFilepath, lReload);
+				lAudioDataBuffer = mAudioManager.loadAudioFile(lSoundName, lFilepath, lReload, true);
 				mAudioDataBuffers.add(lAudioDataBuffer);
 
 				Debug.debugManager().logger().i(getClass().getSimpleName(), "Added AudioData file to music playlist: " + lSoundName);
@@ -150,6 +173,16 @@ public class MusicManager {
 
 	}
 
+	/** Refills the buffers of the music streams. */
+	public void update() {
+		if (mAudioStreamBank0 == null)
+			return;
+
+		mAudioStreamBank0.update();
+		mAudioStreamBank1.update();
+
+	}
+
 	// --------------------------------------
 	// Methods
 	// --------------------------------------
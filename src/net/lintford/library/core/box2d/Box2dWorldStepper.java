@@ -0,0 +1,538 @@
+package net.lintford.library.core.box2d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jbox2d.dynamics.World;
+
+import net.lintford.library.core.box2d.entities.JBox2dEntityInstance;
+import net.lintford.library.core.box2d.instance.Box2dBodyInstance;
+import net.lintford.library.core.debug.Debug;
+
+/**
+ * Steps a JBox2D {@link World}, in one of three modes:
+ * <ul>
+ * <li>{@link #STEP_MODE_VARIABLE}: one step of {@link #timeStep()} (scaled by the time modifier) per update, so the speed of the simulation follows the update rate.</li>
+ * <li>{@link #STEP_MODE_FIXED}: the elapsed time is accumulated and consumed in fixed steps, so the simulation runs at a stable tick rate whatever the update rate. The rendered transforms are interpolated
+ * between the last two steps.</li>
+ * <li>{@link #STEP_MODE_THREADED}: the world is stepped at a fixed tick rate on a dedicated thread, which publishes the transforms of the bodies after each step into a double-buffered snapshot. The rendered
+ * transforms are interpolated from the last published snapshot.</li>
+ * </ul>
+ * The rendered transforms are only kept for the bodies of the {@link JBox2dEntityInstance}s added to the stepper (see {@link #addEntityInstance(JBox2dEntityInstance)}), and are read with
+ * {@link Box2dBodyInstance#renderPositionX()} etc. In the threaded mode, the world may only be changed (bodies created, destroyed or moved, forces applied etc.) while holding the {@link #worldLock()}, which
+ * is the {@link World} itself. The {@link JBox2dEntityInstance} methods which change the world take the lock themselves.
+ */
+public class Box2dWorldStepper {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	/** The transforms (in units) of the bodies before and after a step. */
+	private static class TransformSnapshot {
+
+		Box2dBodyInstance[] bodies = new Box2dBodyInstance[0];
+		float[] previousPositionX = new float[0];
+		float[] previousPositionY = new float[0];
+		float[] previousAngle = new float[0];
+		float[] positionX = new float[0];
+		float[] positionY = new float[0];
+		float[] angle = new float[0];
+		int bodyCount;
+		long publishTimeNanos;
+
+		void ensureCapacity(int pBodyCount) {
+			if (bodies.length >= pBodyCount)
+				return;
+
+			final int lNewCapacity = Math.max(pBodyCount, bodies.length * 2);
+			bodies = Arrays.copyOf(bodies, lNewCapacity);
+			previousPositionX = Arrays.copyOf(previousPositionX, lNewCapacity);
+			previousPositionY = Arrays.copyOf(previousPositionY, lNewCapacity);
+			previousAngle = Arrays.copyOf(previousAngle, lNewCapacity);
+			positionX = Arrays.copyOf(positionX, lNewCapacity);
+			positionY = Arrays.copyOf(positionY, lNewCapacity);
+			angle = Arrays.copyOf(angle, lNewCapacity);
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int STEP_MODE_VARIABLE = 0;
+	public static final int STEP_MODE_FIXED = 1;
+	public static final int STEP_MODE_THREADED = 2;
+
+	public static final float DEFAULT_TIME_STEP = 1f / 60f;
+
+	/** The maximum number of steps taken to catch up after a slow frame. Any more time is dropped, so the simulation slows down rather than spiralling. */
+	public static final int DEFAULT_MAX_STEPS_PER_UPDATE = 5;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final World mWorld;
+	private final Object mWorldLock;
+	private final Object mSnapshotLock = new Object();
+
+	private final List<JBox2dEntityInstance> mEntityInstances = new ArrayList<>();
+
+	private int mStepMode = STEP_MODE_VARIABLE;
+	private volatile float mTimeStep = DEFAULT_TIME_STEP;
+	private int mMaxStepsPerUpdate = DEFAULT_MAX_STEPS_PER_UPDATE;
+	private volatile int mVelocityIterations = 8;
+	private volatile int mPositionIterations = 3;
+	private volatile float mTimeModifier = 1f;
+	private volatile boolean mIsPaused;
+
+	private double mAccumulatedTime;
+	private float mInterpolationAlpha = 1f;
+	private volatile int mStepCounter;
+	private int mStepsLastUpdate;
+
+	// The snapshot the stepping thread writes into, and the one last published (read by the game thread)
+	private TransformSnapshot mBackSnapshot = new TransformSnapshot();
+	private TransformSnapshot mFrontSnapshot = new TransformSnapshot();
+
+	private Thread mPhysicsThread;
+	private volatile boolean mIsPhysicsThreadRunning;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public World world() {
+		return mWorld;
+	}
+
+	/**
+	 * The lock held while the world is stepped, which is the {@link World} itself (so code with only a body can lock it with body.getWorld()). In {@link #STEP_MODE_THREADED}, any changes to the world have to
+	 * be made while holding it.
+	 */
+	public Object worldLock() {
+		return mWorldLock;
+	}
+
+	public int stepMode() {
+		return mStepMode;
+	}
+
+	/** Changes the step mode, starting or stopping the physics thread as needed. */
+	public void stepMode(int pNewStepMode) {
+		if (pNewStepMode == mStepMode)
+			return;
+
+		if (mStepMode == STEP_MODE_THREADED)
+			stopPhysicsThread();
+
+		mStepMode = pNewStepMode;
+		mAccumulatedTime = 0;
+		mInterpolationAlpha = 1f;
+
+		if (mStepMode == STEP_MODE_THREADED)
+			startPhysicsThread();
+
+	}
+
+	/** The duration of a step, in seconds. */
+	public float timeStep() {
+		return mTimeStep;
+	}
+
+	public void timeStep(float pNewTimeStep) {
+		if (pNewTimeStep <= 0f)
+			return;
+
+		mTimeStep = pNewTimeStep;
+	}
+
+	public int maxStepsPerUpdate() {
+		return mMaxStepsPerUpdate;
+	}
+
+	public void maxStepsPerUpdate(int pNewValue) {
+		mMaxStepsPerUpdate = Math.max(1, pNewValue);
+	}
+
+	public int velocityIterations() {
+		return mVelocityIterations;
+	}
+
+	public void velocityIterations(int pNewValue) {
+		mVelocityIterations = pNewValue;
+	}
+
+	public int positionIterations() {
+		return mPositionIterations;
+	}
+
+	public void positionIterations(int pNewValue) {
+		mPositionIterations = pNewValue;
+	}
+
+	public boolean isPaused() {
+		return mIsPaused;
+	}
+
+	public void isPaused(boolean pNewValue) {
+		mIsPaused = pNewValue;
+	}
+
+	/** The number of steps taken since the stepper was created or reset. */
+	public int stepCounter() {
+		return mStepCounter;
+	}
+
+	/** The number of steps taken by the last call to {@link #update(float, float)} (not used in the threaded mode). */
+	public int stepsLastUpdate() {
+		return mStepsLastUpdate;
+	}
+
+	/** How far (0 to 1) the rendered transforms are between the last two steps. */
+	public float interpolationAlpha() {
+		return mInterpolationAlpha;
+	}
+
+	public boolean isPhysicsThreadRunning() {
+		return mIsPhysicsThreadRunning;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public Box2dWorldStepper(World pWorld) {
+		mWorld = pWorld;
+		mWorldLock = pWorld != null ? pWorld : new Object();
+
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/**
+	 * Advances the simulation by the elapsed time (in the variable and fixed modes), and updates the rendered transforms of the bodies. Has to be called from the game thread.
+	 */
+	public void update(float pElapsedTimeInSeconds, float pTimeModifier) {
+		mTimeModifier = pTimeModifier;
+		mStepsLastUpdate = 0;
+
+		switch (mStepMode) {
+		case STEP_MODE_VARIABLE:
+			if (!mIsPaused)
+				step(mTimeStep * pTimeModifier);
+
+			mInterpolationAlpha = 1f;
+			break;
+
+		case STEP_MODE_FIXED:
+			if (!mIsPaused) {
+				mAccumulatedTime += pElapsedTimeInSeconds * pTimeModifier;
+
+				final float lTimeStep = mTimeStep;
+				while (mAccumulatedTime >= lTimeStep && mStepsLastUpdate < mMaxStepsPerUpdate) {
+					step(lTimeStep);
+					mAccumulatedTime -= lTimeStep;
+
+				}
+
+				if (mAccumulatedTime >= lTimeStep)
+					mAccumulatedTime %= lTimeStep;
+
+				mInterpolationAlpha = (float) (mAccumulatedTime / lTimeStep);
+
+			}
+
+			break;
+
+		case STEP_MODE_THREADED:
+			if (!mIsPhysicsThreadRunning)
+				startPhysicsThread();
+
+			synchronized (mSnapshotLock) {
+				final long lStepNanos = (long) (mTimeStep * 1_000_000_000d);
+				final long lNanosSincePublish = System.nanoTime() - mFrontSnapshot.publishTimeNanos;
+				mInterpolationAlpha = mIsPaused ? 1f : Math.max(0f, Math.min(1f, (float) lNanosSincePublish / lStepNanos));
+
+				applyRenderTransforms(mFrontSnapshot, mInterpolationAlpha);
+
+			}
+
+			return;
+
+		}
+
+		applyRenderTransforms(mFrontSnapshot, mInterpolationAlpha);
+
+	}
+
+	/** Takes a single step of {@link #timeStep()}, on the calling thread, regardless of the step mode or whether the stepper is paused. The rendered transforms are moved to the new step. */
+	public void singleStep() {
+		step(mTimeStep * mTimeModifier);
+
+		if (mStepMode == STEP_MODE_THREADED) {
+			synchronized (mSnapshotLock) {
+				applyRenderTransforms(mFrontSnapshot, 1f);
+
+			}
+
+		} else {
+			mInterpolationAlpha = 1f;
+			applyRenderTransforms(mFrontSnapshot, 1f);
+
+		}
+
+	}
+
+	public void reset() {
+		mStepCounter = 0;
+		mAccumulatedTime = 0;
+		mInterpolationAlpha = 1f;
+
+	}
+
+	/** Stops the physics thread (if running). */
+	public void dispose() {
+		stopPhysicsThread();
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Keeps the rendered transforms of the bodies of the instance. In the threaded mode, the instance should be added after its physics has been loaded. */
+	public void addEntityInstance(JBox2dEntityInstance pEntityInstance) {
+		if (pEntityInstance == null)
+			return;
+
+		synchronized (mWorldLock) {
+			if (!mEntityInstances.contains(pEntityInstance))
+				mEntityInstances.add(pEntityInstance);
+
+		}
+
+	}
+
+	/** Stops keeping the rendered transforms of the bodies of the instance, which are read from the bodies again from then on. */
+	public void removeEntityInstance(JBox2dEntityInstance pEntityInstance) {
+		if (pEntityInstance == null)
+			return;
+
+		synchronized (mWorldLock) {
+			if (!mEntityInstances.remove(pEntityInstance))
+				return;
+
+			// The published snapshots still reference the bodies, and would set their rendered transforms again
+			synchronized (mSnapshotLock) {
+				removeBodies(mFrontSnapshot, pEntityInstance);
+				removeBodies(mBackSnapshot, pEntityInstance);
+
+			}
+
+			final var lBodies = pEntityInstance.bodies();
+			final int lBodyCount = lBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBodyInstance = lBodies.get(i);
+				if (lBodyInstance != null)
+					lBodyInstance.clearRenderTransform();
+
+			}
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	/** Steps the world (holding the world lock), recording the transforms of the bodies before and after the step in the back snapshot, which is then published. */
+	private void step(float pTimeStep) {
+		synchronized (mWorldLock) {
+			final var lSnapshot = mBackSnapshot;
+
+			captureTransforms(lSnapshot, true);
+			mWorld.step(pTimeStep, mVelocityIterations, mPositionIterations);
+			captureTransforms(lSnapshot, false);
+
+			synchronized (mSnapshotLock) {
+				lSnapshot.publishTimeNanos = System.nanoTime();
+				mBackSnapshot = mFrontSnapshot;
+				mFrontSnapshot = lSnapshot;
+
+			}
+
+			mStepCounter++;
+			mStepsLastUpdate++;
+
+		}
+
+	}
+
+	/** Records the transforms of the bodies of the added instances. The bodies are listed when the transforms before a step are recorded. */
+	private void captureTransforms(TransformSnapshot pSnapshot, boolean pBeforeStep) {
+		if (pBeforeStep) {
+			int lBodyCount = 0;
+			final int lInstanceCount = mEntityInstances.size();
+			for (int i = 0; i < lInstanceCount; i++)
+				lBodyCount += mEntityInstances.get(i).bodies().size();
+
+			pSnapshot.ensureCapacity(lBodyCount);
+
+			int lBodyIndex = 0;
+			for (int i = 0; i < lInstanceCount; i++) {
+				final var lBodies = mEntityInstances.get(i).bodies();
+				final int lInstanceBodyCount = lBodies.size();
+				for (int j = 0; j < lInstanceBodyCount; j++) {
+					final var lBodyInstance = lBodies.get(j);
+					if (lBodyInstance == null || lBodyInstance.mBody == null)
+						continue;
+
+					pSnapshot.bodies[lBodyIndex++] = lBodyInstance;
+
+				}
+
+			}
+
+			Arrays.fill(pSnapshot.bodies, lBodyIndex, pSnapshot.bodyCount > lBodyIndex ? pSnapshot.bodyCount : lBodyIndex, null);
+			pSnapshot.bodyCount = lBodyIndex;
+
+		}
+
+		final var lPositionX = pBeforeStep ? pSnapshot.previousPositionX : pSnapshot.positionX;
+		final var lPositionY = pBeforeStep ? pSnapshot.previousPositionY : pSnapshot.positionY;
+		final var lAngle = pBeforeStep ? pSnapshot.previousAngle : pSnapshot.angle;
+
+		final int lBodyCount = pSnapshot.bodyCount;
+		for (int i = 0; i < lBodyCount; i++) {
+			final var lBody = pSnapshot.bodies[i].mBody;
+			if (lBody == null)
+				continue; // destroyed during the step (by a contact listener), keeps its previous transform
+
+			final var lPosition = lBody.getPosition();
+			lPositionX[i] = lPosition.x;
+			lPositionY[i] = lPosition.y;
+			lAngle[i] = lBody.getAngle();
+
+		}
+
+	}
+
+	/** Removes the bodies of the instance from the snapshot, keeping the order of the remaining bodies. */
+	private static void removeBodies(TransformSnapshot pSnapshot, JBox2dEntityInstance pEntityInstance) {
+		final var lBodies = pEntityInstance.bodies();
+		final int lBodyCount = pSnapshot.bodyCount;
+
+		int lKeptCount = 0;
+		for (int i = 0; i < lBodyCount; i++) {
+			final var lBodyInstance = pSnapshot.bodies[i];
+			if (lBodies.contains(lBodyInstance))
+				continue;
+
+			pSnapshot.bodies[lKeptCount] = lBodyInstance;
+			pSnapshot.previousPositionX[lKeptCount] = pSnapshot.previousPositionX[i];
+			pSnapshot.previousPositionY[lKeptCount] = pSnapshot.previousPositionY[i];
+			pSnapshot.previousAngle[lKeptCount] = pSnapshot.previousAngle[i];
+			pSnapshot.positionX[lKeptCount] = pSnapshot.positionX[i];
+			pSnapshot.positionY[lKeptCount] = pSnapshot.positionY[i];
+			pSnapshot.angle[lKeptCount] = pSnapshot.angle[i];
+			lKeptCount++;
+
+		}
+
+		Arrays.fill(pSnapshot.bodies, lKeptCount, lBodyCount, null);
+		pSnapshot.bodyCount = lKeptCount;
+
+	}
+
+	private static void applyRenderTransforms(TransformSnapshot pSnapshot, float pAlpha) {
+		final int lBodyCount = pSnapshot.bodyCount;
+		for (int i = 0; i < lBodyCount; i++) {
+			final var lBodyInstance = pSnapshot.bodies[i];
+
+			final float lPositionX = pSnapshot.previousPositionX[i] + (pSnapshot.positionX[i] - pSnapshot.previousPositionX[i]) * pAlpha;
+			final float lPositionY = pSnapshot.previousPositionY[i] + (pSnapshot.positionY[i] - pSnapshot.previousPositionY[i]) * pAlpha;
+			final float lAngle = pSnapshot.previousAngle[i] + (pSnapshot.angle[i] - pSnapshot.previousAngle[i]) * pAlpha;
+
+			lBodyInstance.setRenderTransform(lPositionX, lPositionY, lAngle);
+
+		}
+
+	}
+
+	private void startPhysicsThread() {
+		if (mIsPhysicsThreadRunning)
+			return;
+
+		mIsPhysicsThreadRunning = true;
+		mPhysicsThread = new Thread(this::runPhysicsThread, "Box2dPhysics");
+		mPhysicsThread.setDaemon(true);
+		mPhysicsThread.start();
+
+	}
+
+	private void stopPhysicsThread() {
+		if (!mIsPhysicsThreadRunning)
+			return;
+
+		mIsPhysicsThreadRunning = false;
+		LockSupport.unpark(mPhysicsThread);
+
+		try {
+			mPhysicsThread.join(1000);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+		}
+
+		mPhysicsThread = null;
+
+	}
+
+	/** Steps the world once per time step, until the thread is stopped. If the thread falls behind by more than the max steps per update, the missed time is dropped. */
+	private void runPhysicsThread() {
+		long lNextStepTime = System.nanoTime();
+
+		while (mIsPhysicsThreadRunning) {
+			final long lStepNanos = (long) (mTimeStep * 1_000_000_000d);
+			final long lNow = System.nanoTime();
+
+			if (mIsPaused) {
+				LockSupport.parkNanos(lStepNanos);
+				lNextStepTime = System.nanoTime();
+				continue;
+
+			}
+
+			if (lNow < lNextStepTime) {
+				LockSupport.parkNanos(lNextStepTime - lNow);
+				continue;
+
+			}
+
+			try {
+				step(mTimeStep * mTimeModifier);
+
+			} catch (RuntimeException e) {
+				Debug.debugManager().logger().e(getClass().getSimpleName(), "Physics step failed: " + e.getMessage());
+
+			}
+
+			lNextStepTime += lStepNanos;
+			if (System.nanoTime() - lNextStepTime > lStepNanos * mMaxStepsPerUpdate)
+				lNextStepTime = System.nanoTime();
+
+		}
+
+	}
+
+}
@@ -1,5 +1,6 @@
 package net.lintford.library.core.box2d;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -7,9 +8,11 @@ import com.google.gson.GsonBuilder;
 
 import net.lintford.library.core.box2d.definition.PObjectDefinition;
 import net.lintford.library.core.debug.Debug;
+import net.lintford.library.core.resources.IResourceChangedListener;
+import net.lintford.library.core.resources.ResourceWatcher;
 import net.lintford.library.core.storage.FileUtils;
 
-public class PObjectDefinitionRepository {
+public class PObjectDefinitionRepository implements IResourceChangedListener {
 
 	public class PObjectMetaDataDefinition {
 		public String filepath;
@@ -38,6 +41,7 @@ public class PObjectDefinitionRepository {
 
 	private short mDefinitionUidCounter;
 	private Map<String, PObjectDefinition> mDefinitions;
+	private Map<String, String> mDefinitionFilepaths;
 
 	// --------------------------------------
 	// Properties
@@ -58,6 +62,7 @@ public class PObjectDefinitionRepository {
 
 	public PObjectDefinitionRepository() {
 		mDefinitions = new HashMap<>();
+		mDefinitionFilepaths = new HashMap<>();
 
 		mDefinitionUidCounter = 0;
 
@@ -125,6 +130,49 @@ public class PObjectDefinitionRepository {
 
 		if (lPObjectDefinition.isLoaded()) {
 			mDefinitions.put(pPObjectName, lPObjectDefinition);
+			mDefinitionFilepaths.put(pPObjectName, pFilepath);
+
+		}
+
+	}
+
+	/**
+	 * Reloads only the PObjectDefinitions which have been loaded from the changed file. The file is parsed on the reload thread, and the new definition (which keeps the definitionUid of the previous one)
+	 * replaces the previous one on the game thread. Instances which have already been created from the previous definition are not changed.
+	 */
+	@Override
+	public void onResourceFileChanged(ResourceWatcher pResourceWatcher, Path pChangedFile) {
+		for (final var lEntry : mDefinitionFilepaths.entrySet()) {
+			final var lPObjectName = lEntry.getKey();
+			final var lFilepath = lEntry.getValue();
+			if (!ResourceWatcher.isResourceFile(pChangedFile, lFilepath))
+				continue;
+
+			final var lPreviousDefinition = mDefinitions.get(lPObjectName);
+			pResourceWatcher.reloadAsync(() -> {
+				final var lErrorMessage = new StringBuilder();
+				final var lPObjectDefinition = new PObjectDefinition();
+				lPObjectDefinition.loadPObjectDefinitionFromFile(lFilepath, lErrorMessage, null);
+
+				return () -> {
+					if (!lPObjectDefinition.isLoaded()) {
+						Debug.debugManager().logger().e(getClass().getSimpleName(), "Failed to reload PObject '" + lFilepath + "': " + lErrorMessage);
+						return;
+
+					}
+
+					// The definition could have been replaced in the meantime
+					if (mDefinitions.get(lPObjectName) != lPreviousDefinition)
+						return;
+
+					lPObjectDefinition.definitionUid = lPreviousDefinition.definitionUid;
+					mDefinitions.put(lPObjectName, lPObjectDefinition);
+
+					Debug.debugManager().logger().i(getClass().getSimpleName(), "PObject definition from '" + lFilepath + "' reloaded as [" + lPObjectName + "]");
+
+				};
+
+			});
 
 		}
 
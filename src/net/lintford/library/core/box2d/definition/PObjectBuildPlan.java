@@ -0,0 +1,151 @@
+package net.lintford.library.core.box2d.definition;
+
+import org.jbox2d.dynamics.joints.PrismaticJointDef;
+import org.jbox2d.dynamics.joints.RevoluteJointDef;
+import org.jbox2d.dynamics.joints.WeldJointDef;
+
+import net.lintford.library.core.box2d.entities.JBox2dEntityInstance;
+import net.lintford.library.core.box2d.instance.Box2dCircleInstance;
+import net.lintford.library.core.box2d.instance.Box2dPolygonInstance;
+
+/**
+ * A flattened view of a {@link PObjectDefinition}, precomputed once per definition (see {@link PObjectDefinition#buildPlan()}), so that instantiating the PObject doesn't need to dispatch on the types of the
+ * joints and shapes, or look up bodies by name or index. The fixtures of all bodies are held in a single array, with the fixtures of body i starting at {@link #bodyFixtureOffsets}[i]. Joints whose type is
+ * unsupported, or which reference a body that doesn't exist, are left out.
+ */
+public class PObjectBuildPlan {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int JOINT_TYPE_REVOLUTE = 0;
+	public static final int JOINT_TYPE_PRISMATIC = 1;
+	public static final int JOINT_TYPE_WELD = 2;
+
+	public static final int SHAPE_TYPE_OTHER = 0;
+	public static final int SHAPE_TYPE_POLYGON = 1;
+	public static final int SHAPE_TYPE_CIRCLE = 2;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	public final int bodyCount;
+	public final Box2dBodyDefinition[] bodies;
+	public final int[] bodyFixtureOffsets;
+	public final int[] bodyFixtureCounts;
+
+	public final int fixtureCount;
+	public final Box2dFixtureDefinition[] fixtures;
+	public final int[] fixtureShapeTypes;
+
+	public final int jointCount;
+	public final Box2dJointDefinition[] joints;
+	public final int[] jointTypes;
+
+	/** The index of the first body named {@link JBox2dEntityInstance#MAIN_BODY_NAME}, or else 0. */
+	public final int mainBodyIndex;
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public PObjectBuildPlan(PObjectDefinition pDefinition) {
+		final var lBodies = pDefinition.bodies();
+
+		bodyCount = lBodies.size();
+		bodies = lBodies.toArray(new Box2dBodyDefinition[bodyCount]);
+		bodyFixtureOffsets = new int[bodyCount];
+		bodyFixtureCounts = new int[bodyCount];
+
+		int lFixtureCount = 0;
+		int lMainBodyIndex = -1;
+		for (int i = 0; i < bodyCount; i++) {
+			bodyFixtureOffsets[i] = lFixtureCount;
+			bodyFixtureCounts[i] = bodies[i].fixtureList.size();
+			lFixtureCount += bodyFixtureCounts[i];
+
+			if (lMainBodyIndex == -1 && bodies[i].name != null && bodies[i].name.contentEquals(JBox2dEntityInstance.MAIN_BODY_NAME))
+				lMainBodyIndex = i;
+
+		}
+
+		mainBodyIndex = Math.max(0, lMainBodyIndex);
+
+		fixtureCount = lFixtureCount;
+		fixtures = new Box2dFixtureDefinition[fixtureCount];
+		fixtureShapeTypes = new int[fixtureCount];
+		for (int i = 0; i < bodyCount; i++) {
+			final var lFixtureList = bodies[i].fixtureList;
+			for (int j = 0; j < bodyFixtureCounts[i]; j++) {
+				final var lFixtureDefinition = lFixtureList.get(j);
+				final int lFixtureIndex = bodyFixtureOffsets[i] + j;
+
+				fixtures[lFixtureIndex] = lFixtureDefinition;
+				fixtureShapeTypes[lFixtureIndex] = getShapeType(lFixtureDefinition);
+
+			}
+
+		}
+
+		final var lJoints = pDefinition.joints();
+		final int lNumJointDefinitions = lJoints.size();
+
+		int lJointCount = 0;
+		final var lPlannedJoints = new Box2dJointDefinition[lNumJointDefinitions];
+		final var lPlannedJointTypes = new int[lNumJointDefinitions];
+		for (int i = 0; i < lNumJointDefinitions; i++) {
+			final var lJointDefinition = lJoints.get(i);
+			if (lJointDefinition == null)
+				continue;
+
+			final int lJointType = getJointType(lJointDefinition);
+			if (lJointType == -1)
+				continue;
+
+			if (lJointDefinition.bodyAIndex < 0 || lJointDefinition.bodyAIndex >= bodyCount || lJointDefinition.bodyBIndex < 0 || lJointDefinition.bodyBIndex >= bodyCount)
+				continue;
+
+			lPlannedJoints[lJointCount] = lJointDefinition;
+			lPlannedJointTypes[lJointCount] = lJointType;
+			lJointCount++;
+
+		}
+
+		jointCount = lJointCount;
+		joints = lPlannedJoints;
+		jointTypes = lPlannedJointTypes;
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private static int getJointType(Box2dJointDefinition pJointDefinition) {
+		if (pJointDefinition.jointDef instanceof RevoluteJointDef)
+			return JOINT_TYPE_REVOLUTE;
+
+		if (pJointDefinition.jointDef instanceof PrismaticJointDef)
+			return JOINT_TYPE_PRISMATIC;
+
+		if (pJointDefinition.jointDef instanceof WeldJointDef)
+			return JOINT_TYPE_WELD;
+
+		return -1;
+
+	}
+
+	private static int getShapeType(Box2dFixtureDefinition pFixtureDefinition) {
+		if (pFixtureDefinition.shape instanceof Box2dPolygonInstance)
+			return SHAPE_TYPE_POLYGON;
+
+		if (pFixtureDefinition.shape instanceof Box2dCircleInstance)
+			return SHAPE_TYPE_CIRCLE;
+
+		return SHAPE_TYPE_OTHER;
+
+	}
+
+}
@@ -1,7 +1,6 @@
 package net.lintford.library.core.box2d.definition;
 
 import java.io.BufferedReader;
-import java.io.FileInputStream;
 
 /*
  Author: Chris Campbell - www.iforce2d.net
@@ -57,8 +56,9 @@ import net.lintford.library.core.box2d.instance.Box2dEdgeInstance;
 import net.lintford.library.core.box2d.instance.Box2dPolygonInstance;
 import net.lintford.library.core.debug.Debug;
 import net.lintford.library.core.entity.definitions.BaseDefinition;
-import net.lintford.library.core.graphics.textures.Texture;
 import net.lintford.library.core.maths.MathHelper;
+import net.lintford.library.core.storage.DefinitionCache;
+import net.lintford.library.core.storage.FileUtils;
 
 public class PObjectDefinition extends BaseDefinition {
 
@@ -110,6 +110,8 @@ public class PObjectDefinition extends BaseDefinition {
 	protected Map<Box2dFixtureDefinition, String> mFixtureToNameMap;
 	protected Map<Box2dJointDefinition, String> mJointToNameMap;
 
+	protected transient PObjectBuildPlan mBuildPlan;
+
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
@@ -130,6 +132,18 @@ public class PObjectDefinition extends BaseDefinition {
 		return mBodies.size() > 0;
 	}
 
+	/** Returns the plan used to instantiate this PObject, which is built the first time it is needed. Call {@link #invalidateBuildPlan()} after changing the bodies or joints. */
+	public PObjectBuildPlan buildPlan() {
+		if (mBuildPlan == null)
+			mBuildPlan = new PObjectBuildPlan(this);
+
+		return mBuildPlan;
+	}
+
+	public void invalidateBuildPlan() {
+		mBuildPlan = null;
+	}
+
 	// --------------------------------------
 	// Constructors
 	// --------------------------------------
@@ -182,7 +196,10 @@ public class PObjectDefinition extends BaseDefinition {
 		String str = new String();
 		try {
 			InputStream fis;
-			fis = Texture.class.getResourceAsStream(resourceName);
+			fis = FileUtils.openInputStream(resourceName);
+			if (fis == null)
+				throw new FileNotFoundException(resourceName);
+
 			br = new BufferedReader(new InputStreamReader(fis, Charset.forName("UTF-8")));
 			String line;
 			while ((line = br.readLine()) != null) {
@@ -223,11 +240,18 @@ public class PObjectDefinition extends BaseDefinition {
 		if (null == filename)
 			return;
 
+		// Skip parsing files which haven't changed since they were last parsed
+		if (DefinitionCache.loadInto(filename, this))
+			return;
+
 		BufferedReader br = null;
 		String str = new String();
 		try {
 			InputStream fis;
-			fis = new FileInputStream(filename);
+			fis = FileUtils.openInputStream(filename);
+			if (fis == null)
+				throw new FileNotFoundException(filename);
+
 			br = new BufferedReader(new InputStreamReader(fis, Charset.forName("UTF-8")));
 			String line;
 			while ((line = br.readLine()) != null) {
@@ -254,6 +278,7 @@ public class PObjectDefinition extends BaseDefinition {
 		try {
 			JSONObject worldValue = new JSONObject(str);
 			loadFromFileFromJSONObject(worldValue);
+			DefinitionCache.store(filename, this);
 
 		} catch (JSONException e) {
 			errorMsg.append("\nFailed to parse JSON: " + filename);
@@ -263,6 +288,8 @@ public class PObjectDefinition extends BaseDefinition {
 	}
 
 	public void loadFromFileFromJSONObject(JSONObject worldValue) throws JSONException {
+		mBuildPlan = null;
+
 		clear();
 
 		j2b2World(worldValue);
@@ -596,7 +623,9 @@ public class PObjectDefinition extends BaseDefinition {
 			lBox2dJointDefinition.jointDef = weldDef = new WeldJointDef();
 			weldDef.localAnchorA.set(jsonToVec("anchorA", jointValue));
 			weldDef.localAnchorB.set(jsonToVec("anchorB", jointValue));
-			weldDef.referenceAngle = 0;
+			weldDef.referenceAngle = invertAngleXAxis(jsonToFloat("refAngle", jointValue));
+			weldDef.frequencyHz = jsonToFloat("frequency", jointValue);
+			weldDef.dampingRatio = jsonToFloat("dampingRatio", jointValue);
 		} else if (type.equals("friction")) {
 			lBox2dJointDefinition.jointDef = frictionDef = new FrictionJointDef();
 			frictionDef.localAnchorA.set(jsonToVec("anchorA", jointValue));
@@ -689,6 +718,8 @@ public class PObjectDefinition extends BaseDefinition {
 		mFixtureToNameMap.clear();
 		mJointToNameMap.clear();
 
+		mBuildPlan = null;
+
 	}
 
 	float jsonToFloat(String name, JSONObject value) {
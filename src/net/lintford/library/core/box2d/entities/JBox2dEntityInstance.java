@@ -5,7 +5,6 @@ import java.util.List;
 
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.BodyType;
-import org.jbox2d.dynamics.Filter;
 import org.jbox2d.dynamics.World;
 import org.jbox2d.dynamics.joints.PrismaticJointDef;
 import org.jbox2d.dynamics.joints.RevoluteJointDef;
@@ -14,6 +13,7 @@ import org.jbox2d.dynamics.joints.WeldJointDef;
 import net.lintford.library.ConstantsPhysics;
 import net.lintford.library.core.box2d.BasePhysicsData;
 import net.lintford.library.core.box2d.definition.Box2dBodyDefinition;
+import net.lintford.library.core.box2d.definition.PObjectBuildPlan;
 import net.lintford.library.core.box2d.definition.PObjectDefinition;
 import net.lintford.library.core.box2d.instance.Box2dBodyInstance;
 import net.lintford.library.core.box2d.instance.Box2dCircleInstance;
@@ -24,6 +24,7 @@ import net.lintford.library.core.box2d.instance.Box2dPolygonInstance;
 import net.lintford.library.core.box2d.instance.Box2dPrismaticInstance;
 import net.lintford.library.core.box2d.instance.Box2dRevoluteInstance;
 import net.lintford.library.core.box2d.instance.Box2dWeldInstance;
+import net.lintford.library.core.box2d.instance.ShapeInstance;
 import net.lintford.library.core.entity.instances.PooledBaseData;
 
 /**
@@ -78,21 +79,24 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void userDataObject(BasePhysicsData pNewUserDataObject) {
-		if (pNewUserDataObject == null) {
-			mMainBodyUserDataObject = null;
-			if (mPhysicsLoaded) {
-				mainBody().mBody.setUserData(null);
+		synchronized (physicsLock()) {
+			if (pNewUserDataObject == null) {
+				mMainBodyUserDataObject = null;
+				if (mPhysicsLoaded) {
+					mainBody().mBody.setUserData(null);
 
-			}
+				}
 
-			return;
+				return;
 
-		}
+			}
 
-		mMainBodyUserDataObject = pNewUserDataObject;
+			mMainBodyUserDataObject = pNewUserDataObject;
 
-		if (mPhysicsLoaded) {
-			mainBody().mBody.setUserData(mMainBodyUserDataObject);
+			if (mPhysicsLoaded) {
+				mainBody().mBody.setUserData(mMainBodyUserDataObject);
+
+			}
 
 		}
 
@@ -152,6 +156,15 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	public void loadPhysics(World pWorld) {
 		if (pWorld == null)
 			return;
+
+		synchronized (pWorld) {
+			loadPhysicsLocked(pWorld);
+
+		}
+
+	}
+
+	private void loadPhysicsLocked(World pWorld) {
 		mWorld = pWorld;
 
 		final int lBodyCount = mBodies.size();
@@ -164,93 +177,32 @@ public class JBox2dEntityInstance extends PooledBaseData {
 
 		final int lJointCount = mJoints.size();
 		for (int i = 0; i < lJointCount; i++) {
-			final var lBox2dJointInstance = (Box2dJointInstance) mJoints.get(i);
-			if (lBox2dJointInstance instanceof Box2dRevoluteInstance) {
-				final var lBox2dRevoluteJointInsance = (Box2dRevoluteInstance) lBox2dJointInstance;
-
-				final var lRevoluteJointDef = new RevoluteJointDef();
-
-				final var lBodyA = getBodyByIndex(lBox2dJointInstance.bodyAUid);
-				if (lBodyA == null)
-					continue;
-				lRevoluteJointDef.bodyA = lBodyA.mBody;
-
-				final var lBodyB = getBodyByIndex(lBox2dJointInstance.bodyBUid);
-				if (lBodyB == null)
-					continue;
-				lRevoluteJointDef.bodyB = lBodyB.mBody;
-
-				lRevoluteJointDef.referenceAngle = lBox2dRevoluteJointInsance.referenceAngle;
-				lRevoluteJointDef.enableLimit = lBox2dRevoluteJointInsance.enableLimit;
-				lRevoluteJointDef.lowerAngle = lBox2dRevoluteJointInsance.lowerAngle;
-				lRevoluteJointDef.upperAngle = lBox2dRevoluteJointInsance.upperAngle;
-
-				lRevoluteJointDef.enableMotor = lBox2dRevoluteJointInsance.enableMotor;
-				lRevoluteJointDef.motorSpeed = lBox2dRevoluteJointInsance.motorSpeed;
-				lRevoluteJointDef.maxMotorTorque = lBox2dRevoluteJointInsance.maxMotorTorque;
-
-				lRevoluteJointDef.localAnchorA.set(lBox2dRevoluteJointInsance.localAnchorA);
-				lRevoluteJointDef.localAnchorB.set(lBox2dRevoluteJointInsance.localAnchorB);
-
-				lRevoluteJointDef.collideConnected = lBox2dRevoluteJointInsance.collidesConnected;
-
-				lBox2dJointInstance.joint = pWorld.createJoint(lRevoluteJointDef);
-
-			} else if (lBox2dJointInstance instanceof Box2dPrismaticInstance) {
-				final var lBox2dPrismaticJointInsance = (Box2dPrismaticInstance) lBox2dJointInstance;
-				final var lPrismaticJointDef = new PrismaticJointDef();
-
-				final var lBodyA = getBodyByIndex(lBox2dJointInstance.bodyAUid);
-				if (lBodyA == null)
-					continue;
-				lPrismaticJointDef.bodyA = lBodyA.mBody;
-
-				final var lBodyB = getBodyByIndex(lBox2dJointInstance.bodyBUid);
-				if (lBodyB == null)
-					continue;
-				lPrismaticJointDef.bodyB = lBodyB.mBody;
-
-				lPrismaticJointDef.referenceAngle = lBox2dPrismaticJointInsance.referenceAngle;
-				lPrismaticJointDef.enableLimit = lBox2dPrismaticJointInsance.enableLimit;
-				lPrismaticJointDef.lowerTranslation = lBox2dPrismaticJointInsance.lowerAngle;
-				lPrismaticJointDef.upperTranslation = lBox2dPrismaticJointInsance.upperAngle;
-
-				lPrismaticJointDef.enableMotor = lBox2dPrismaticJointInsance.enableMotor;
-				lPrismaticJointDef.motorSpeed = lBox2dPrismaticJointInsance.motorSpeed;
-
-				lPrismaticJointDef.localAnchorA.set(lBox2dPrismaticJointInsance.localAnchorA);
-				lPrismaticJointDef.localAnchorB.set(lBox2dPrismaticJointInsance.localAnchorB);
-
-				lPrismaticJointDef.collideConnected = lBox2dPrismaticJointInsance.collidesConnected;
-
-				lBox2dJointInstance.joint = pWorld.createJoint(lPrismaticJointDef);
+			final var lBox2dJointInstance = mJoints.get(i);
 
-			} else if (lBox2dJointInstance instanceof Box2dWeldInstance) {
-				final var lBox2dWeldJointInsance = (Box2dWeldInstance) lBox2dJointInstance;
-				final var lWeldJointInstance = new WeldJointDef();
+			final var lBodyA = getBodyByIndex(lBox2dJointInstance.bodyAUid);
+			if (lBodyA == null || lBodyA.mBody == null)
+				continue;
 
-				final var lBodyA = getBodyByIndex(lBox2dJointInstance.bodyAUid);
-				if (lBodyA == null)
-					continue;
+			final var lBodyB = getBodyByIndex(lBox2dJointInstance.bodyBUid);
+			if (lBodyB == null || lBodyB.mBody == null)
+				continue;
 
-				final var lBodyB = getBodyByIndex(lBox2dJointInstance.bodyBUid);
-				if (lBodyB == null)
-					continue;
+			lBox2dJointInstance.createJoint(pWorld, lBodyA.mBody, lBodyB.mBody);
 
-				lWeldJointInstance.collideConnected = lBox2dWeldJointInsance.collidesConnected;
+		}
 
-				lBox2dWeldJointInsance.createWeldJoint(pWorld, lBodyA.mBody, lBodyB.mBody, lBox2dWeldJointInsance.localAnchorA, lBox2dWeldJointInsance.localAnchorB, 0.f);
+		// Resolve the main body (the index is known up front for instances built from a definition)
+		if (mPObjectDefinition != null) {
+			mMainBody = getBodyByIndex(mPObjectDefinition.buildPlan().mainBodyIndex);
 
+		} else {
+			mMainBody = getBodyByName(MAIN_BODY_NAME);
+			if (mMainBody == null) {
+				mMainBody = getBodyByIndex(0);
 			}
 
 		}
 
-		// Resolve the main body
-		mMainBody = getBodyByName(MAIN_BODY_NAME);
-		if (mMainBody == null) {
-			mMainBody = getBodyByIndex(0);
-		}
-
 		if (mMainBodyUserDataObject != null && mainBody() != null) {
 			if (mainBody().mBody != null)
 				mainBody().mBody.setUserData(mMainBodyUserDataObject);
@@ -261,28 +213,41 @@ public class JBox2dEntityInstance extends PooledBaseData {
 
 	}
 
+	/**
+	 * The lock held while the bodies of the instance are created, destroyed or changed: the world the instance is loaded into, which the {@link net.lintford.library.core.box2d.Box2dWorldStepper} also holds while stepping (so that the
+	 * changes never overlap a step on the physics thread).
+	 */
+	private Object physicsLock() {
+		final var lWorld = mWorld;
+		return lWorld != null ? lWorld : this;
+
+	}
+
 	public void savePhysics() {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			mBodies.get(i).savePhysics(this);
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				mBodies.get(i).savePhysics(this);
 
-			if (mBodies.get(i).mFixtures != null) {
-				final int lFixtureCount = mBodies.get(i).mFixtures.length;
-				for (int j = 0; j < lFixtureCount; j++) {
-					mBodies.get(i).mFixtures[j].savePhysics();
+				if (mBodies.get(i).mFixtures != null) {
+					final int lFixtureCount = mBodies.get(i).mFixtures.length;
+					for (int j = 0; j < lFixtureCount; j++) {
+						mBodies.get(i).mFixtures[j].savePhysics();
+
+					}
 
 				}
 
 			}
 
-		}
+			final int lJointCount = mJoints.size();
+			for (int i = 0; i < lJointCount; i++) {
+				Box2dJointInstance lJointInstance = mJoints.get(i);
 
-		final int lJointCount = mJoints.size();
-		for (int i = 0; i < lJointCount; i++) {
-			Box2dJointInstance lJointInstance = mJoints.get(i);
+				if (lJointInstance.joint != null) {
+					lJointInstance.savePhysics();
 
-			if (lJointInstance.joint != null) {
-				lJointInstance.savePhysics();
+				}
 
 			}
 
@@ -291,35 +256,39 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void unloadPhysics() {
-		if (!isPhysicsLoaded() || mWorld == null) {
-			return;
+		synchronized (physicsLock()) {
+			if (!isPhysicsLoaded() || mWorld == null) {
+				return;
 
-		}
+			}
 
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyInstance = mBodies.get(i);
+			// The joints are destroyed first, as destroying a body also destroys the joints attached to it
+			final int lJointCount = mJoints.size();
+			for (int i = 0; i < lJointCount; i++) {
+				final var lBox2dJointInstance = mJoints.get(i);
 
-			if (lBox2dBodyInstance.mBody != null) {
-				lBox2dBodyInstance.mBody.setUserData(null);
+				lBox2dJointInstance.unloadPhysics(mWorld);
 
 			}
 
-			lBox2dBodyInstance.unloadPhysics();
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBox2dBodyInstance = mBodies.get(i);
 
-		}
+				if (lBox2dBodyInstance.mBody != null) {
+					lBox2dBodyInstance.mBody.setUserData(null);
 
-		final int lJointCount = mJoints.size();
-		for (int i = 0; i < lJointCount; i++) {
-			final var lBox2dJointInstance = mJoints.get(i);
+				}
 
-			lBox2dJointInstance.unloadPhysics(mWorld);
+				lBox2dBodyInstance.unloadPhysics();
 
-		}
+			}
 
-		mMainBody = null;
-		mWorld = null;
-		mPhysicsLoaded = false;
+			mMainBody = null;
+			mWorld = null;
+			mPhysicsLoaded = false;
+
+		}
 
 	}
 
@@ -341,7 +310,7 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public Box2dBodyInstance getBodyByIndex(int pArrayIndex) {
-		if (pArrayIndex >= mBodies.size()) {
+		if (pArrayIndex < 0 || pArrayIndex >= mBodies.size()) {
 			return null;
 		}
 
@@ -370,37 +339,40 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	public void loadPObjectFromDefinition(Box2dInstanceManager pBox2dInstanceManager, PObjectDefinition pDefinition) {
 		mPObjectDefinition = pDefinition;
 
-		loadBodiesFromDefinition(pBox2dInstanceManager, mPObjectDefinition);
-		loadJointsFromDefinition(pBox2dInstanceManager, mPObjectDefinition);
+		final var lBuildPlan = pDefinition.buildPlan();
+
+		loadBodiesFromBuildPlan(pBox2dInstanceManager, lBuildPlan);
+		loadJointsFromBuildPlan(pBox2dInstanceManager, lBuildPlan);
 
 	}
 
-	private void loadBodiesFromDefinition(Box2dInstanceManager pBox2dInstanceManager, PObjectDefinition pDefinition) {
-		final int lBodyCount = pDefinition.bodies().size();
+	private void loadBodiesFromBuildPlan(Box2dInstanceManager pBox2dInstanceManager, PObjectBuildPlan pBuildPlan) {
+		final int lBodyCount = pBuildPlan.bodyCount;
 		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyDefinition = pDefinition.bodies().get(i);
+			final var lBox2dBodyDefinition = pBuildPlan.bodies[i];
+			final var lBodyDef = lBox2dBodyDefinition.bodyDefinition;
 			final var lBox2dBodyInstance = pBox2dInstanceManager.box2dBodyInstanceRepository().getFreePooledItem();
 
 			lBox2dBodyInstance.name = lBox2dBodyDefinition.name;
 			lBox2dBodyInstance.bodyTypeIndex = lBox2dBodyDefinition.bodyTypeIndex;
 
-			lBox2dBodyInstance.objectPositionInUnits.x = lBox2dBodyDefinition.bodyDefinition.position.x;
-			lBox2dBodyInstance.objectPositionInUnits.y = lBox2dBodyDefinition.bodyDefinition.position.y;
+			lBox2dBodyInstance.objectPositionInUnits.x = lBodyDef.position.x;
+			lBox2dBodyInstance.objectPositionInUnits.y = lBodyDef.position.y;
 
-			lBox2dBodyInstance.linearVelocity.x = lBox2dBodyDefinition.bodyDefinition.linearVelocity.x;
-			lBox2dBodyInstance.linearVelocity.y = lBox2dBodyDefinition.bodyDefinition.linearVelocity.y;
+			lBox2dBodyInstance.linearVelocity.x = lBodyDef.linearVelocity.x;
+			lBox2dBodyInstance.linearVelocity.y = lBodyDef.linearVelocity.y;
 
-			lBox2dBodyInstance.objectAngleInRadians = lBox2dBodyDefinition.bodyDefinition.angle;
-			lBox2dBodyInstance.angularVelocity = lBox2dBodyDefinition.bodyDefinition.angularVelocity;
-			lBox2dBodyInstance.linearDamping = lBox2dBodyDefinition.bodyDefinition.linearDamping;
-			lBox2dBodyInstance.angularDamping = lBox2dBodyDefinition.bodyDefinition.angularDamping;
-			lBox2dBodyInstance.gravityScale = lBox2dBodyDefinition.bodyDefinition.gravityScale;
+			lBox2dBodyInstance.objectAngleInRadians = lBodyDef.angle;
+			lBox2dBodyInstance.angularVelocity = lBodyDef.angularVelocity;
+			lBox2dBodyInstance.linearDamping = lBodyDef.linearDamping;
+			lBox2dBodyInstance.angularDamping = lBodyDef.angularDamping;
+			lBox2dBodyInstance.gravityScale = lBodyDef.gravityScale;
 
-			lBox2dBodyInstance.allowSleep = lBox2dBodyDefinition.bodyDefinition.allowSleep;
-			lBox2dBodyInstance.awake = lBox2dBodyDefinition.bodyDefinition.awake;
-			lBox2dBodyInstance.fixedRotation = lBox2dBodyDefinition.bodyDefinition.fixedRotation;
-			lBox2dBodyInstance.bullet = lBox2dBodyDefinition.bodyDefinition.bullet;
-			lBox2dBodyInstance.active = lBox2dBodyDefinition.bodyDefinition.active;
+			lBox2dBodyInstance.allowSleep = lBodyDef.allowSleep;
+			lBox2dBodyInstance.awake = lBodyDef.awake;
+			lBox2dBodyInstance.fixedRotation = lBodyDef.fixedRotation;
+			lBox2dBodyInstance.bullet = lBodyDef.bullet;
+			lBox2dBodyInstance.active = lBodyDef.active;
 
 			lBox2dBodyInstance.mass = lBox2dBodyDefinition.mass;
 			lBox2dBodyInstance.massCenter.x = lBox2dBodyDefinition.massCenter.x;
@@ -409,137 +381,202 @@ public class JBox2dEntityInstance extends PooledBaseData {
 
 			mBodies.add(lBox2dBodyInstance);
 
-			// iterate over the needed fixtures
-			final int lFixtureCount = lBox2dBodyDefinition.fixtureList.size();
-
-			lBox2dBodyInstance.mFixtures = new Box2dFixtureInstance[lFixtureCount];
+			// Pooled bodies keep their fixture array (the fixtures themselves are returned to the pool)
+			final int lFixtureCount = pBuildPlan.bodyFixtureCounts[i];
+			if (lBox2dBodyInstance.mFixtures == null || lBox2dBodyInstance.mFixtures.length != lFixtureCount)
+				lBox2dBodyInstance.mFixtures = new Box2dFixtureInstance[lFixtureCount];
 
+			final int lFixtureOffset = pBuildPlan.bodyFixtureOffsets[i];
 			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureDefinition = lBox2dBodyDefinition.fixtureList.get(j);
+				final var lBox2dFixtureDefinition = pBuildPlan.fixtures[lFixtureOffset + j];
+				final var lFixtureDef = lBox2dFixtureDefinition.fixtureDef;
 				final var lBox2dFixtureInstance = pBox2dInstanceManager.box2dFixtureInstanceRepository().getFreePooledItem();
 
 				lBox2dBodyInstance.mFixtures[j] = lBox2dFixtureInstance;
 
-				// Set the instance values here so that something can be serialized later
-				// lFixtureInstance.mFixture = lBox2dBody.mBody.createFixture(lFixtureDef.fixtureDef);
-
 				lBox2dFixtureInstance.name = lBox2dFixtureDefinition.name;
-				lBox2dFixtureInstance.density = lBox2dFixtureDefinition.fixtureDef.density;
-				lBox2dFixtureInstance.restitution = lBox2dFixtureDefinition.fixtureDef.restitution;
-				lBox2dFixtureInstance.friction = lBox2dFixtureDefinition.fixtureDef.friction;
-				lBox2dFixtureInstance.isSensor = lBox2dFixtureDefinition.fixtureDef.isSensor;
+				lBox2dFixtureInstance.density = lFixtureDef.density;
+				lBox2dFixtureInstance.restitution = lFixtureDef.restitution;
+				lBox2dFixtureInstance.friction = lFixtureDef.friction;
+				lBox2dFixtureInstance.isSensor = lFixtureDef.isSensor;
 
-				lBox2dFixtureInstance.shape = lBox2dFixtureDefinition.shape.getCopy();
+				lBox2dFixtureInstance.categoryBits = lFixtureDef.filter.categoryBits;
+				lBox2dFixtureInstance.groupIndex = lFixtureDef.filter.groupIndex;
+				lBox2dFixtureInstance.maskBits = lFixtureDef.filter.maskBits;
 
-				Filter lFilter = new Filter();
-				lFilter.categoryBits = lBox2dFixtureDefinition.fixtureDef.filter.categoryBits;
-				lFilter.groupIndex = lBox2dFixtureDefinition.fixtureDef.filter.groupIndex;
-				lFilter.maskBits = lBox2dFixtureDefinition.fixtureDef.filter.maskBits;
+				lBox2dFixtureInstance.fixtureType = null;
+				lBox2dFixtureInstance.spriteName = null;
+				lBox2dFixtureInstance.userdata = null;
+
+				lBox2dFixtureInstance.shape = copyShape(lBox2dFixtureInstance.shape, lBox2dFixtureDefinition.shape, pBuildPlan.fixtureShapeTypes[lFixtureOffset + j]);
 
 			}
 
 		}
 	}
 
-	private void loadJointsFromDefinition(Box2dInstanceManager pBox2dInstanceManager, PObjectDefinition pDefinition) {
-		final int lJointCount = pDefinition.joints().size();
+	private void loadJointsFromBuildPlan(Box2dInstanceManager pBox2dInstanceManager, PObjectBuildPlan pBuildPlan) {
+		final int lJointCount = pBuildPlan.jointCount;
 		for (int i = 0; i < lJointCount; i++) {
-			final var lBox2dJointDefinition = pDefinition.joints().get(i);
+			final var lBox2dJointDefinition = pBuildPlan.joints[i];
 
-			if (lBox2dJointDefinition.jointDef instanceof RevoluteJointDef) {
-				final var lBox2dJointInstance = pBox2dInstanceManager.box2dJointInstanceRepository().getFreePooledItem();
+			final Box2dJointInstance lBox2dJointInstance;
+			switch (pBuildPlan.jointTypes[i]) {
+			case PObjectBuildPlan.JOINT_TYPE_REVOLUTE: {
+				final var lRevoluteJointInstance = pBox2dInstanceManager.box2dJointInstanceRepository().getFreePooledItem();
 				final var lJointDefinition = (RevoluteJointDef) lBox2dJointDefinition.jointDef;
 
-				lBox2dJointInstance.name = lBox2dJointDefinition.name;
-
-				lBox2dJointInstance.bodyAUid = lBox2dJointDefinition.bodyAIndex;
-				lBox2dJointInstance.bodyBUid = lBox2dJointDefinition.bodyBIndex;
+				lRevoluteJointInstance.localAnchorA.set(lJointDefinition.localAnchorA);
+				lRevoluteJointInstance.localAnchorB.set(lJointDefinition.localAnchorB);
+				lRevoluteJointInstance.referenceAngle = lJointDefinition.referenceAngle;
 
-				lBox2dJointInstance.localAnchorA.x = lJointDefinition.localAnchorA.x;
-				lBox2dJointInstance.localAnchorA.y = lJointDefinition.localAnchorA.y;
-				lBox2dJointInstance.localAnchorB.x = lJointDefinition.localAnchorB.x;
-				lBox2dJointInstance.localAnchorB.y = lJointDefinition.localAnchorB.y;
-				lBox2dJointInstance.bodyBUid = lBox2dJointDefinition.bodyBIndex;
-				lBox2dJointInstance.referenceAngle = lJointDefinition.referenceAngle;
+				lRevoluteJointInstance.enableLimit = lJointDefinition.enableLimit;
+				lRevoluteJointInstance.lowerAngle = lJointDefinition.lowerAngle;
+				lRevoluteJointInstance.upperAngle = lJointDefinition.upperAngle;
 
-				lBox2dJointInstance.enableLimit = lJointDefinition.enableLimit;
-				lBox2dJointInstance.lowerAngle = lJointDefinition.lowerAngle;
-				lBox2dJointInstance.upperAngle = lJointDefinition.upperAngle;
+				lRevoluteJointInstance.enableMotor = lJointDefinition.enableMotor;
+				lRevoluteJointInstance.maxMotorTorque = lJointDefinition.maxMotorTorque;
+				lRevoluteJointInstance.motorSpeed = lJointDefinition.motorSpeed;
 
-				lBox2dJointInstance.enableMotor = lJointDefinition.enableMotor;
-				lBox2dJointInstance.maxMotorTorque = lJointDefinition.maxMotorTorque;
-				lBox2dJointInstance.motorSpeed = lJointDefinition.motorSpeed;
+				lBox2dJointInstance = lRevoluteJointInstance;
+				break;
 
-				mJoints.add(lBox2dJointInstance);
+			}
 
-			} else if (lBox2dJointDefinition.jointDef instanceof PrismaticJointDef) {
-				final var lBox2dJointInstance = new Box2dPrismaticInstance(0);// pBox2dInstanceManager.box2dJointInstanceRepository().getFreePooledItem();
+			case PObjectBuildPlan.JOINT_TYPE_PRISMATIC: {
+				final var lPrismaticJointInstance = pBox2dInstanceManager.box2dPrismaticJointInstanceRepository().getFreePooledItem();
 				final var lJointDefinition = (PrismaticJointDef) lBox2dJointDefinition.jointDef;
 
-				lBox2dJointInstance.name = lBox2dJointDefinition.name;
+				lPrismaticJointInstance.localAnchorA.set(lJointDefinition.localAnchorA);
+				lPrismaticJointInstance.localAnchorB.set(lJointDefinition.localAnchorB);
+				lPrismaticJointInstance.referenceAngle = lJointDefinition.referenceAngle;
+
+				lPrismaticJointInstance.enableLimit = lJointDefinition.enableLimit;
+				lPrismaticJointInstance.lowerAngle = lJointDefinition.lowerTranslation;
+				lPrismaticJointInstance.upperAngle = lJointDefinition.upperTranslation;
 
-				lBox2dJointInstance.bodyAUid = lBox2dJointDefinition.bodyAIndex;
-				lBox2dJointInstance.bodyBUid = lBox2dJointDefinition.bodyBIndex;
+				lPrismaticJointInstance.enableMotor = lJointDefinition.enableMotor;
+				lPrismaticJointInstance.motorSpeed = lJointDefinition.motorSpeed;
 
-				lBox2dJointInstance.localAnchorA.x = lJointDefinition.localAnchorA.x;
-				lBox2dJointInstance.localAnchorA.y = lJointDefinition.localAnchorA.y;
-				lBox2dJointInstance.localAnchorB.x = lJointDefinition.localAnchorB.x;
-				lBox2dJointInstance.localAnchorB.y = lJointDefinition.localAnchorB.y;
-				lBox2dJointInstance.bodyBUid = lBox2dJointDefinition.bodyBIndex;
-				lBox2dJointInstance.referenceAngle = lJointDefinition.referenceAngle;
+				lBox2dJointInstance = lPrismaticJointInstance;
+				break;
 
-				lBox2dJointInstance.enableLimit = lJointDefinition.enableLimit;
-				lBox2dJointInstance.lowerAngle = lJointDefinition.lowerTranslation;
-				lBox2dJointInstance.upperAngle = lJointDefinition.upperTranslation;
+			}
 
-				lBox2dJointInstance.enableMotor = lJointDefinition.enableMotor;
-				lBox2dJointInstance.motorSpeed = lJointDefinition.motorSpeed;
+			case PObjectBuildPlan.JOINT_TYPE_WELD: {
+				final var lWeldJointInstance = pBox2dInstanceManager.box2dWeldJointInstanceRepository().getFreePooledItem();
+				final var lJointDefinition = (WeldJointDef) lBox2dJointDefinition.jointDef;
 
-				mJoints.add(lBox2dJointInstance);
+				lWeldJointInstance.localAnchorA.set(lJointDefinition.localAnchorA);
+				lWeldJointInstance.localAnchorB.set(lJointDefinition.localAnchorB);
+				lWeldJointInstance.referenceAngle = lJointDefinition.referenceAngle;
+				lWeldJointInstance.frequencyHz = lJointDefinition.frequencyHz;
+				lWeldJointInstance.dampingRatio = lJointDefinition.dampingRatio;
+
+				lBox2dJointInstance = lWeldJointInstance;
+				break;
 
 			}
 
+			default:
+				continue;
+
+			}
+
+			lBox2dJointInstance.name = lBox2dJointDefinition.name;
+			lBox2dJointInstance.bodyAUid = lBox2dJointDefinition.bodyAIndex;
+			lBox2dJointInstance.bodyBUid = lBox2dJointDefinition.bodyBIndex;
+			lBox2dJointInstance.collidesConnected = lBox2dJointDefinition.collideConnected;
+
+			mJoints.add(lBox2dJointInstance);
+
 		}
 	}
 
-	// TODO:
-	/* returns all Box2dBodyInstance and Box2dJointInstances back into the pool */
+	/** Copies the shape of a fixture definition, into the shape instance of a pooled fixture where it has the same type. */
+	private static ShapeInstance copyShape(ShapeInstance pExistingShape, ShapeInstance pSourceShape, int pShapeType) {
+		switch (pShapeType) {
+		case PObjectBuildPlan.SHAPE_TYPE_POLYGON:
+			if (pExistingShape instanceof Box2dPolygonInstance) {
+				((Box2dPolygonInstance) pExistingShape).copyFrom((Box2dPolygonInstance) pSourceShape);
+				return pExistingShape;
+
+			}
+
+			break;
+
+		case PObjectBuildPlan.SHAPE_TYPE_CIRCLE:
+			if (pExistingShape instanceof Box2dCircleInstance) {
+				((Box2dCircleInstance) pExistingShape).copyFrom((Box2dCircleInstance) pSourceShape);
+				return pExistingShape;
+
+			}
+
+			break;
+
+		}
+
+		return pSourceShape == null ? null : pSourceShape.getCopy();
+
+	}
+
+	/* returns all Box2dBodyInstance, Box2dFixtureInstance and Box2dJointInstances back into the pool */
 	public void returnPooledInstances(Box2dInstanceManager pBox2dInstanceManager) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyInstance = mBodies.get(i);
+		synchronized (physicsLock()) {
+			final int lJointCount = mJoints.size();
+			for (int i = 0; i < lJointCount; i++) {
+				final var lBox2dJointInstance = mJoints.get(i);
 
-			if (lBox2dBodyInstance.mBody != null) {
-				// TODO: Just setting the reference to null may result in losing instances (GC collection)
-				lBox2dBodyInstance.mBody.setUserData(null);
+				lBox2dJointInstance.unloadPhysics(mWorld);
+
+				if (lBox2dJointInstance instanceof Box2dRevoluteInstance) {
+					pBox2dInstanceManager.box2dJointInstanceRepository().returnPooledItem((Box2dRevoluteInstance) lBox2dJointInstance);
+
+				} else if (lBox2dJointInstance instanceof Box2dPrismaticInstance) {
+					pBox2dInstanceManager.box2dPrismaticJointInstanceRepository().returnPooledItem((Box2dPrismaticInstance) lBox2dJointInstance);
+
+				} else if (lBox2dJointInstance instanceof Box2dWeldInstance) {
+					pBox2dInstanceManager.box2dWeldJointInstanceRepository().returnPooledItem((Box2dWeldInstance) lBox2dJointInstance);
+
+				}
 
 			}
 
-			lBox2dBodyInstance.unloadPhysics();
+			mJoints.clear();
 
-			// Need to iterate the fixtures and return them to the Box2dInstanceManager
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBox2dBodyInstance = mBodies.get(i);
 
-			pBox2dInstanceManager.box2dBodyInstanceRepository().returnPooledItem(lBox2dBodyInstance);
+				if (lBox2dBodyInstance.mBody != null) {
+					lBox2dBodyInstance.mBody.setUserData(null);
 
-		}
+				}
 
-		mBodies.clear();
+				lBox2dBodyInstance.unloadPhysics();
 
-		final int lJointCount = mJoints.size();
-		for (int i = 0; i < lJointCount; i++) {
-			final var lBox2dJointInstance = mJoints.get(i);
+				if (lBox2dBodyInstance.mFixtures != null) {
+					final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+					for (int j = 0; j < lFixtureCount; j++) {
+						final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+						if (lBox2dFixtureInstance == null)
+							continue;
 
-			lBox2dJointInstance.unloadPhysics(mWorld);
+						pBox2dInstanceManager.box2dFixtureInstanceRepository().returnPooledItem(lBox2dFixtureInstance);
+						lBox2dBodyInstance.mFixtures[j] = null;
+
+					}
+
+				}
+
+				pBox2dInstanceManager.box2dBodyInstanceRepository().returnPooledItem(lBox2dBodyInstance);
 
-			if (lBox2dJointInstance instanceof Box2dRevoluteInstance) {
-				pBox2dInstanceManager.box2dJointInstanceRepository().returnPooledItem((Box2dRevoluteInstance) lBox2dJointInstance);
 			}
 
-			// TODO: Need ti handle weld joints as well (and others that come along)
+			mBodies.clear();
 
 		}
 
-		mJoints.clear();
 	}
 
 	// --------------------------------------
@@ -555,21 +592,24 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void resetEntityInstance() {
-		final int lBodyCount = mBodies.size();
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
 
-		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
+					continue;
 
-			if (lBox2dBodyInstance.mBody != null) {
-				final var lBox2dPosition = lBox2dBodyInstance.mBody.getPosition();
+				if (lBox2dBodyInstance.mBody != null) {
+					final var lBox2dPosition = lBox2dBodyInstance.mBody.getPosition();
 
-				lBox2dPosition.x = lBox2dBodyInstance.objectPositionInUnits.x;
-				lBox2dPosition.y = lBox2dBodyInstance.objectPositionInUnits.y;
-				float lLocalAngle = lBox2dBodyInstance.objectAngleInRadians;
+					lBox2dPosition.x = lBox2dBodyInstance.objectPositionInUnits.x;
+					lBox2dPosition.y = lBox2dBodyInstance.objectPositionInUnits.y;
+					float lLocalAngle = lBox2dBodyInstance.objectAngleInRadians;
 
-				lBox2dBodyInstance.mBody.setTransform(lBox2dPosition, lLocalAngle);
+					lBox2dBodyInstance.mBody.setTransform(lBox2dPosition, lLocalAngle);
+
+				}
 
 			}
 
@@ -585,27 +625,33 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	 * @param pRotationInRadians The rotation angle (in radians) to rotate the PObject.
 	 */
 	public void transformEntityInstance(float pWorldXInPixels, float pWorldYInPixels, float pRotationInRadians) {
+		synchronized (physicsLock()) {
 
-		entityPosition.x = ConstantsPhysics.toUnits(pWorldXInPixels);
-		entityPosition.y = ConstantsPhysics.toUnits(pWorldYInPixels);
+			entityPosition.x = ConstantsPhysics.toUnits(pWorldXInPixels);
+			entityPosition.y = ConstantsPhysics.toUnits(pWorldYInPixels);
 
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			transformBox2dBodyInstance(mBodies.get(i), pWorldXInPixels, pWorldYInPixels, pRotationInRadians);
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				transformBox2dBodyInstance(mBodies.get(i), pWorldXInPixels, pWorldYInPixels, pRotationInRadians);
+
+			}
 
 		}
 
 	}
 
 	public void transformEntityInstance(float pWorldXInPixels, float pWorldYInPixels) {
+		synchronized (physicsLock()) {
 
-		entityPosition.x = ConstantsPhysics.toUnits(pWorldXInPixels);
-		entityPosition.y = ConstantsPhysics.toUnits(pWorldYInPixels);
+			entityPosition.x = ConstantsPhysics.toUnits(pWorldXInPixels);
+			entityPosition.y = ConstantsPhysics.toUnits(pWorldYInPixels);
 
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyInstance = mBodies.get(i);
-			transformBox2dBodyInstance(lBox2dBodyInstance, pWorldXInPixels, pWorldYInPixels, lBox2dBodyInstance.objectAngleInRadians);
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBox2dBodyInstance = mBodies.get(i);
+				transformBox2dBodyInstance(lBox2dBodyInstance, pWorldXInPixels, pWorldYInPixels, lBox2dBodyInstance.objectAngleInRadians);
+
+			}
 
 		}
 
@@ -651,16 +697,19 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setLinearVelocity(float pX, float pY) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			Box2dBodyInstance lBodyInst = mBodies.get(i);
-			if (lBodyInst == null)
-				continue;
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				Box2dBodyInstance lBodyInst = mBodies.get(i);
+				if (lBodyInst == null)
+					continue;
 
-			lBodyInst.linearVelocity.set(pX, pY);
+				lBodyInst.linearVelocity.set(pX, pY);
 
-			if (lBodyInst.mBody != null) {
-				lBodyInst.mBody.setLinearVelocity(new Vec2(pX, pY));
+				if (lBodyInst.mBody != null) {
+					lBodyInst.mBody.setLinearVelocity(new Vec2(pX, pY));
+
+				}
 
 			}
 
@@ -677,76 +726,91 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void applyForce(float pX, float pY) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			Box2dBodyInstance lBodyInst = mBodies.get(i);
-			if (lBodyInst != null)
-				lBodyInst.mBody.applyForce(new Vec2(pX, pY), lBodyInst.mBody.getWorldCenter());
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				Box2dBodyInstance lBodyInst = mBodies.get(i);
+				if (lBodyInst != null)
+					lBodyInst.mBody.applyForce(new Vec2(pX, pY), lBodyInst.mBody.getWorldCenter());
+
+			}
 
 		}
 
 	}
 
 	public void setActive(boolean pNewValue) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			Box2dBodyInstance lBodyInst = mBodies.get(i);
-			if (lBodyInst != null)
-				lBodyInst.mBody.setActive(pNewValue);
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				Box2dBodyInstance lBodyInst = mBodies.get(i);
+				if (lBodyInst != null)
+					lBodyInst.mBody.setActive(pNewValue);
+
+			}
 
 		}
 
 	}
 
 	public void setGravityScale(float pNewValue) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			Box2dBodyInstance lBodyInst = mBodies.get(i);
-			if (lBodyInst != null)
-				lBodyInst.mBody.setGravityScale(pNewValue);
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				Box2dBodyInstance lBodyInst = mBodies.get(i);
+				if (lBodyInst != null)
+					lBodyInst.mBody.setGravityScale(pNewValue);
+
+			}
 
 		}
 
 	}
 
 	public void applyLinearImpulse(float pX, float pY) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			Box2dBodyInstance lBodyInst = mBodies.get(i);
-			if (lBodyInst != null) // TODO: Garbage
-				lBodyInst.mBody.applyLinearImpulse(new Vec2(pX, pY), lBodyInst.mBody.getWorldCenter(), true);
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				Box2dBodyInstance lBodyInst = mBodies.get(i);
+				if (lBodyInst != null) // TODO: Garbage
+					lBodyInst.mBody.applyLinearImpulse(new Vec2(pX, pY), lBodyInst.mBody.getWorldCenter(), true);
+
+			}
 
 		}
 
 	}
 
 	public void setBodyType(String pBodyName, int pBodyType) {
-		if (pBodyType != 0 && pBodyType != 1 & pBodyType != 2)
-			return;
+		synchronized (physicsLock()) {
+			if (pBodyType != 0 && pBodyType != 1 & pBodyType != 2)
+				return;
 
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
+					continue;
 
-			lBox2dBodyInstance.bodyTypeIndex = pBodyType;
+				lBox2dBodyInstance.bodyTypeIndex = pBodyType;
 
-			if (lBox2dBodyInstance.mBody != null) {
+				if (lBox2dBodyInstance.mBody != null) {
 
-				switch (pBodyType) {
-				case Box2dBodyDefinition.BODY_TYPE_INDEX_STATIC:
-					lBox2dBodyInstance.mBody.m_type = BodyType.STATIC;
-					break;
+					switch (pBodyType) {
+					case Box2dBodyDefinition.BODY_TYPE_INDEX_STATIC:
+						lBox2dBodyInstance.mBody.m_type = BodyType.STATIC;
+						break;
 
-				case Box2dBodyDefinition.BODY_TYPE_INDEX_KINEMATIC:
-					lBox2dBodyInstance.mBody.m_type = BodyType.KINEMATIC;
-					break;
+					case Box2dBodyDefinition.BODY_TYPE_INDEX_KINEMATIC:
+						lBox2dBodyInstance.mBody.m_type = BodyType.KINEMATIC;
+						break;
 
-				case Box2dBodyDefinition.BODY_TYPE_INDEX_DYNAMIC:
-					lBox2dBodyInstance.mBody.m_type = BodyType.DYNAMIC;
-					break;
+					case Box2dBodyDefinition.BODY_TYPE_INDEX_DYNAMIC:
+						lBox2dBodyInstance.mBody.m_type = BodyType.DYNAMIC;
+						break;
+
+					}
 
 				}
 
@@ -757,42 +821,51 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setAllBodiesAngularDamping(float pNewValue) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
+					continue;
+
+				lBox2dBodyInstance.setAngularDamping(pNewValue);
 
-			lBox2dBodyInstance.setAngularDamping(pNewValue);
+			}
 
 		}
 
 	}
 
 	public void setAllBodiesIsBullet(boolean pNewValue) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
+					continue;
 
-			lBox2dBodyInstance.setIsBullet(pNewValue);
+				lBox2dBodyInstance.setIsBullet(pNewValue);
+
+			}
 
 		}
 
 	}
 
 	public void setBodiesIsBullet(String pBodyName, boolean pNewValue) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
+					continue;
 
-			if (lBox2dBodyInstance.name.contentEquals(pBodyName)) {
-				lBox2dBodyInstance.setIsBullet(pNewValue);
+				if (lBox2dBodyInstance.name.contentEquals(pBodyName)) {
+					lBox2dBodyInstance.setIsBullet(pNewValue);
+
+				}
 
 			}
 
@@ -801,24 +874,27 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setAllFixturesCategory(int pNewCategory) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			Box2dBodyInstance lBodyInst = mBodies.get(i);
-			if (lBodyInst == null)
-				continue;
-
-			final int lFixtureCount = lBodyInst.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				Box2dFixtureInstance lFixInst = lBodyInst.mFixtures[j];
-				if (lFixInst == null)
+				Box2dBodyInstance lBodyInst = mBodies.get(i);
+				if (lBodyInst == null)
 					continue;
 
-				lFixInst.categoryBits = pNewCategory;
+				final int lFixtureCount = lBodyInst.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					Box2dFixtureInstance lFixInst = lBodyInst.mFixtures[j];
+					if (lFixInst == null)
+						continue;
+
+					lFixInst.categoryBits = pNewCategory;
+
+					// If the fixture is already loaded, then set it directly
+					if (lFixInst.mFixture != null) {
+						lFixInst.mFixture.m_filter.categoryBits = pNewCategory;
+					}
 
-				// If the fixture is already loaded, then set it directly
-				if (lFixInst.mFixture != null) {
-					lFixInst.mFixture.m_filter.categoryBits = pNewCategory;
 				}
 
 			}
@@ -828,24 +904,27 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setAllFixturesBitMask(int pNewBitmask) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-
-			Box2dBodyInstance lBodyInst = mBodies.get(i);
-			if (lBodyInst == null)
-				continue;
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final int lFixtureCount = lBodyInst.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				Box2dFixtureInstance lFixInst = lBodyInst.mFixtures[j];
-				if (lFixInst == null)
+				Box2dBodyInstance lBodyInst = mBodies.get(i);
+				if (lBodyInst == null)
 					continue;
 
-				lFixInst.maskBits = pNewBitmask;
+				final int lFixtureCount = lBodyInst.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					Box2dFixtureInstance lFixInst = lBodyInst.mFixtures[j];
+					if (lFixInst == null)
+						continue;
+
+					lFixInst.maskBits = pNewBitmask;
+
+					// If the fixture is already loaded, then set it directly
+					if (lFixInst.mFixture != null) {
+						lFixInst.mFixture.m_filter.maskBits = pNewBitmask;
+					}
 
-				// If the fixture is already loaded, then set it directly
-				if (lFixInst.mFixture != null) {
-					lFixInst.mFixture.m_filter.maskBits = pNewBitmask;
 				}
 
 			}
@@ -855,23 +934,26 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setFixtureDensity(String pFixtureName, float pNewDensity) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
-
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
-				if (lBox2dFixtureInstance == null)
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
 					continue;
 
-				if (lBox2dFixtureInstance.name.contentEquals(pFixtureName)) {
-					lBox2dFixtureInstance.density = pNewDensity;
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+					if (lBox2dFixtureInstance == null)
+						continue;
 
-					if (lBox2dFixtureInstance.mFixture != null) {
-						lBox2dFixtureInstance.mFixture.m_density = pNewDensity;
+					if (lBox2dFixtureInstance.name.contentEquals(pFixtureName)) {
+						lBox2dFixtureInstance.density = pNewDensity;
+
+						if (lBox2dFixtureInstance.mFixture != null) {
+							lBox2dFixtureInstance.mFixture.m_density = pNewDensity;
+
+						}
 
 					}
 
@@ -884,49 +966,56 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setAllFixtureDensity(float pNewDensity) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
-				if (lBox2dFixtureInstance == null)
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
 					continue;
 
-				lBox2dFixtureInstance.density = pNewDensity;
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+					if (lBox2dFixtureInstance == null)
+						continue;
 
-				if (lBox2dFixtureInstance.mFixture != null) {
-					lBox2dFixtureInstance.mFixture.m_density = pNewDensity;
+					lBox2dFixtureInstance.density = pNewDensity;
+
+					if (lBox2dFixtureInstance.mFixture != null) {
+						lBox2dFixtureInstance.mFixture.m_density = pNewDensity;
+
+					}
 
 				}
 
 			}
 
 		}
+
 	}
 
 	public void setFixtureFriction(String pFixtureName, float pNewFrictionValue) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
-
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
-				if (lBox2dFixtureInstance == null)
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
 					continue;
 
-				if (lBox2dFixtureInstance.name.contentEquals(pFixtureName)) {
-					lBox2dFixtureInstance.friction = pNewFrictionValue;
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+					if (lBox2dFixtureInstance == null)
+						continue;
 
-					if (lBox2dFixtureInstance.mFixture != null) {
-						lBox2dFixtureInstance.mFixture.m_friction = pNewFrictionValue;
+					if (lBox2dFixtureInstance.name.contentEquals(pFixtureName)) {
+						lBox2dFixtureInstance.friction = pNewFrictionValue;
+
+						if (lBox2dFixtureInstance.mFixture != null) {
+							lBox2dFixtureInstance.mFixture.m_friction = pNewFrictionValue;
+
+						}
 
 					}
 
@@ -939,22 +1028,25 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setAllFixtureFriction(float pNewFrictionValue) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
-
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
-				if (lBox2dFixtureInstance == null)
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
 					continue;
 
-				lBox2dFixtureInstance.friction = pNewFrictionValue;
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+					if (lBox2dFixtureInstance == null)
+						continue;
 
-				if (lBox2dFixtureInstance.mFixture != null) {
-					lBox2dFixtureInstance.mFixture.m_friction = pNewFrictionValue;
+					lBox2dFixtureInstance.friction = pNewFrictionValue;
+
+					if (lBox2dFixtureInstance.mFixture != null) {
+						lBox2dFixtureInstance.mFixture.m_friction = pNewFrictionValue;
+
+					}
 
 				}
 
@@ -965,24 +1057,27 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setFixtureRestitution(String pFixtureName, float pNewRestitution) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
-
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
-				if (lBox2dFixtureInstance == null)
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
 					continue;
 
-				if (lBox2dFixtureInstance.name.contentEquals(pFixtureName)) {
-					lBox2dFixtureInstance.restitution = pNewRestitution;
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+					if (lBox2dFixtureInstance == null)
+						continue;
 
-					if (lBox2dFixtureInstance.mFixture != null) {
-						lBox2dFixtureInstance.mFixture.m_restitution = pNewRestitution;
+					if (lBox2dFixtureInstance.name.contentEquals(pFixtureName)) {
+						lBox2dFixtureInstance.restitution = pNewRestitution;
+
+						if (lBox2dFixtureInstance.mFixture != null) {
+							lBox2dFixtureInstance.mFixture.m_restitution = pNewRestitution;
+
+						}
 
 					}
 
@@ -995,23 +1090,26 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setAllFixtureRestitution(float pNewRestitution) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
-
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
-				if (lBox2dFixtureInstance == null)
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
 					continue;
 
-				lBox2dFixtureInstance.restitution = pNewRestitution;
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+					if (lBox2dFixtureInstance == null)
+						continue;
+
+					lBox2dFixtureInstance.restitution = pNewRestitution;
+
+					if (lBox2dFixtureInstance.mFixture != null) {
+						lBox2dFixtureInstance.mFixture.m_restitution = pNewRestitution;
 
-				if (lBox2dFixtureInstance.mFixture != null) {
-					lBox2dFixtureInstance.mFixture.m_restitution = pNewRestitution;
+					}
 
 				}
 
@@ -1022,22 +1120,25 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	}
 
 	public void setAllFixtureProperties(float pNewFriction, float pNewRestitution, float pNewDensity) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
-
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
-				if (lBox2dFixtureInstance == null)
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
 					continue;
 
-				lBox2dFixtureInstance.restitution = pNewRestitution;
-				lBox2dFixtureInstance.density = pNewDensity;
-				lBox2dFixtureInstance.friction = pNewFriction;
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+					if (lBox2dFixtureInstance == null)
+						continue;
+
+					lBox2dFixtureInstance.restitution = pNewRestitution;
+					lBox2dFixtureInstance.density = pNewDensity;
+					lBox2dFixtureInstance.friction = pNewFriction;
+
+				}
 
 			}
 
@@ -1049,24 +1150,27 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	 * Sets the radius of the named fixture.
 	 */
 	public void setFixtureRadius(String pFixtureName, float pNewRadiusInPixels) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
+					continue;
 
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
 
-				if (lBox2dFixtureInstance != null && lBox2dFixtureInstance.name != null && lBox2dFixtureInstance.name.contentEquals(pFixtureName)) {
-					if (lBox2dFixtureInstance.shape != null && lBox2dFixtureInstance.shape instanceof Box2dCircleInstance) {
-						((Box2dCircleInstance) lBox2dFixtureInstance.shape).radius = ConstantsPhysics.toUnits(pNewRadiusInPixels);
+					if (lBox2dFixtureInstance != null && lBox2dFixtureInstance.name != null && lBox2dFixtureInstance.name.contentEquals(pFixtureName)) {
+						if (lBox2dFixtureInstance.shape != null && lBox2dFixtureInstance.shape instanceof Box2dCircleInstance) {
+							((Box2dCircleInstance) lBox2dFixtureInstance.shape).radius = ConstantsPhysics.toUnits(pNewRadiusInPixels);
+
+							// If the fixture has already been loaded into the Box2dWorld, then set the fixture's radius
+							if (lBox2dFixtureInstance.mFixture != null) {
+								lBox2dFixtureInstance.mFixture.m_shape.m_radius = ConstantsPhysics.toUnits(pNewRadiusInPixels);
+							}
 
-						// If the fixture has already been loaded into the Box2dWorld, then set the fixture's radius
-						if (lBox2dFixtureInstance.mFixture != null) {
-							lBox2dFixtureInstance.mFixture.m_shape.m_radius = ConstantsPhysics.toUnits(pNewRadiusInPixels);
 						}
 
 					}
@@ -1083,22 +1187,25 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	 * Sets the named fixture as a sensor or not
 	 */
 	public void setFixtureIsSensor(String pFixtureName, boolean pIsSensor) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			final var lBox2dBodyInstance = mBodies.get(i);
-			if (lBox2dBodyInstance == null)
-				continue;
+				final var lBox2dBodyInstance = mBodies.get(i);
+				if (lBox2dBodyInstance == null)
+					continue;
 
-			final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
+				final int lFixtureCount = lBox2dBodyInstance.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					final var lBox2dFixtureInstance = lBox2dBodyInstance.mFixtures[j];
 
-				if (lBox2dFixtureInstance != null) {
-					lBox2dFixtureInstance.isSensor = pIsSensor;
+					if (lBox2dFixtureInstance != null) {
+						lBox2dFixtureInstance.isSensor = pIsSensor;
 
-					if (lBox2dFixtureInstance.mFixture != null) {
-						lBox2dFixtureInstance.mFixture.m_isSensor = pIsSensor;
+						if (lBox2dFixtureInstance.mFixture != null) {
+							lBox2dFixtureInstance.mFixture.m_isSensor = pIsSensor;
+
+						}
 
 					}
 
@@ -1114,55 +1221,58 @@ public class JBox2dEntityInstance extends PooledBaseData {
 	 * Sets the width and height of the vertices of the named fixture.
 	 */
 	public void setFixtureDimensions(String pFixtureName, float pNewWidth, float pNewHeight) {
-		final int lBodyCount = mBodies.size();
-		for (int i = 0; i < lBodyCount; i++) {
+		synchronized (physicsLock()) {
+			final int lBodyCount = mBodies.size();
+			for (int i = 0; i < lBodyCount; i++) {
 
-			Box2dBodyInstance lBodyInst = mBodies.get(i);
-			if (lBodyInst == null)
-				continue;
+				Box2dBodyInstance lBodyInst = mBodies.get(i);
+				if (lBodyInst == null)
+					continue;
 
-			final int lFixtureCount = lBodyInst.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				Box2dFixtureInstance lFixInst = lBodyInst.mFixtures[j];
+				final int lFixtureCount = lBodyInst.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					Box2dFixtureInstance lFixInst = lBodyInst.mFixtures[j];
 
-				if (lFixInst != null && lFixInst.name.contentEquals(pFixtureName)) {
+					if (lFixInst != null && lFixInst.name.contentEquals(pFixtureName)) {
 
-					lFixInst.unloadPhysics(mWorld);
+						lFixInst.unloadPhysics(mWorld);
 
-					if (lFixInst.shape != null && lFixInst.shape instanceof Box2dPolygonInstance) {
-						Box2dPolygonInstance lShape = (Box2dPolygonInstance) lFixInst.shape;
+						if (lFixInst.shape != null && lFixInst.shape instanceof Box2dPolygonInstance) {
+							Box2dPolygonInstance lShape = (Box2dPolygonInstance) lFixInst.shape;
 
-						final float lHalfWidth = pNewWidth / 2f;
-						final float lHalfHeight = pNewHeight / 2f;
+							final float lHalfWidth = pNewWidth / 2f;
+							final float lHalfHeight = pNewHeight / 2f;
 
-						// Set the dimensions of this polygon
-						lShape.vertexCount = 4;
-						lShape.vertices[0].x = lHalfWidth;
-						lShape.vertices[0].y = -lHalfHeight;
+							// Set the dimensions of this polygon
+							lShape.vertexCount = 4;
+							lShape.vertices[0].x = lHalfWidth;
+							lShape.vertices[0].y = -lHalfHeight;
 
-						lShape.vertices[1].x = lHalfWidth;
-						lShape.vertices[1].y = lHalfHeight;
+							lShape.vertices[1].x = lHalfWidth;
+							lShape.vertices[1].y = lHalfHeight;
 
-						lShape.vertices[2].x = -lHalfWidth;
-						lShape.vertices[2].y = lHalfHeight;
+							lShape.vertices[2].x = -lHalfWidth;
+							lShape.vertices[2].y = lHalfHeight;
 
-						lShape.vertices[3].x = -lHalfWidth;
-						lShape.vertices[3].y = -lHalfHeight;
+							lShape.vertices[3].x = -lHalfWidth;
+							lShape.vertices[3].y = -lHalfHeight;
 
-					}
+						}
 
-					else if (lFixInst.shape != null && lFixInst.shape instanceof Box2dCircleInstance) {
-						Box2dCircleInstance lShape = (Box2dCircleInstance) lFixInst.shape;
+						else if (lFixInst.shape != null && lFixInst.shape instanceof Box2dCircleInstance) {
+							Box2dCircleInstance lShape = (Box2dCircleInstance) lFixInst.shape;
 
-						final float lHalfWidth = pNewWidth / 2f;
+							final float lHalfWidth = pNewWidth / 2f;
 
-						// Set the dimensions of this circle
-						lShape.radius = lHalfWidth;
+							// Set the dimensions of this circle
+							lShape.radius = lHalfWidth;
 
-					}
+						}
 
-					if (lBodyInst.mBody != null)
-						lFixInst.loadPhysics(mWorld, lBodyInst.mBody);
+						if (lBodyInst.mBody != null)
+							lFixInst.loadPhysics(mWorld, lBodyInst.mBody);
+
+					}
 
 				}
 
@@ -49,6 +49,61 @@ public class Box2dBodyInstance extends PooledBaseData {
 
 	public Box2dFixtureInstance[] mFixtures;
 
+	// JBox2D copies the values out of the definition, so it is kept and reused each time the body is created
+	private transient BodyDef mBodyDef;
+
+	// The (interpolated) transform to render the body at, in units, kept by a Box2dWorldStepper
+	private transient boolean mHasRenderTransform;
+	private transient float mRenderPositionX;
+	private transient float mRenderPositionY;
+	private transient float mRenderAngle;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** The x position (in units) to render the body at. Interpolated between physics steps if the body is kept by a {@link net.lintford.library.core.box2d.Box2dWorldStepper}. */
+	public float renderPositionX() {
+		final var lBody = mBody;
+		if (!mHasRenderTransform && lBody != null) {
+			synchronized (lBody.getWorld()) {
+				return lBody.getPosition().x;
+
+			}
+
+		}
+
+		return mRenderPositionX;
+	}
+
+	/** The y position (in units) to render the body at. Interpolated between physics steps if the body is kept by a {@link net.lintford.library.core.box2d.Box2dWorldStepper}. */
+	public float renderPositionY() {
+		final var lBody = mBody;
+		if (!mHasRenderTransform && lBody != null) {
+			synchronized (lBody.getWorld()) {
+				return lBody.getPosition().y;
+
+			}
+
+		}
+
+		return mRenderPositionY;
+	}
+
+	/** The angle (in radians) to render the body at. Interpolated between physics steps if the body is kept by a {@link net.lintford.library.core.box2d.Box2dWorldStepper}. */
+	public float renderAngle() {
+		final var lBody = mBody;
+		if (!mHasRenderTransform && lBody != null) {
+			synchronized (lBody.getWorld()) {
+				return lBody.getAngle();
+
+			}
+
+		}
+
+		return mRenderAngle;
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -67,61 +122,68 @@ public class Box2dBodyInstance extends PooledBaseData {
 	// --------------------------------------
 
 	public void savePhysics(JBox2dEntityInstance pParentInst) {
-		if (mBody == null)
+		final var lBody = mBody;
+		if (lBody == null)
 			return; // nothing to save
 
-		// Get the state information so it can be serialized
-		switch (mBody.m_type) {
-		case STATIC:
-			this.bodyTypeIndex = Box2dBodyDefinition.BODY_TYPE_INDEX_STATIC;
-			break;
-		case KINEMATIC:
-			this.bodyTypeIndex = Box2dBodyDefinition.BODY_TYPE_INDEX_KINEMATIC;
-			break;
-		case DYNAMIC:
-			this.bodyTypeIndex = Box2dBodyDefinition.BODY_TYPE_INDEX_DYNAMIC;
-			break;
-		}
-
-		float lParentPositionX = 0.f;
-		float lParentPositionY = 0.f;
-		float lParentAngle = 0.f;
-		if (pParentInst != null) {
-			lParentPositionX = pParentInst.entityPosition().x;
-			lParentPositionY = pParentInst.entityPosition().y;
-			lParentAngle = pParentInst.entityAngle();
-
-		}
-
-		// this.objectPositionInUnits.x = mBody.getPosition().x - lParentPositionX;
-		// this.objectPositionInUnits.y = mBody.getPosition().y - lParentPositionY;
-		this.objectAngleInRadians = mBody.getAngle() - lParentAngle;
-
-		this.linearVelocity.set(mBody.getLinearVelocity());
-		this.angularVelocity = mBody.getAngularVelocity();
-		this.linearDamping = mBody.getLinearDamping();
-		this.angularDamping = mBody.getAngularDamping();
-		this.gravityScale = mBody.getGravityScale();
-
-		this.allowSleep = mBody.isSleepingAllowed();
-		this.awake = mBody.isAwake();
-		this.fixedRotation = mBody.isFixedRotation();
-		this.bullet = mBody.isBullet();
-		this.active = mBody.isActive();
-
-		final int lFixtureCount = mFixtures.length;
-		for (int j = 0; j < lFixtureCount; j++) {
-			final var lFixtureInstance = mFixtures[j];
-
-			if (lFixtureInstance != null)
-				lFixtureInstance.savePhysics();
+		synchronized (lBody.getWorld()) {
+			// Get the state information so it can be serialized
+			switch (mBody.m_type) {
+			case STATIC:
+				this.bodyTypeIndex = Box2dBodyDefinition.BODY_TYPE_INDEX_STATIC;
+				break;
+			case KINEMATIC:
+				this.bodyTypeIndex = Box2dBodyDefinition.BODY_TYPE_INDEX_KINEMATIC;
+				break;
+			case DYNAMIC:
+				this.bodyTypeIndex = Box2dBodyDefinition.BODY_TYPE_INDEX_DYNAMIC;
+				break;
+			}
+
+			float lParentPositionX = 0.f;
+			float lParentPositionY = 0.f;
+			float lParentAngle = 0.f;
+			if (pParentInst != null) {
+				lParentPositionX = pParentInst.entityPosition().x;
+				lParentPositionY = pParentInst.entityPosition().y;
+				lParentAngle = pParentInst.entityAngle();
+
+			}
+
+			// this.objectPositionInUnits.x = mBody.getPosition().x - lParentPositionX;
+			// this.objectPositionInUnits.y = mBody.getPosition().y - lParentPositionY;
+			this.objectAngleInRadians = mBody.getAngle() - lParentAngle;
+
+			this.linearVelocity.set(mBody.getLinearVelocity());
+			this.angularVelocity = mBody.getAngularVelocity();
+			this.linearDamping = mBody.getLinearDamping();
+			this.angularDamping = mBody.getAngularDamping();
+			this.gravityScale = mBody.getGravityScale();
+
+			this.allowSleep = mBody.isSleepingAllowed();
+			this.awake = mBody.isAwake();
+			this.fixedRotation = mBody.isFixedRotation();
+			this.bullet = mBody.isBullet();
+			this.active = mBody.isActive();
+
+			final int lFixtureCount = mFixtures.length;
+			for (int j = 0; j < lFixtureCount; j++) {
+				final var lFixtureInstance = mFixtures[j];
+
+				if (lFixtureInstance != null)
+					lFixtureInstance.savePhysics();
+
+			}
 
 		}
 
 	}
 
 	public void loadPhysics(World pWorld, JBox2dEntityInstance pParentInst) {
-		BodyDef lBodyDef = new BodyDef();
+		if (mBodyDef == null)
+			mBodyDef = new BodyDef();
+
+		final var lBodyDef = mBodyDef;
 
 		switch (bodyTypeIndex) {
 		case Box2dBodyDefinition.BODY_TYPE_INDEX_STATIC:
@@ -163,6 +225,8 @@ public class Box2dBodyInstance extends PooledBaseData {
 		lBodyDef.active = true;
 
 		mBody = pWorld.createBody(lBodyDef);
+		setRenderTransform(lBodyDef.position.x, lBodyDef.position.y, lBodyDef.angle);
+		mHasRenderTransform = false;
 
 		if (bodyPhysicsData != null)
 			mBody.setUserData(bodyPhysicsData);
@@ -204,6 +268,7 @@ public class Box2dBodyInstance extends PooledBaseData {
 
 		lBox2dWorld.destroyBody(mBody);
 		mBody = null;
+		mHasRenderTransform = false;
 
 	}
 
@@ -215,11 +280,29 @@ public class Box2dBodyInstance extends PooledBaseData {
 	// Methods
 	// --------------------------------------
 
+	public void setRenderTransform(float pPositionX, float pPositionY, float pAngle) {
+		mRenderPositionX = pPositionX;
+		mRenderPositionY = pPositionY;
+		mRenderAngle = pAngle;
+		mHasRenderTransform = true;
+
+	}
+
+	/** Stops using the rendered transform, so that the render position and angle are read from the body again. */
+	public void clearRenderTransform() {
+		mHasRenderTransform = false;
+
+	}
+
 	public void setActive(boolean pNewValue) {
 		active = pNewValue;
 
-		if (mBody != null) {
-			mBody.setActive(pNewValue);
+		final var lBody = mBody;
+		if (lBody != null) {
+			synchronized (lBody.getWorld()) {
+				lBody.setActive(pNewValue);
+
+			}
 
 		}
 
@@ -228,8 +311,12 @@ public class Box2dBodyInstance extends PooledBaseData {
 	public void setFixedRotation(boolean pIsFixedRotation) {
 		fixedRotation = pIsFixedRotation;
 
-		if (mBody != null) {
-			mBody.setFixedRotation(pIsFixedRotation);
+		final var lBody = mBody;
+		if (lBody != null) {
+			synchronized (lBody.getWorld()) {
+				lBody.setFixedRotation(pIsFixedRotation);
+
+			}
 
 		}
 
@@ -238,8 +325,12 @@ public class Box2dBodyInstance extends PooledBaseData {
 	public void setAngularDamping(float pNewValue) {
 		angularDamping = pNewValue;
 
-		if (mBody != null) {
-			mBody.setAngularDamping(pNewValue);
+		final var lBody = mBody;
+		if (lBody != null) {
+			synchronized (lBody.getWorld()) {
+				lBody.setAngularDamping(pNewValue);
+
+			}
 
 		}
 
@@ -248,8 +339,12 @@ public class Box2dBodyInstance extends PooledBaseData {
 	public void setIsBullet(boolean pIsBullet) {
 		bullet = pIsBullet;
 
-		if (mBody != null) {
-			mBody.setBullet(pIsBullet);
+		final var lBody = mBody;
+		if (lBody != null) {
+			synchronized (lBody.getWorld()) {
+				lBody.setBullet(pIsBullet);
+
+			}
 
 		}
 
@@ -52,13 +52,20 @@ public class Box2dCircleInstance extends BaseInstanceData implements ShapeInstan
 	}
 
 	public void loadPhysics() {
-		circleShape = new CircleShape();
+		if (circleShape == null)
+			circleShape = new CircleShape();
 
 		circleShape.m_p.set(center);
 		circleShape.m_radius = radius;
 
 	}
 
+	public void copyFrom(Box2dCircleInstance pOther) {
+		center.set(pOther.center);
+		radius = pOther.radius;
+
+	}
+
 	@Override
 	public ShapeInstance getCopy() {
 		Box2dCircleInstance lReturn = new Box2dCircleInstance();
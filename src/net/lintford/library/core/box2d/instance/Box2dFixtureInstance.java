@@ -3,7 +3,6 @@ package net.lintford.library.core.box2d.instance;
 import java.io.Serializable;
 
 import org.jbox2d.dynamics.Body;
-import org.jbox2d.dynamics.Filter;
 import org.jbox2d.dynamics.Fixture;
 import org.jbox2d.dynamics.FixtureDef;
 import org.jbox2d.dynamics.World;
@@ -39,6 +38,9 @@ public class Box2dFixtureInstance extends PooledBaseData {
 	public String spriteName;
 	public Serializable userdata;
 
+	// JBox2D copies the values (and clones the shape) out of the definition, so it is kept and reused each time the fixture is created
+	private transient FixtureDef mFixtureDef;
+
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
@@ -81,7 +83,10 @@ public class Box2dFixtureInstance extends PooledBaseData {
 	}
 
 	public void loadPhysics(World pWorld, Body pParentBody) {
-		FixtureDef lFixtureDef = new FixtureDef();
+		if (mFixtureDef == null)
+			mFixtureDef = new FixtureDef();
+
+		final var lFixtureDef = mFixtureDef;
 
 		// FIXME: density needs validating before loading
 		lFixtureDef.density = density;
@@ -89,7 +94,6 @@ public class Box2dFixtureInstance extends PooledBaseData {
 		lFixtureDef.friction = friction;
 		lFixtureDef.isSensor = isSensor;
 
-		lFixtureDef.filter = new Filter();
 		lFixtureDef.filter.categoryBits = categoryBits;
 		lFixtureDef.filter.maskBits = maskBits;
 		lFixtureDef.filter.groupIndex = groupIndex;
@@ -98,6 +102,7 @@ public class Box2dFixtureInstance extends PooledBaseData {
 		lFixtureDef.shape = shape.shape();
 
 		mFixture = pParentBody.createFixture(lFixtureDef);
+		lFixtureDef.shape = null;
 		if (name != null && !name.isEmpty()) {
 			mFixture.setUserData(name);
 
@@ -2,6 +2,7 @@ package net.lintford.library.core.box2d.instance;
 
 import net.lintford.library.core.box2d.pools.Box2dBodyInstanceRepository;
 import net.lintford.library.core.box2d.pools.Box2dFixtureInstanceRepository;
+import net.lintford.library.core.box2d.pools.Box2dPrismaticJointInstanceRepository;
 import net.lintford.library.core.box2d.pools.Box2dRevJointInstanceRepository;
 import net.lintford.library.core.box2d.pools.Box2dWeldJointInstanceRepository;
 
@@ -16,6 +17,7 @@ public class Box2dInstanceManager {
 	private Box2dBodyInstanceRepository mBox2dBodyInstanceRepository;
 	private Box2dRevJointInstanceRepository mBox2dJointInstanceRepository;
 	private Box2dWeldJointInstanceRepository mBox2dWeldInstanceRepository;
+	private Box2dPrismaticJointInstanceRepository mBox2dPrismaticInstanceRepository;
 	private Box2dFixtureInstanceRepository mBox2dFixtureInstanceRepository;
 
 	// --------------------------------------
@@ -38,6 +40,10 @@ public class Box2dInstanceManager {
 		return mBox2dWeldInstanceRepository;
 	}
 
+	public Box2dPrismaticJointInstanceRepository box2dPrismaticJointInstanceRepository() {
+		return mBox2dPrismaticInstanceRepository;
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -47,6 +53,7 @@ public class Box2dInstanceManager {
 		mBox2dJointInstanceRepository = new Box2dRevJointInstanceRepository();
 		mBox2dFixtureInstanceRepository = new Box2dFixtureInstanceRepository();
 		mBox2dWeldInstanceRepository = new Box2dWeldJointInstanceRepository();
+		mBox2dPrismaticInstanceRepository = new Box2dPrismaticJointInstanceRepository();
 
 	}
 
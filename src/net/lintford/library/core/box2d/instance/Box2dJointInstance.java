@@ -1,6 +1,7 @@
 package net.lintford.library.core.box2d.instance;
 
 import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.World;
 import org.jbox2d.dynamics.joints.Joint;
 
@@ -57,6 +58,9 @@ public abstract class Box2dJointInstance extends PooledBaseData {
 
 	}
 
+	/** Creates the JBox2D joint between the two bodies. */
+	public abstract void createJoint(World pWorld, Body pBodyA, Body pBodyB);
+
 	public abstract void unloadPhysics(World pWorld);
 
 	public abstract void update(LintfordCore pCore);
@@ -16,6 +16,10 @@ public class Box2dPolygonInstance extends BaseInstanceData implements ShapeInsta
 
 	public transient PolygonShape polygonShape;
 
+	// The vertices (x0, y0, x1, y1, ...) the polygon shape was last set from. Setting the shape computes the convex hull, which is skipped while the vertices are unchanged.
+	private transient float[] mShapeVertexValues;
+	private transient int mShapeVertexCount;
+
 	public int vertexCount;
 	public Vec2[] vertices;
 
@@ -40,16 +44,78 @@ public class Box2dPolygonInstance extends BaseInstanceData implements ShapeInsta
 		if (polygonShape == null)
 			return;
 
+		// Copied, as the shape is reused and set from these vertices when the physics is next loaded
+		final var lShapeVertices = polygonShape.getVertices();
 		vertexCount = polygonShape.getVertexCount();
-		vertices = polygonShape.getVertices();
+
+		if (vertices == null || vertices.length < vertexCount) {
+			vertices = new Vec2[vertexCount];
+
+		}
+
+		for (int i = 0; i < vertexCount; i++) {
+			if (vertices[i] == null)
+				vertices[i] = new Vec2(lShapeVertices[i]);
+			else
+				vertices[i].set(lShapeVertices[i]);
+
+		}
 
 	}
 
 	public void loadPhysics() {
-		polygonShape = new PolygonShape();
+		if (polygonShape != null && isShapeUpToDate())
+			return;
+
+		if (polygonShape == null)
+			polygonShape = new PolygonShape();
 
 		polygonShape.set(vertices, vertexCount);
 
+		if (mShapeVertexValues == null || mShapeVertexValues.length < vertexCount * 2)
+			mShapeVertexValues = new float[vertexCount * 2];
+
+		for (int i = 0; i < vertexCount; i++) {
+			mShapeVertexValues[i * 2] = vertices[i].x;
+			mShapeVertexValues[i * 2 + 1] = vertices[i].y;
+
+		}
+
+		mShapeVertexCount = vertexCount;
+
+	}
+
+	private boolean isShapeUpToDate() {
+		if (mShapeVertexValues == null || mShapeVertexCount != vertexCount)
+			return false;
+
+		for (int i = 0; i < vertexCount; i++) {
+			if (mShapeVertexValues[i * 2] != vertices[i].x || mShapeVertexValues[i * 2 + 1] != vertices[i].y)
+				return false;
+
+		}
+
+		return true;
+
+	}
+
+	/** Copies the vertices of the other polygon into this one, reusing the vertex array where it is large enough. */
+	public void copyFrom(Box2dPolygonInstance pOther) {
+		vertexCount = pOther.vertexCount;
+
+		if (vertices == null || vertices.length < vertexCount) {
+			vertices = new Vec2[vertexCount];
+
+		}
+
+		for (int i = 0; i < vertexCount; i++) {
+			if (vertices[i] == null)
+				vertices[i] = new Vec2(pOther.vertices[i]);
+			else
+				vertices[i].set(pOther.vertices[i]);
+
+		}
+
 	}
 
 	@Override
@@ -1,7 +1,9 @@
 package net.lintford.library.core.box2d.instance;
 
+import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.World;
 import org.jbox2d.dynamics.joints.PrismaticJoint;
+import org.jbox2d.dynamics.joints.PrismaticJointDef;
 
 import net.lintford.library.core.LintfordCore;
 
@@ -20,6 +22,9 @@ public class Box2dPrismaticInstance extends Box2dJointInstance {
 	public boolean enableMotor;
 	public float motorSpeed;
 
+	// JBox2D copies the values out of the definition, so it is kept and reused each time the joint is created
+	private transient PrismaticJointDef mJointDef;
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -56,10 +61,43 @@ public class Box2dPrismaticInstance extends Box2dJointInstance {
 
 	}
 
+	@Override
+	public void createJoint(World pWorld, Body pBodyA, Body pBodyB) {
+		if (mJointDef == null)
+			mJointDef = new PrismaticJointDef();
+
+		mJointDef.bodyA = pBodyA;
+		mJointDef.bodyB = pBodyB;
+
+		mJointDef.referenceAngle = referenceAngle;
+		mJointDef.enableLimit = enableLimit;
+		mJointDef.lowerTranslation = lowerAngle;
+		mJointDef.upperTranslation = upperAngle;
+
+		mJointDef.enableMotor = enableMotor;
+		mJointDef.motorSpeed = motorSpeed;
+
+		mJointDef.localAnchorA.set(localAnchorA);
+		mJointDef.localAnchorB.set(localAnchorB);
+
+		mJointDef.collideConnected = collidesConnected;
+
+		joint = pWorld.createJoint(mJointDef);
+
+		mJointDef.bodyA = null;
+		mJointDef.bodyB = null;
+
+	}
+
 	public void unloadPhysics(World pWorld) {
 		if (joint == null)
 			return;
 
+		if (pWorld != null)
+			pWorld.destroyJoint(joint);
+
+		joint = null;
+
 	}
 
 	public void update(LintfordCore pCore) {
@@ -1,7 +1,9 @@
 package net.lintford.library.core.box2d.instance;
 
+import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.World;
 import org.jbox2d.dynamics.joints.RevoluteJoint;
+import org.jbox2d.dynamics.joints.RevoluteJointDef;
 
 import net.lintford.library.core.LintfordCore;
 
@@ -21,6 +23,9 @@ public class Box2dRevoluteInstance extends Box2dJointInstance {
 	public float motorSpeed;
 	public float maxMotorTorque;
 
+	// JBox2D copies the values out of the definition, so it is kept and reused each time the joint is created
+	private transient RevoluteJointDef mJointDef;
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -58,10 +63,44 @@ public class Box2dRevoluteInstance extends Box2dJointInstance {
 
 	}
 
+	@Override
+	public void createJoint(World pWorld, Body pBodyA, Body pBodyB) {
+		if (mJointDef == null)
+			mJointDef = new RevoluteJointDef();
+
+		mJointDef.bodyA = pBodyA;
+		mJointDef.bodyB = pBodyB;
+
+		mJointDef.referenceAngle = referenceAngle;
+		mJointDef.enableLimit = enableLimit;
+		mJointDef.lowerAngle = lowerAngle;
+		mJointDef.upperAngle = upperAngle;
+
+		mJointDef.enableMotor = enableMotor;
+		mJointDef.motorSpeed = motorSpeed;
+		mJointDef.maxMotorTorque = maxMotorTorque;
+
+		mJointDef.localAnchorA.set(localAnchorA);
+		mJointDef.localAnchorB.set(localAnchorB);
+
+		mJointDef.collideConnected = collidesConnected;
+
+		joint = pWorld.createJoint(mJointDef);
+
+		mJointDef.bodyA = null;
+		mJointDef.bodyB = null;
+
+	}
+
 	public void unloadPhysics(World pWorld) {
 		if (joint == null)
 			return;
 
+		if (pWorld != null)
+			pWorld.destroyJoint(joint);
+
+		joint = null;
+
 	}
 
 	public void update(LintfordCore pCore) {
@@ -3,7 +3,7 @@ package net.lintford.library.core.box2d.instance;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.World;
-import org.jbox2d.dynamics.joints.RevoluteJoint;
+import org.jbox2d.dynamics.joints.WeldJoint;
 import org.jbox2d.dynamics.joints.WeldJointDef;
 
 import net.lintford.library.core.LintfordCore;
@@ -22,6 +22,11 @@ public class Box2dWeldInstance extends Box2dJointInstance {
 
 	private World mWorld;
 	public float referenceAngle;
+	public float frequencyHz;
+	public float dampingRatio;
+
+	// JBox2D copies the values out of the definition, so it is kept and reused each time the joint is created
+	private transient WeldJointDef mJointDef;
 
 	// --------------------------------------
 	// Constructor
@@ -36,21 +41,38 @@ public class Box2dWeldInstance extends Box2dJointInstance {
 	// Method
 	// --------------------------------------
 
-	public void createWeldJoint(World pWorld, Body pBodyA, Body pBodyB, Vec2 pLocalAnchorA, Vec2 pLocalAnchorB, float pRefAngle) {
-		final var lWeldJointDef = new WeldJointDef();
+	@Override
+	public void createJoint(World pWorld, Body pBodyA, Body pBodyB) {
+		if (mJointDef == null)
+			mJointDef = new WeldJointDef();
 
 		mWorld = pWorld;
-		lWeldJointDef.bodyA = pBodyA;
-		lWeldJointDef.bodyB = pBodyB;
+		mJointDef.bodyA = pBodyA;
+		mJointDef.bodyB = pBodyB;
+
+		mJointDef.referenceAngle = referenceAngle;
+		mJointDef.frequencyHz = frequencyHz;
+		mJointDef.dampingRatio = dampingRatio;
+
+		mJointDef.localAnchorA.set(localAnchorA);
+		mJointDef.localAnchorB.set(localAnchorB);
 
-		lWeldJointDef.referenceAngle = pRefAngle;
+		mJointDef.collideConnected = collidesConnected;
 
-		lWeldJointDef.localAnchorA.set(pLocalAnchorA);
-		lWeldJointDef.localAnchorB.set(pLocalAnchorB);
+		joint = pWorld.createJoint(mJointDef);
 
-		lWeldJointDef.collideConnected = true;
+		mJointDef.bodyA = null;
+		mJointDef.bodyB = null;
+
+	}
+
+	/** Sets the anchors and reference angle of this instance, and creates the joint with them (see {@link #createJoint(World, Body, Body)}). */
+	public void createWeldJoint(World pWorld, Body pBodyA, Body pBodyB, Vec2 pLocalAnchorA, Vec2 pLocalAnchorB, float pRefAngle) {
+		localAnchorA.set(pLocalAnchorA);
+		localAnchorB.set(pLocalAnchorB);
+		referenceAngle = pRefAngle;
 
-		joint = pWorld.createJoint(lWeldJointDef);
+		createJoint(pWorld, pBodyA, pBodyB);
 
 	}
 
@@ -72,6 +94,7 @@ public class Box2dWeldInstance extends Box2dJointInstance {
 
 		mWorld.destroyJoint(joint);
 		mWorld = null;
+		joint = null;
 
 	}
 
@@ -83,9 +106,11 @@ public class Box2dWeldInstance extends Box2dJointInstance {
 
 		}
 
-		RevoluteJoint lRevJoint = (RevoluteJoint) joint;
+		WeldJoint lWeldJoint = (WeldJoint) joint;
 
-		referenceAngle = lRevJoint.getReferenceAngle();
+		referenceAngle = lWeldJoint.getReferenceAngle();
+		frequencyHz = lWeldJoint.getFrequency();
+		dampingRatio = lWeldJoint.getDampingRatio();
 
 	}
 
@@ -99,6 +124,7 @@ public class Box2dWeldInstance extends Box2dJointInstance {
 
 		mWorld.destroyJoint(joint);
 		mWorld = null;
+		joint = null;
 
 	}
 
@@ -0,0 +1,45 @@
+package net.lintford.library.core.box2d.pools;
+
+import net.lintford.library.core.box2d.instance.Box2dPrismaticInstance;
+import net.lintford.library.core.entity.instances.PoolInstanceManager;
+
+public class Box2dPrismaticJointInstanceRepository extends PoolInstanceManager<Box2dPrismaticInstance> {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final long serialVersionUID = -2964412378906118351L;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private int mPoolUidCounter;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	private int getNewPoolUid() {
+		return mPoolUidCounter++;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public Box2dPrismaticJointInstanceRepository() {
+		mPoolUidCounter = 0;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	@Override
+	protected Box2dPrismaticInstance createPoolObjectInstance() {
+		return new Box2dPrismaticInstance(getNewPoolUid());
+	}
+
+}
@@ -1,82 +1,179 @@
 package net.lintford.library.core.collisions;
 
 import net.lintford.library.core.geometry.Circle;
+import net.lintford.library.core.geometry.Rectangle;
 import net.lintford.library.core.geometry.Shape;
 import net.lintford.library.core.maths.Vector2f;
 
+/**
+ * Separating axis tests between {@link Shape}s. The tests keep all of their state in a {@link SATContext}, which also receives the contact normal, penetration depth and minimum translation vector, so
+ * they can be run from several threads at once (each with its own context), as long as the shapes aren't modified at the same time.
+ */
 public class SAT {
 
-	private static Vector2f mTempVector2f0 = new Vector2f();
-	private static Vector2f mTempVector2f1 = new Vector2f();
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
 
-	private static Vector2f[] mTempAxes0 = new Vector2f[] { new Vector2f(0, 0), new Vector2f(0, 0) };
-	private static Vector2f[] mTempAxes1 = new Vector2f[] { new Vector2f(0, 0), new Vector2f(0, 0) };
+	private static final ThreadLocal<SATContext> sContexts = ThreadLocal.withInitial(SATContext::new);
 
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Returns true if the two shapes intersect. Uses a context per thread, see {@link #intersects(Shape, Shape, SATContext)} to also get the contact information. */
 	public static boolean intersects(Shape pShape0, Shape pShape1) {
-		if (pShape0 == null || pShape1 == null)
-			return false;
+		return intersects(pShape0, pShape1, sContexts.get());
+
+	}
+
+	/**
+	 * Returns true if the two shapes intersect (touching counts as intersecting). The context receives the result: the contact normal points from pShape0 towards pShape1, and moving pShape1 by the minimum
+	 * translation vector separates the shapes.
+	 */
+	public static boolean intersects(Shape pShape0, Shape pShape1, SATContext pContext) {
+		pContext.reset();
 
-		Vector2f[] axes0 = pShape0.getAxes();
-		Vector2f[] axes1 = pShape1.getAxes();
+		if (pShape0 == null || pShape1 == null) {
+			pContext.setSeparated();
+			return false;
 
-		if (axes0 == null && pShape0 instanceof Circle) {
-			axes0 = mTempAxes0;
-			mTempVector2f0 = ((Circle) pShape0).getNearestVertex(pShape1, mTempVector2f0);
-			axes0[0].x = mTempVector2f0.x;
-			axes0[0].y = mTempVector2f0.y;
 		}
 
-		if (axes1 == null && pShape1 instanceof Circle) {
-			axes1 = mTempAxes1;
-			mTempVector2f0 = ((Circle) pShape1).getNearestVertex(pShape0, mTempVector2f0);
-			axes1[0].x = mTempVector2f0.x;
-			axes1[0].y = mTempVector2f0.y;
+		pContext.loadShape(0, pShape0);
+		pContext.loadShape(1, pShape1);
+
+		if (!testAxes(pShape0, pShape1, 0, pContext) || !testAxes(pShape1, pShape0, 1, pContext)) {
+			pContext.setSeparated();
+			return false;
+
 		}
 
-		// loop over the axes0
-		if (axes0 != null) {
-			for (int i = 0; i < axes0.length; i++) {
-				Vector2f axis = axes0[i];
+		pContext.setIntersecting();
+		return true;
+
+	}
+
+	public static boolean overlaps(Vector2f p1, Vector2f p2) {
+		return !(p1.x > p2.y || p2.x > p1.y);
+
+	}
 
-				// project both shapes onto the axis
-				mTempVector2f0 = pShape0.project(axis, mTempVector2f0);
-				mTempVector2f1 = pShape1.project(axis, mTempVector2f1);
+	/** Tests the axes contributed by pShape (the shape loaded at pIndex in the context). Returns false as soon as a separating axis is found. */
+	private static boolean testAxes(Shape pShape, Shape pOtherShape, int pIndex, SATContext pContext) {
+		final float[] lVertices = pIndex == 0 ? pContext.mVertices0 : pContext.mVertices1;
+		final int lNumVertices = pIndex == 0 ? pContext.mNumVertices0 : pContext.mNumVertices1;
+
+		if (pShape instanceof Circle) {
+			// A circle has infinite axes, so only the one towards the nearest vertex of the other shape is tested
+			final float lCenterX = pShape.centerX();
+			final float lCenterY = pShape.centerY();
+
+			final float[] lOtherVertices = pIndex == 0 ? pContext.mVertices1 : pContext.mVertices0;
+			final int lOtherNumVertices = pIndex == 0 ? pContext.mNumVertices1 : pContext.mNumVertices0;
+			if (lOtherNumVertices == 0)
+				return testAxis(pOtherShape.centerX() - lCenterX, pOtherShape.centerY() - lCenterY, pContext);
+
+			float lNearestX = 0.f;
+			float lNearestY = 0.f;
+			float lNearestDistance = Float.MAX_VALUE;
+			for (int i = 0; i < lOtherNumVertices; i++) {
+				final float lDX = lOtherVertices[i * 2 + 0] - lCenterX;
+				final float lDY = lOtherVertices[i * 2 + 1] - lCenterY;
+				final float lDistance = lDX * lDX + lDY * lDY;
+				if (lDistance < lNearestDistance) {
+					lNearestDistance = lDistance;
+					lNearestX = lDX;
+					lNearestY = lDY;
 
-				// do the projections overlap?
-				if (!overlaps(mTempVector2f0, mTempVector2f1)) {
-					// then we can guarantee that the shapes do not overlap
-					return false;
 				}
+
 			}
 
+			return testAxis(lNearestX, lNearestY, pContext);
+
 		}
 
-		// loop over the axes1
-		if (axes1 != null) {
-			for (int i = 0; i < axes1.length; i++) {
-				Vector2f axis = axes1[i];
+		if (pShape instanceof Rectangle) {
+			// The vertices of a rectangle are stored as (tl, tr, bl, br), so the normals of the top and left edges are its only two axes
+			if (lNumVertices < 3)
+				return true;
 
-				// project both shapes onto the axis
-				mTempVector2f0 = pShape0.project(axis, mTempVector2f0);
-				mTempVector2f1 = pShape1.project(axis, mTempVector2f1);
+			return testAxis(lVertices[1] - lVertices[3], -(lVertices[0] - lVertices[2]), pContext) && testAxis(lVertices[1] - lVertices[5], -(lVertices[0] - lVertices[4]), pContext);
 
-				// do the projections overlap?
-				if (!overlaps(mTempVector2f0, mTempVector2f1)) {
-					// then we can guarantee that the shapes do not overlap
-					return false;
-				}
-			}
+		}
+
+		// The normal of each edge of a polygon
+		for (int i = 0; i < lNumVertices; i++) {
+			final int lNext = i < lNumVertices - 1 ? i + 1 : 0;
+			final float lAxisX = lVertices[i * 2 + 1] - lVertices[lNext * 2 + 1];
+			final float lAxisY = -(lVertices[i * 2 + 0] - lVertices[lNext * 2 + 0]);
+
+			if (!testAxis(lAxisX, lAxisY, pContext))
+				return false;
 
 		}
 
-		// If we can get here then we know that every axis had overlap on it
-		// so we can guarantee an intersection.
 		return true;
 
 	}
 
-	public static boolean overlaps(Vector2f p1, Vector2f p2) {
-		return !(p1.x > p2.y || p2.x > p1.y);
+	/** Projects both shapes onto the (unnormalized) axis. Returns false if the projections don't overlap, otherwise offers the overlap to the context as the potential contact normal. */
+	private static boolean testAxis(float pAxisX, float pAxisY, SATContext pContext) {
+		final float lLength = (float) Math.sqrt(pAxisX * pAxisX + pAxisY * pAxisY);
+		if (lLength == 0.f)
+			return true;
+
+		final float lAxisX = pAxisX / lLength;
+		final float lAxisY = pAxisY / lLength;
+
+		project(pContext.mVertices0, pContext.mNumVertices0, pContext.mCenterX0, pContext.mCenterY0, pContext.mRadius0, lAxisX, lAxisY, pContext);
+		final float lMin0 = pContext.mProjectionMin;
+		final float lMax0 = pContext.mProjectionMax;
+
+		project(pContext.mVertices1, pContext.mNumVertices1, pContext.mCenterX1, pContext.mCenterY1, pContext.mRadius1, lAxisX, lAxisY, pContext);
+		final float lMin1 = pContext.mProjectionMin;
+		final float lMax1 = pContext.mProjectionMax;
+
+		if (lMin0 > lMax1 || lMin1 > lMax0)
+			return false;
+
+		// The distances shape 1 would have to move along the axis (forwards or backwards) to separate. Taking the shorter one also handles one projection containing the other
+		final float lForwardOverlap = lMax0 - lMin1;
+		final float lBackwardOverlap = lMax1 - lMin0;
+
+		if (lForwardOverlap <= lBackwardOverlap)
+			pContext.submitAxis(lAxisX, lAxisY, lForwardOverlap);
+		else
+			pContext.submitAxis(-lAxisX, -lAxisY, lBackwardOverlap);
+
+		return true;
+
+	}
+
+	/** Projects a loaded shape onto the unit axis. A shape without vertices is a circle, which is projected from its center and radius. */
+	private static void project(float[] pVertices, int pNumVertices, float pCenterX, float pCenterY, float pRadius, float pAxisX, float pAxisY, SATContext pContext) {
+		if (pNumVertices == 0) {
+			final float lCenter = pCenterX * pAxisX + pCenterY * pAxisY;
+			pContext.mProjectionMin = lCenter - pRadius;
+			pContext.mProjectionMax = lCenter + pRadius;
+			return;
+
+		}
+
+		float lMin = pVertices[0] * pAxisX + pVertices[1] * pAxisY;
+		float lMax = lMin;
+		for (int i = 1; i < pNumVertices; i++) {
+			final float p = pVertices[i * 2 + 0] * pAxisX + pVertices[i * 2 + 1] * pAxisY;
+			if (p < lMin)
+				lMin = p;
+			else if (p > lMax)
+				lMax = p;
+
+		}
+
+		pContext.mProjectionMin = lMin;
+		pContext.mProjectionMax = lMax;
 
 	}
 
@@ -0,0 +1,176 @@
+package net.lintford.library.core.collisions;
+
+import java.util.Arrays;
+
+import net.lintford.library.core.geometry.Circle;
+import net.lintford.library.core.geometry.Rectangle;
+import net.lintford.library.core.geometry.Shape;
+
+/**
+ * The scratch space and the result of a {@link SAT#intersects(Shape, Shape, SATContext)} test. The context is owned by the caller, so that tests on different threads don't share any state. A context must
+ * only be used by one thread at a time (give each worker thread its own), and is reused between tests without allocating.
+ */
+public class SATContext {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final int INITIAL_VERTEX_CAPACITY = 16;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	// The vertices of the two shapes under test (x0, y0, x1, y1, ...), or for circles their centers and radii
+	float[] mVertices0 = new float[INITIAL_VERTEX_CAPACITY * 2];
+	float[] mVertices1 = new float[INITIAL_VERTEX_CAPACITY * 2];
+	int mNumVertices0;
+	int mNumVertices1;
+	float mCenterX0, mCenterY0;
+	float mCenterX1, mCenterY1;
+	float mRadius0, mRadius1;
+
+	// The projection of a shape onto the current axis
+	float mProjectionMin;
+	float mProjectionMax;
+
+	private boolean mIntersects;
+	private float mNormalX;
+	private float mNormalY;
+	private float mDepth;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** Returns the result of the last test. */
+	public boolean intersects() {
+		return mIntersects;
+	}
+
+	/** The x component of the unit contact normal, which points from the first shape towards the second shape. */
+	public float normalX() {
+		return mNormalX;
+	}
+
+	/** The y component of the unit contact normal, which points from the first shape towards the second shape. */
+	public float normalY() {
+		return mNormalY;
+	}
+
+	/** The penetration depth along the contact normal. Zero if the shapes don't intersect. */
+	public float depth() {
+		return mDepth;
+	}
+
+	/** The x component of the minimum translation vector, which moves the second shape out of the first (or the first shape out of the second, when negated). */
+	public float mtvX() {
+		return mNormalX * mDepth;
+	}
+
+	/** The y component of the minimum translation vector, which moves the second shape out of the first (or the first shape out of the second, when negated). */
+	public float mtvY() {
+		return mNormalY * mDepth;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	void reset() {
+		mIntersects = false;
+		mNormalX = 0.f;
+		mNormalY = 0.f;
+		mDepth = Float.MAX_VALUE;
+
+	}
+
+	/** Keeps the axis (pointing in the direction the second shape has to move), if it has less overlap than all of the axes tested so far. */
+	void submitAxis(float pAxisX, float pAxisY, float pOverlap) {
+		if (pOverlap < mDepth) {
+			mDepth = pOverlap;
+			mNormalX = pAxisX;
+			mNormalY = pAxisY;
+
+		}
+
+	}
+
+	/** Finishes a test which found no separating axis. The normal of the axis with the least overlap already points in the direction the second shape has to move. */
+	void setIntersecting() {
+		if (mDepth == Float.MAX_VALUE) {
+			// No axis could be tested (e.g. two circles with the same center), so push the shapes apart along an arbitrary axis
+			mDepth = mRadius0 + mRadius1;
+			mNormalX = 1.f;
+			mNormalY = 0.f;
+
+		}
+
+		mIntersects = true;
+
+	}
+
+	void setSeparated() {
+		mIntersects = false;
+		mNormalX = 0.f;
+		mNormalY = 0.f;
+		mDepth = 0.f;
+
+	}
+
+	/** Copies the vertices of the shape into the scratch space of the first (pIndex = 0) or second shape. Circles have no vertices, only a center and radius. */
+	void loadShape(int pIndex, Shape pShape) {
+		float[] lVertices = pIndex == 0 ? mVertices0 : mVertices1;
+		int lNumVertices = 0;
+		float lCenterX = 0.f;
+		float lCenterY = 0.f;
+		float lRadius = 0.f;
+
+		if (pShape instanceof Circle) {
+			lCenterX = pShape.centerX();
+			lCenterY = pShape.centerY();
+			lRadius = pShape.radius;
+
+		} else if (pShape instanceof Rectangle) {
+			lNumVertices = pShape.fillVertices(lVertices);
+
+		} else {
+			final var lShapeVertices = pShape.getVertices();
+			final int lNumShapeVertices = lShapeVertices.size();
+			if (lVertices.length < lNumShapeVertices * 2)
+				lVertices = Arrays.copyOf(lVertices, lNumShapeVertices * 2);
+
+			// Polygons can hold null vertices, which are skipped
+			for (int i = 0; i < lNumShapeVertices; i++) {
+				final var lVertex = lShapeVertices.get(i);
+				if (lVertex == null)
+					continue;
+
+				lVertices[lNumVertices * 2 + 0] = lVertex.x;
+				lVertices[lNumVertices * 2 + 1] = lVertex.y;
+				lNumVertices++;
+
+			}
+
+		}
+
+		if (pIndex == 0) {
+			mVertices0 = lVertices;
+			mNumVertices0 = lNumVertices;
+			mCenterX0 = lCenterX;
+			mCenterY0 = lCenterY;
+			mRadius0 = lRadius;
+
+		} else {
+			mVertices1 = lVertices;
+			mNumVertices1 = lNumVertices;
+			mCenterX1 = lCenterX;
+			mCenterY1 = lCenterY;
+			mRadius1 = lRadius;
+
+		}
+
+	}
+
+}
@@ -0,0 +1,235 @@
+package net.lintford.library.core.collisions.broadphase;
+
+import java.util.Arrays;
+
+import net.lintford.library.core.collisions.SAT;
+import net.lintford.library.core.collisions.SATContext;
+import net.lintford.library.core.geometry.Shape;
+
+/**
+ * The base of the broad-phase collision structures. Shapes are inserted as proxies, and the broad-phase keeps track of their axis-aligned bounding boxes, so that only the pairs of shapes whose bounding
+ * boxes overlap need to be passed to the {@link SAT} (the narrow-phase). After a shape has been moved, rotated or resized, {@link #move(int)} needs to be called with its proxy id, so that the broad-phase
+ * can pick up the new bounds.
+ * <p>
+ * The broad-phase isn't thread-safe, and neither is the {@link SAT} used by {@link #queryIntersectingPairs(ProxyPairList)}.
+ */
+public abstract class BroadPhase {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NULL_PROXY = -1;
+
+	/** The initial capacity of the per-proxy arrays, which the implementations should use for their own per-proxy data. */
+	protected static final int INITIAL_PROXY_CAPACITY = 256;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private Shape[] mShapes = new Shape[INITIAL_PROXY_CAPACITY];
+	private Object[] mUserData = new Object[INITIAL_PROXY_CAPACITY];
+
+	/** The bounding boxes of the proxies, stored as (minX, minY, maxX, maxY) at (proxy id * 4). */
+	protected float[] mAABBs = new float[INITIAL_PROXY_CAPACITY * 4];
+
+	private int[] mFreeProxyIds = new int[INITIAL_PROXY_CAPACITY];
+	private int mFreeProxyCount;
+	private int mProxyIdCounter;
+	private int mProxyCount;
+
+	private final ProxyPairList mCandidatePairs = new ProxyPairList();
+	private final SATContext mSatContext = new SATContext();
+	private final float[] mTempAABB = new float[4];
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int proxyCount() {
+		return mProxyCount;
+	}
+
+	/** Returns an upper bound of the proxy ids which are currently in use (all ids are smaller than this). */
+	public int proxyIdCapacity() {
+		return mProxyIdCounter;
+	}
+
+	public boolean isProxyAlive(int pProxyId) {
+		return pProxyId >= 0 && pProxyId < mProxyIdCounter && mShapes[pProxyId] != null;
+	}
+
+	public Shape shape(int pProxyId) {
+		return mShapes[pProxyId];
+	}
+
+	public Object userData(int pProxyId) {
+		return mUserData[pProxyId];
+	}
+
+	public float minX(int pProxyId) {
+		return mAABBs[pProxyId * 4];
+	}
+
+	public float minY(int pProxyId) {
+		return mAABBs[pProxyId * 4 + 1];
+	}
+
+	public float maxX(int pProxyId) {
+		return mAABBs[pProxyId * 4 + 2];
+	}
+
+	public float maxY(int pProxyId) {
+		return mAABBs[pProxyId * 4 + 3];
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/** Adds the given shape to the broad-phase, and returns the id of its proxy. The user data can be used to map the proxy back to the entity the shape belongs to. */
+	public int insert(Shape pShape, Object pUserData) {
+		if (pShape == null)
+			throw new IllegalArgumentException("Cannot insert a null Shape into the BroadPhase");
+
+		final int lProxyId = allocateProxyId();
+		mShapes[lProxyId] = pShape;
+		mUserData[lProxyId] = pUserData;
+		mProxyCount++;
+
+		updateAABB(lProxyId);
+		onProxyInserted(lProxyId);
+
+		return lProxyId;
+
+	}
+
+	public int insert(Shape pShape) {
+		return insert(pShape, null);
+
+	}
+
+	/** Updates the bounds of the given proxy from its shape. This needs to be called whenever the shape has been moved, rotated or resized. */
+	public void move(int pProxyId) {
+		if (!isProxyAlive(pProxyId))
+			return;
+
+		updateAABB(pProxyId);
+		onProxyMoved(pProxyId);
+
+	}
+
+	public void remove(int pProxyId) {
+		if (!isProxyAlive(pProxyId))
+			return;
+
+		onProxyRemoved(pProxyId);
+
+		mShapes[pProxyId] = null;
+		mUserData[pProxyId] = null;
+		mProxyCount--;
+
+		mFreeProxyIds[mFreeProxyCount++] = pProxyId;
+
+	}
+
+	/** Removes all proxies from the broad-phase. */
+	public void clear() {
+		Arrays.fill(mShapes, 0, mProxyIdCounter, null);
+		Arrays.fill(mUserData, 0, mProxyIdCounter, null);
+
+		mProxyIdCounter = 0;
+		mProxyCount = 0;
+		mFreeProxyCount = 0;
+
+		onCleared();
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Adds the ids of all proxies whose bounds overlap the given region to the list of results. The list isn't cleared beforehand. */
+	public abstract void queryRegion(float pMinX, float pMinY, float pMaxX, float pMaxY, ProxyList pResults);
+
+	/** Adds every pair of proxies whose bounds overlap to the given list, exactly once per pair. The list isn't cleared beforehand. */
+	public abstract void queryPairs(ProxyPairList pResults);
+
+	/** Adds every pair of proxies whose shapes intersect to the given list. The candidate pairs of the broad-phase are narrowed down by the {@link SAT}. The list isn't cleared beforehand. */
+	public void queryIntersectingPairs(ProxyPairList pResults) {
+		mCandidatePairs.clear();
+		queryPairs(mCandidatePairs);
+
+		final int lPairCount = mCandidatePairs.pairCount();
+		for (int i = 0; i < lPairCount; i++) {
+			final int lProxyA = mCandidatePairs.proxyA(i);
+			final int lProxyB = mCandidatePairs.proxyB(i);
+
+			if (SAT.intersects(mShapes[lProxyA], mShapes[lProxyB], mSatContext))
+				pResults.add(lProxyA, lProxyB);
+
+		}
+
+	}
+
+	/** Returns true if the bounds of the two proxies overlap. */
+	public boolean overlaps(int pProxyIdA, int pProxyIdB) {
+		final int a = pProxyIdA * 4;
+		final int b = pProxyIdB * 4;
+
+		return mAABBs[a] <= mAABBs[b + 2] && mAABBs[b] <= mAABBs[a + 2] && mAABBs[a + 1] <= mAABBs[b + 3] && mAABBs[b + 1] <= mAABBs[a + 3];
+
+	}
+
+	/** Returns true if the bounds of the proxy overlap the given region. */
+	public boolean overlaps(int pProxyId, float pMinX, float pMinY, float pMaxX, float pMaxY) {
+		final int a = pProxyId * 4;
+
+		return mAABBs[a] <= pMaxX && pMinX <= mAABBs[a + 2] && mAABBs[a + 1] <= pMaxY && pMinY <= mAABBs[a + 3];
+
+	}
+
+	/** Called after a proxy has been added, once its bounds are known. */
+	protected abstract void onProxyInserted(int pProxyId);
+
+	/** Called after the bounds of a proxy have been updated. */
+	protected abstract void onProxyMoved(int pProxyId);
+
+	/** Called before a proxy is removed (its shape and bounds are still valid). */
+	protected abstract void onProxyRemoved(int pProxyId);
+
+	protected abstract void onCleared();
+
+	/** Called when the proxy id capacity grows, so that the implementations can grow their per-proxy data as well. */
+	protected abstract void onProxyCapacityChanged(int pNewCapacity);
+
+	private void updateAABB(int pProxyId) {
+		final var lAABB = mTempAABB;
+		mShapes[pProxyId].fillAABB(lAABB);
+		System.arraycopy(lAABB, 0, mAABBs, pProxyId * 4, 4);
+
+	}
+
+	private int allocateProxyId() {
+		if (mFreeProxyCount > 0)
+			return mFreeProxyIds[--mFreeProxyCount];
+
+		if (mProxyIdCounter == mShapes.length) {
+			final int lNewCapacity = mShapes.length * 2;
+
+			mShapes = Arrays.copyOf(mShapes, lNewCapacity);
+			mUserData = Arrays.copyOf(mUserData, lNewCapacity);
+			mAABBs = Arrays.copyOf(mAABBs, lNewCapacity * 4);
+			mFreeProxyIds = Arrays.copyOf(mFreeProxyIds, lNewCapacity);
+
+			onProxyCapacityChanged(lNewCapacity);
+
+		}
+
+		return mProxyIdCounter++;
+
+	}
+
+}
@@ -0,0 +1,551 @@
+package net.lintford.library.core.collisions.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * A {@link BroadPhase} which keeps the proxies in a balanced bounding volume hierarchy (as in the dynamic tree of Box2D). The leaves of the tree hold 'fat' bounds, which are enlarged by a margin, so
+ * that a proxy moving by small amounts doesn't need to be re-inserted into the tree. Unlike the {@link SpatialHashGrid}, the tree doesn't need to be tuned to the size of the shapes, which makes it the
+ * better choice for shapes of very different sizes, or for scenes with many static shapes.
+ */
+public class DynamicAABBTree extends BroadPhase {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final float DEFAULT_AABB_MARGIN = 4.f;
+
+	private static final int NULL_NODE = -1;
+	private static final int INITIAL_NODE_CAPACITY = 512;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final float mAABBMargin;
+
+	private int mRoot = NULL_NODE;
+
+	// The (fat) bounds of the nodes, stored as (minX, minY, maxX, maxY) at (node index * 4)
+	private float[] mNodeAABBs = new float[INITIAL_NODE_CAPACITY * 4];
+	private int[] mNodeParents = new int[INITIAL_NODE_CAPACITY];
+	private int[] mNodeChild1 = new int[INITIAL_NODE_CAPACITY];
+	private int[] mNodeChild2 = new int[INITIAL_NODE_CAPACITY];
+	private int[] mNodeHeights = new int[INITIAL_NODE_CAPACITY];
+	private int[] mNodeProxyIds = new int[INITIAL_NODE_CAPACITY];
+	private int mNodeFreeHead = NULL_NODE;
+	private int mNodeCounter;
+	private int mNodeCount;
+
+	private int[] mProxyLeaves = new int[INITIAL_PROXY_CAPACITY];
+
+	private int[] mStack = new int[256];
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public float aabbMargin() {
+		return mAABBMargin;
+	}
+
+	public int nodeCount() {
+		return mNodeCount;
+	}
+
+	/** Returns the height of the tree (0 if the tree is empty or only holds a single leaf). */
+	public int height() {
+		return mRoot == NULL_NODE ? 0 : mNodeHeights[mRoot];
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public DynamicAABBTree() {
+		this(DEFAULT_AABB_MARGIN);
+
+	}
+
+	/** @param pAABBMargin The amount by which the bounds of the leaves are enlarged on each side. */
+	public DynamicAABBTree(float pAABBMargin) {
+		mAABBMargin = Math.max(0.f, pAABBMargin);
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	@Override
+	public void queryRegion(float pMinX, float pMinY, float pMaxX, float pMaxY, ProxyList pResults) {
+		if (mRoot == NULL_NODE)
+			return;
+
+		int lStackSize = 0;
+		mStack[lStackSize++] = mRoot;
+
+		while (lStackSize > 0) {
+			final int lNode = mStack[--lStackSize];
+			final int n = lNode * 4;
+			if (mNodeAABBs[n] > pMaxX || pMinX > mNodeAABBs[n + 2] || mNodeAABBs[n + 1] > pMaxY || pMinY > mNodeAABBs[n + 3])
+				continue;
+
+			if (isLeaf(lNode)) {
+				final int lProxyId = mNodeProxyIds[lNode];
+				if (overlaps(lProxyId, pMinX, pMinY, pMaxX, pMaxY))
+					pResults.add(lProxyId);
+
+				continue;
+
+			}
+
+			lStackSize = push(lStackSize, mNodeChild1[lNode]);
+			lStackSize = push(lStackSize, mNodeChild2[lNode]);
+
+		}
+
+	}
+
+	@Override
+	public void queryPairs(ProxyPairList pResults) {
+		if (mRoot == NULL_NODE)
+			return;
+
+		// Traverse the tree against itself. The stack holds pairs of nodes, and a pair of the same node stands for all the pairs within that subtree
+		int lStackSize = 0;
+		lStackSize = push(lStackSize, mRoot);
+		lStackSize = push(lStackSize, mRoot);
+
+		while (lStackSize > 0) {
+			final int lNodeB = mStack[--lStackSize];
+			final int lNodeA = mStack[--lStackSize];
+
+			if (lNodeA == lNodeB) {
+				if (isLeaf(lNodeA))
+					continue;
+
+				final int lChild1 = mNodeChild1[lNodeA];
+				final int lChild2 = mNodeChild2[lNodeA];
+
+				lStackSize = push(lStackSize, lChild1);
+				lStackSize = push(lStackSize, lChild1);
+				lStackSize = push(lStackSize, lChild2);
+				lStackSize = push(lStackSize, lChild2);
+				lStackSize = push(lStackSize, lChild1);
+				lStackSize = push(lStackSize, lChild2);
+				continue;
+
+			}
+
+			if (!nodesOverlap(lNodeA, lNodeB))
+				continue;
+
+			final boolean lIsLeafA = isLeaf(lNodeA);
+			final boolean lIsLeafB = isLeaf(lNodeB);
+
+			if (lIsLeafA && lIsLeafB) {
+				final int lProxyA = mNodeProxyIds[lNodeA];
+				final int lProxyB = mNodeProxyIds[lNodeB];
+				if (overlaps(lProxyA, lProxyB))
+					pResults.add(lProxyA, lProxyB);
+
+			} else if (lIsLeafB || (!lIsLeafA && mNodeHeights[lNodeA] >= mNodeHeights[lNodeB])) {
+				// Descend into the larger subtree
+				lStackSize = push(lStackSize, mNodeChild1[lNodeA]);
+				lStackSize = push(lStackSize, lNodeB);
+				lStackSize = push(lStackSize, mNodeChild2[lNodeA]);
+				lStackSize = push(lStackSize, lNodeB);
+
+			} else {
+				lStackSize = push(lStackSize, lNodeA);
+				lStackSize = push(lStackSize, mNodeChild1[lNodeB]);
+				lStackSize = push(lStackSize, lNodeA);
+				lStackSize = push(lStackSize, mNodeChild2[lNodeB]);
+
+			}
+
+		}
+
+	}
+
+	@Override
+	protected void onProxyInserted(int pProxyId) {
+		final int lLeaf = allocateNode();
+		mNodeProxyIds[lLeaf] = pProxyId;
+		mNodeHeights[lLeaf] = 0;
+		setFatAABB(lLeaf, pProxyId);
+
+		mProxyLeaves[pProxyId] = lLeaf;
+		insertLeaf(lLeaf);
+
+	}
+
+	@Override
+	protected void onProxyMoved(int pProxyId) {
+		final int lLeaf = mProxyLeaves[pProxyId];
+		final int n = lLeaf * 4;
+
+		// The leaf only needs to be re-inserted once the shape has left the fat bounds
+		if (mNodeAABBs[n] <= minX(pProxyId) && mNodeAABBs[n + 1] <= minY(pProxyId) && maxX(pProxyId) <= mNodeAABBs[n + 2] && maxY(pProxyId) <= mNodeAABBs[n + 3])
+			return;
+
+		removeLeaf(lLeaf);
+		setFatAABB(lLeaf, pProxyId);
+		insertLeaf(lLeaf);
+
+	}
+
+	@Override
+	protected void onProxyRemoved(int pProxyId) {
+		final int lLeaf = mProxyLeaves[pProxyId];
+
+		removeLeaf(lLeaf);
+		freeNode(lLeaf);
+
+		mProxyLeaves[pProxyId] = NULL_NODE;
+
+	}
+
+	@Override
+	protected void onCleared() {
+		mRoot = NULL_NODE;
+		mNodeFreeHead = NULL_NODE;
+		mNodeCounter = 0;
+		mNodeCount = 0;
+
+	}
+
+	@Override
+	protected void onProxyCapacityChanged(int pNewCapacity) {
+		mProxyLeaves = Arrays.copyOf(mProxyLeaves, pNewCapacity);
+
+	}
+
+	private void insertLeaf(int pLeaf) {
+		if (mRoot == NULL_NODE) {
+			mRoot = pLeaf;
+			mNodeParents[mRoot] = NULL_NODE;
+			return;
+
+		}
+
+		// Find the best sibling for the new leaf, by descending into the child which causes the smallest increase in perimeter
+		final int l = pLeaf * 4;
+		int lIndex = mRoot;
+		while (!isLeaf(lIndex)) {
+			final int lChild1 = mNodeChild1[lIndex];
+			final int lChild2 = mNodeChild2[lIndex];
+
+			final float lPerimeter = perimeter(lIndex);
+			final float lCombinedPerimeter = combinedPerimeter(lIndex, l);
+
+			// The cost of creating a new parent for this node and the new leaf
+			final float lCost = 2.f * lCombinedPerimeter;
+
+			// The minimum cost of pushing the leaf further down the tree
+			final float lInheritanceCost = 2.f * (lCombinedPerimeter - lPerimeter);
+
+			final float lCost1 = descendCost(lChild1, l) + lInheritanceCost;
+			final float lCost2 = descendCost(lChild2, l) + lInheritanceCost;
+
+			if (lCost < lCost1 && lCost < lCost2)
+				break;
+
+			lIndex = lCost1 < lCost2 ? lChild1 : lChild2;
+
+		}
+
+		final int lSibling = lIndex;
+
+		// Create a new parent for the sibling and the leaf
+		final int lOldParent = mNodeParents[lSibling];
+		final int lNewParent = allocateNode();
+		mNodeParents[lNewParent] = lOldParent;
+		mNodeProxyIds[lNewParent] = NULL_PROXY;
+		combineAABBs(lNewParent, pLeaf, lSibling);
+		mNodeHeights[lNewParent] = mNodeHeights[lSibling] + 1;
+
+		if (lOldParent != NULL_NODE) {
+			if (mNodeChild1[lOldParent] == lSibling)
+				mNodeChild1[lOldParent] = lNewParent;
+			else
+				mNodeChild2[lOldParent] = lNewParent;
+
+		} else {
+			mRoot = lNewParent;
+
+		}
+
+		mNodeChild1[lNewParent] = lSibling;
+		mNodeChild2[lNewParent] = pLeaf;
+		mNodeParents[lSibling] = lNewParent;
+		mNodeParents[pLeaf] = lNewParent;
+
+		refitAncestors(mNodeParents[pLeaf]);
+
+	}
+
+	private void removeLeaf(int pLeaf) {
+		if (pLeaf == mRoot) {
+			mRoot = NULL_NODE;
+			return;
+
+		}
+
+		final int lParent = mNodeParents[pLeaf];
+		final int lGrandParent = mNodeParents[lParent];
+		final int lSibling = mNodeChild1[lParent] == pLeaf ? mNodeChild2[lParent] : mNodeChild1[lParent];
+
+		if (lGrandParent != NULL_NODE) {
+			// Replace the parent with the sibling
+			if (mNodeChild1[lGrandParent] == lParent)
+				mNodeChild1[lGrandParent] = lSibling;
+			else
+				mNodeChild2[lGrandParent] = lSibling;
+
+			mNodeParents[lSibling] = lGrandParent;
+			freeNode(lParent);
+
+			refitAncestors(lGrandParent);
+
+		} else {
+			mRoot = lSibling;
+			mNodeParents[lSibling] = NULL_NODE;
+			freeNode(lParent);
+
+		}
+
+	}
+
+	/** Walks up the tree from the given node, re-balancing and updating the bounds and heights of each node. */
+	private void refitAncestors(int pNode) {
+		int lIndex = pNode;
+		while (lIndex != NULL_NODE) {
+			lIndex = balance(lIndex);
+
+			final int lChild1 = mNodeChild1[lIndex];
+			final int lChild2 = mNodeChild2[lIndex];
+
+			mNodeHeights[lIndex] = 1 + Math.max(mNodeHeights[lChild1], mNodeHeights[lChild2]);
+			combineAABBs(lIndex, lChild1, lChild2);
+
+			lIndex = mNodeParents[lIndex];
+
+		}
+
+	}
+
+	/** Performs a left or right rotation if node A is imbalanced. Returns the new root of the subtree. */
+	private int balance(int pNodeA) {
+		final int iA = pNodeA;
+		if (isLeaf(iA) || mNodeHeights[iA] < 2)
+			return iA;
+
+		final int iB = mNodeChild1[iA];
+		final int iC = mNodeChild2[iA];
+
+		final int lBalance = mNodeHeights[iC] - mNodeHeights[iB];
+
+		// Rotate C up
+		if (lBalance > 1) {
+			final int iF = mNodeChild1[iC];
+			final int iG = mNodeChild2[iC];
+
+			mNodeChild1[iC] = iA;
+			mNodeParents[iC] = mNodeParents[iA];
+			mNodeParents[iA] = iC;
+			replaceChild(mNodeParents[iC], iA, iC);
+
+			if (mNodeHeights[iF] > mNodeHeights[iG]) {
+				mNodeChild2[iC] = iF;
+				mNodeChild2[iA] = iG;
+				mNodeParents[iG] = iA;
+				combineAABBs(iA, iB, iG);
+				combineAABBs(iC, iA, iF);
+
+				mNodeHeights[iA] = 1 + Math.max(mNodeHeights[iB], mNodeHeights[iG]);
+				mNodeHeights[iC] = 1 + Math.max(mNodeHeights[iA], mNodeHeights[iF]);
+
+			} else {
+				mNodeChild2[iC] = iG;
+				mNodeChild2[iA] = iF;
+				mNodeParents[iF] = iA;
+				combineAABBs(iA, iB, iF);
+				combineAABBs(iC, iA, iG);
+
+				mNodeHeights[iA] = 1 + Math.max(mNodeHeights[iB], mNodeHeights[iF]);
+				mNodeHeights[iC] = 1 + Math.max(mNodeHeights[iA], mNodeHeights[iG]);
+
+			}
+
+			return iC;
+
+		}
+
+		// Rotate B up
+		if (lBalance < -1) {
+			final int iD = mNodeChild1[iB];
+			final int iE = mNodeChild2[iB];
+
+			mNodeChild1[iB] = iA;
+			mNodeParents[iB] = mNodeParents[iA];
+			mNodeParents[iA] = iB;
+			replaceChild(mNodeParents[iB], iA, iB);
+
+			if (mNodeHeights[iD] > mNodeHeights[iE]) {
+				mNodeChild2[iB] = iD;
+				mNodeChild1[iA] = iE;
+				mNodeParents[iE] = iA;
+				combineAABBs(iA, iC, iE);
+				combineAABBs(iB, iA, iD);
+
+				mNodeHeights[iA] = 1 + Math.max(mNodeHeights[iC], mNodeHeights[iE]);
+				mNodeHeights[iB] = 1 + Math.max(mNodeHeights[iA], mNodeHeights[iD]);
+
+			} else {
+				mNodeChild2[iB] = iE;
+				mNodeChild1[iA] = iD;
+				mNodeParents[iD] = iA;
+				combineAABBs(iA, iC, iD);
+				combineAABBs(iB, iA, iE);
+
+				mNodeHeights[iA] = 1 + Math.max(mNodeHeights[iC], mNodeHeights[iD]);
+				mNodeHeights[iB] = 1 + Math.max(mNodeHeights[iA], mNodeHeights[iE]);
+
+			}
+
+			return iB;
+
+		}
+
+		return iA;
+
+	}
+
+	private void replaceChild(int pParent, int pOldChild, int pNewChild) {
+		if (pParent == NULL_NODE) {
+			mRoot = pNewChild;
+			return;
+
+		}
+
+		if (mNodeChild1[pParent] == pOldChild)
+			mNodeChild1[pParent] = pNewChild;
+		else
+			mNodeChild2[pParent] = pNewChild;
+
+	}
+
+	private boolean isLeaf(int pNode) {
+		return mNodeChild1[pNode] == NULL_NODE;
+	}
+
+	private boolean nodesOverlap(int pNodeA, int pNodeB) {
+		final int a = pNodeA * 4;
+		final int b = pNodeB * 4;
+
+		return mNodeAABBs[a] <= mNodeAABBs[b + 2] && mNodeAABBs[b] <= mNodeAABBs[a + 2] && mNodeAABBs[a + 1] <= mNodeAABBs[b + 3] && mNodeAABBs[b + 1] <= mNodeAABBs[a + 3];
+
+	}
+
+	private void setFatAABB(int pLeaf, int pProxyId) {
+		final int n = pLeaf * 4;
+		mNodeAABBs[n] = minX(pProxyId) - mAABBMargin;
+		mNodeAABBs[n + 1] = minY(pProxyId) - mAABBMargin;
+		mNodeAABBs[n + 2] = maxX(pProxyId) + mAABBMargin;
+		mNodeAABBs[n + 3] = maxY(pProxyId) + mAABBMargin;
+
+	}
+
+	private void combineAABBs(int pDestNode, int pNodeA, int pNodeB) {
+		final int d = pDestNode * 4;
+		final int a = pNodeA * 4;
+		final int b = pNodeB * 4;
+
+		mNodeAABBs[d] = Math.min(mNodeAABBs[a], mNodeAABBs[b]);
+		mNodeAABBs[d + 1] = Math.min(mNodeAABBs[a + 1], mNodeAABBs[b + 1]);
+		mNodeAABBs[d + 2] = Math.max(mNodeAABBs[a + 2], mNodeAABBs[b + 2]);
+		mNodeAABBs[d + 3] = Math.max(mNodeAABBs[a + 3], mNodeAABBs[b + 3]);
+
+	}
+
+	private float perimeter(int pNode) {
+		final int n = pNode * 4;
+		return 2.f * ((mNodeAABBs[n + 2] - mNodeAABBs[n]) + (mNodeAABBs[n + 3] - mNodeAABBs[n + 1]));
+
+	}
+
+	/** Returns the perimeter of the bounds enclosing the given node and the bounds at the given offset into the node bounds array. */
+	private float combinedPerimeter(int pNode, int pAABBOffset) {
+		final int n = pNode * 4;
+		final float lWidth = Math.max(mNodeAABBs[n + 2], mNodeAABBs[pAABBOffset + 2]) - Math.min(mNodeAABBs[n], mNodeAABBs[pAABBOffset]);
+		final float lHeight = Math.max(mNodeAABBs[n + 3], mNodeAABBs[pAABBOffset + 3]) - Math.min(mNodeAABBs[n + 1], mNodeAABBs[pAABBOffset + 1]);
+
+		return 2.f * (lWidth + lHeight);
+
+	}
+
+	/** Returns the cost of inserting the leaf (with its bounds at the given offset) below the given child. */
+	private float descendCost(int pChild, int pLeafAABBOffset) {
+		if (isLeaf(pChild))
+			return combinedPerimeter(pChild, pLeafAABBOffset);
+
+		return combinedPerimeter(pChild, pLeafAABBOffset) - perimeter(pChild);
+
+	}
+
+	private int push(int pStackSize, int pNode) {
+		if (pStackSize == mStack.length)
+			mStack = Arrays.copyOf(mStack, mStack.length * 2);
+
+		mStack[pStackSize] = pNode;
+		return pStackSize + 1;
+
+	}
+
+	private int allocateNode() {
+		mNodeCount++;
+
+		int lNode;
+		if (mNodeFreeHead != NULL_NODE) {
+			lNode = mNodeFreeHead;
+			mNodeFreeHead = mNodeParents[lNode];
+
+		} else {
+			if (mNodeCounter == mNodeParents.length) {
+				final int lNewCapacity = mNodeParents.length * 2;
+
+				mNodeAABBs = Arrays.copyOf(mNodeAABBs, lNewCapacity * 4);
+				mNodeParents = Arrays.copyOf(mNodeParents, lNewCapacity);
+				mNodeChild1 = Arrays.copyOf(mNodeChild1, lNewCapacity);
+				mNodeChild2 = Arrays.copyOf(mNodeChild2, lNewCapacity);
+				mNodeHeights = Arrays.copyOf(mNodeHeights, lNewCapacity);
+				mNodeProxyIds = Arrays.copyOf(mNodeProxyIds, lNewCapacity);
+
+			}
+
+			lNode = mNodeCounter++;
+
+		}
+
+		mNodeParents[lNode] = NULL_NODE;
+		mNodeChild1[lNode] = NULL_NODE;
+		mNodeChild2[lNode] = NULL_NODE;
+		mNodeHeights[lNode] = 0;
+		mNodeProxyIds[lNode] = NULL_PROXY;
+
+		return lNode;
+
+	}
+
+	private void freeNode(int pNode) {
+		// The parent index doubles as the link of the free list
+		mNodeParents[pNode] = mNodeFreeHead;
+		mNodeHeights[pNode] = -1;
+		mNodeFreeHead = pNode;
+		mNodeCount--;
+
+	}
+
+}
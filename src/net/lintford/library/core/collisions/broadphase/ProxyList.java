@@ -0,0 +1,54 @@
+package net.lintford.library.core.collisions.broadphase;
+
+import java.util.Arrays;
+
+/** A growable list of proxy ids, which is filled by the region queries of a {@link BroadPhase}. The list can be reused between queries without creating garbage. */
+public class ProxyList {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private int[] mProxyIds = new int[INITIAL_CAPACITY];
+	private int mSize;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int size() {
+		return mSize;
+	}
+
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	public int get(int pIndex) {
+		return mProxyIds[pIndex];
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void add(int pProxyId) {
+		if (mSize == mProxyIds.length)
+			mProxyIds = Arrays.copyOf(mProxyIds, mSize * 2);
+
+		mProxyIds[mSize++] = pProxyId;
+
+	}
+
+	public void clear() {
+		mSize = 0;
+
+	}
+
+}
@@ -0,0 +1,65 @@
+package net.lintford.library.core.collisions.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of pairs of proxy ids, which is filled by the pair queries of a {@link BroadPhase}. Each pair is only reported once, with the smaller proxy id first. The list can be reused between
+ * queries without creating garbage.
+ */
+public class ProxyPairList {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private int[] mProxyIds = new int[INITIAL_CAPACITY * 2];
+	private int mPairCount;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int pairCount() {
+		return mPairCount;
+	}
+
+	public boolean isEmpty() {
+		return mPairCount == 0;
+	}
+
+	/** Returns the (smaller) proxy id of the first shape of the pair at the given index. */
+	public int proxyA(int pPairIndex) {
+		return mProxyIds[pPairIndex * 2];
+	}
+
+	/** Returns the (larger) proxy id of the second shape of the pair at the given index. */
+	public int proxyB(int pPairIndex) {
+		return mProxyIds[pPairIndex * 2 + 1];
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void add(int pProxyIdA, int pProxyIdB) {
+		if (mPairCount * 2 == mProxyIds.length)
+			mProxyIds = Arrays.copyOf(mProxyIds, mProxyIds.length * 2);
+
+		mProxyIds[mPairCount * 2] = Math.min(pProxyIdA, pProxyIdB);
+		mProxyIds[mPairCount * 2 + 1] = Math.max(pProxyIdA, pProxyIdB);
+		mPairCount++;
+
+	}
+
+	public void clear() {
+		mPairCount = 0;
+
+	}
+
+}
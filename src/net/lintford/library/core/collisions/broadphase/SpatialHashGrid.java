@@ -0,0 +1,337 @@
+package net.lintford.library.core.collisions.broadphase;
+
+import java.util.Arrays;
+
+/**
+ * A {@link BroadPhase} which sorts the proxies into the cells of a uniform grid. The (unbounded) grid is hashed into a fixed number of buckets, and each proxy is entered into every cell its bounds touch.
+ * Moving a proxy within the cells it already occupies only updates its bounds. The grid works best when the cell size is a little larger than the typical shape, and the shapes are of a similar size.
+ */
+public class SpatialHashGrid extends BroadPhase {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int DEFAULT_BUCKET_COUNT = 1 << 15;
+
+	private static final int INITIAL_ENTRY_CAPACITY = 1024;
+	private static final int NULL_ENTRY = -1;
+
+	private static final int ENTRY_STRIDE = 4;
+	private static final int ENTRY_PROXY_ID = 0;
+	private static final int ENTRY_CELL_X = 1;
+	private static final int ENTRY_CELL_Y = 2;
+	private static final int ENTRY_NEXT = 3;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final float mCellSize;
+	private final float mInvCellSize;
+
+	private final int mBucketMask;
+	private final int[] mBucketHeads;
+
+	// The entries of the (singly linked) bucket lists. Each entry is a proxy in one cell, stored as (proxy id, cell x, cell y, next entry). An entry is referenced by the offset of its first
+	// value, so that walking a list only touches one cache line per entry
+	private int[] mEntries = new int[INITIAL_ENTRY_CAPACITY * ENTRY_STRIDE];
+	private int mEntryFreeHead = NULL_ENTRY;
+	private int mEntryCounter;
+	private int mEntryCount;
+
+	/** The range of cells (minX, minY, maxX, maxY) each proxy has been entered into, stored at (proxy id * 4). */
+	private int[] mProxyCells = new int[INITIAL_PROXY_CAPACITY * 4];
+
+	private int[] mQueryStamps = new int[INITIAL_PROXY_CAPACITY];
+	private int mQueryStamp;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public float cellSize() {
+		return mCellSize;
+	}
+
+	public int bucketCount() {
+		return mBucketHeads.length;
+	}
+
+	/** Returns the number of (proxy, cell) entries in the grid. */
+	public int entryCount() {
+		return mEntryCount;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public SpatialHashGrid(float pCellSize) {
+		this(pCellSize, DEFAULT_BUCKET_COUNT);
+
+	}
+
+	/** @param pBucketCount The number of hash buckets, which is rounded up to the next power of two. */
+	public SpatialHashGrid(float pCellSize, int pBucketCount) {
+		if (pCellSize <= 0)
+			throw new IllegalArgumentException("The cell size of a SpatialHashGrid must be greater than zero");
+
+		mCellSize = pCellSize;
+		mInvCellSize = 1.f / pCellSize;
+
+		final int lBucketCount = Integer.highestOneBit(Math.max(pBucketCount - 1, 1)) << 1;
+		mBucketMask = lBucketCount - 1;
+		mBucketHeads = new int[lBucketCount];
+		Arrays.fill(mBucketHeads, NULL_ENTRY);
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	@Override
+	public void queryRegion(float pMinX, float pMinY, float pMaxX, float pMaxY, ProxyList pResults) {
+		final int lMinCellX = cellCoord(pMinX);
+		final int lMinCellY = cellCoord(pMinY);
+		final int lMaxCellX = cellCoord(pMaxX);
+		final int lMaxCellY = cellCoord(pMaxY);
+
+		final long lNumCells = (long) (lMaxCellX - lMinCellX + 1) * (lMaxCellY - lMinCellY + 1);
+		if (lNumCells > mBucketHeads.length) {
+			// The region covers more cells than there are buckets, so it is cheaper to test the proxies directly
+			final int lProxyIdCapacity = proxyIdCapacity();
+			for (int i = 0; i < lProxyIdCapacity; i++) {
+				if (isProxyAlive(i) && overlaps(i, pMinX, pMinY, pMaxX, pMaxY))
+					pResults.add(i);
+
+			}
+
+			return;
+
+		}
+
+		final int lStamp = nextQueryStamp();
+		for (int lCellY = lMinCellY; lCellY <= lMaxCellY; lCellY++) {
+			for (int lCellX = lMinCellX; lCellX <= lMaxCellX; lCellX++) {
+				int lEntry = mBucketHeads[hashCell(lCellX, lCellY)];
+				while (lEntry != NULL_ENTRY) {
+					final int lProxyId = mEntries[lEntry + ENTRY_PROXY_ID];
+					if (mEntries[lEntry + ENTRY_CELL_X] == lCellX && mEntries[lEntry + ENTRY_CELL_Y] == lCellY && mQueryStamps[lProxyId] != lStamp) {
+						mQueryStamps[lProxyId] = lStamp;
+
+						if (overlaps(lProxyId, pMinX, pMinY, pMaxX, pMaxY))
+							pResults.add(lProxyId);
+
+					}
+
+					lEntry = mEntries[lEntry + ENTRY_NEXT];
+
+				}
+
+			}
+
+		}
+
+	}
+
+	@Override
+	public void queryPairs(ProxyPairList pResults) {
+		// Walk the entries in memory order rather than bucket by bucket, and compare each entry with those after it in its bucket list. Most buckets are empty, so this skips the (mispredicted)
+		// test of every empty bucket.
+		final int[] lEntries = mEntries;
+		final int[] lProxyCells = mProxyCells;
+		final int lEntryEnd = mEntryCounter;
+		for (int lEntryA = 0; lEntryA < lEntryEnd; lEntryA += ENTRY_STRIDE) {
+			final int lProxyA = lEntries[lEntryA + ENTRY_PROXY_ID];
+			if (lProxyA == NULL_PROXY)
+				continue;
+
+			final int lCellX = lEntries[lEntryA + ENTRY_CELL_X];
+			final int lCellY = lEntries[lEntryA + ENTRY_CELL_Y];
+
+			for (int lEntryB = lEntries[lEntryA + ENTRY_NEXT]; lEntryB != NULL_ENTRY; lEntryB = lEntries[lEntryB + ENTRY_NEXT]) {
+				// Different cells can share a bucket
+				if (lEntries[lEntryB + ENTRY_CELL_X] != lCellX || lEntries[lEntryB + ENTRY_CELL_Y] != lCellY)
+					continue;
+
+				final int lProxyB = lEntries[lEntryB + ENTRY_PROXY_ID];
+				if (!overlaps(lProxyA, lProxyB))
+					continue;
+
+				// Proxies which share more than one cell are only reported from the first cell they share
+				final int lFirstSharedCellX = Math.max(lProxyCells[lProxyA * 4], lProxyCells[lProxyB * 4]);
+				final int lFirstSharedCellY = Math.max(lProxyCells[lProxyA * 4 + 1], lProxyCells[lProxyB * 4 + 1]);
+				if (lFirstSharedCellX == lCellX && lFirstSharedCellY == lCellY)
+					pResults.add(lProxyA, lProxyB);
+
+			}
+
+		}
+
+	}
+
+	@Override
+	protected void onProxyInserted(int pProxyId) {
+		final int lIndex = pProxyId * 4;
+		mProxyCells[lIndex] = cellCoord(minX(pProxyId));
+		mProxyCells[lIndex + 1] = cellCoord(minY(pProxyId));
+		mProxyCells[lIndex + 2] = cellCoord(maxX(pProxyId));
+		mProxyCells[lIndex + 3] = cellCoord(maxY(pProxyId));
+
+		addEntries(pProxyId);
+
+	}
+
+	@Override
+	protected void onProxyMoved(int pProxyId) {
+		final int lIndex = pProxyId * 4;
+		final int lMinCellX = cellCoord(minX(pProxyId));
+		final int lMinCellY = cellCoord(minY(pProxyId));
+		final int lMaxCellX = cellCoord(maxX(pProxyId));
+		final int lMaxCellY = cellCoord(maxY(pProxyId));
+
+		// Most movement stays within the same cells, in which case only the bounds have changed
+		if (mProxyCells[lIndex] == lMinCellX && mProxyCells[lIndex + 1] == lMinCellY && mProxyCells[lIndex + 2] == lMaxCellX && mProxyCells[lIndex + 3] == lMaxCellY)
+			return;
+
+		removeEntries(pProxyId);
+
+		mProxyCells[lIndex] = lMinCellX;
+		mProxyCells[lIndex + 1] = lMinCellY;
+		mProxyCells[lIndex + 2] = lMaxCellX;
+		mProxyCells[lIndex + 3] = lMaxCellY;
+
+		addEntries(pProxyId);
+
+	}
+
+	@Override
+	protected void onProxyRemoved(int pProxyId) {
+		removeEntries(pProxyId);
+
+	}
+
+	@Override
+	protected void onCleared() {
+		Arrays.fill(mBucketHeads, NULL_ENTRY);
+
+		mEntryFreeHead = NULL_ENTRY;
+		mEntryCounter = 0;
+		mEntryCount = 0;
+
+	}
+
+	@Override
+	protected void onProxyCapacityChanged(int pNewCapacity) {
+		mProxyCells = Arrays.copyOf(mProxyCells, pNewCapacity * 4);
+		mQueryStamps = Arrays.copyOf(mQueryStamps, pNewCapacity);
+
+	}
+
+	private void addEntries(int pProxyId) {
+		final int lIndex = pProxyId * 4;
+		for (int lCellY = mProxyCells[lIndex + 1]; lCellY <= mProxyCells[lIndex + 3]; lCellY++) {
+			for (int lCellX = mProxyCells[lIndex]; lCellX <= mProxyCells[lIndex + 2]; lCellX++) {
+				final int lBucket = hashCell(lCellX, lCellY);
+				final int lEntry = allocateEntry();
+
+				mEntries[lEntry + ENTRY_PROXY_ID] = pProxyId;
+				mEntries[lEntry + ENTRY_CELL_X] = lCellX;
+				mEntries[lEntry + ENTRY_CELL_Y] = lCellY;
+				mEntries[lEntry + ENTRY_NEXT] = mBucketHeads[lBucket];
+				mBucketHeads[lBucket] = lEntry;
+
+			}
+
+		}
+
+	}
+
+	private void removeEntries(int pProxyId) {
+		final int lIndex = pProxyId * 4;
+		for (int lCellY = mProxyCells[lIndex + 1]; lCellY <= mProxyCells[lIndex + 3]; lCellY++) {
+			for (int lCellX = mProxyCells[lIndex]; lCellX <= mProxyCells[lIndex + 2]; lCellX++) {
+				final int lBucket = hashCell(lCellX, lCellY);
+
+				int lPrevious = NULL_ENTRY;
+				int lEntry = mBucketHeads[lBucket];
+				while (lEntry != NULL_ENTRY) {
+					if (mEntries[lEntry + ENTRY_PROXY_ID] == pProxyId && mEntries[lEntry + ENTRY_CELL_X] == lCellX && mEntries[lEntry + ENTRY_CELL_Y] == lCellY) {
+						if (lPrevious == NULL_ENTRY)
+							mBucketHeads[lBucket] = mEntries[lEntry + ENTRY_NEXT];
+						else
+							mEntries[lPrevious + ENTRY_NEXT] = mEntries[lEntry + ENTRY_NEXT];
+
+						freeEntry(lEntry);
+						break;
+
+					}
+
+					lPrevious = lEntry;
+					lEntry = mEntries[lEntry + ENTRY_NEXT];
+
+				}
+
+			}
+
+		}
+
+	}
+
+	private int allocateEntry() {
+		mEntryCount++;
+
+		if (mEntryFreeHead != NULL_ENTRY) {
+			final int lEntry = mEntryFreeHead;
+			mEntryFreeHead = mEntries[lEntry + ENTRY_NEXT];
+			return lEntry;
+
+		}
+
+		if (mEntryCounter == mEntries.length)
+			mEntries = Arrays.copyOf(mEntries, mEntries.length * 2);
+
+		final int lEntry = mEntryCounter;
+		mEntryCounter += ENTRY_STRIDE;
+
+		return lEntry;
+
+	}
+
+	private void freeEntry(int pEntry) {
+		// Marks the entry as unused for queryPairs, which walks the entry array directly
+		mEntries[pEntry + ENTRY_PROXY_ID] = NULL_PROXY;
+		mEntries[pEntry + ENTRY_NEXT] = mEntryFreeHead;
+		mEntryFreeHead = pEntry;
+		mEntryCount--;
+
+	}
+
+	private int nextQueryStamp() {
+		if (++mQueryStamp == 0) {
+			// The stamp wrapped around, so older stamps could collide with the new ones
+			Arrays.fill(mQueryStamps, 0);
+			mQueryStamp = 1;
+
+		}
+
+		return mQueryStamp;
+
+	}
+
+	private int cellCoord(float pWorldCoord) {
+		// Math.floor goes through a double, which shows up when thousands of proxies are moved per frame
+		final float lCoord = pWorldCoord * mInvCellSize;
+		final int lTruncated = (int) lCoord;
+		return lCoord < lTruncated ? lTruncated - 1 : lTruncated;
+
+	}
+
+	private int hashCell(int pCellX, int pCellY) {
+		return ((pCellX * 73856093) ^ (pCellY * 19349663)) & mBucketMask;
+
+	}
+
+}
@@ -3,6 +3,7 @@ package net.lintford.library.core.debug;
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.ResourceManager;
 import net.lintford.library.core.debug.stats.DebugStats;
+import net.lintford.library.core.storage.AppStorage;
 import net.lintford.library.renderers.debug.DebugControllerTreeRenderer;
 import net.lintford.library.renderers.debug.DebugRendererTreeRenderer;
 
@@ -83,6 +84,7 @@ public class Debug {
 	private DebugConsole mDebugConsole;
 	private DebugDrawers mDebugDrawers;
 	private DebugStats mDebugStats;
+	private FrameProfiler mFrameProfiler;
 	private DebugRendererTreeRenderer mDebugRendererRenderer;
 	private DebugControllerTreeRenderer mDebugControllerRenderer;
 
@@ -124,6 +126,10 @@ public class Debug {
 		return mDebugStats;
 	}
 
+	public FrameProfiler profiler() {
+		return mFrameProfiler;
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -136,6 +142,7 @@ public class Debug {
 		mDebugDrawers = new DebugDrawers(this);
 		mDebugConsole = new DebugConsole(this);
 		mDebugStats = new DebugStats(this);
+		mFrameProfiler = new FrameProfiler();
 		mDebugControllerRenderer = new DebugControllerTreeRenderer(this);
 		mDebugRendererRenderer = new DebugRendererTreeRenderer(this);
 
@@ -180,6 +187,7 @@ public class Debug {
 	}
 
 	public void preUpdate(LintfordCore pCore) {
+		mDebugLogger.update();
 		mDebugStats.preUpdate(pCore);
 
 	}
@@ -252,8 +260,47 @@ public class Debug {
 
 		};
 
+		ConsoleCommand lToggleProfilerCommand = new ConsoleCommand("FrameProfiler", "profiler", "Enables or disables the frame profiler") {
+			@Override
+			public boolean doCommand() {
+				mFrameProfiler.isEnabled(!mFrameProfiler.isEnabled());
+				mDebugLogger.i("FrameProfiler", mFrameProfiler.isEnabled() ? "Frame profiler enabled" : "Frame profiler disabled");
+				return true;
+
+			}
+		};
+		ConsoleCommand lProfilerStatsCommand = new ConsoleCommand("FrameProfiler", "profiler_stats", "Logs the min/avg/max time of each profiled scope over the last frames") {
+			@Override
+			public boolean doCommand() {
+				final var lStringBuilder = new StringBuilder();
+				mFrameProfiler.writeSummary(lStringBuilder);
+				for (final var lLine : lStringBuilder.toString().split("\\R")) {
+					mDebugLogger.i("FrameProfiler", lLine);
+
+				}
+
+				return true;
+
+			}
+		};
+		ConsoleCommand lProfilerExportCommand = new ConsoleCommand("FrameProfiler", "profiler_export", "Writes the last profiled frames as a Chrome trace (profile.json)") {
+			@Override
+			public boolean doCommand() {
+				final var lFilename = AppStorage.getGameDataDirectory() + "profile.json";
+				if (!mFrameProfiler.exportChromeTrace(lFilename))
+					return false;
+
+				mDebugLogger.i("FrameProfiler", "Chrome trace written to " + lFilename);
+				return true;
+
+			}
+		};
+
 		mDebugConsole.addConsoleCommand(lListConsoleCommands);
 		mDebugConsole.addConsoleCommand(lSaveLogCommand);
+		mDebugConsole.addConsoleCommand(lToggleProfilerCommand);
+		mDebugConsole.addConsoleCommand(lProfilerStatsCommand);
+		mDebugConsole.addConsoleCommand(lProfilerExportCommand);
 
 	}
 
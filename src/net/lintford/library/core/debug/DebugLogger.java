@@ -1,22 +1,130 @@
 package net.lintford.library.core.debug;
 
-import java.io.BufferedOutputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
 import java.util.Date;
 import java.util.List;
-import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 
 import net.lintford.library.ConstantsApp;
 import net.lintford.library.core.debug.Debug.DebugLogLevel;
 import net.lintford.library.core.messaging.Message;
 import net.lintford.library.core.time.DateHelper;
 
+/**
+ * Collects the log messages of all threads. Messages are appended to a preallocated ring buffer without locking (messages which arrive while the buffer is full are dropped and counted, rather than
+ * stalling the caller), and are written to the log file in batches by a background thread. The game thread moves the messages into the console history in {@link #update()}.
+ */
 public class DebugLogger {
 
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	/** The console history: a fixed number of lines, the oldest line being recycled once it is full. */
+	private static class LogLineList extends AbstractList<Message> {
+		private final Message[] mLines;
+		private int mFirstLineIndex;
+		private int mLineCount;
+
+		LogLineList(int pCapacity) {
+			mLines = new Message[pCapacity];
+			for (int i = 0; i < pCapacity; i++) {
+				mLines[i] = new Message();
+
+			}
+
+		}
+
+		@Override
+		public Message get(int pIndex) {
+			if (pIndex < 0 || pIndex >= mLineCount)
+				throw new IndexOutOfBoundsException(pIndex);
+
+			return mLines[(mFirstLineIndex + pIndex) % mLines.length];
+		}
+
+		@Override
+		public int size() {
+			return mLineCount;
+		}
+
+		@Override
+		public void clear() {
+			mFirstLineIndex = 0;
+			mLineCount = 0;
+		}
+
+		/** Returns the message to assign to the next line, which is the oldest line once the history is full. */
+		Message nextLine() {
+			if (mLineCount < mLines.length)
+				return mLines[(mFirstLineIndex + mLineCount++) % mLines.length];
+
+			final var lLine = mLines[mFirstLineIndex];
+			mFirstLineIndex = (mFirstLineIndex + 1) % mLines.length;
+			return lLine;
+		}
+	}
+
+	/** Formats timestamps (HH.mm.ss.SSS, local time) without allocating, looking the time zone offset up once per hour. Each thread uses its own instance. */
+	private static class TimestampFormatter {
+		private long mHourStartMillis = Long.MAX_VALUE;
+		private long mHourEndMillis = Long.MIN_VALUE;
+		private int mZoneOffsetMillis;
+		private long mLastTimestampMillis = Long.MIN_VALUE;
+		private String mLastTimestamp;
+		private final StringBuilder mStringBuilder = new StringBuilder(12);
+
+		void append(StringBuilder pStringBuilder, long pTimeMillis) {
+			if (pTimeMillis < mHourStartMillis || pTimeMillis >= mHourEndMillis) {
+				mZoneOffsetMillis = TimeZone.getDefault().getOffset(pTimeMillis);
+				mHourStartMillis = pTimeMillis - Math.floorMod(pTimeMillis + mZoneOffsetMillis, 3600000L);
+				mHourEndMillis = mHourStartMillis + 3600000L;
+
+			}
+
+			final long lMillisOfDay = Math.floorMod(pTimeMillis + mZoneOffsetMillis, 86400000L);
+			appendDigits(pStringBuilder, (int) (lMillisOfDay / 3600000L), 2);
+			pStringBuilder.append('.');
+			appendDigits(pStringBuilder, (int) (lMillisOfDay / 60000L % 60), 2);
+			pStringBuilder.append('.');
+			appendDigits(pStringBuilder, (int) (lMillisOfDay / 1000L % 60), 2);
+			pStringBuilder.append('.');
+			appendDigits(pStringBuilder, (int) (lMillisOfDay % 1000L), 3);
+		}
+
+		/** Returns the timestamp as a string, which is reused for all messages logged in the same millisecond. */
+		String format(long pTimeMillis) {
+			if (pTimeMillis != mLastTimestampMillis) {
+				mStringBuilder.setLength(0);
+				append(mStringBuilder, pTimeMillis);
+				mLastTimestamp = mStringBuilder.toString();
+				mLastTimestampMillis = pTimeMillis;
+
+			}
+
+			return mLastTimestamp;
+		}
+
+		private static void appendDigits(StringBuilder pStringBuilder, int pValue, int pDigitCount) {
+			for (int lDivisor = pDigitCount == 3 ? 100 : 10; lDivisor > 0; lDivisor /= 10) {
+				pStringBuilder.append((char) ('0' + pValue / lDivisor % 10));
+
+			}
+		}
+	}
+
 	// --------------------------------------
 	// Constants
 	// --------------------------------------
@@ -25,6 +133,13 @@ public class DebugLogger {
 	public static boolean DEBUG_LOG_DEBUG_TO_FILE = true;
 	public static final int LOG_BUFFER_LINE_COUNT = 1000;
 
+	/** The number of messages which can be waiting to be written (a power of two). */
+	public static final int LOG_RING_BUFFER_SIZE = 4096;
+	private static final int LOG_RING_BUFFER_MASK = LOG_RING_BUFFER_SIZE - 1;
+
+	/** The time the writer thread sleeps for when there are no messages to write. */
+	public static final long WRITER_IDLE_NANOS = 2000000L;
+
 	public static final String DEBUG_LOG_FILENAME = "debug";
 	public static final String LOG_FILE_EXTENSION = ".log";
 
@@ -34,12 +149,27 @@ public class DebugLogger {
 
 	private final Debug mDebugManager;
 
-	private boolean mMirrorLogToConsole;
+	private volatile boolean mMirrorLogToConsole;
 
-	private List<Message> mLogLinePool;
-	private List<Message> mLogLines;
+	// The ring buffer of log records: a record can be read once its sequence has been published, and is reused once both the writer and the console have read it
+	private String[] mRecordTags;
+	private String[] mRecordMessages;
+	private int[] mRecordLevels;
+	private long[] mRecordTimes;
+	private AtomicLongArray mRecordSequences;
+	private final AtomicLong mClaimSequence = new AtomicLong();
+	private volatile long mWriterSequence;
+	private final AtomicLong mConsoleSequence = new AtomicLong();
+	private final AtomicLong mDroppedMessageCount = new AtomicLong();
 
-	BufferedOutputStream mDebugLogBufferedOutputStream;
+	private LogLineList mLogLines;
+	private final TimestampFormatter mConsoleTimestampFormatter = new TimestampFormatter();
+
+	private final Object mFileLock = new Object();
+	private FileChannel mDebugLogFileChannel;
+	private ByteBuffer mEncodeBuffer = ByteBuffer.allocate(65536);
+	private final CharsetEncoder mEncoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+	private Thread mWriterThread;
 
 	// --------------------------------------
 	// Properties
@@ -58,6 +188,11 @@ public class DebugLogger {
 		return mMirrorLogToConsole;
 	}
 
+	/** The number of messages which have been dropped because the ring buffer was full. */
+	public long droppedMessageCount() {
+		return mDroppedMessageCount.get();
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -68,16 +203,58 @@ public class DebugLogger {
 		if (!mDebugManager.debugManagerEnabled())
 			return;
 
-		mLogLines = new ArrayList<>(LOG_BUFFER_LINE_COUNT);
-		mLogLinePool = new ArrayList<>(LOG_BUFFER_LINE_COUNT);
+		mLogLines = new LogLineList(LOG_BUFFER_LINE_COUNT);
 
-		for (int i = 0; i < LOG_BUFFER_LINE_COUNT; i++) {
-			mLogLinePool.add(new Message());
+		mRecordTags = new String[LOG_RING_BUFFER_SIZE];
+		mRecordMessages = new String[LOG_RING_BUFFER_SIZE];
+		mRecordLevels = new int[LOG_RING_BUFFER_SIZE];
+		mRecordTimes = new long[LOG_RING_BUFFER_SIZE];
+		mRecordSequences = new AtomicLongArray(LOG_RING_BUFFER_SIZE);
+		for (int i = 0; i < LOG_RING_BUFFER_SIZE; i++) {
+			mRecordSequences.set(i, -1);
 
 		}
 
 		openDebugLogOutputStream();
 
+		mWriterThread = new Thread(this::writerLoop, "DebugLogWriter");
+		mWriterThread.setDaemon(true);
+		mWriterThread.start();
+
+		// Write the messages which are still in the ring buffer when the application exits
+		Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "DebugLogFlush"));
+
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/** Moves the messages logged since the last call into the console history. Called on the game thread. */
+	public void update() {
+		if (mLogLines == null)
+			return;
+
+		long lSequence = mConsoleSequence.get();
+		while (mRecordSequences.get((int) (lSequence & LOG_RING_BUFFER_MASK)) == lSequence) {
+			final int lIndex = (int) (lSequence & LOG_RING_BUFFER_MASK);
+			final var lTag = mRecordTags[lIndex];
+			final var lMessage = mRecordMessages[lIndex];
+			final int lLevel = mRecordLevels[lIndex];
+			final long lTimeMillis = mRecordTimes[lIndex];
+
+			// The writer skips the console ahead if it falls too far behind, in which case the record may have been reused while it was being read
+			if (!mConsoleSequence.compareAndSet(lSequence, lSequence + 1)) {
+				lSequence = mConsoleSequence.get();
+				continue;
+
+			}
+
+			mLogLines.nextLine().setMessage(lTag, lMessage, mConsoleTimestampFormatter.format(lTimeMillis), lLevel);
+			lSequence++;
+
+		}
+
 	}
 
 	// --------------------------------------
@@ -90,7 +267,7 @@ public class DebugLogger {
 	}
 
 	private boolean openDebugLogOutputStream() {
-		if (mDebugLogBufferedOutputStream != null)
+		if (mDebugLogFileChannel != null)
 			return false;
 
 		try {
@@ -108,16 +285,17 @@ public class DebugLogger {
 			i(getClass().getSimpleName(), "Creating new debug log file: " + LOG_FILENAME);
 
 			// Create new files for the log (this is only applicable if the file currently exists, which is only applicable if DEBUG_UNIQUE_LOG_FILES is false).
-			mDebugLogBufferedOutputStream = new BufferedOutputStream(new FileOutputStream(LOG_FILENAME, false), 24);
+			mDebugLogFileChannel = FileChannel.open(Paths.get(LOG_FILENAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
 			return true;
 
-		} catch (FileNotFoundException e) {
+		} catch (IOException e) {
 			e.printStackTrace();
 			return false;
 
 		}
 	}
 
+	/** Appends the message to the log. Can be called from any thread, and never blocks. */
 	public void log(DebugLogLevel pLogLevel, String pTag, String pMessage) {
 		if (!mDebugManager.debugManagerEnabled())
 			return;
@@ -128,47 +306,30 @@ public class DebugLogger {
 
 		}
 
-		if (!mDebugManager.debugManagerEnabled()) {
-			switch (pLogLevel) {
-			default:
-				System.out.println(padRight(pTag, 15) + ":" + pMessage);
-
-			}
-
+		if (pLogLevel.logLevel < mDebugManager.getLogLevel().logLevel)
 			return;
-		}
-
-		if (pLogLevel.logLevel >= mDebugManager.getLogLevel().logLevel) {
-
-			Message lLogMessage = null;
-			if (mLogLinePool.size() > 0) {
-				// Remove from the pool until empty
-				lLogMessage = mLogLinePool.remove(0);
-
-			} else {
-				// Non free, get the first from the linked list
-				lLogMessage = mLogLines.remove(0);
-			}
 
-			if (lLogMessage == null) {
-				System.err.println("DebugLogger: Unable to write to Debug log");
+		// Claim the next record, unless the writer (or the console) hasn't read the record yet which it would replace
+		long lSequence;
+		do {
+			lSequence = mClaimSequence.get();
+			if (lSequence - Math.min(mWriterSequence, mConsoleSequence.get()) >= LOG_RING_BUFFER_SIZE) {
+				mDroppedMessageCount.incrementAndGet();
 				return;
-			}
-
-			String lTimeStamp = new SimpleDateFormat("HH.mm.ss.SSS", Locale.US).format(new Date());
-			lLogMessage.setMessage(pTag, pMessage, lTimeStamp, pLogLevel.logLevel);
-
-			if (DEBUG_LOG_DEBUG_TO_FILE) {
-				writeDebugMessageToFile(lLogMessage.tag, lLogMessage.timestamp, lLogMessage.message);
 
 			}
 
-			mLogLines.add(lLogMessage);
+		} while (!mClaimSequence.compareAndSet(lSequence, lSequence + 1));
 
-			if (mMirrorLogToConsole)
-				System.out.printf("[%s] %s: %s\n", padRight(lLogMessage.timestamp, 12), padRight(lLogMessage.tag, 25), lLogMessage.message);
+		final int lIndex = (int) (lSequence & LOG_RING_BUFFER_MASK);
+		mRecordTags[lIndex] = pTag;
+		mRecordMessages[lIndex] = pMessage;
+		mRecordLevels[lIndex] = pLogLevel.logLevel;
+		mRecordTimes[lIndex] = System.currentTimeMillis();
+
+		// Publish the record
+		mRecordSequences.set(lIndex, lSequence);
 
-		}
 	}
 
 	/** Adds a new EROR level message to the log. */
@@ -242,62 +403,165 @@ public class DebugLogger {
 
 	}
 
+	/** Waits (for at most a second) until the writer thread has written all the messages logged so far. */
+	public void flush() {
+		if (mWriterThread == null)
+			return;
+
+		final long lSequence = mClaimSequence.get();
+		final long lTimeout = System.nanoTime() + 1000000000L;
+		while (mWriterSequence < lSequence && mWriterThread.isAlive() && System.nanoTime() < lTimeout) {
+			LockSupport.parkNanos(WRITER_IDLE_NANOS / 4);
+
+		}
+
+	}
+
 	/** Appends the given message into a file at the given location. */
 	public boolean writeDebugMessageToFile(String pTag, String pTimestamp, String pMessage) {
 		if (!mDebugManager.debugManagerEnabled())
 			return false;
 
-		if (mDebugLogBufferedOutputStream == null)
+		final var lStringBuilder = new StringBuilder(pTimestamp.length() + pTag.length() + pMessage.length() + 5);
+		lStringBuilder.append(pTimestamp).append(": ").append(pTag).append(": ").append(pMessage).append('\n');
+		return writeToFile(lStringBuilder);
+
+	}
+
+	/** Creates a new log file at the given location, and writes the current contents of the logger. */
+	boolean writeDebugLogToFile() {
+		if (mLogLines == null)
 			return false;
 
-		try {
+		final var lStringBuilder = new StringBuilder(4096);
+		final int lMessageCount = mLogLines.size();
+		for (int i = 0; i < lMessageCount; i++) {
+			final var lMessage = mLogLines.get(i);
+			lStringBuilder.append(lMessage.tag).append(": ").append(lMessage.message).append('\n');
+
+		}
 
-			mDebugLogBufferedOutputStream.write(pTimestamp.getBytes());
-			mDebugLogBufferedOutputStream.write(": ".getBytes());
-			mDebugLogBufferedOutputStream.write(pTag.getBytes());
-			mDebugLogBufferedOutputStream.write(": ".getBytes());
-			mDebugLogBufferedOutputStream.write(pMessage.getBytes());
-			mDebugLogBufferedOutputStream.write("\n".getBytes());
+		return writeToFile(lStringBuilder);
 
-			return true;
+	}
 
-		} catch (IOException e) {
-			e.printStackTrace();
+	public static String padRight(String s, int n) {
+		return String.format("%1$-" + n + "s", s);
+	}
 
-			return false;
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	/** Writes the published records to the log file in batches, until the application exits. */
+	private void writerLoop() {
+		final var lTimestampFormatter = new TimestampFormatter();
+		final var lFileBuilder = new StringBuilder(16384);
+		final var lConsoleBuilder = new StringBuilder(4096);
+		long lReportedDroppedCount = 0;
+
+		while (true) {
+			long lSequence = mWriterSequence;
+			while (mRecordSequences.get((int) (lSequence & LOG_RING_BUFFER_MASK)) == lSequence && lFileBuilder.length() < 65536) {
+				final int lIndex = (int) (lSequence & LOG_RING_BUFFER_MASK);
+				final int lLineStart = lFileBuilder.length();
+				lTimestampFormatter.append(lFileBuilder, mRecordTimes[lIndex]);
+				final int lTimestampEnd = lFileBuilder.length();
+				lFileBuilder.append(": ").append(mRecordTags[lIndex]).append(": ").append(mRecordMessages[lIndex]).append('\n');
+
+				if (mMirrorLogToConsole) {
+					lConsoleBuilder.append('[').append(lFileBuilder, lLineStart, lTimestampEnd).append("] ");
+					appendPadded(lConsoleBuilder, mRecordTags[lIndex], 25);
+					lConsoleBuilder.append(": ").append(mRecordMessages[lIndex]).append('\n');
+
+				}
+
+				lSequence++;
+
+			}
+
+			final long lDroppedCount = mDroppedMessageCount.get();
+			if (lDroppedCount != lReportedDroppedCount) {
+				lTimestampFormatter.append(lFileBuilder, System.currentTimeMillis());
+				lFileBuilder.append(": ").append(getClass().getSimpleName()).append(": ").append(lDroppedCount - lReportedDroppedCount).append(" messages dropped (log buffer full)\n");
+				lReportedDroppedCount = lDroppedCount;
+
+			}
+
+			if (lFileBuilder.length() == 0) {
+				LockSupport.parkNanos(WRITER_IDLE_NANOS);
+				continue;
+
+			}
+
+			// The records have been copied into the builders, so they can be reused
+			mWriterSequence = lSequence;
+			skipConsoleAhead(lSequence);
+
+			if (DEBUG_LOG_DEBUG_TO_FILE)
+				writeToFile(lFileBuilder);
+
+			if (lConsoleBuilder.length() > 0) {
+				System.out.print(lConsoleBuilder);
+				lConsoleBuilder.setLength(0);
+
+			}
+
+			lFileBuilder.setLength(0);
 
 		}
 
 	}
 
-	/** Creates a new log file at the given location, and writes the current contents of the logger. */
-	boolean writeDebugLogToFile() {
-		if (mDebugLogBufferedOutputStream == null)
-			return false;
+	/** Keeps the console history at most {@link #LOG_BUFFER_LINE_COUNT} records behind the writer, if it isn't updated (often enough), so it doesn't fill up the ring buffer. */
+	private void skipConsoleAhead(long pWriterSequence) {
+		final long lConsoleSequence = mConsoleSequence.get();
+		final long lMinConsoleSequence = pWriterSequence - LOG_BUFFER_LINE_COUNT;
+		if (mClaimSequence.get() - lConsoleSequence > LOG_RING_BUFFER_SIZE / 2 && lConsoleSequence < lMinConsoleSequence)
+			mConsoleSequence.compareAndSet(lConsoleSequence, lMinConsoleSequence);
 
-		try {
+	}
 
-			final int lMessageCount = mLogLines.size();
-			for (int i = 0; i < lMessageCount; i++) {
-				final var lMessage = mLogLines.get(i);
-				mDebugLogBufferedOutputStream.write(lMessage.tag.getBytes());
-				mDebugLogBufferedOutputStream.write(": ".getBytes());
-				mDebugLogBufferedOutputStream.write(lMessage.message.getBytes());
-				mDebugLogBufferedOutputStream.write("\n".getBytes());
-			}
+	private boolean writeToFile(CharSequence pText) {
+		synchronized (mFileLock) {
+			if (mDebugLogFileChannel == null)
+				return false;
 
-			return true;
+			final int lMaxLength = (int) (pText.length() * mEncoder.maxBytesPerChar());
+			if (mEncodeBuffer.capacity() < lMaxLength)
+				mEncodeBuffer = ByteBuffer.allocate(lMaxLength);
 
-		} catch (IOException e) {
-			e.printStackTrace();
-			return false;
+			mEncodeBuffer.clear();
+			mEncoder.reset();
+			mEncoder.encode(CharBuffer.wrap(pText), mEncodeBuffer, true);
+			mEncoder.flush(mEncodeBuffer);
+			mEncodeBuffer.flip();
+
+			try {
+				while (mEncodeBuffer.hasRemaining()) {
+					mDebugLogFileChannel.write(mEncodeBuffer);
+
+				}
+
+				return true;
+
+			} catch (IOException e) {
+				e.printStackTrace();
+				return false;
+
+			}
 
 		}
 
 	}
 
-	public static String padRight(String s, int n) {
-		return String.format("%1$-" + n + "s", s);
+	private static void appendPadded(StringBuilder pStringBuilder, String pText, int pWidth) {
+		pStringBuilder.append(pText);
+		for (int i = pText.length(); i < pWidth; i++) {
+			pStringBuilder.append(' ');
+
+		}
+
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,422 @@
+package net.lintford.library.core.debug;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A hierarchical frame profiler. Code is instrumented with {@link #begin(String)} / {@link #end(String)} pairs (which may be nested), and the game loop marks the frames with {@link #beginFrame()} /
+ * {@link #endFrame()}. The markers are recorded into a preallocated ring buffer (so the last frames can be exported as a Chrome trace, see {@link #exportChromeTrace(Writer)}), and the time spent in each
+ * scope is summed up per frame, from which a rolling min/avg/max per scope is kept over the last {@link #STATS_WINDOW_FRAMES} frames.
+ *
+ * While the profiler is disabled (the default), the markers return straight away. Only the markers of the thread which began the frame are recorded. The profiler doesn't depend on GL, so it can be used
+ * in headless mode.
+ */
+public class FrameProfiler {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	/** The number of markers kept in the ring buffer (a power of two). Markers beyond this number in a single frame are dropped. */
+	public static final int EVENT_CAPACITY = 1 << 16;
+	private static final int EVENT_MASK = EVENT_CAPACITY - 1;
+
+	/** The number of frames the rolling per scope statistics are computed over. */
+	public static final int STATS_WINDOW_FRAMES = 120;
+
+	/** The number of frames whose start is remembered for exporting traces. */
+	public static final int FRAME_HISTORY = 256;
+
+	/** The maximum nesting depth of scopes within a frame. */
+	public static final int MAX_SCOPE_DEPTH = 64;
+
+	/** The scope covering the whole frame. */
+	public static final int SCOPE_ID_FRAME = 0;
+	public static final String SCOPE_NAME_FRAME = "Frame";
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private boolean mIsEnabled;
+	private boolean mIsRecording;
+	private Thread mFrameThread;
+	private final long mStartTimeNanos;
+
+	// Scopes
+	private final Map<String, Integer> mScopeIds = new HashMap<>();
+	private final List<String> mScopeNames = new ArrayList<>();
+
+	// The ring buffer of markers: the time and the scope id (shifted left by one, the low bit being set for end markers)
+	private final long[] mEventTimes = new long[EVENT_CAPACITY];
+	private final int[] mEventData = new int[EVENT_CAPACITY];
+	private long mEventCount;
+	private long mDroppedEventCount;
+
+	// Frames
+	private final long[] mFrameStartEvents = new long[FRAME_HISTORY];
+	private long mFrameCount;
+	private long mFrameStartEvent;
+	private long mLastFrameEndEvent = -1;
+
+	// Per frame aggregation
+	private final int[] mStackScopes = new int[MAX_SCOPE_DEPTH];
+	private final long[] mStackStartTimes = new long[MAX_SCOPE_DEPTH];
+	private long[] mScopeFrameNanos = new long[16];
+	private int[] mScopeFrameCalls = new int[16];
+
+	// Rolling statistics: the time of each scope in each of the last STATS_WINDOW_FRAMES frames (-1 if the scope didn't run)
+	private float[] mScopeHistory = new float[16 * STATS_WINDOW_FRAMES];
+	private int mStatsFrameCount;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public boolean isEnabled() {
+		return mIsEnabled;
+	}
+
+	/** Enables or disables the profiler. Takes effect at the start of the next frame. */
+	public void isEnabled(boolean pNewValue) {
+		mIsEnabled = pNewValue;
+	}
+
+	/** Returns true if markers are currently being recorded, i.e. the profiler is enabled and a frame has begun. */
+	public boolean isRecording() {
+		return mIsRecording;
+	}
+
+	public int scopeCount() {
+		return mScopeNames.size();
+	}
+
+	public String scopeName(int pScopeId) {
+		return mScopeNames.get(pScopeId);
+	}
+
+	public long frameCount() {
+		return mFrameCount;
+	}
+
+	/** The number of markers which were dropped because a frame recorded more than {@link #EVENT_CAPACITY} markers. */
+	public long droppedEventCount() {
+		return mDroppedEventCount;
+	}
+
+	/** The time spent in the scope in the last frame, in milliseconds. */
+	public float scopeLastMs(int pScopeId) {
+		return pScopeId < mScopeNames.size() ? mScopeFrameNanos[pScopeId] / 1000000f : 0f;
+	}
+
+	/** The number of times the scope ran in the last frame. */
+	public int scopeLastCallCount(int pScopeId) {
+		return pScopeId < mScopeNames.size() ? mScopeFrameCalls[pScopeId] : 0;
+	}
+
+	/** The minimum time spent in the scope per frame (in milliseconds) over the frames of the stats window it ran in. */
+	public float scopeMinMs(int pScopeId) {
+		float lMin = Float.MAX_VALUE;
+		final int lFrameCount = Math.min(mStatsFrameCount, STATS_WINDOW_FRAMES);
+		for (int i = 0; i < lFrameCount; i++) {
+			final float lValue = mScopeHistory[pScopeId * STATS_WINDOW_FRAMES + i];
+			if (lValue >= 0 && lValue < lMin)
+				lMin = lValue;
+
+		}
+
+		return lMin == Float.MAX_VALUE ? 0f : lMin;
+	}
+
+	/** The average time spent in the scope per frame (in milliseconds) over the frames of the stats window it ran in. */
+	public float scopeAvgMs(int pScopeId) {
+		float lTotal = 0;
+		int lCount = 0;
+		final int lFrameCount = Math.min(mStatsFrameCount, STATS_WINDOW_FRAMES);
+		for (int i = 0; i < lFrameCount; i++) {
+			final float lValue = mScopeHistory[pScopeId * STATS_WINDOW_FRAMES + i];
+			if (lValue >= 0) {
+				lTotal += lValue;
+				lCount++;
+
+			}
+
+		}
+
+		return lCount == 0 ? 0f : lTotal / lCount;
+	}
+
+	/** The maximum time spent in the scope per frame (in milliseconds) over the frames of the stats window. */
+	public float scopeMaxMs(int pScopeId) {
+		float lMax = 0;
+		final int lFrameCount = Math.min(mStatsFrameCount, STATS_WINDOW_FRAMES);
+		for (int i = 0; i < lFrameCount; i++) {
+			lMax = Math.max(lMax, mScopeHistory[pScopeId * STATS_WINDOW_FRAMES + i]);
+
+		}
+
+		return lMax;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public FrameProfiler() {
+		mStartTimeNanos = System.nanoTime();
+		registerScope(SCOPE_NAME_FRAME);
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Returns the id of the scope with the given name, registering it the first time. */
+	public int registerScope(String pScopeName) {
+		final var lScopeId = mScopeIds.get(pScopeName);
+		if (lScopeId != null)
+			return lScopeId;
+
+		final int lNewScopeId = mScopeNames.size();
+		mScopeNames.add(pScopeName);
+		mScopeIds.put(pScopeName, lNewScopeId);
+
+		if (lNewScopeId >= mScopeFrameNanos.length) {
+			final int lNewCapacity = mScopeFrameNanos.length * 2;
+			mScopeFrameNanos = Arrays.copyOf(mScopeFrameNanos, lNewCapacity);
+			mScopeFrameCalls = Arrays.copyOf(mScopeFrameCalls, lNewCapacity);
+			mScopeHistory = Arrays.copyOf(mScopeHistory, lNewCapacity * STATS_WINDOW_FRAMES);
+
+		}
+
+		// The scope didn't run in any of the frames so far
+		Arrays.fill(mScopeHistory, lNewScopeId * STATS_WINDOW_FRAMES, (lNewScopeId + 1) * STATS_WINDOW_FRAMES, -1f);
+
+		return lNewScopeId;
+
+	}
+
+	/** Marks the start of a frame, on the thread whose markers are to be recorded. */
+	public void beginFrame() {
+		mIsRecording = mIsEnabled;
+		if (!mIsRecording)
+			return;
+
+		mFrameThread = Thread.currentThread();
+		mFrameStartEvent = mEventCount;
+		mFrameStartEvents[(int) (mFrameCount % FRAME_HISTORY)] = mEventCount;
+		record(SCOPE_ID_FRAME << 1);
+
+	}
+
+	/** Marks the end of the frame, and updates the per scope statistics. */
+	public void endFrame() {
+		if (!mIsRecording || Thread.currentThread() != mFrameThread)
+			return;
+
+		record(SCOPE_ID_FRAME << 1 | 1);
+		mLastFrameEndEvent = mEventCount;
+		mFrameCount++;
+
+		updateFrameStats();
+		mIsRecording = false;
+
+	}
+
+	public void begin(String pScopeName) {
+		if (!mIsRecording || Thread.currentThread() != mFrameThread)
+			return;
+
+		record(registerScope(pScopeName) << 1);
+
+	}
+
+	public void end(String pScopeName) {
+		if (!mIsRecording || Thread.currentThread() != mFrameThread)
+			return;
+
+		record(registerScope(pScopeName) << 1 | 1);
+
+	}
+
+	/** Begins a scope registered with {@link #registerScope(String)}, which saves looking the name up. */
+	public void begin(int pScopeId) {
+		if (!mIsRecording || Thread.currentThread() != mFrameThread)
+			return;
+
+		record(pScopeId << 1);
+
+	}
+
+	public void end(int pScopeId) {
+		if (!mIsRecording || Thread.currentThread() != mFrameThread)
+			return;
+
+		record(pScopeId << 1 | 1);
+
+	}
+
+	/** Appends the rolling statistics of all scopes (which ran in the stats window), one line per scope. */
+	public void writeSummary(StringBuilder pStringBuilder) {
+		pStringBuilder.append(String.format(Locale.US, "%-40s %8s %8s %8s %8s%n", "scope", "last", "min", "avg", "max"));
+
+		final int lScopeCount = mScopeNames.size();
+		for (int i = 0; i < lScopeCount; i++) {
+			if (scopeMaxMs(i) <= 0f)
+				continue;
+
+			pStringBuilder.append(String.format(Locale.US, "%-40s %8.3f %8.3f %8.3f %8.3f%n", mScopeNames.get(i), scopeLastMs(i), scopeMinMs(i), scopeAvgMs(i), scopeMaxMs(i)));
+
+		}
+
+	}
+
+	/** Writes the recorded frames which are still in the ring buffer in the Chrome trace event format (which can be loaded in chrome://tracing or Perfetto). */
+	public void exportChromeTrace(Writer pWriter) throws IOException {
+		pWriter.write("{\"traceEvents\":[");
+
+		// The oldest frame which hasn't been overwritten (neither in the frame history nor in the ring buffer)
+		long lFirstEvent = -1;
+		final long lFirstFrame = Math.max(0, mFrameCount - FRAME_HISTORY);
+		for (long i = lFirstFrame; i < mFrameCount; i++) {
+			final long lFrameStartEvent = mFrameStartEvents[(int) (i % FRAME_HISTORY)];
+			if (lFrameStartEvent >= mEventCount - EVENT_CAPACITY) {
+				lFirstEvent = lFrameStartEvent;
+				break;
+
+			}
+
+		}
+
+		if (lFirstEvent >= 0) {
+			boolean lIsFirst = true;
+			for (long i = lFirstEvent; i < mLastFrameEndEvent; i++) {
+				final int lIndex = (int) (i & EVENT_MASK);
+				final int lData = mEventData[lIndex];
+
+				if (!lIsFirst)
+					pWriter.write(',');
+
+				pWriter.write(String.format(Locale.US, "\n{\"name\":\"%s\",\"ph\":\"%s\",\"ts\":%.3f,\"pid\":1,\"tid\":1}", escapeJson(mScopeNames.get(lData >>> 1)), (lData & 1) == 0 ? "B" : "E",
+						(mEventTimes[lIndex] - mStartTimeNanos) / 1000.0));
+				lIsFirst = false;
+
+			}
+
+		}
+
+		pWriter.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+
+	}
+
+	/** Writes a Chrome trace (see {@link #exportChromeTrace(Writer)}) to the file. Returns false if it couldn't be written. */
+	public boolean exportChromeTrace(String pFilename) {
+		try (var lWriter = new BufferedWriter(Files.newBufferedWriter(Paths.get(pFilename), StandardCharsets.UTF_8))) {
+			exportChromeTrace(lWriter);
+			return true;
+
+		} catch (IOException e) {
+			Debug.debugManager().logger().printException(getClass().getSimpleName(), e, false);
+			return false;
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private void record(int pEventData) {
+		// Never overwrite the markers of the current frame, as they still have to be aggregated
+		if (mEventCount - mFrameStartEvent >= EVENT_CAPACITY) {
+			mDroppedEventCount++;
+			return;
+
+		}
+
+		final int lIndex = (int) (mEventCount & EVENT_MASK);
+		mEventTimes[lIndex] = System.nanoTime();
+		mEventData[lIndex] = pEventData;
+		mEventCount++;
+
+	}
+
+	/** Sums up the time spent in each scope in the frame which has just ended, and adds it to the rolling statistics. */
+	private void updateFrameStats() {
+		final int lScopeCount = mScopeNames.size();
+		Arrays.fill(mScopeFrameNanos, 0, lScopeCount, 0L);
+		Arrays.fill(mScopeFrameCalls, 0, lScopeCount, 0);
+
+		int lDepth = 0;
+		long lLastTime = 0;
+		for (long i = mFrameStartEvent; i < mEventCount; i++) {
+			final int lIndex = (int) (i & EVENT_MASK);
+			final int lScopeId = mEventData[lIndex] >>> 1;
+			lLastTime = mEventTimes[lIndex];
+
+			if ((mEventData[lIndex] & 1) == 0) {
+				if (lDepth < MAX_SCOPE_DEPTH) {
+					mStackScopes[lDepth] = lScopeId;
+					mStackStartTimes[lDepth] = lLastTime;
+
+				}
+
+				lDepth++;
+				continue;
+
+			}
+
+			// Scopes which haven't been ended (e.g. because of an exception) are closed together with the enclosing scope
+			while (lDepth > 0) {
+				lDepth--;
+				if (lDepth >= MAX_SCOPE_DEPTH)
+					continue;
+
+				closeScope(mStackScopes[lDepth], mStackStartTimes[lDepth], lLastTime);
+				if (mStackScopes[lDepth] == lScopeId)
+					break;
+
+			}
+
+		}
+
+		while (lDepth > 0) {
+			lDepth--;
+			if (lDepth < MAX_SCOPE_DEPTH)
+				closeScope(mStackScopes[lDepth], mStackStartTimes[lDepth], lLastTime);
+
+		}
+
+		final int lHistoryIndex = mStatsFrameCount % STATS_WINDOW_FRAMES;
+		for (int i = 0; i < lScopeCount; i++) {
+			mScopeHistory[i * STATS_WINDOW_FRAMES + lHistoryIndex] = mScopeFrameCalls[i] == 0 ? -1f : mScopeFrameNanos[i] / 1000000f;
+
+		}
+
+		mStatsFrameCount++;
+
+	}
+
+	private void closeScope(int pScopeId, long pStartTime, long pEndTime) {
+		mScopeFrameNanos[pScopeId] += pEndTime - pStartTime;
+		mScopeFrameCalls[pScopeId]++;
+
+	}
+
+	private static String escapeJson(String pText) {
+		return pText.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+}
@@ -361,36 +361,39 @@ public class JBox2dDebugDrawer {
 	// --------------------------------------
 
 	public void draw(LintfordCore pCore) {
+		// the world may be stepping on a Box2dWorldStepper thread
+		synchronized (mWorld) {
+			fixtureCountAtLastDraw = 0;
 
-		fixtureCountAtLastDraw = 0;
+			Debug.debugManager().drawers().beginPolyRenderer(pCore.gameCamera());
+			Body lBody = mWorld.getBodyList();
+			while (lBody != null) {
 
-		Debug.debugManager().drawers().beginPolyRenderer(pCore.gameCamera());
-		Body lBody = mWorld.getBodyList();
-		while (lBody != null) {
+				DebugRenderBody.draw(pCore, lBody);
 
-			DebugRenderBody.draw(pCore, lBody);
+				lBody = lBody.getNext();
 
-			lBody = lBody.getNext();
+			}
+			Debug.debugManager().drawers().endPolyRenderer();
 
-		}
-		Debug.debugManager().drawers().endPolyRenderer();
+			Joint lJoint = mWorld.getJointList();
+			while (lJoint != null) {
 
-		Joint lJoint = mWorld.getJointList();
-		while (lJoint != null) {
+				DebugRenderJoint.draw(pCore, lJoint);
 
-			DebugRenderJoint.draw(pCore, lJoint);
+				lJoint = lJoint.getNext();
 
-			lJoint = lJoint.getNext();
+			}
 
-		}
+			final var lParticleCount = mWorld.getParticleCount();
+			final var lParticleColorBuffer = mWorld.getParticleColorBuffer();
+			final var lParticlePosBuffer = mWorld.getParticlePositionBuffer();
 
-		final var lParticleCount = mWorld.getParticleCount();
-		final var lParticleColorBuffer = mWorld.getParticleColorBuffer();
-		final var lParticlePosBuffer = mWorld.getParticlePositionBuffer();
+			DebugRenderParticles.draw(pCore, lParticlePosBuffer, lParticleColorBuffer, ConstantsPhysics.toUnits(16.f), lParticleCount);
 
-		DebugRenderParticles.draw(pCore, lParticlePosBuffer, lParticleColorBuffer, ConstantsPhysics.toUnits(16.f), lParticleCount);
+			debugDrawWorldInfo(pCore);
 
-		debugDrawWorldInfo(pCore);
+		}
 
 	}
 
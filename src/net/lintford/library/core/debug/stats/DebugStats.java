@@ -47,6 +47,8 @@ public class DebugStats {
 	public static final int TAG_ID_VBO = 9;
 	public static final int TAG_ID_VB_UPLOADS = 10;
 	public static final int TAG_ID_IB_UPLOADS = 11;
+	public static final int TAG_ID_PARTICLES = 13;
+	public static final int TAG_ID_PARTICLES_HWM = 14;
 
 	// --------------------------------------
 	// Variables
@@ -115,11 +117,15 @@ public class DebugStats {
 
 		mTags.add(new DebugStatTagInt(TAG_ID_BATCH_OBJECTS, "Batch Objects", 0, false));
 		//		mTags.add(new DebugStatTagInt(TAG_ID_VBO, "VBOs", 0, false));
-		//		mTags.add(new DebugStatTagInt(TAG_ID_VB_UPLOADS, "VBs", 0));
-		//		mTags.add(new DebugStatTagInt(TAG_ID_IB_UPLOADS, "IBs", 0));
+		mTags.add(new DebugStatTagInt(TAG_ID_VB_UPLOADS, "VB Uploads (bytes)", 0));
+		mTags.add(new DebugStatTagInt(TAG_ID_IB_UPLOADS, "IB Uploads (bytes)", 0));
 		mTags.add(new DebugStatTagInt(TAG_ID_TEXTURES, "Textures ", 0, false));
 		mTags.add(new DebugStatTagInt(TAG_ID_RENDERTEXTURES, "Render Textures", 0, false));
 
+		mTags.add(new DebugStatTagCaption(-1, "Particles:"));
+		mTags.add(new DebugStatTagInt(TAG_ID_PARTICLES, "Alive", 0));
+		mTags.add(new DebugStatTagInt(TAG_ID_PARTICLES_HWM, "High Water Mark", 0, false));
+
 		mTags.add(new DebugStatTagCaption(-1, "Audio:"));
 		mTags.add(new DebugStatTagCaption(-1, "Custom:"));
 
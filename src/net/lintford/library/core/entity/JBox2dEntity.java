@@ -149,9 +149,9 @@ public abstract class JBox2dEntity extends WorldEntity {
 		if (isPhysicsLoaded()) {
 			final var lBox2dBodyInstance = mJBox2dEntityInstance.mainBody();
 			if (lBox2dBodyInstance != null) {
-				worldPositionX = ConstantsPhysics.toPixels(lBox2dBodyInstance.mBody.getPosition().x);
-				worldPositionY = ConstantsPhysics.toPixels(lBox2dBodyInstance.mBody.getPosition().y);
-				rotationInRadians = lBox2dBodyInstance.mBody.getAngle();
+				worldPositionX = ConstantsPhysics.toPixels(lBox2dBodyInstance.renderPositionX());
+				worldPositionY = ConstantsPhysics.toPixels(lBox2dBodyInstance.renderPositionY());
+				rotationInRadians = lBox2dBodyInstance.renderAngle();
 
 			}
 
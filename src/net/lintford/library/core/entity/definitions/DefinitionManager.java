@@ -1,16 +1,14 @@
 package net.lintford.library.core.entity.definitions;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -18,6 +16,8 @@ import com.google.gson.JsonSyntaxException;
 
 import net.lintford.library.core.debug.Debug;
 import net.lintford.library.core.entity.EntityLocationProvider;
+import net.lintford.library.core.storage.DefinitionCache;
+import net.lintford.library.core.storage.FileUtils;
 
 public abstract class DefinitionManager<T extends BaseDefinition> {
 
@@ -27,6 +27,15 @@ public abstract class DefinitionManager<T extends BaseDefinition> {
 		public int itemCount;
 	}
 
+	/** The outcome of reading and parsing a single definition file. Parsing can happen on a worker thread, so errors are only recorded here, and logged on the loading thread. */
+	private static class ParsedDefinitionFile<T> {
+		String filepath;
+		T definition;
+		boolean fileNotFound;
+		String errorMessage;
+		String exceptionMessage;
+	}
+
 	// --------------------------------------
 	// Constants
 	// --------------------------------------
@@ -39,6 +48,9 @@ public abstract class DefinitionManager<T extends BaseDefinition> {
 
 	protected transient short mDefinitionUIDCounter;
 
+	private transient boolean mUseParallelLoading = true;
+	private transient ForkJoinPool mForkJoinPool;
+
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
@@ -55,6 +67,20 @@ public abstract class DefinitionManager<T extends BaseDefinition> {
 		return mDefinitionUIDCounter++;
 	}
 
+	/** Returns true if the definition files of a bulk load (metafile or folder watcher) are read and parsed across a {@link ForkJoinPool}, rather than one after another on the loading thread. */
+	public boolean useParallelLoading() {
+		return mUseParallelLoading;
+	}
+
+	public void useParallelLoading(boolean pNewValue) {
+		mUseParallelLoading = pNewValue;
+	}
+
+	/** Sets the {@link ForkJoinPool} used to parse the definition files when {@link #useParallelLoading()} is enabled. If null, the common pool is used. */
+	public void forkJoinPool(ForkJoinPool pForkJoinPool) {
+		mForkJoinPool = pForkJoinPool;
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -83,7 +109,7 @@ public abstract class DefinitionManager<T extends BaseDefinition> {
 
 		try {
 			final var lGson = new GsonBuilder().create();
-			final var lFileContents = new String(Files.readAllBytes(Paths.get(pFilepath)));
+			final var lFileContents = new String(FileUtils.readAllBytes(pFilepath));
 			final var lItemsFileLocations = lGson.fromJson(lFileContents, MetaFileItems.class);
 
 			if (lItemsFileLocations == null || lItemsFileLocations.itemFileLocations == null || lItemsFileLocations.itemFileLocations.length == 0) {
@@ -106,15 +132,22 @@ public abstract class DefinitionManager<T extends BaseDefinition> {
 	}
 
 	protected void loadDefinitionsFromFolderWatcherItems(EntityLocationProvider pEntityLocationProvider, final Gson pGson, Class<T> pClassType) {
-		final var lFolderFileIterator = pEntityLocationProvider.getFileLocationIterator();
-		for (Iterator<String> lFileIterator = lFolderFileIterator; lFileIterator.hasNext();) {
-			loadDefinitionFromFile(lFileIterator.next(), pGson, pClassType);
+		final long lStartTime = System.nanoTime();
+
+		final var lFilepaths = new ArrayList<String>();
+		final var lFileIterator = pEntityLocationProvider.getFileLocationIterator();
+		while (lFileIterator.hasNext()) {
+			lFilepaths.add(lFileIterator.next());
 
 		}
 
+		loadDefinitionFiles(lFilepaths, pGson, pClassType, lStartTime);
+
 	}
 
 	protected void loadDefinitionsFromMetaFileItems(String pMetaFilepath, final Gson pGson, Class<T> pClassType) {
+		final long lStartTime = System.nanoTime();
+
 		final var lMetaItems = loadMetaFileItemsFromFilepath(pMetaFilepath);
 		if (lMetaItems == null || lMetaItems.itemCount == 0) {
 			Debug.debugManager().logger().w(getClass().getSimpleName(), String.format("Cannot load definition types %s, the given MetaFileItems contains no data", pClassType.getSimpleName()));
@@ -122,69 +155,159 @@ public abstract class DefinitionManager<T extends BaseDefinition> {
 
 		}
 
+		final var lFilepaths = new ArrayList<String>(lMetaItems.itemCount);
 		for (int i = 0; i < lMetaItems.itemCount; i++) {
-			final var lDefinitionFilepath = lMetaItems.rootDirectory + lMetaItems.itemFileLocations[i] + ".json";
+			lFilepaths.add(lMetaItems.rootDirectory + lMetaItems.itemFileLocations[i] + ".json");
 
-			loadDefinitionFromFile(lDefinitionFilepath, pGson, pClassType);
 		}
+
+		loadDefinitionFiles(lFilepaths, pGson, pClassType, lStartTime);
+
 	}
 
 	protected void loadDefinitionFromFile(String pFilepath, final Gson pGson, Class<T> pClassType) {
-		final var lDefinitionFile = new File(pFilepath);
+		addParsedDefinition(parseDefinitionFile(pFilepath, pGson, pClassType), pClassType);
+
+	}
+
+	public void addDefintion(T pNewDefinition) {
+		if (pNewDefinition == null)
+			return;
 
-		if (!lDefinitionFile.exists()) {
-			Debug.debugManager().logger().w(getClass().getSimpleName(), String.format("Error loading %s from file: %s (file not found)", pClassType.getSimpleName(), pFilepath));
+		if (getDefinitionByName(pNewDefinition.name) != null)
 			return;
+
+		mDefinitions.add(pNewDefinition);
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/**
+	 * Reads and parses the definition files (in parallel, if enabled), then adds the definitions on this thread in the order of the filepaths. Assigning the UIDs in a fixed order keeps them (and so the
+	 * {@link DefinitionIDLUT}) the same from one run to the next, however the parsing was scheduled.
+	 */
+	private void loadDefinitionFiles(List<String> pFilepaths, final Gson pGson, Class<T> pClassType, long pStartTime) {
+		final var lParsedFiles = parseDefinitionFiles(pFilepaths, pGson, pClassType);
+		final long lParsedTime = System.nanoTime();
+
+		int lNumLoaded = 0;
+		final int lNumFiles = lParsedFiles.size();
+		for (int i = 0; i < lNumFiles; i++) {
+			if (addParsedDefinition(lParsedFiles.get(i), pClassType))
+				lNumLoaded++;
+
 		}
 
-		try {
-			Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Loading Definition type %s from file: %s", pClassType.getSimpleName(), pFilepath));
+		final long lEndTime = System.nanoTime();
+		Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Loaded %d/%d %s definitions in %.2fms (parsing %.2fms%s)", lNumLoaded, lNumFiles, pClassType.getSimpleName(),
+				(lEndTime - pStartTime) / 1e6, (lParsedTime - pStartTime) / 1e6, mUseParallelLoading ? ", parallel" : ""));
 
-			final var lFileContents = new String(Files.readAllBytes(lDefinitionFile.toPath()));
-			final var lNewDefinition = pGson.fromJson(lFileContents, pClassType);
+	}
 
-			if (lNewDefinition != null) {
-				lNewDefinition.initialize(getNewDefinitionUID());
-				mDefinitions.add(lNewDefinition);
+	private List<ParsedDefinitionFile<T>> parseDefinitionFiles(List<String> pFilepaths, final Gson pGson, Class<T> pClassType) {
+		final int lNumFiles = pFilepaths.size();
+		final var lParsedFiles = new ArrayList<ParsedDefinitionFile<T>>(lNumFiles);
 
-			} else {
-				Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("Failed to parse %s from file: %s", pClassType.getSimpleName(), pFilepath));
+		if (!mUseParallelLoading || lNumFiles < 2) {
+			for (int i = 0; i < lNumFiles; i++) {
+				lParsedFiles.add(parseDefinitionFile(pFilepaths.get(i), pGson, pClassType));
 
 			}
 
-		} catch (JsonSyntaxException e) {
-			Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("Failed to parse Json %s (JsonSyntaxException): %s", pClassType.getSimpleName(), pFilepath));
-			Debug.debugManager().logger().e(getClass().getSimpleName(), e.getMessage());
+			return lParsedFiles;
 
-			return;
+		}
+
+		// Gson instances are thread-safe, so all the files can be parsed with the same one
+		final var lForkJoinPool = mForkJoinPool != null ? mForkJoinPool : ForkJoinPool.commonPool();
+		final var lParseTasks = new ArrayList<ForkJoinTask<ParsedDefinitionFile<T>>>(lNumFiles);
+		for (int i = 0; i < lNumFiles; i++) {
+			final var lFilepath = pFilepaths.get(i);
+			lParseTasks.add(lForkJoinPool.submit(() -> parseDefinitionFile(lFilepath, pGson, pClassType)));
+
+		}
+
+		for (int i = 0; i < lNumFiles; i++) {
+			lParsedFiles.add(lParseTasks.get(i).join());
+
+		}
+
+		return lParsedFiles;
+
+	}
+
+	/** Reads and parses a definition file. Doesn't log or touch the definitions of this manager, so it can be called from any thread. */
+	private ParsedDefinitionFile<T> parseDefinitionFile(String pFilepath, final Gson pGson, Class<T> pClassType) {
+		final var lParsedFile = new ParsedDefinitionFile<T>();
+		lParsedFile.filepath = pFilepath;
+
+		// The definition can come from a mounted asset pack, the resources or the file system
+		if (!FileUtils.exists(pFilepath)) {
+			lParsedFile.fileNotFound = true;
+			lParsedFile.errorMessage = String.format("Error loading %s from file: %s (file not found)", pClassType.getSimpleName(), pFilepath);
+			return lParsedFile;
+
+		}
+
+		// Skip parsing files which haven't changed since they were last parsed
+		lParsedFile.definition = DefinitionCache.load(pFilepath, pClassType);
+		if (lParsedFile.definition != null)
+			return lParsedFile;
+
+		try {
+			final var lFileContents = new String(FileUtils.readAllBytes(pFilepath));
+			lParsedFile.definition = pGson.fromJson(lFileContents, pClassType);
+
+			if (lParsedFile.definition == null)
+				lParsedFile.errorMessage = String.format("Failed to parse %s from file: %s", pClassType.getSimpleName(), pFilepath);
+			else
+				DefinitionCache.store(pFilepath, lParsedFile.definition);
+
+		} catch (JsonSyntaxException e) {
+			lParsedFile.errorMessage = String.format("Failed to parse Json %s (JsonSyntaxException): %s", pClassType.getSimpleName(), pFilepath);
+			lParsedFile.exceptionMessage = e.getMessage();
 
 		} catch (IOException e) {
-			Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("Failed to parse Json %s (IOException): %s", pClassType.getSimpleName(), pFilepath));
-			Debug.debugManager().logger().e(getClass().getSimpleName(), e.getMessage());
+			lParsedFile.errorMessage = String.format("Failed to parse Json %s (IOException): %s", pClassType.getSimpleName(), pFilepath);
+			lParsedFile.exceptionMessage = e.getMessage();
 
-			return;
 		} catch (NumberFormatException e) {
-			Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("Failed to parse Json %s (NumberFormatException): %s", pClassType.getSimpleName(), pFilepath));
-			Debug.debugManager().logger().e(getClass().getSimpleName(), e.getMessage());
+			lParsedFile.errorMessage = String.format("Failed to parse Json %s (NumberFormatException): %s", pClassType.getSimpleName(), pFilepath);
+			lParsedFile.exceptionMessage = e.getMessage();
 
-			return;
 		}
+
+		return lParsedFile;
+
 	}
 
-	public void addDefintion(T pNewDefinition) {
-		if (pNewDefinition == null)
-			return;
+	/** Assigns the next UID to the parsed definition and adds it to this manager, or logs why the file couldn't be loaded. Returns true if the definition was added. */
+	private boolean addParsedDefinition(ParsedDefinitionFile<T> pParsedFile, Class<T> pClassType) {
+		if (pParsedFile.fileNotFound) {
+			Debug.debugManager().logger().w(getClass().getSimpleName(), pParsedFile.errorMessage);
+			return false;
 
-		if (getDefinitionByName(pNewDefinition.name) != null)
-			return;
+		}
 
-		mDefinitions.add(pNewDefinition);
+		Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Loading Definition type %s from file: %s", pClassType.getSimpleName(), pParsedFile.filepath));
 
-	}
+		if (pParsedFile.definition == null) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), pParsedFile.errorMessage);
+			if (pParsedFile.exceptionMessage != null)
+				Debug.debugManager().logger().e(getClass().getSimpleName(), pParsedFile.exceptionMessage);
 
-	// --------------------------------------
-	// Methods
-	// --------------------------------------
+			return false;
+
+		}
+
+		pParsedFile.definition.initialize(getNewDefinitionUID());
+		mDefinitions.add(pParsedFile.definition);
+		return true;
+
+	}
 
 	public T getDefinitionByName(String pName) {
 		if (pName == null)
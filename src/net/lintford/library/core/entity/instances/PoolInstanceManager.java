@@ -77,8 +77,9 @@ public abstract class PoolInstanceManager<T extends PooledBaseData> extends Inst
 
 		}
 
+		// Taken from the end of the list, so no items need to be shifted
 		if (mPooledItems.size() > 0) {
-			lInst = mPooledItems.remove(0);
+			lInst = mPooledItems.remove(mPooledItems.size() - 1);
 			mInstances.add(lInst);
 
 		} else {
@@ -118,7 +119,7 @@ public abstract class PoolInstanceManager<T extends PooledBaseData> extends Inst
 
 		}
 
-		T lInst = mPooledItems.remove(0);
+		T lInst = mPooledItems.remove(mPooledItems.size() - 1);
 
 		return lInst;
 
@@ -38,6 +38,15 @@ public class Circle extends Shape {
 		return y;
 	}
 
+	@Override
+	public void fillAABB(float[] pToFill) {
+		pToFill[0] = x - radius;
+		pToFill[1] = y - radius;
+		pToFill[2] = x + radius;
+		pToFill[3] = y + radius;
+
+	}
+
 	// --------------------------------------
 	// Constructors
 	// --------------------------------------
@@ -130,13 +139,13 @@ public class Circle extends Shape {
 		y = pY;
 		radius = pRadius;
 
+		// The center is the only vertex, which the SAT uses to find the separating axis of other shapes against this circle
+		mVertices.get(0).set(x, y);
+
 	}
 
 	public void set(Circle pOtherCicle) {
-		x = pOtherCicle.x;
-		y = pOtherCicle.y;
-
-		radius = pOtherCicle.radius;
+		set(pOtherCicle.x, pOtherCicle.y, pOtherCicle.radius);
 
 	}
 
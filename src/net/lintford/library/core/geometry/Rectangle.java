@@ -21,6 +21,12 @@ public class Rectangle extends Shape {
 
 	protected boolean mAreVerticesDirty;
 	protected List<Vector2f> mVertices;
+	protected final float[] mVertexArray = new float[NUM_VERTICES * 2];
+
+	// The rotation and pivot are public fields of the Shape, so the values the vertices were last built with are kept to detect changes
+	private float mVerticesRotation;
+	private float mVerticesPivotX;
+	private float mVerticesPivotY;
 	protected float x;
 	protected float y;
 	protected float w;
@@ -153,7 +159,7 @@ public class Rectangle extends Shape {
 	}
 
 	public List<Vector2f> getVertices() {
-		if (mAreVerticesDirty) {
+		if (areVerticesDirty()) {
 			updateVertices();
 
 		}
@@ -161,6 +167,38 @@ public class Rectangle extends Shape {
 		return mVertices;
 	}
 
+	/** Returns the vertices of this rectangle as (x0, y0, x1, y1, x2, y2, x3, y3). The array is cached until the rectangle changes, and must not be modified. */
+	public float[] getVertexArray() {
+		if (areVerticesDirty()) {
+			updateVertices();
+
+		}
+
+		return mVertexArray;
+	}
+
+	@Override
+	public int fillVertices(float[] pToFill) {
+		System.arraycopy(getVertexArray(), 0, pToFill, 0, Math.min(pToFill.length, NUM_VERTICES * 2));
+		return Math.min(NUM_VERTICES, pToFill.length / 2);
+
+	}
+
+	@Override
+	public void fillAABB(float[] pToFill) {
+		final float[] lVerts = getVertexArray();
+
+		pToFill[0] = Math.min(Math.min(lVerts[0], lVerts[2]), Math.min(lVerts[4], lVerts[6]));
+		pToFill[1] = Math.min(Math.min(lVerts[1], lVerts[3]), Math.min(lVerts[5], lVerts[7]));
+		pToFill[2] = Math.max(Math.max(lVerts[0], lVerts[2]), Math.max(lVerts[4], lVerts[6]));
+		pToFill[3] = Math.max(Math.max(lVerts[1], lVerts[3]), Math.max(lVerts[5], lVerts[7]));
+
+	}
+
+	protected boolean areVerticesDirty() {
+		return mAreVerticesDirty || mVerticesRotation != rotation || mVerticesPivotX != pivotX || mVerticesPivotY != pivotY;
+	}
+
 	public float centerX() {
 		return x + w / 2;
 	}
@@ -315,6 +353,7 @@ public class Rectangle extends Shape {
 	}
 
 	public void setDimensions(float pWidth, float pHeight) {
+		mAreVerticesDirty = mAreVerticesDirty || pWidth != w || pHeight != h;
 		w = pWidth;
 		h = pHeight;
 
@@ -370,34 +409,43 @@ public class Rectangle extends Shape {
 	}
 
 	protected void updateVertices() {
-		if (!mAreVerticesDirty)
+		if (!areVerticesDirty())
 			return;
 
-		final float lWidth = flipHorizontal ? -w : w;
-		final float lHeight = flipVertical ? -h : h;
+		final float lHalfWidth = (flipHorizontal ? -w : w) / 2;
+		final float lHalfHeight = (flipVertical ? -h : h) / 2;
 
 		final float lPX = flipHorizontal ? -pivotX : pivotX;
 		final float lPY = flipVertical ? -pivotY : pivotY;
 
-		// Get local space vertex positions
-		mVertices.get(0).set(-lWidth / 2, -lHeight / 2);
-		mVertices.get(1).set(lWidth / 2, -lHeight / 2);
-		mVertices.get(2).set(-lWidth / 2, lHeight / 2);
-		mVertices.get(3).set(lWidth / 2, lHeight / 2);
+		// Skip the trig for unrotated rectangles
+		final float sin = rotation == 0.f ? 0.f : (float) (Math.sin(rotation));
+		final float cos = rotation == 0.f ? 1.f : (float) (Math.cos(rotation));
 
-		final var sin = (float) (Math.sin(rotation));
-		final var cos = (float) (Math.cos(rotation));
+		final float lCenterX = centerX();
+		final float lCenterY = centerY();
 
-		// iterate over the vertices, rotating them by the given amt around the origin point of the rectangle.
+		// iterate over the local space vertex positions (tl, tr, bl, br), rotating them by the given amt around the origin point of the rectangle.
 		for (int i = 0; i < NUM_VERTICES; i++) {
+			final float lLocalX = (i & 1) == 0 ? -lHalfWidth : lHalfWidth;
+			final float lLocalY = i < 2 ? -lHalfHeight : lHalfHeight;
+
 			// Scale the vertices out from local center (before applying world translation)
-			float dx = -lPX + mVertices.get(i).x * scaleX;
-			float dy = -lPY + mVertices.get(i).y * scaleY;
+			final float dx = -lPX + lLocalX * scaleX;
+			final float dy = -lPY + lLocalY * scaleY;
+
+			final float lWorldX = lCenterX + (dx * cos - dy * sin) * scaleX;
+			final float lWorldY = lCenterY + (dx * sin + dy * cos) * scaleY;
 
-			mVertices.get(i).set(centerX() + (dx * cos - (dy * 1f) * sin) * scaleX, centerY() + (dx * sin + (dy * 1f) * cos) * scaleY);
+			mVertexArray[i * 2 + 0] = lWorldX;
+			mVertexArray[i * 2 + 1] = lWorldY;
+			mVertices.get(i).set(lWorldX, lWorldY);
 
 		}
 
+		mVerticesRotation = rotation;
+		mVerticesPivotX = pivotX;
+		mVerticesPivotY = pivotY;
 		mAreVerticesDirty = false;
 
 	}
@@ -28,6 +28,49 @@ public abstract class Shape implements Serializable {
 
 	public abstract List<Vector2f> getVertices();
 
+	/** Writes the x and y components of the vertices of this shape into the given array (x0, y0, x1, y1, ...), and returns the number of vertices written. */
+	public int fillVertices(float[] pToFill) {
+		final var lVertices = getVertices();
+		final int lNumVertices = Math.min(lVertices.size(), pToFill.length / 2);
+		for (int i = 0; i < lNumVertices; i++) {
+			final var lVertex = lVertices.get(i);
+			pToFill[i * 2 + 0] = lVertex.x;
+			pToFill[i * 2 + 1] = lVertex.y;
+
+		}
+
+		return lNumVertices;
+
+	}
+
+	/** Writes the axis-aligned bounding box which encloses this shape into the given array, as (minX, minY, maxX, maxY). */
+	public void fillAABB(float[] pToFill) {
+		float lMinX = Float.MAX_VALUE;
+		float lMinY = Float.MAX_VALUE;
+		float lMaxX = -Float.MAX_VALUE;
+		float lMaxY = -Float.MAX_VALUE;
+
+		final var lVertices = getVertices();
+		final int lNumVertices = lVertices.size();
+		for (int i = 0; i < lNumVertices; i++) {
+			final var lVertex = lVertices.get(i);
+			if (lVertex == null)
+				continue;
+
+			lMinX = Math.min(lMinX, lVertex.x);
+			lMinY = Math.min(lMinY, lVertex.y);
+			lMaxX = Math.max(lMaxX, lVertex.x);
+			lMaxY = Math.max(lMaxY, lVertex.y);
+
+		}
+
+		pToFill[0] = lMinX;
+		pToFill[1] = lMinY;
+		pToFill[2] = lMaxX;
+		pToFill[3] = lMaxY;
+
+	}
+
 	public void setPivotPoint(float pX, float pY) {
 		pivotX = pX;
 		pivotY = pY;
@@ -13,6 +13,7 @@ import com.google.gson.JsonSyntaxException;
 import net.lintford.library.ConstantsApp;
 import net.lintford.library.core.debug.Debug;
 import net.lintford.library.core.entity.definitions.BaseDefinition;
+import net.lintford.library.core.storage.DefinitionCache;
 
 public class SpriteGraphDefinition extends BaseDefinition {
 
@@ -69,8 +70,14 @@ public class SpriteGraphDefinition extends BaseDefinition {
 
 		try {
 
-			final String lFileContents = new String(Files.readAllBytes(pFile.toPath()));
-			final var lSpriteGraphDefinition = GSON.fromJson(lFileContents, SpriteGraphDefinition.class);
+			// Skip parsing files which haven't changed since they were last parsed
+			var lSpriteGraphDefinition = DefinitionCache.load(pFile.getPath(), SpriteGraphDefinition.class);
+			if (lSpriteGraphDefinition == null) {
+				final String lFileContents = new String(Files.readAllBytes(pFile.toPath()));
+				lSpriteGraphDefinition = GSON.fromJson(lFileContents, SpriteGraphDefinition.class);
+				DefinitionCache.store(pFile.getPath(), lSpriteGraphDefinition);
+
+			}
 
 			// Check the integrity of the loaded spritsheet
 			if (lSpriteGraphDefinition == null || lSpriteGraphDefinition.rootNode() == null) {
@@ -2,7 +2,6 @@ package net.lintford.library.core.graphics.fonts;
 
 import net.lintford.library.core.graphics.Color;
 import net.lintford.library.core.graphics.ColorConstants;
-import net.lintford.library.core.graphics.fonts.BitmapFont.Glyph;
 import net.lintford.library.core.graphics.textures.texturebatch.TextureBatchPCT;
 
 // TODO: Need to implement the spritebatch like TileSetRendererVBO, i.e. with separate shaders and 
@@ -86,102 +85,42 @@ public class AWTBitmapFontSpriteBatch extends TextureBatchPCT {
 		if (pText == null)
 			return;
 
-		final float lSpaceBetweenLines = 0f;
+		// The layout (word wrapping, glyph lookups) is cached by the font, so static text is only laid out once
+		final var lTextLayout = mBitmapFont.getTextLayout(pText, pScale, pWordWrapWidth, pCapWidth, mTrimText);
+		if (lTextLayout == null)
+			return;
 
 		final var lTextColor = isShadow ? ColorConstants.getBlackWithAlpha(0.7f) : pTint;
-		float lPosX = pX + -(isShadow ? -2 : 0);
-		float lPosY = pY + (isShadow ? 2 : 0);
-
-		float lWrapWidth = 0;
-		boolean lJustWrapped = false;
-
-		final int lTextLength = pCapWidth == NO_WIDTH_CAP ? pText.length() : Math.min(pCapWidth, pText.length());
-
-		for (int i = 0; i < lTextLength; i++) {
-			char ch = pText.charAt(i);
-
-			if (ch == '\n') {
-				/* Line feed, set x and y to draw at the next line */
-				lPosY += (mBitmapFont.fontHeight() + lSpaceBetweenLines) * pScale;
-				lPosX = pX;
-				lWrapWidth = 0;
+		final float lPosX = pX + -(isShadow ? -2 : 0);
+		final float lPosY = pY + (isShadow ? 2 : 0);
+
+		final boolean lDrawShadow = shadowEnabled();
+		final float[] lGlyphData = lTextLayout.glyphData();
+		final int[] lGlyphPages = lTextLayout.glyphPages();
+		final int lGlyphCount = lTextLayout.glyphCount();
+		final int lTextGlyphCount = lTextLayout.textGlyphCount();
+
+		for (int i = 0; i < lGlyphCount; i++) {
+			// The glyphs can be spread over several atlas pages (the texture is only switched when the page changes)
+			final var lFontTexture = mBitmapFont.fontTexture(lGlyphPages[i]);
+			if (lFontTexture == null)
 				continue;
-			}
-			if (ch == '\r') {
-				/* Carriage return, set x and y to draw at the next line */
-				lPosY += (mBitmapFont.fontHeight() + lSpaceBetweenLines) * pScale;
-				lPosX = pX;
-				lWrapWidth = 0;
-				continue;
-			}
-
-			// word wrapping works on words, so check the next word to see if it can fit on the line ...
-			if (pWordWrapWidth != NO_WORD_WRAP) {
-				if ((lPosX == pX) || ch == ' ') {
-					for (int j = i + 1; j < pText.length(); j++) {
-						char ch_m = pText.charAt(j);
-
-						Glyph lCharGlyph = mBitmapFont.glyphs().get(ch_m);
-
-						if (lCharGlyph == null)
-							continue;
-						lWrapWidth += lCharGlyph.width * pScale;
-
-						if (ch_m == ' ') {
-							break;
-						}
-
-						if (lWrapWidth >= pWordWrapWidth) {
-							float temp = (mBitmapFont.fontHeight() + lSpaceBetweenLines) * pScale;
-							lPosY += temp;
-							lPosX = pX;
-							lWrapWidth = 0;
-							lJustWrapped = true;
-						}
-					}
-				}
-			}
-
-			if (ch == ' ' && mTrimText && lPosX == pX && lPosY > pY) {
-				continue;
-			}
-
-			if (lJustWrapped && ch == ' ') {
-				lJustWrapped = false;
-				// continue;
-			}
-
-			final var lCharGlyph = mBitmapFont.glyphs().get(ch);
-
-			if (lCharGlyph != null) {
-				if (shadowEnabled())
-					draw(mBitmapFont.fontTexture(), lCharGlyph.x, lCharGlyph.y, lCharGlyph.width, lCharGlyph.height, lPosX - 1, lPosY + 1, lCharGlyph.width * pScale, lCharGlyph.height * pScale, pZ, ColorConstants.BLACK);
-
-				draw(mBitmapFont.fontTexture(), lCharGlyph.x, lCharGlyph.y, lCharGlyph.width, lCharGlyph.height, lPosX, lPosY, lCharGlyph.width * pScale, lCharGlyph.height * pScale, pZ, lTextColor);
-
-				lPosX += lCharGlyph.width * pScale;
-
-			} else {
-				lPosX += mBitmapFont.pointSize() * pScale;
-
-			}
-
-		}
-
-		// Draw the elipses
-		if (lTextLength != pText.length()) {
-			Glyph lCharGlyph = mBitmapFont.glyphs().get('.');
-
-			for (int i = 0; i < 3; i++) {
-				if (lCharGlyph != null) {
-					draw(mBitmapFont.fontTexture(), lCharGlyph.x, lCharGlyph.y, lCharGlyph.width, lCharGlyph.height, lPosX, lPosY, lCharGlyph.width * pScale, lCharGlyph.height * pScale, pZ, lTextColor);
-					lPosX += lCharGlyph.width * pScale;
-
-				} else {
-					lPosX += mBitmapFont.pointSize() * pScale;
 
-				}
-			}
+			final int lIndex = i * BitmapFontTextLayout.FLOATS_PER_GLYPH;
+			final float lSrcX = lGlyphData[lIndex];
+			final float lSrcY = lGlyphData[lIndex + 1];
+			final float lSrcW = lGlyphData[lIndex + 2];
+			final float lSrcH = lGlyphData[lIndex + 3];
+			final float lDstX = lPosX + lGlyphData[lIndex + 4];
+			final float lDstY = lPosY + lGlyphData[lIndex + 5];
+			final float lDstW = lGlyphData[lIndex + 6];
+			final float lDstH = lGlyphData[lIndex + 7];
+
+			// The ellipsis of capped text is drawn without a shadow
+			if (lDrawShadow && i < lTextGlyphCount)
+				draw(lFontTexture, lSrcX, lSrcY, lSrcW, lSrcH, lDstX - 1, lDstY + 1, lDstW, lDstH, pZ, ColorConstants.BLACK);
+
+			draw(lFontTexture, lSrcX, lSrcY, lSrcW, lSrcH, lDstX, lDstY, lDstW, lDstH, pZ, lTextColor);
 
 		}
 
@@ -0,0 +1,746 @@
+package net.lintford.library.core.graphics.fonts;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.imageio.ImageIO;
+
+import org.lwjgl.opengl.GL11;
+
+import net.lintford.library.core.LintfordCore;
+import net.lintford.library.core.ResourceManager;
+import net.lintford.library.core.debug.Debug;
+import net.lintford.library.core.graphics.textures.Texture;
+import net.lintford.library.core.storage.AppStorage;
+import net.lintford.library.core.storage.FileUtils;
+
+/**
+ * A font rasterized into one or more atlas pages (see {@link FontAtlasBuilder}). Glyphs are organized in blocks of {@link #GLYPH_BLOCK_SIZE} characters: the Latin-1 block is rasterized when the font is
+ * loaded, any other block (Cyrillic, Greek, ...) is rasterized on a background thread the first time one of its characters is requested, and added to the font (together with its pages) when the text is next
+ * laid out. Until then, its characters are skipped like characters missing from the font. Built atlases are cached on disk, so they are only rasterized once.
+ */
+// http://forum.lwjgl.org/index.php?topic=5573.0
+// https://github.com/SilverTiger/lwjgl3-tutorial/wiki/Fonts
+public class BitmapFont {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public class Glyph {
+		public final int width;
+		public final int height;
+		public final int x;
+		public final int y;
+		public final int page;
+
+		public Glyph(int width, int height, int x, int y) {
+			this(width, height, x, y, 0);
+		}
+
+		public Glyph(int width, int height, int x, int y, int page) {
+			this.width = width;
+			this.height = height;
+			this.x = x;
+			this.y = y;
+			this.page = page;
+		}
+	}
+
+	/** A glyph block which has been rasterized (or loaded from the cache) on the background thread, waiting to be added to the font. */
+	private static class CompletedGlyphBlock {
+		final int blockIndex;
+		final int generation;
+		final FontAtlas fontAtlas;
+
+		CompletedGlyphBlock(int pBlockIndex, int pGeneration, FontAtlas pFontAtlas) {
+			blockIndex = pBlockIndex;
+			generation = pGeneration;
+			fontAtlas = pFontAtlas;
+		}
+	}
+
+	/** The key of a cached {@link BitmapFontTextLayout}. A single instance is reused for lookups, so finding a cached layout doesn't allocate. */
+	private static class TextLayoutKey {
+		String text;
+		float scale;
+		float wordWrapWidth;
+		int capWidth;
+		boolean trimText;
+
+		TextLayoutKey set(String pText, float pScale, float pWordWrapWidth, int pCapWidth, boolean pTrimText) {
+			text = pText;
+			scale = pScale;
+			wordWrapWidth = pWordWrapWidth;
+			capWidth = pCapWidth;
+			trimText = pTrimText;
+			return this;
+		}
+
+		@Override
+		public int hashCode() {
+			int lHash = text.hashCode();
+			lHash = 31 * lHash + Float.floatToIntBits(scale);
+			lHash = 31 * lHash + Float.floatToIntBits(wordWrapWidth);
+			lHash = 31 * lHash + capWidth;
+			return 31 * lHash + (trimText ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(Object pOther) {
+			if (!(pOther instanceof TextLayoutKey))
+				return false;
+
+			final var lOther = (TextLayoutKey) pOther;
+			return scale == lOther.scale && wordWrapWidth == lOther.wordWrapWidth && capWidth == lOther.capWidth && trimText == lOther.trimText && text.equals(lOther.text);
+		}
+	}
+
+	public static final int NO_WORD_WRAP = -1;
+	public static final int NO_WIDTH_CAP = -1;
+	
+	public static final boolean SAVE_BITMAP_TEXTURES_ON_CREATION = false;
+
+	/** The number of characters per glyph block. Blocks are rasterized as a whole, and their glyphs are looked up directly by the low byte of the character. */
+	public static final int GLYPH_BLOCK_SIZE = 256;
+	public static final int GLYPH_BLOCK_COUNT = (Character.MAX_VALUE + 1) / GLYPH_BLOCK_SIZE;
+
+	private static final byte GLYPH_BLOCK_NOT_LOADED = 0;
+	private static final byte GLYPH_BLOCK_LOADING = 1;
+	private static final byte GLYPH_BLOCK_LOADED = 2;
+
+	/** The number of text layouts each font keeps, before the least recently drawn ones are discarded. */
+	public static final int DEFAULT_LAYOUT_CACHE_SIZE = 256;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private Font mFont;
+	private String mFontFileLocation;
+	private String mFontName;
+	private float mPointSize;
+	private boolean mIsLoaded;
+	private boolean mAreGlyphsLoaded;
+	private boolean mAntiAlias;
+
+	private float mFontHeight;
+
+	private Map<Character, Glyph> mGlyphs = new HashMap<>();
+	private final Glyph[][] mGlyphBlocks = new Glyph[GLYPH_BLOCK_COUNT][];
+	private final byte[] mGlyphBlockStates = new byte[GLYPH_BLOCK_COUNT];
+	private boolean mLoadGlyphBlocksOnDemand = true;
+	private int mMaxPageSize = FontAtlasBuilder.DEFAULT_MAX_PAGE_SIZE;
+
+	private FontAtlasBuilder mFontAtlasBuilder;
+	private String mFontAtlasKey;
+	private int mGlyphGeneration;
+	private final ConcurrentLinkedQueue<CompletedGlyphBlock> mCompletedGlyphBlocks = new ConcurrentLinkedQueue<>();
+
+	private ResourceManager mResourceManager;
+	private final List<Texture> mPageTextures = new ArrayList<>();
+	private final List<BufferedImage> mPendingPageImages = new ArrayList<>();
+
+	private int mLayoutCacheSize = DEFAULT_LAYOUT_CACHE_SIZE;
+	private final TextLayoutKey mLayoutLookupKey = new TextLayoutKey();
+	private final Map<TextLayoutKey, BitmapFontTextLayout> mLayoutCache = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TextLayoutKey, BitmapFontTextLayout> pEldest) {
+			return size() > mLayoutCacheSize;
+		}
+	};
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public Map<Character, Glyph> glyphs() {
+		return mGlyphs;
+	}
+
+	/** Returns the glyph of the character, or null if the font has none. Requests the glyph block of the character if it hasn't been loaded yet (see {@link #loadGlyphBlocksOnDemand()}). */
+	public Glyph getGlyph(char pCharacter) {
+		final var lGlyphBlock = mGlyphBlocks[pCharacter / GLYPH_BLOCK_SIZE];
+		if (lGlyphBlock != null)
+			return lGlyphBlock[pCharacter % GLYPH_BLOCK_SIZE];
+
+		requestGlyphBlock(pCharacter / GLYPH_BLOCK_SIZE);
+		return null;
+	}
+
+	public boolean loadGlyphBlocksOnDemand() {
+		return mLoadGlyphBlocksOnDemand;
+	}
+
+	/** If enabled (the default), the glyph blocks beyond Latin-1 are rasterized on a background thread the first time one of their characters is requested. */
+	public void loadGlyphBlocksOnDemand(boolean pNewValue) {
+		mLoadGlyphBlocksOnDemand = pNewValue;
+	}
+
+	public int maxPageSize() {
+		return mMaxPageSize;
+	}
+
+	/** Sets the maximum width and height of the atlas pages (e.g. to the GL_MAX_TEXTURE_SIZE). Takes effect when the glyphs are next loaded. */
+	public void maxPageSize(int pNewValue) {
+		mMaxPageSize = pNewValue;
+	}
+
+	public int layoutCacheSize() {
+		return mLayoutCacheSize;
+	}
+
+	/** Sets the number of text layouts kept by this font. A size of 0 disables the cache, i.e. text is laid out again each time it is drawn. */
+	public void layoutCacheSize(int pNewValue) {
+		mLayoutCacheSize = Math.max(0, pNewValue);
+		if (mLayoutCache.size() > mLayoutCacheSize)
+			mLayoutCache.clear();
+	}
+
+	public int layoutCacheCount() {
+		return mLayoutCache.size();
+	}
+
+	public String fontName() {
+		return mFontName;
+	}
+
+	public float pointSize() {
+		return mPointSize;
+	}
+
+	/** Returns the texture of the first page, which contains the Latin-1 glyphs. */
+	public Texture fontTexture() {
+		return fontTexture(0);
+	}
+
+	/** Returns the texture of the atlas page, or null if it hasn't been created (yet). */
+	public Texture fontTexture(int pPageIndex) {
+		return pPageIndex < mPageTextures.size() ? mPageTextures.get(pPageIndex) : null;
+	}
+
+	public int pageCount() {
+		return mPageTextures.size();
+	}
+
+	public boolean isLoaded() {
+		return mIsLoaded;
+	}
+
+	/** Returns true if the glyph metrics have been created, in which case the string measurements are available (even without a GL context). */
+	public boolean areGlyphsLoaded() {
+		return mAreGlyphsLoaded;
+	}
+
+	public float fontHeight() {
+		return mFontHeight;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public BitmapFont(String pName, String pFontFileLocation, float pPointSize, boolean pAntiAlias) {
+		mFontName = pName;
+		mAntiAlias = pAntiAlias;
+		mFontFileLocation = pFontFileLocation;
+		mPointSize = pPointSize;
+		mIsLoaded = false;
+		mFontHeight = pPointSize;
+
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	public void loadGLContent(ResourceManager pResourceManager) {
+		if (loadGlyphs() == null)
+			return;
+
+		mResourceManager = pResourceManager;
+		mIsLoaded = true;
+
+		createPageTextures();
+
+	}
+
+	public void unloadGLContent() {
+		mResourceManager = null;
+		mIsLoaded = false;
+		resetGlyphs();
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/**
+	 * Loads the font file and the Latin-1 glyph block, from the atlas cache or by rasterizing it. This doesn't require a GL context (the page textures are created in {@link #loadGLContent(ResourceManager)}).
+	 * Returns the atlas of the Latin-1 block, or null if the font couldn't be loaded.
+	 */
+	public FontAtlas loadGlyphs() {
+		resetGlyphs();
+
+		if (mFontFileLocation.charAt(0) == '/') {
+			// Load from file
+			try {
+				InputStream lFontInputStream = FileUtils.class.getResourceAsStream(mFontFileLocation);
+				mFont = Font.createFont(Font.TRUETYPE_FONT, lFontInputStream).deriveFont(mPointSize);
+
+			} catch (FontFormatException e) {
+				Debug.debugManager().logger().e(getClass().getSimpleName(), "Font format exception with font resource: " + mFontFileLocation);
+				Debug.debugManager().logger().printException(getClass().getSimpleName(), e);
+
+			} catch (IOException e) {
+				Debug.debugManager().logger().e(getClass().getSimpleName(), "Specified font resource not found: " + mFontFileLocation);
+				Debug.debugManager().logger().printException(getClass().getSimpleName(), e);
+
+			}
+
+		} else {
+			// Load from file
+			try {
+				File lFontFile = new File(mFontFileLocation);
+				if (!lFontFile.exists()) {
+					Debug.debugManager().logger().e(getClass().getSimpleName(), "Font file not found at location: " + mFontFileLocation);
+					return null;
+				}
+
+				InputStream lFontInputStream = new FileInputStream(lFontFile);
+
+				mFont = Font.createFont(Font.TRUETYPE_FONT, lFontInputStream).deriveFont(mPointSize);
+
+			} catch (FontFormatException e) {
+				Debug.debugManager().logger().e(getClass().getSimpleName(), "Font format exception with font file: " + mFontFileLocation);
+				Debug.debugManager().logger().printException(getClass().getSimpleName(), e);
+
+			} catch (IOException e) {
+				Debug.debugManager().logger().e(getClass().getSimpleName(), "Specified font file not found: " + mFontFileLocation);
+				Debug.debugManager().logger().printException(getClass().getSimpleName(), e);
+
+			}
+
+		}
+
+		if (mFont == null)
+			return null;
+
+		mFontAtlasBuilder = new FontAtlasBuilder(mFont, mAntiAlias);
+		mFontAtlasBuilder.maxPageSize(mMaxPageSize);
+		mFontAtlasKey = fontAtlasKey();
+
+		final var lFontAtlas = mFontAtlasBuilder.build(glyphBlockCodePoints(0), glyphBlockKey(0));
+		addGlyphBlock(0, lFontAtlas);
+
+		mAreGlyphsLoaded = true;
+
+		return lFontAtlas;
+	}
+
+	/** Adds the glyph blocks which have finished loading on the background thread (creating their page textures if the GL content is loaded). Called before text is measured or laid out. */
+	public void addCompletedGlyphBlocks() {
+		CompletedGlyphBlock lCompletedGlyphBlock;
+		while ((lCompletedGlyphBlock = mCompletedGlyphBlocks.poll()) != null) {
+			// Blocks requested before the font was reloaded are discarded
+			if (lCompletedGlyphBlock.generation != mGlyphGeneration)
+				continue;
+
+			if (lCompletedGlyphBlock.fontAtlas == null) {
+				Debug.debugManager().logger().w(getClass().getSimpleName(), String.format("Couldn't create glyph block %d of font %s", lCompletedGlyphBlock.blockIndex, mFontName));
+				mGlyphBlocks[lCompletedGlyphBlock.blockIndex] = new Glyph[GLYPH_BLOCK_SIZE];
+				mGlyphBlockStates[lCompletedGlyphBlock.blockIndex] = GLYPH_BLOCK_LOADED;
+				continue;
+
+			}
+
+			addGlyphBlock(lCompletedGlyphBlock.blockIndex, lCompletedGlyphBlock.fontAtlas);
+
+			// Layouts created while the block was loading are missing its glyphs
+			mLayoutCache.clear();
+
+		}
+
+		if (mIsLoaded)
+			createPageTextures();
+
+	}
+
+	private void requestGlyphBlock(int pBlockIndex) {
+		if (!mAreGlyphsLoaded || !mLoadGlyphBlocksOnDemand || mGlyphBlockStates[pBlockIndex] != GLYPH_BLOCK_NOT_LOADED)
+			return;
+
+		mGlyphBlockStates[pBlockIndex] = GLYPH_BLOCK_LOADING;
+
+		final int lGeneration = mGlyphGeneration;
+		mFontAtlasBuilder.buildAsync(glyphBlockCodePoints(pBlockIndex), glyphBlockKey(pBlockIndex)).whenComplete((pFontAtlas, pException) -> {
+			mCompletedGlyphBlocks.add(new CompletedGlyphBlock(pBlockIndex, lGeneration, pFontAtlas));
+		});
+
+	}
+
+	private void addGlyphBlock(int pBlockIndex, FontAtlas pFontAtlas) {
+		final int lFirstPage = mPageTextures.size() + mPendingPageImages.size();
+		final var lGlyphBlock = new Glyph[GLYPH_BLOCK_SIZE];
+
+		final int lGlyphCount = pFontAtlas.glyphCount();
+		for (int i = 0; i < lGlyphCount; i++) {
+			final char lCharacter = (char) pFontAtlas.codePoint(i);
+			final var lNewGlyph = new Glyph(pFontAtlas.glyphWidth(i), pFontAtlas.glyphHeight(i), pFontAtlas.glyphX(i), pFontAtlas.glyphY(i), lFirstPage + pFontAtlas.glyphPage(i));
+
+			lGlyphBlock[lCharacter % GLYPH_BLOCK_SIZE] = lNewGlyph;
+			mGlyphs.put(lCharacter, lNewGlyph);
+
+		}
+
+		final int lPageCount = pFontAtlas.pageCount();
+		for (int i = 0; i < lPageCount; i++) {
+			mPendingPageImages.add(pFontAtlas.pageImage(i));
+
+		}
+
+		mGlyphBlocks[pBlockIndex] = lGlyphBlock;
+		mGlyphBlockStates[pBlockIndex] = GLYPH_BLOCK_LOADED;
+
+	}
+
+	/** Creates the textures of the pages which have been added since the last call. Requires a GL context. */
+	private void createPageTextures() {
+		for (final var lPageImage : mPendingPageImages) {
+			// The first page keeps the name of the font, so it can still be found in the texture manager by that name
+			final int lPageIndex = mPageTextures.size();
+			final var lTextureName = lPageIndex == 0 ? mFontName : mFontName + "_" + lPageIndex;
+
+			// Create a new font texture and add it to our EntityGroup
+			mPageTextures.add(mResourceManager.textureManager().createFontTexture(lTextureName, lPageImage, GL11.GL_LINEAR, LintfordCore.CORE_ENTITY_GROUP_ID));
+
+			if (SAVE_BITMAP_TEXTURES_ON_CREATION) {
+				final var lDebugFilename = AppStorage.getGameDataDirectory() + AppStorage.FILE_SEPERATOR + lTextureName + mPointSize + ".png";
+
+				try {
+					ImageIO.write(lPageImage, "png", new File(lDebugFilename));
+				} catch (IOException e) {
+				}
+
+			}
+
+		}
+
+		mPendingPageImages.clear();
+
+	}
+
+	private void resetGlyphs() {
+		mGlyphGeneration++;
+		mAreGlyphsLoaded = false;
+		mGlyphs.clear();
+		for (int i = 0; i < GLYPH_BLOCK_COUNT; i++) {
+			mGlyphBlocks[i] = null;
+			mGlyphBlockStates[i] = GLYPH_BLOCK_NOT_LOADED;
+
+		}
+
+		mCompletedGlyphBlocks.clear();
+		mPendingPageImages.clear();
+		mPageTextures.clear();
+		mLayoutCache.clear();
+
+	}
+
+	/** Returns the characters of the glyph block. The Latin-1 block contains the characters 32-255 (except DEL), the other blocks the printable characters the font can display. */
+	private int[] glyphBlockCodePoints(int pBlockIndex) {
+		final int lFirstCharacter = pBlockIndex * GLYPH_BLOCK_SIZE;
+		final var lCodePoints = new int[GLYPH_BLOCK_SIZE];
+		int lCount = 0;
+
+		for (int i = lFirstCharacter; i < lFirstCharacter + GLYPH_BLOCK_SIZE; i++) {
+			if (pBlockIndex == 0) {
+				if (i < 32 || i == 127)
+					continue;
+
+			} else if (Character.isISOControl(i) || Character.isSurrogate((char) i) || !mFont.canDisplay(i)) {
+				continue;
+
+			}
+
+			lCodePoints[lCount++] = i;
+
+		}
+
+		return Arrays.copyOf(lCodePoints, lCount);
+
+	}
+
+	private String glyphBlockKey(int pBlockIndex) {
+		return mFontAtlasKey == null ? null : mFontAtlasKey + "|" + pBlockIndex;
+	}
+
+	/** Returns the key identifying the atlases of this font (file version, point size, rasterization settings), or null if the font file version is unknown, in which case the atlases aren't cached. */
+	private String fontAtlasKey() {
+		long lFileSize;
+		long lLastModified;
+
+		try {
+			if (mFontFileLocation.charAt(0) == '/') {
+				final var lResourceUrl = FileUtils.class.getResource(mFontFileLocation);
+				if (lResourceUrl == null)
+					return null;
+
+				final var lConnection = lResourceUrl.openConnection();
+				lFileSize = lConnection.getContentLengthLong();
+				lLastModified = lConnection.getLastModified();
+				lConnection.getInputStream().close();
+
+			} else {
+				final var lFontFile = new File(mFontFileLocation).getAbsoluteFile();
+				lFileSize = lFontFile.length();
+				lLastModified = lFontFile.lastModified();
+
+			}
+
+		} catch (IOException e) {
+			return null;
+
+		}
+
+		// The Java version is part of the key, as the rasterization can differ between versions
+		return String.format("%s|%d|%d|%s|%b|%d|%s", mFontFileLocation, lFileSize, lLastModified, Float.toString(mPointSize), mAntiAlias, mFontAtlasBuilder.maxPageSize(), System.getProperty("java.version"));
+
+	}
+
+	public float getStringWidth(String pText) {
+		return getStringWidth(pText, 1f);
+	}
+
+	public float getStringWidth(String pText, float pScaleFactor) {
+		if (!mAreGlyphsLoaded || pText == null)
+			return 0f;
+
+		if (!mCompletedGlyphBlocks.isEmpty())
+			addCompletedGlyphBlocks();
+
+		float lResult = 0;
+		float lTempResult = 0;
+
+		for (int i = 0; i < pText.length(); i++) {
+			char ch = pText.charAt(i);
+
+			if (ch == '\n') {
+				// Line feed
+				lResult = Math.max(lResult, lTempResult);
+				lTempResult = 0;
+				continue;
+			}
+			if (ch == '\r') {
+				// Carriage return
+				lResult = Math.max(lResult, lTempResult);
+				lTempResult = 0;
+				continue;
+			}
+
+			Glyph lCharGlyph = getGlyph(ch);
+			if (lCharGlyph != null) {
+				// Increment the temp result
+				lTempResult += lCharGlyph.width * pScaleFactor;
+			}
+		}
+
+		return Math.max(lResult, lTempResult);
+	}
+
+	public float getStringHeight(String pText) {
+		return getStringHeight(pText, 1f);
+	}
+
+	public float getStringHeight(String pText, float pScaleFactor) {
+		return getStringHeight(pText, 1f, -1) * pScaleFactor;
+	}
+
+	public float getStringHeight(String pText, float pScale, float pWordWrapWidth) {
+		if (!mAreGlyphsLoaded)
+			return 0.f;
+
+		if (pText == null || pText.length() == 0)
+			return 0.f;
+
+		if (!mCompletedGlyphBlocks.isEmpty())
+			addCompletedGlyphBlocks();
+
+		float lResult = mFontHeight * pScale;
+		float lWrapWidth = 0;
+
+		for (int i = 0; i < pText.length(); i++) {
+			char ch = pText.charAt(i);
+
+			if (ch == '\n') {
+				// Line feed
+				lResult += mFontHeight * pScale;
+				continue;
+			}
+			if (ch == '\r') {
+				// Carriage return
+				lResult += mFontHeight * pScale;
+				continue;
+			}
+
+			// word wrapping works on words
+			if (pWordWrapWidth != NO_WORD_WRAP) {
+				if (ch == ' ') {
+					for (int j = i + 1; j < pText.length(); j++) {
+						char ch_m = pText.charAt(j);
+
+						Glyph lCharGlyph = getGlyph(ch_m);
+
+						if (lCharGlyph == null)
+							continue;
+						lWrapWidth += lCharGlyph.width * pScale;
+
+						if (ch_m == ' ') {
+							break;
+						}
+
+						if (lWrapWidth >= pWordWrapWidth) {
+							lResult += mFontHeight * pScale + 5f;
+							lWrapWidth = 0;
+						}
+					}
+				}
+			}
+
+		}
+
+		return lResult;
+	}
+
+	/**
+	 * Returns the layout of the text, i.e. the quads of its glyphs relative to the text position, or null if the glyphs haven't been loaded. Layouts are cached (and evicted least recently used first), so
+	 * text which doesn't change from one frame to the next is only laid out once. Not thread-safe, layouts should be requested from the thread which draws the text.
+	 */
+	public BitmapFontTextLayout getTextLayout(String pText, float pScale, float pWordWrapWidth, int pCapWidth, boolean pTrimText) {
+		if (!mAreGlyphsLoaded || pText == null)
+			return null;
+
+		if (!mCompletedGlyphBlocks.isEmpty())
+			addCompletedGlyphBlocks();
+
+		if (mLayoutCacheSize == 0)
+			return createTextLayout(pText, pScale, pWordWrapWidth, pCapWidth, pTrimText);
+
+		var lTextLayout = mLayoutCache.get(mLayoutLookupKey.set(pText, pScale, pWordWrapWidth, pCapWidth, pTrimText));
+		if (lTextLayout == null) {
+			lTextLayout = createTextLayout(pText, pScale, pWordWrapWidth, pCapWidth, pTrimText);
+			mLayoutCache.put(new TextLayoutKey().set(pText, pScale, pWordWrapWidth, pCapWidth, pTrimText), lTextLayout);
+
+		}
+
+		return lTextLayout;
+
+	}
+
+	public void clearLayoutCache() {
+		mLayoutCache.clear();
+
+	}
+
+	private BitmapFontTextLayout createTextLayout(String pText, float pScale, float pWordWrapWidth, int pCapWidth, boolean pTrimText) {
+		final float lSpaceBetweenLines = 0f;
+		final float lLineHeight = (mFontHeight + lSpaceBetweenLines) * pScale;
+
+		final int lTextLength = pCapWidth == NO_WIDTH_CAP ? pText.length() : Math.min(pCapWidth, pText.length());
+		final var lTextLayout = new BitmapFontTextLayout(lTextLength + 3);
+
+		float lPosX = 0;
+		float lPosY = 0;
+		float lWrapWidth = 0;
+
+		for (int i = 0; i < lTextLength; i++) {
+			char ch = pText.charAt(i);
+
+			if (ch == '\n' || ch == '\r') {
+				/* Line feed or carriage return, continue at the start of the next line */
+				lPosY += lLineHeight;
+				lPosX = 0;
+				lWrapWidth = 0;
+				continue;
+			}
+
+			// word wrapping works on words, so check the next word to see if it can fit on the line ...
+			if (pWordWrapWidth != NO_WORD_WRAP) {
+				if ((lPosX == 0) || ch == ' ') {
+					for (int j = i + 1; j < pText.length(); j++) {
+						char ch_m = pText.charAt(j);
+
+						Glyph lCharGlyph = getGlyph(ch_m);
+
+						if (lCharGlyph == null)
+							continue;
+						lWrapWidth += lCharGlyph.width * pScale;
+
+						if (ch_m == ' ') {
+							break;
+						}
+
+						if (lWrapWidth >= pWordWrapWidth) {
+							lPosY += lLineHeight;
+							lPosX = 0;
+							lWrapWidth = 0;
+						}
+					}
+				}
+			}
+
+			if (ch == ' ' && pTrimText && lPosX == 0 && lPosY > 0) {
+				continue;
+			}
+
+			final var lCharGlyph = getGlyph(ch);
+
+			if (lCharGlyph != null) {
+				lTextLayout.addGlyph(lCharGlyph.page, lCharGlyph.x, lCharGlyph.y, lCharGlyph.width, lCharGlyph.height, lPosX, lPosY, lCharGlyph.width * pScale, lCharGlyph.height * pScale);
+				lPosX += lCharGlyph.width * pScale;
+
+			} else {
+				lPosX += mPointSize * pScale;
+
+			}
+
+		}
+
+		// Add the elipses
+		if (lTextLength != pText.length()) {
+			final var lCharGlyph = getGlyph('.');
+			lTextLayout.beginEllipsis();
+
+			for (int i = 0; i < 3; i++) {
+				if (lCharGlyph != null) {
+					lTextLayout.addGlyph(lCharGlyph.page, lCharGlyph.x, lCharGlyph.y, lCharGlyph.width, lCharGlyph.height, lPosX, lPosY, lCharGlyph.width * pScale, lCharGlyph.height * pScale);
+					lPosX += lCharGlyph.width * pScale;
+
+				} else {
+					lPosX += mPointSize * pScale;
+
+				}
+			}
+
+		}
+
+		return lTextLayout;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package net.lintford.library.core.graphics.fonts;
+
+/**
+ * The glyph quads of a string laid out with a {@link BitmapFont} (at a given scale, word wrap width and cap width). The destination rectangles are relative to the position the text is drawn at, so a layout
+ * can be drawn anywhere, and is cached by the font (see {@link BitmapFont#getTextLayout(String, float, float, int, boolean)}).
+ */
+public class BitmapFontTextLayout {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	/** The number of floats per glyph quad: source x, y, width, height (in the atlas page of the glyph, see {@link #glyphPages()}) and destination x, y, width, height (relative to the text position). */
+	public static final int FLOATS_PER_GLYPH = 8;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private float[] mGlyphData;
+	private int[] mGlyphPages;
+	private int mGlyphCount;
+	private int mTextGlyphCount = -1;
+	private float mWidth;
+	private float mHeight;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int glyphCount() {
+		return mGlyphCount;
+	}
+
+	/** The number of glyphs of the text itself, i.e. without the ellipsis added to capped text. */
+	public int textGlyphCount() {
+		return mTextGlyphCount == -1 ? mGlyphCount : mTextGlyphCount;
+	}
+
+	/** The quads of the glyphs, {@link #FLOATS_PER_GLYPH} floats per glyph. */
+	public float[] glyphData() {
+		return mGlyphData;
+	}
+
+	/** The atlas page of each glyph (see {@link BitmapFont#fontTexture(int)}). */
+	public int[] glyphPages() {
+		return mGlyphPages;
+	}
+
+	/** The width of the laid out text (scaled). */
+	public float width() {
+		return mWidth;
+	}
+
+	/** The height of the laid out text (scaled), from the top of the first line to the bottom of the last. */
+	public float height() {
+		return mHeight;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public BitmapFontTextLayout(int pInitialCapacity) {
+		mGlyphData = new float[Math.max(1, pInitialCapacity) * FLOATS_PER_GLYPH];
+		mGlyphPages = new int[Math.max(1, pInitialCapacity)];
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Marks the glyphs added from here on as the ellipsis of capped text. */
+	void beginEllipsis() {
+		mTextGlyphCount = mGlyphCount;
+
+	}
+
+	void addGlyph(int pPage, float pSX, float pSY, float pSW, float pSH, float pDX, float pDY, float pDW, float pDH) {
+		int lIndex = mGlyphCount * FLOATS_PER_GLYPH;
+		if (lIndex + FLOATS_PER_GLYPH > mGlyphData.length) {
+			final var lNewGlyphData = new float[mGlyphData.length * 2];
+			System.arraycopy(mGlyphData, 0, lNewGlyphData, 0, mGlyphData.length);
+			mGlyphData = lNewGlyphData;
+
+			final var lNewGlyphPages = new int[mGlyphPages.length * 2];
+			System.arraycopy(mGlyphPages, 0, lNewGlyphPages, 0, mGlyphPages.length);
+			mGlyphPages = lNewGlyphPages;
+
+		}
+
+		mGlyphPages[mGlyphCount] = pPage;
+
+		mGlyphData[lIndex++] = pSX;
+		mGlyphData[lIndex++] = pSY;
+		mGlyphData[lIndex++] = pSW;
+		mGlyphData[lIndex++] = pSH;
+		mGlyphData[lIndex++] = pDX;
+		mGlyphData[lIndex++] = pDY;
+		mGlyphData[lIndex++] = pDW;
+		mGlyphData[lIndex] = pDH;
+
+		mGlyphCount++;
+
+		mWidth = Math.max(mWidth, pDX + pDW);
+		mHeight = Math.max(mHeight, pDY + pDH);
+
+	}
+
+}
@@ -0,0 +1,221 @@
+package net.lintford.library.core.graphics.fonts;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A set of glyphs rasterized by a {@link FontAtlasBuilder}, packed into one or more power-of-two pages. Glyphs are drawn in white, so only the alpha channel of the pages is written when an atlas is saved
+ * (see {@link #save(Path, String)}).
+ */
+public class FontAtlas {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int MAGIC = 'L' | 'D' << 8 | 'F' << 16 | 'A' << 24;
+	public static final int VERSION = 1;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private int mGlyphCount;
+	private int[] mCodePoints;
+	private int[] mGlyphPages;
+	private int[] mGlyphX;
+	private int[] mGlyphY;
+	private int[] mGlyphWidths;
+	private int[] mGlyphHeights;
+	private BufferedImage[] mPageImages;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int glyphCount() {
+		return mGlyphCount;
+	}
+
+	public int codePoint(int pGlyphIndex) {
+		return mCodePoints[pGlyphIndex];
+	}
+
+	/** The index of the page the glyph has been packed into. */
+	public int glyphPage(int pGlyphIndex) {
+		return mGlyphPages[pGlyphIndex];
+	}
+
+	public int glyphX(int pGlyphIndex) {
+		return mGlyphX[pGlyphIndex];
+	}
+
+	public int glyphY(int pGlyphIndex) {
+		return mGlyphY[pGlyphIndex];
+	}
+
+	public int glyphWidth(int pGlyphIndex) {
+		return mGlyphWidths[pGlyphIndex];
+	}
+
+	public int glyphHeight(int pGlyphIndex) {
+		return mGlyphHeights[pGlyphIndex];
+	}
+
+	public int pageCount() {
+		return mPageImages.length;
+	}
+
+	public BufferedImage pageImage(int pPageIndex) {
+		return mPageImages[pPageIndex];
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	FontAtlas(int pGlyphCount, int pPageCount) {
+		mGlyphCount = 0;
+		mCodePoints = new int[pGlyphCount];
+		mGlyphPages = new int[pGlyphCount];
+		mGlyphX = new int[pGlyphCount];
+		mGlyphY = new int[pGlyphCount];
+		mGlyphWidths = new int[pGlyphCount];
+		mGlyphHeights = new int[pGlyphCount];
+		mPageImages = new BufferedImage[pPageCount];
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	void addGlyph(int pCodePoint, int pPage, int pX, int pY, int pWidth, int pHeight) {
+		final int lIndex = mGlyphCount++;
+		mCodePoints[lIndex] = pCodePoint;
+		mGlyphPages[lIndex] = pPage;
+		mGlyphX[lIndex] = pX;
+		mGlyphY[lIndex] = pY;
+		mGlyphWidths[lIndex] = pWidth;
+		mGlyphHeights[lIndex] = pHeight;
+
+	}
+
+	void pageImage(int pPageIndex, BufferedImage pPageImage) {
+		mPageImages[pPageIndex] = pPageImage;
+
+	}
+
+	/** Writes the atlas to the file, tagged with the key it was built for (see {@link #load(Path, String)}). The file is replaced atomically, so concurrent loads never see half a file. */
+	public void save(Path pFile, String pKey) throws IOException {
+		Files.createDirectories(pFile.getParent());
+		final var lTempFile = Files.createTempFile(pFile.getParent(), pFile.getFileName().toString(), ".tmp");
+
+		try (var lOutputStream = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(Files.newOutputStream(lTempFile)), 1 << 16))) {
+			lOutputStream.writeInt(MAGIC);
+			lOutputStream.writeInt(VERSION);
+			lOutputStream.writeUTF(pKey);
+
+			lOutputStream.writeInt(mGlyphCount);
+			for (int i = 0; i < mGlyphCount; i++) {
+				lOutputStream.writeInt(mCodePoints[i]);
+				lOutputStream.writeShort(mGlyphPages[i]);
+				lOutputStream.writeShort(mGlyphX[i]);
+				lOutputStream.writeShort(mGlyphY[i]);
+				lOutputStream.writeShort(mGlyphWidths[i]);
+				lOutputStream.writeShort(mGlyphHeights[i]);
+
+			}
+
+			lOutputStream.writeInt(mPageImages.length);
+			for (final var lPageImage : mPageImages) {
+				final int lWidth = lPageImage.getWidth();
+				final int lHeight = lPageImage.getHeight();
+				lOutputStream.writeShort(lWidth);
+				lOutputStream.writeShort(lHeight);
+
+				final int[] lPixels = lPageImage.getRGB(0, 0, lWidth, lHeight, null, 0, lWidth);
+				final var lAlpha = new byte[lPixels.length];
+				for (int i = 0; i < lPixels.length; i++) {
+					lAlpha[i] = (byte) (lPixels[i] >>> 24);
+
+				}
+
+				lOutputStream.write(lAlpha);
+
+			}
+
+		} catch (IOException e) {
+			Files.deleteIfExists(lTempFile);
+			throw e;
+
+		}
+
+		Files.move(lTempFile, pFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+	}
+
+	/** Reads an atlas written by {@link #save(Path, String)}. Returns null if the file doesn't exist, or was written for a different key. */
+	public static FontAtlas load(Path pFile, String pKey) throws IOException {
+		if (!Files.isRegularFile(pFile))
+			return null;
+
+		try (var lInputStream = new DataInputStream(new BufferedInputStream(new InflaterInputStream(Files.newInputStream(pFile)), 1 << 16))) {
+			if (lInputStream.readInt() != MAGIC || lInputStream.readInt() != VERSION || !lInputStream.readUTF().equals(pKey))
+				return null;
+
+			final int lGlyphCount = lInputStream.readInt();
+			final int[] lGlyphData = new int[lGlyphCount * 6];
+			for (int i = 0; i < lGlyphCount; i++) {
+				lGlyphData[i * 6] = lInputStream.readInt();
+				for (int j = 1; j < 6; j++) {
+					lGlyphData[i * 6 + j] = lInputStream.readUnsignedShort();
+
+				}
+
+			}
+
+			final int lPageCount = lInputStream.readInt();
+			final var lFontAtlas = new FontAtlas(lGlyphCount, lPageCount);
+			for (int i = 0; i < lGlyphCount; i++) {
+				lFontAtlas.addGlyph(lGlyphData[i * 6], lGlyphData[i * 6 + 1], lGlyphData[i * 6 + 2], lGlyphData[i * 6 + 3], lGlyphData[i * 6 + 4], lGlyphData[i * 6 + 5]);
+
+			}
+
+			for (int i = 0; i < lPageCount; i++) {
+				final int lWidth = lInputStream.readUnsignedShort();
+				final int lHeight = lInputStream.readUnsignedShort();
+
+				final var lAlpha = new byte[lWidth * lHeight];
+				lInputStream.readFully(lAlpha);
+
+				// Glyphs are white, fully transparent pixels are black (as rasterized by AWT)
+				final int[] lPixels = new int[lAlpha.length];
+				for (int j = 0; j < lAlpha.length; j++) {
+					final int lPixelAlpha = lAlpha[j] & 0xff;
+					lPixels[j] = lPixelAlpha == 0 ? 0 : (lPixelAlpha << 24) | 0xffffff;
+
+				}
+
+				final var lPageImage = new BufferedImage(lWidth, lHeight, BufferedImage.TYPE_INT_ARGB);
+				lPageImage.setRGB(0, 0, lWidth, lHeight, lPixels, 0, lWidth);
+				lFontAtlas.pageImage(i, lPageImage);
+
+			}
+
+			return lFontAtlas;
+
+		}
+
+	}
+
+}
@@ -0,0 +1,316 @@
+package net.lintford.library.core.graphics.fonts;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.lintford.library.core.storage.AppStorage;
+
+/**
+ * Rasterizes the glyphs of an AWT font and packs them into power-of-two pages (at most {@link #maxPageSize()} pixels wide and high, so atlases stay within the GPU texture size limits). The font metrics are
+ * measured once, and all glyphs of a page are drawn with a single Graphics2D. Doesn't require a GL context, so atlases can be built on any thread (see {@link #buildAsync(int[], String)}), and can be cached on disk
+ * (see {@link #loadCached(String)} and {@link #saveCached(String, FontAtlas)}).
+ */
+public class FontAtlasBuilder {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int DEFAULT_MAX_PAGE_SIZE = 1024;
+	public static final int MIN_PAGE_SIZE = 64;
+
+	/** The number of empty pixels between the glyphs on a page, so linear filtering doesn't pick up the neighbouring glyphs. */
+	public static final int GLYPH_PADDING = 1;
+
+	public static final String CACHE_FILE_EXTENSION = ".atlas";
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private static volatile boolean sCacheEnabled = true;
+	private static volatile String sCacheDirectory;
+	private static ExecutorService sBuildExecutor;
+
+	private final Font mFont;
+	private final boolean mAntiAlias;
+	private int mMaxPageSize = DEFAULT_MAX_PAGE_SIZE;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public static boolean cacheEnabled() {
+		return sCacheEnabled;
+	}
+
+	public static void cacheEnabled(boolean pNewValue) {
+		sCacheEnabled = pNewValue;
+	}
+
+	/** Returns the directory built atlases are cached in. Defaults to 'cache/fonts' in the game data directory. */
+	public static String cacheDirectory() {
+		if (sCacheDirectory == null)
+			sCacheDirectory = AppStorage.getGameDataDirectory() + "cache" + AppStorage.FILE_SEPERATOR + "fonts" + AppStorage.FILE_SEPERATOR;
+
+		return sCacheDirectory;
+	}
+
+	public static void cacheDirectory(String pCacheDirectory) {
+		sCacheDirectory = pCacheDirectory;
+	}
+
+	public Font font() {
+		return mFont;
+	}
+
+	public boolean antiAlias() {
+		return mAntiAlias;
+	}
+
+	public int maxPageSize() {
+		return mMaxPageSize;
+	}
+
+	/** Sets the maximum width and height of the pages, which is rounded up to a power of two. */
+	public void maxPageSize(int pNewValue) {
+		mMaxPageSize = nextPowerOfTwo(Math.max(MIN_PAGE_SIZE, pNewValue));
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public FontAtlasBuilder(Font pFont, boolean pAntiAlias) {
+		mFont = pFont;
+		mAntiAlias = pAntiAlias;
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Rasterizes the glyphs of the code points (skipping those without a width in this font) into a new atlas. */
+	public FontAtlas build(int[] pCodePoints) {
+		// Measure all glyphs with the metrics of a single scratch context
+		final var lScratchImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		final var lScratchGraphics = createGraphics(lScratchImage);
+		final var lFontMetrics = lScratchGraphics.getFontMetrics();
+		lScratchGraphics.dispose();
+
+		final int lGlyphHeight = lFontMetrics.getHeight();
+		final int lAscent = lFontMetrics.getAscent();
+		final int[] lGlyphWidths = new int[pCodePoints.length];
+
+		long lTotalArea = 0;
+		int lGlyphCount = 0;
+		for (int i = 0; i < pCodePoints.length; i++) {
+			final int lGlyphWidth = lFontMetrics.charWidth(pCodePoints[i]);
+			if (lGlyphWidth <= 0 || lGlyphWidth + GLYPH_PADDING > mMaxPageSize || lGlyphHeight + GLYPH_PADDING > mMaxPageSize)
+				continue;
+
+			lGlyphWidths[i] = lGlyphWidth;
+			lTotalArea += (long) (lGlyphWidth + GLYPH_PADDING) * (lGlyphHeight + GLYPH_PADDING);
+			lGlyphCount++;
+
+		}
+
+		// All glyphs of a font have the same height, so the glyphs are packed into rows (shelves), the pages being as square as the glyphs allow
+		final int lPageWidth = Math.min(mMaxPageSize, nextPowerOfTwo(Math.max(MIN_PAGE_SIZE, (int) Math.ceil(Math.sqrt(lTotalArea)))));
+		final int[] lGlyphPositions = new int[pCodePoints.length * 3];
+
+		int lPageCount = 0;
+		int lPosX = 0;
+		int lPosY = 0;
+		final var lPageHeights = new int[pCodePoints.length + 1];
+		for (int i = 0; i < pCodePoints.length; i++) {
+			if (lGlyphWidths[i] == 0)
+				continue;
+
+			if (lPosX + lGlyphWidths[i] + GLYPH_PADDING > lPageWidth) {
+				lPosX = 0;
+				lPosY += lGlyphHeight + GLYPH_PADDING;
+
+			}
+
+			if (lPosY + lGlyphHeight + GLYPH_PADDING > mMaxPageSize) {
+				lPageCount++;
+				lPosX = 0;
+				lPosY = 0;
+
+			}
+
+			lGlyphPositions[i * 3] = lPageCount;
+			lGlyphPositions[i * 3 + 1] = lPosX;
+			lGlyphPositions[i * 3 + 2] = lPosY;
+			lPageHeights[lPageCount] = lPosY + lGlyphHeight + GLYPH_PADDING;
+			lPosX += lGlyphWidths[i] + GLYPH_PADDING;
+
+		}
+
+		if (lGlyphCount > 0)
+			lPageCount++;
+
+		final var lFontAtlas = new FontAtlas(lGlyphCount, lPageCount);
+		final var lPageGraphics = new Graphics2D[lPageCount];
+		for (int i = 0; i < lPageCount; i++) {
+			final var lPageImage = new BufferedImage(lPageWidth, nextPowerOfTwo(Math.max(MIN_PAGE_SIZE, lPageHeights[i])), BufferedImage.TYPE_INT_ARGB);
+			lFontAtlas.pageImage(i, lPageImage);
+			lPageGraphics[i] = createGraphics(lPageImage);
+			lPageGraphics[i].setPaint(java.awt.Color.WHITE);
+
+		}
+
+		for (int i = 0; i < pCodePoints.length; i++) {
+			if (lGlyphWidths[i] == 0)
+				continue;
+
+			final int lPage = lGlyphPositions[i * 3];
+			final int lGlyphX = lGlyphPositions[i * 3 + 1];
+			final int lGlyphY = lGlyphPositions[i * 3 + 2];
+
+			// Clip to the glyph cell, so overhanging glyphs are cut off exactly as if they had been drawn into an image of their own
+			final var lGraphics = lPageGraphics[lPage];
+			lGraphics.setClip(lGlyphX, lGlyphY, lGlyphWidths[i], lGlyphHeight);
+			lGraphics.drawString(new String(Character.toChars(pCodePoints[i])), lGlyphX, lGlyphY + lAscent);
+
+			lFontAtlas.addGlyph(pCodePoints[i], lPage, lGlyphX, lGlyphY, lGlyphWidths[i], lGlyphHeight);
+
+		}
+
+		for (final var lGraphics : lPageGraphics) {
+			lGraphics.dispose();
+
+		}
+
+		return lFontAtlas;
+
+	}
+
+	/** Returns the atlas cached under the key, building (and caching) it if there is none. The key has to identify the font file, point size and code points, or be null to skip the cache. */
+	public FontAtlas build(int[] pCodePoints, String pCacheKey) {
+		var lFontAtlas = pCacheKey != null ? loadCached(pCacheKey) : null;
+		if (lFontAtlas == null) {
+			lFontAtlas = build(pCodePoints);
+			if (pCacheKey != null)
+				saveCached(pCacheKey, lFontAtlas);
+
+		}
+
+		return lFontAtlas;
+
+	}
+
+	/** Loads or builds the atlas (see {@link #build(int[], String)}) on a background thread, which is shared by all fonts. */
+	public CompletableFuture<FontAtlas> buildAsync(int[] pCodePoints, String pCacheKey) {
+		return CompletableFuture.supplyAsync(() -> build(pCodePoints, pCacheKey), buildExecutor());
+
+	}
+
+	/** Returns the atlas cached under the key, or null if there is none. Can be called from any thread. */
+	public static FontAtlas loadCached(String pKey) {
+		if (!sCacheEnabled)
+			return null;
+
+		try {
+			return FontAtlas.load(cacheFile(pKey), pKey);
+
+		} catch (IOException | RuntimeException e) {
+			// treated as a miss, the atlas is built again
+			return null;
+
+		}
+
+	}
+
+	/** Caches the atlas under the key. Returns false if it couldn't be written. Can be called from any thread. */
+	public static boolean saveCached(String pKey, FontAtlas pFontAtlas) {
+		if (!sCacheEnabled || pFontAtlas == null)
+			return false;
+
+		try {
+			pFontAtlas.save(cacheFile(pKey), pKey);
+			return true;
+
+		} catch (IOException | RuntimeException e) {
+			return false;
+
+		}
+
+	}
+
+	/** Deletes all cached atlases. */
+	public static void clearCache() {
+		final var lCacheDirectory = Paths.get(cacheDirectory());
+		if (!Files.isDirectory(lCacheDirectory))
+			return;
+
+		try (var lFiles = Files.list(lCacheDirectory)) {
+			lFiles.filter(pPath -> pPath.getFileName().toString().endsWith(CACHE_FILE_EXTENSION)).forEach(pPath -> pPath.toFile().delete());
+
+		} catch (IOException e) {
+			// nothing to delete
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private Graphics2D createGraphics(BufferedImage pImage) {
+		final var lGraphics = pImage.createGraphics();
+		if (mAntiAlias) {
+			lGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		}
+
+		lGraphics.setFont(mFont);
+		return lGraphics;
+
+	}
+
+	private static synchronized ExecutorService buildExecutor() {
+		if (sBuildExecutor == null) {
+			sBuildExecutor = Executors.newSingleThreadExecutor(pRunnable -> {
+				final var lThread = new Thread(pRunnable, "FontAtlasBuilder");
+				lThread.setDaemon(true);
+				return lThread;
+			});
+
+		}
+
+		return sBuildExecutor;
+
+	}
+
+	private static Path cacheFile(String pKey) {
+		// 64 bit FNV-1a hash of the key
+		long lHash = 0xcbf29ce484222325L;
+		final int lLength = pKey.length();
+		for (int i = 0; i < lLength; i++) {
+			lHash ^= pKey.charAt(i);
+			lHash *= 0x100000001b3L;
+
+		}
+
+		return Paths.get(cacheDirectory(), String.format("%016x", lHash) + CACHE_FILE_EXTENSION);
+
+	}
+
+	static int nextPowerOfTwo(int pValue) {
+		return pValue <= 1 ? 1 : Integer.highestOneBit(pValue - 1) << 1;
+
+	}
+
+}
@@ -96,23 +96,27 @@ public class PObjectRenderer {
 
 			Texture lTexture = lSpriteSheetDef.texture();
 
-			final int lFixtureCount = lBodyInst.mFixtures.length;
-			for (int j = 0; j < lFixtureCount; j++) {
-				Box2dFixtureInstance lFixtureInst = lBodyInst.mFixtures[j];
+			// the body transform is read while the physics may be stepping on another thread
+			synchronized (lBody.getWorld()) {
+				final int lFixtureCount = lBodyInst.mFixtures.length;
+				for (int j = 0; j < lFixtureCount; j++) {
+					Box2dFixtureInstance lFixtureInst = lBodyInst.mFixtures[j];
 
-				String lSpriteFrameName = lFixtureInst.spriteName;
-				SpriteFrame lFrame = lSpriteSheetDef.getSpriteFrame(lSpriteFrameName);
+					String lSpriteFrameName = lFixtureInst.spriteName;
+					SpriteFrame lFrame = lSpriteSheetDef.getSpriteFrame(lSpriteFrameName);
 
-				if (lFrame == null)
-					continue;
+					if (lFrame == null)
+						continue;
 
-				Fixture lFixt = lFixtureInst.mFixture;
-				if (lFixt == null)
-					continue;
+					Fixture lFixt = lFixtureInst.mFixture;
+					if (lFixt == null)
+						continue;
 
-				if (lFixt.getShape() instanceof PolygonShape) {
-					final PolygonShape fixtureShape = (PolygonShape) lFixt.getShape();
-					mTextureBatch.drawPolygon(lTexture, lBody, fixtureShape.getVertices(), lFrame, -0.2f, 1f, 1f, 1f, 1f);
+					if (lFixt.getShape() instanceof PolygonShape) {
+						final PolygonShape fixtureShape = (PolygonShape) lFixt.getShape();
+						mTextureBatch.drawPolygon(lTexture, lBody, fixtureShape.getVertices(), lFrame, -0.2f, 1f, 1f, 1f, 1f);
+
+					}
 
 				}
 
@@ -43,6 +43,7 @@ public class PolyBatch {
 	private ICamera mCamera;
 	private ShaderMVP_PC mShader;
 	private Matrix4f mModelMatrix;
+	private final float[] mTempVertices = new float[Rectangle.NUM_VERTICES * 2];
 	private FloatBuffer mBuffer;
 	private boolean mIsDrawing;
 	private boolean mIsLoaded;
@@ -158,12 +159,13 @@ public class PolyBatch {
 		if (!mIsDrawing || pRect == null)
 			return;
 
-		List<Vector2f> verts = pRect.getVertices();
+		final float[] lVertices = mTempVertices;
+		pRect.fillVertices(lVertices);
 
-		draw(verts.get(0).x, verts.get(0).y, verts.get(1).x, verts.get(1).y, pZ, pR, pG, pB);
-		draw(verts.get(0).x, verts.get(0).y, verts.get(2).x, verts.get(2).y, pZ, pR, pG, pB);
-		draw(verts.get(2).x, verts.get(2).y, verts.get(3).x, verts.get(3).y, pZ, pR, pG, pB);
-		draw(verts.get(1).x, verts.get(1).y, verts.get(3).x, verts.get(3).y, pZ, pR, pG, pB);
+		draw(lVertices[0], lVertices[1], lVertices[2], lVertices[3], pZ, pR, pG, pB);
+		draw(lVertices[0], lVertices[1], lVertices[4], lVertices[5], pZ, pR, pG, pB);
+		draw(lVertices[4], lVertices[5], lVertices[6], lVertices[7], pZ, pR, pG, pB);
+		draw(lVertices[2], lVertices[3], lVertices[6], lVertices[7], pZ, pR, pG, pB);
 
 	}
 
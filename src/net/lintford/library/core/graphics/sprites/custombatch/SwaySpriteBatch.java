@@ -1,7 +1,5 @@
 package net.lintford.library.core.graphics.sprites.custombatch;
 
-import java.util.List;
-
 import net.lintford.library.core.geometry.Rectangle;
 import net.lintford.library.core.graphics.sprites.SpriteFrame;
 import net.lintford.library.core.graphics.sprites.SpriteInstance;
@@ -9,7 +7,6 @@ import net.lintford.library.core.graphics.sprites.spritebatch.SpriteBatch;
 import net.lintford.library.core.graphics.sprites.spritesheet.SpriteSheetDefinition;
 import net.lintford.library.core.graphics.textures.Texture;
 import net.lintford.library.core.graphics.textures.TextureManager;
-import net.lintford.library.core.maths.Vector2f;
 
 public class SwaySpriteBatch extends SpriteBatch {
 
@@ -63,12 +60,13 @@ public class SwaySpriteBatch extends SpriteBatch {
 		if (pDestRect == null)
 			return;
 
-		List<Vector2f> lVertList = pDestRect.getVertices();
+		final float[] lDestVertices = mTempVertices;
+		pDestRect.fillVertices(lDestVertices);
 
-		final float pDX = lVertList.get(0).x;
-		final float pDY = lVertList.get(0).y;
-		final float pDW = lVertList.get(1).x - lVertList.get(0).x;
-		final float pDH = lVertList.get(2).y - lVertList.get(0).y;
+		final float pDX = lDestVertices[0];
+		final float pDY = lDestVertices[1];
+		final float pDW = lDestVertices[2] - lDestVertices[0];
+		final float pDH = lDestVertices[5] - lDestVertices[1];
 
 		if (pTexture == null) {
 			// Resolve to use a default texture, or the 'MISSING_TEXTURE'
@@ -127,12 +125,10 @@ public class SwaySpriteBatch extends SpriteBatch {
 		float lBottom = bottom ? 1.0f : 0.0f;
 		float lTop = !bottom ? 1.0f : 0.0f;
 
-		// CCW 102203
-		addVertToBuffer(x1, y1, pZ, 1f, lTop, 0f, 0f, pA, u1, v1); // 1
+		// Quad ABCD = 0213 (triangles 021 and 123)
 		addVertToBuffer(x0, y0, pZ, 1f, lTop, 0f, 0f, pA, u0, v0); // 0
 		addVertToBuffer(x2, y2, pZ, 1f, lBottom, 0f, 0f, pA, u2, v2); // 2
 		addVertToBuffer(x1, y1, pZ, 1f, lTop, 0f, 0f, pA, u1, v1); // 1
-		addVertToBuffer(x2, y2, pZ, 1f, lBottom, 0f, 0f, pA, u2, v2); // 2
 		addVertToBuffer(x3, y3, pZ, 1f, lBottom, 0f, 0f, pA, u3, v3); // 3
 
 		mCurNumSprites++;
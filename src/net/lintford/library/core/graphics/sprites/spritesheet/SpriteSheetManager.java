@@ -5,7 +5,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,9 +17,12 @@ import com.google.gson.stream.JsonReader;
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.ResourceManager;
 import net.lintford.library.core.debug.Debug;
+import net.lintford.library.core.resources.IResourceChangedListener;
+import net.lintford.library.core.resources.ResourceWatcher;
+import net.lintford.library.core.storage.DefinitionCache;
 import net.lintford.library.core.storage.FileUtils;
 
-public class SpriteSheetManager {
+public class SpriteSheetManager implements IResourceChangedListener {
 
 	// --------------------------------------
 	// Inner-Classes
@@ -111,7 +114,7 @@ public class SpriteSheetManager {
 			return null;
 
 		File lFile = new File(pFilepath);
-		if (!lFile.exists()) {
+		if (!FileUtils.exists(pFilepath)) {
 			Debug.debugManager().logger().w(getClass().getSimpleName(), "Error: Spritesheet file " + pFilepath + " doesn't exist!");
 			return null;
 
@@ -121,8 +124,7 @@ public class SpriteSheetManager {
 
 		try {
 
-			final String lFileContents = new String(Files.readAllBytes(lFile.toPath()));
-			final SpriteSheetDefinition lSpriteSheet = GSON.fromJson(lFileContents, SpriteSheetDefinition.class);
+			final SpriteSheetDefinition lSpriteSheet = parseSpriteSheetFile(pFilepath, GSON);
 
 			// Check the integrity of the loaded spritsheet
 			if (lSpriteSheet == null || lSpriteSheet.getSpriteCount() == 0) {
@@ -168,7 +170,7 @@ public class SpriteSheetManager {
 			return null;
 
 		File lFile = new File(pFilepath);
-		if (!lFile.exists()) {
+		if (!FileUtils.exists(pFilepath)) {
 			Debug.debugManager().logger().w(getClass().getSimpleName(), "Error: Spritesheet file " + pFilepath + " doesn't exist!");
 			return null;
 
@@ -178,7 +180,7 @@ public class SpriteSheetManager {
 
 		try {
 
-			InputStream lInputStream = FileUtils.class.getResourceAsStream(pFilepath);
+			InputStream lInputStream = FileUtils.openInputStream(pFilepath);
 
 			JsonReader reader = new JsonReader(new InputStreamReader(lInputStream, "UTF-8"));
 
@@ -236,7 +238,7 @@ public class SpriteSheetManager {
 		String lMetaFileContentsString = null;
 		SpriteSheetMetaData lSpriteMetaObject = null;
 		try {
-			lMetaFileContentsString = new String(Files.readAllBytes(Paths.get(pMetaFileLocation)));
+			lMetaFileContentsString = new String(FileUtils.readAllBytes(pMetaFileLocation));
 			lSpriteMetaObject = GSON.fromJson(lMetaFileContentsString, SpriteSheetMetaData.class);
 
 			if (lSpriteMetaObject == null || lSpriteMetaObject.spriteSheetLocations == null || lSpriteMetaObject.spriteSheetLocations.length == 0) {
@@ -255,7 +257,7 @@ public class SpriteSheetManager {
 		for (int i = 0; i < lSpriteCount; i++) {
 			final File lSpriteSheetFile = new File(lSpriteMetaObject.spriteSheetLocations[i]);
 
-			if (!lSpriteSheetFile.exists()) {
+			if (!FileUtils.exists(lSpriteMetaObject.spriteSheetLocations[i])) {
 				Debug.debugManager().logger().w(getClass().getSimpleName(), "Error loading sprite sheet from " + lSpriteSheetFile.getPath() + " doesn't exist!");
 
 				continue;
@@ -264,8 +266,7 @@ public class SpriteSheetManager {
 
 			try {
 
-				final String lSpriteSheetFileContents = new String(Files.readAllBytes(lSpriteSheetFile.toPath()));
-				final SpriteSheetDefinition lSpriteSheet = GSON.fromJson(lSpriteSheetFileContents, SpriteSheetDefinition.class);
+				final SpriteSheetDefinition lSpriteSheet = parseSpriteSheetFile(lSpriteMetaObject.spriteSheetLocations[i], GSON);
 
 				// Check the integrity of the loaded spritsheet
 				if (lSpriteSheet == null) {
@@ -314,6 +315,72 @@ public class SpriteSheetManager {
 
 	}
 
+	/** Reloads only the SpriteSheets which have been loaded from the changed file. The file is parsed on the reload thread, and the new SpriteSheet is swapped in on the game thread. */
+	@Override
+	public void onResourceFileChanged(ResourceWatcher pResourceWatcher, Path pChangedFile) {
+		for (final var lGroupEntry : mSpriteSheetGroups.entrySet()) {
+			final int lEntityGroupID = lGroupEntry.getKey();
+			final var lSpriteSheetGroup = lGroupEntry.getValue();
+
+			for (final var lSpriteSheet : lSpriteSheetGroup.values()) {
+				if (!lSpriteSheet.reloadable || !ResourceWatcher.isResourceFile(pChangedFile, lSpriteSheet.spriteSheetFilename))
+					continue;
+
+				final var lSpriteSheetFile = new File(lSpriteSheet.spriteSheetFilename);
+				pResourceWatcher.reloadAsync(() -> {
+					final SpriteSheetDefinition lNewSpriteSheet;
+					try {
+						lNewSpriteSheet = parseSpriteSheetFile(lSpriteSheet.spriteSheetFilename, new GsonBuilder().create());
+
+					} catch (JsonSyntaxException | IOException e) {
+						return () -> Debug.debugManager().logger().e(getClass().getSimpleName(), "Failed to reload SpriteSheet: " + lSpriteSheetFile.getPath() + " (" + e.getMessage() + ")");
+
+					}
+
+					return () -> swapReloadedSpriteSheet(lSpriteSheetGroup, lSpriteSheet, lNewSpriteSheet, lSpriteSheetFile, lEntityGroupID);
+
+				});
+
+			}
+
+		}
+
+	}
+
+	/** Parses the sprite sheet file, or restores it from the {@link DefinitionCache} if the file hasn't changed since it was last parsed. */
+	private static SpriteSheetDefinition parseSpriteSheetFile(String pFilepath, Gson pGson) throws IOException {
+		final var lCachedSpriteSheet = DefinitionCache.load(pFilepath, SpriteSheetDefinition.class);
+		if (lCachedSpriteSheet != null)
+			return lCachedSpriteSheet;
+
+		final String lFileContents = new String(FileUtils.readAllBytes(pFilepath));
+		final SpriteSheetDefinition lSpriteSheet = pGson.fromJson(lFileContents, SpriteSheetDefinition.class);
+		DefinitionCache.store(pFilepath, lSpriteSheet);
+
+		return lSpriteSheet;
+
+	}
+
+	private void swapReloadedSpriteSheet(Map<String, SpriteSheetDefinition> pSpriteSheetGroup, SpriteSheetDefinition pOldSpriteSheet, SpriteSheetDefinition pNewSpriteSheet, File pSpriteSheetFile,
+			int pEntityGroupID) {
+		// The SpriteSheet could have been unloaded (or reloaded again) in the meantime
+		if (pNewSpriteSheet == null || pSpriteSheetGroup.get(pOldSpriteSheet.spriteSheetName) != pOldSpriteSheet)
+			return;
+
+		pNewSpriteSheet.fileSizeOnLoad(pSpriteSheetFile.length());
+		pNewSpriteSheet.spriteSheetFilename = pSpriteSheetFile.getPath();
+		pNewSpriteSheet.reloadable(true);
+		pNewSpriteSheet.loadGLContent(mResourceManager, pEntityGroupID);
+
+		pOldSpriteSheet.unloadGLContent();
+
+		pSpriteSheetGroup.remove(pOldSpriteSheet.spriteSheetName);
+		pSpriteSheetGroup.put(pNewSpriteSheet.spriteSheetName, pNewSpriteSheet);
+
+		Debug.debugManager().logger().i(getClass().getSimpleName(), "Reloaded SpriteSheet " + pSpriteSheetFile.getPath());
+
+	}
+
 	public void reload() {
 
 		final Gson GSON = new GsonBuilder().create();
@@ -0,0 +1,117 @@
+package net.lintford.library.core.graphics.textures;
+
+import java.nio.ByteBuffer;
+
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryUtil;
+
+/**
+ * A texture which has been decoded into off-heap RGBA pixels (4 bytes per pixel, in the layout expected by glTexImage2D with GL_RGBA / GL_UNSIGNED_BYTE), but not uploaded yet. Instances are created with
+ * the request (name, location and GL parameters) and filled by the {@link TextureDecoder}, which doesn't need a GL context. The pixels must be released with {@link #free()} once they have been uploaded.
+ */
+public class DecodedTexture {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	public final String textureName;
+	public final String textureLocation;
+	public final int entityGroupID;
+	public final int filter;
+	public final int wrapModeS;
+	public final int wrapModeT;
+
+	private ByteBuffer mPixels;
+	private boolean mIsStbAllocated;
+	private int mWidth;
+	private int mHeight;
+	private long mFileSize;
+	private String mErrorMessage;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** Resource locations start with a '/' and are loaded from the classpath, everything else is loaded from the file system. */
+	public boolean isResource() {
+		return textureLocation.charAt(0) == '/';
+	}
+
+	public boolean isDecoded() {
+		return mPixels != null;
+	}
+
+	/** The RGBA pixels of the texture, or null if the texture couldn't be decoded (or has been freed). */
+	public ByteBuffer pixels() {
+		return mPixels;
+	}
+
+	public int width() {
+		return mWidth;
+	}
+
+	public int height() {
+		return mHeight;
+	}
+
+	/** The size of the source file, which is used to detect changes when reloading textures. Zero for resources. */
+	public long fileSize() {
+		return mFileSize;
+	}
+
+	public String errorMessage() {
+		return mErrorMessage;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public DecodedTexture(String pTextureName, String pTextureLocation, int pEntityGroupID, int pFilter, int pWrapModeS, int pWrapModeT) {
+		textureName = pTextureName;
+		textureLocation = pTextureLocation;
+		entityGroupID = pEntityGroupID;
+		filter = pFilter;
+		wrapModeS = pWrapModeS;
+		wrapModeT = pWrapModeT;
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	void setPixels(ByteBuffer pPixels, boolean pIsStbAllocated, int pWidth, int pHeight) {
+		mPixels = pPixels;
+		mIsStbAllocated = pIsStbAllocated;
+		mWidth = pWidth;
+		mHeight = pHeight;
+
+	}
+
+	void setFileSize(long pFileSize) {
+		mFileSize = pFileSize;
+
+	}
+
+	void setErrorMessage(String pErrorMessage) {
+		mErrorMessage = pErrorMessage;
+
+	}
+
+	/** Releases the off-heap pixels. */
+	public void free() {
+		if (mPixels == null)
+			return;
+
+		if (mIsStbAllocated)
+			STBImage.stbi_image_free(mPixels);
+		else
+			MemoryUtil.memFree(mPixels);
+
+		mPixels = null;
+
+	}
+
+}
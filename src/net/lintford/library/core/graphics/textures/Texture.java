@@ -5,6 +5,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import javax.imageio.IIOException;
 import javax.imageio.ImageIO;
@@ -14,6 +16,7 @@ import org.lwjgl.opengl.GL12;
 import org.lwjgl.system.MemoryUtil;
 
 import net.lintford.library.core.debug.Debug;
+import net.lintford.library.core.storage.FileUtils;
 
 public class Texture {
 
@@ -23,6 +26,17 @@ public class Texture {
 
 	private static int mTextureEntityId = 0;
 
+	/** No copy of the pixels is kept on the CPU, and {@link #RGBColorData()} returns null. */
+	public static final int CPU_RESIDENCY_NONE = 0;
+
+	/** No copy of the pixels is kept when the texture is loaded. The first call to {@link #RGBColorData()} reads them back from the GL texture (GL thread only), and keeps them until the pixels change. */
+	public static final int CPU_RESIDENCY_ON_DEMAND = 1;
+
+	/** A copy of the pixels is kept on the Java heap, for textures which are queried for their pixels often (e.g. collision maps). */
+	public static final int CPU_RESIDENCY_RETAINED = 2;
+
+	public static final int DEFAULT_CPU_RESIDENCY = CPU_RESIDENCY_ON_DEMAND;
+
 	// --------------------------------------
 	// Variables
 	// --------------------------------------
@@ -37,6 +51,10 @@ public class Texture {
 	private int mWrapModeS;
 	private int mWrapModeT;
 	private int[] mColorData;
+	private int mCpuResidency;
+
+	/** The thread which created the texture, which is the only thread the pixels can be read back on. */
+	private final Thread mGLThread;
 
 	/**
 	 * In order to detect changes to the texture when trying to reload textures, we will store the file size of the texture each time it is loaded.
@@ -53,8 +71,43 @@ public class Texture {
 	// Properties
 	// --------------------------------------
 
+	/**
+	 * Returns the pixels of the texture (one int per pixel, as uploaded to GL), depending on the CPU residency of the texture: null for {@link #CPU_RESIDENCY_NONE}, otherwise the copy kept on the CPU. For
+	 * {@link #CPU_RESIDENCY_ON_DEMAND} textures (and retained textures which were loaded without a copy), the copy is read back from the GL texture by the first call after the pixels were set. This must be
+	 * called on the GL thread (the thread which created the texture) whenever the pixels might have to be read back, otherwise an {@link IllegalStateException} is thrown.
+	 */
 	public int[] RGBColorData() {
+		if (mCpuResidency == CPU_RESIDENCY_NONE)
+			return null;
+
+		if (mColorData == null)
+			mColorData = readColorData();
+
 		return mColorData;
+
+	}
+
+	public int cpuResidency() {
+		return mCpuResidency;
+	}
+
+	/** Sets how the pixels of this texture are kept on the CPU (see {@link #CPU_RESIDENCY_NONE}, {@link #CPU_RESIDENCY_ON_DEMAND} and {@link #CPU_RESIDENCY_RETAINED}). */
+	public void cpuResidency(int pCpuResidency) {
+		mCpuResidency = pCpuResidency;
+
+		if (mCpuResidency != CPU_RESIDENCY_RETAINED)
+			mColorData = null;
+
+	}
+
+	/** The size of the pixels in video memory (RGBA, without mipmaps). */
+	public long gpuMemoryBytes() {
+		return (long) mTextureWidth * mTextureHeight * TextureDecoder.BYTES_PER_PIXEL;
+	}
+
+	/** The size of the copy of the pixels which is kept on the Java heap. Zero for {@link #CPU_RESIDENCY_NONE}, and for {@link #CPU_RESIDENCY_ON_DEMAND} textures whose pixels haven't been read back. */
+	public long cpuMemoryBytes() {
+		return mColorData != null ? (long) mColorData.length * TextureDecoder.BYTES_PER_PIXEL : 0;
 	}
 
 	public String name() {
@@ -93,6 +146,18 @@ public class Texture {
 		return mTextureHeight;
 	}
 
+	public int getTextureFilterMode() {
+		return mTextureFilterMode;
+	}
+
+	public int getWrapModeS() {
+		return mWrapModeS;
+	}
+
+	public int getWrapModeT() {
+		return mWrapModeT;
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -105,7 +170,9 @@ public class Texture {
 		mTextureWidth = pWidth;
 		mTextureHeight = pHeight;
 		mTextureFilterMode = pFilter;
+		mCpuResidency = DEFAULT_CPU_RESIDENCY;
 		mReloadable = true;
+		mGLThread = Thread.currentThread();
 
 	}
 
@@ -114,7 +181,7 @@ public class Texture {
 	// --------------------------------------
 
 	// package access (textures should be loaded using the texture manager.
-	static Texture loadTextureFromFile(String pName, String pFilename, int pFilter) {
+	static Texture loadTextureFromFile(String pName, String pFilename, int pFilter, int pCpuResidency) {
 		if (pFilename == null || pFilename.length() == 0) {
 			return null;
 
@@ -131,9 +198,16 @@ public class Texture {
 			File lTextureFile = new File(lCleanFilename);
 			lFileSize = lTextureFile.length();
 
-			lImage = ImageIO.read(lTextureFile);
+			// The image could also be in a mounted asset pack
+			try (InputStream lInputStream = FileUtils.openInputStream(lCleanFilename)) {
+				if (lInputStream == null)
+					throw new FileNotFoundException(lCleanFilename);
 
-			Texture lNewTexture = createTexture(pName, pFilename, lImage, pFilter);
+				lImage = ImageIO.read(lInputStream);
+
+			}
+
+			Texture lNewTexture = createTexture(pName, pFilename, lImage, pFilter, pCpuResidency);
 
 			lNewTexture.fileSizeOnLoad(lFileSize);
 			lNewTexture.reloadable(true);
@@ -158,7 +232,7 @@ public class Texture {
 
 	}
 
-	static Texture loadTextureFromResource(String pName, String pFilename, int pFilter) {
+	static Texture loadTextureFromResource(String pName, String pFilename, int pFilter, int pCpuResidency) {
 		if (pFilename == null || pFilename.length() == 0) {
 			return null;
 
@@ -170,17 +244,19 @@ public class Texture {
 		// 1. load the image
 		try {
 			// Load the file from the path, ignoring whitespace, tabs and new lines from the path string.
-			InputStream lInputStream = Texture.class.getResourceAsStream(pFilename);
-			if (lInputStream == null) {
-				throw new FileNotFoundException();
-			}
-
 			// Resource paths don't allow double slashes
 			pFilename = pFilename.replace("//", "/");
 
-			lImage = ImageIO.read(lInputStream);
+			try (InputStream lInputStream = FileUtils.openInputStream(pFilename)) {
+				if (lInputStream == null) {
+					throw new FileNotFoundException();
+				}
 
-			Texture lNewTexture = createTexture(pName, pFilename, lImage, pFilter);
+				lImage = ImageIO.read(lInputStream);
+
+			}
+
+			Texture lNewTexture = createTexture(pName, pFilename, lImage, pFilter, pCpuResidency);
 
 			lNewTexture.fileSizeOnLoad(lFileSize);
 
@@ -260,13 +336,62 @@ public class Texture {
 	}
 
 	private static String cleanFilename(String pFilename) {
-		return pFilename.replaceAll("\\s+", "");
+		return TextureDecoder.cleanFilename(pFilename);
+	}
+
+	/** Creates the GL texture object of a texture which is still being decoded. Its pixels are uploaded later with {@link #uploadDecodedTexture(DecodedTexture)}. */
+	static Texture createEmptyTexture(String pName, String pTextureLocation, int pFilter, int pWrapModeS, int pWrapModeT, int pCpuResidency) {
+		final int lTexID = GL11.glGenTextures();
+
+		final var lNewTexture = new Texture(pName, lTexID, pTextureLocation, 0, 0, pFilter);
+		lNewTexture.mWrapModeS = pWrapModeS;
+		lNewTexture.mWrapModeT = pWrapModeT;
+		lNewTexture.mCpuResidency = pCpuResidency;
+
+		return lNewTexture;
+	}
+
+	/**
+	 * Uploads the pixels of the decoded texture into this texture. A copy of the pixels is only kept if the texture is {@link #CPU_RESIDENCY_RETAINED}. The decoded texture isn't freed.
+	 */
+	void uploadDecodedTexture(DecodedTexture pDecodedTexture) {
+		final ByteBuffer lPixels = pDecodedTexture.pixels();
+		if (lPixels == null)
+			return;
+
+		final int lWidth = pDecodedTexture.width();
+		final int lHeight = pDecodedTexture.height();
+
+		GL11.glBindTexture(GL11.GL_TEXTURE_2D, mTextureId);
+		GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, mTextureFilterMode);
+		GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, mTextureFilterMode);
+
+		GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, mWrapModeS);
+		GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, mWrapModeT);
+
+		// The rows of RGBA pixels are always 4 byte aligned, which is the default unpack alignment
+		GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, lWidth, lHeight, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, lPixels);
+		GL11.glBindTexture(GL11.GL_TEXTURE_2D, 0);
+
+		mTextureWidth = lWidth;
+		mTextureHeight = lHeight;
+		mColorData = null;
+
+		if (mCpuResidency == CPU_RESIDENCY_RETAINED) {
+			// Read as little endian ints, the RGBA bytes have the same layout as the int pixels of the other loading paths
+			mColorData = new int[lWidth * lHeight];
+			lPixels.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(mColorData);
+
+		}
+
+		fileSizeOnLoad(pDecodedTexture.fileSize());
+
 	}
 
 	/**
 	 * Creates an OpenGL {@link Texture} from a {@link BufferedImage}.
 	 */
-	static Texture createTexture(String pName, String pTextureLocation, BufferedImage pImage, int pFilter) {
+	static Texture createTexture(String pName, String pTextureLocation, BufferedImage pImage, int pFilter, int pCpuResidency) {
 		final int lWidth = pImage.getWidth();
 		final int lHeight = pImage.getHeight();
 
@@ -274,16 +399,16 @@ public class Texture {
 		final int[] lPixels = new int[lWidth * lHeight];
 		pImage.getRGB(0, 0, lWidth, lHeight, lPixels, 0, lWidth);
 
-		return createTexture(pName, pTextureLocation, changeARGBtoABGR(lPixels, lWidth, lHeight), lWidth, lHeight, pFilter, GL12.GL_REPEAT, GL12.GL_REPEAT);
+		return createTexture(pName, pTextureLocation, changeARGBtoABGR(lPixels, lWidth, lHeight), lWidth, lHeight, pFilter, GL12.GL_REPEAT, GL12.GL_REPEAT, pCpuResidency);
 	}
 
 	/**
-	 * Creates an OpenGL Texture from RGB data.
+	 * Creates an OpenGL Texture from RGB data. The texture only keeps a reference to the pixels if pCpuResidency is {@link #CPU_RESIDENCY_RETAINED}.
 	 */
-	static Texture createTexture(String pName, String mTextureLocation, int[] pPixels, int pWidth, int pHeight, int pFilter, int pWrapModeS, int pWrapModeT) {
+	static Texture createTexture(String pName, String mTextureLocation, int[] pPixels, int pWidth, int pHeight, int pFilter, int pWrapModeS, int pWrapModeT, int pCpuResidency) {
 		final int lTexID = GL11.glGenTextures();
 
-		var lIntBuffer = MemoryUtil.memAllocInt(pPixels.length * 4);
+		var lIntBuffer = MemoryUtil.memAllocInt(pPixels.length);
 		lIntBuffer.put(pPixels);
 		lIntBuffer.flip();
 
@@ -302,7 +427,8 @@ public class Texture {
 
 		final var lNewTexture = new Texture(pName, lTexID, mTextureLocation, pWidth, pHeight, pFilter);
 
-		lNewTexture.mColorData = pPixels;
+		lNewTexture.mCpuResidency = pCpuResidency;
+		lNewTexture.mColorData = pCpuResidency == CPU_RESIDENCY_RETAINED ? pPixels : null;
 		lNewTexture.mTextureFilterMode = pFilter;
 		lNewTexture.mWrapModeS = pWrapModeS;
 		lNewTexture.mWrapModeT = pWrapModeT;
@@ -386,11 +512,13 @@ public class Texture {
 		GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, mWrapModeS);
 		GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, mWrapModeT);
 
-		var lIntBuffer = MemoryUtil.memAllocInt(pColorData.length * 4);
+		var lIntBuffer = MemoryUtil.memAllocInt(pColorData.length);
 		lIntBuffer.put(pColorData);
 		lIntBuffer.flip();
 
-		mColorData = pColorData;
+		mColorData = mCpuResidency == CPU_RESIDENCY_RETAINED ? pColorData : null;
+		mTextureWidth = pWidth;
+		mTextureHeight = pHeight;
 
 		GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, pWidth, pHeight, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, lIntBuffer);
 		GL11.glBindTexture(GL11.GL_TEXTURE_2D, 0);
@@ -400,6 +528,23 @@ public class Texture {
 
 	}
 
+	/** Reads the pixels back from the GL texture. Returns null if the texture has no pixels yet. */
+	private int[] readColorData() {
+		if (mTextureWidth == 0 || mTextureHeight == 0)
+			return null;
+
+		if (Thread.currentThread() != mGLThread)
+			throw new IllegalStateException(String.format("The pixels of texture %s can only be read back on the GL thread (%s)", mName, mGLThread.getName()));
+
+		final int[] lColorData = new int[mTextureWidth * mTextureHeight];
+		GL11.glBindTexture(GL11.GL_TEXTURE_2D, mTextureId);
+		GL11.glGetTexImage(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, lColorData);
+		GL11.glBindTexture(GL11.GL_TEXTURE_2D, 0);
+
+		return lColorData;
+
+	}
+
 	// --------------------------------------
 	// Helpers
 	// --------------------------------------
@@ -0,0 +1,250 @@
+package net.lintford.library.core.graphics.textures;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import net.lintford.library.core.storage.FileUtils;
+
+/**
+ * Decodes image files into {@link DecodedTexture}s on a pool of worker threads, without touching any GL state. Images are decoded with stb_image straight into off-heap RGBA buffers, and only images which
+ * stb_image cannot read fall back to ImageIO. The decoded textures are collected in a queue, which the GL thread drains to upload them (see {@link TextureManager#uploadPendingTextures(long)}).
+ */
+public class TextureDecoder {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int BYTES_PER_PIXEL = 4;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final ExecutorService mExecutor;
+	private final LinkedBlockingQueue<DecodedTexture> mDecodedTextures = new LinkedBlockingQueue<>();
+	private final AtomicInteger mNumTexturesInFlight = new AtomicInteger();
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** Returns the number of textures which have been submitted and not yet taken from the queue of decoded textures. */
+	public int texturesInFlight() {
+		return mNumTexturesInFlight.get();
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	/** Creates a decoder with one worker thread per available processor (leaving one for the GL thread). */
+	public TextureDecoder() {
+		this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+	}
+
+	public TextureDecoder(int pNumWorkerThreads) {
+		final var lThreadCounter = new AtomicInteger();
+		mExecutor = Executors.newFixedThreadPool(Math.max(1, pNumWorkerThreads), pRunnable -> {
+			final var lThread = new Thread(pRunnable, "TextureDecoder-" + lThreadCounter.incrementAndGet());
+			lThread.setDaemon(true);
+			return lThread;
+
+		});
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Queues the texture for decoding on a worker thread. Once decoded (or failed), it can be taken with {@link #pollDecoded()}. The texture is always queued, even if the decoder throws. */
+	public void submit(DecodedTexture pTexture) {
+		mNumTexturesInFlight.incrementAndGet();
+		mExecutor.execute(() -> {
+			try {
+				decode(pTexture);
+
+			} catch (RuntimeException e) {
+				pTexture.free();
+				pTexture.setErrorMessage(e.toString());
+
+			} finally {
+				mDecodedTextures.add(pTexture);
+
+			}
+
+		});
+
+	}
+
+	/** Returns the next decoded texture, or null if none is ready. */
+	public DecodedTexture pollDecoded() {
+		final var lTexture = mDecodedTextures.poll();
+		if (lTexture != null)
+			mNumTexturesInFlight.decrementAndGet();
+
+		return lTexture;
+
+	}
+
+	/** Waits up to the given time for the next decoded texture. Returns null if none became ready in time. */
+	public DecodedTexture pollDecoded(long pTimeoutNanos) throws InterruptedException {
+		final var lTexture = mDecodedTextures.poll(pTimeoutNanos, TimeUnit.NANOSECONDS);
+		if (lTexture != null)
+			mNumTexturesInFlight.decrementAndGet();
+
+		return lTexture;
+
+	}
+
+	/** Stops the worker threads and frees the pixels of all textures which have been decoded but not taken. */
+	public void shutdown() {
+		mExecutor.shutdownNow();
+
+		DecodedTexture lTexture;
+		while ((lTexture = pollDecoded()) != null)
+			lTexture.free();
+
+	}
+
+	/**
+	 * Decodes the image at the location of the texture into its pixels, on the calling thread. Doesn't need a GL context. Returns false (and sets the error message of the texture) if the image couldn't be
+	 * read.
+	 */
+	public static boolean decode(DecodedTexture pTexture) {
+		try {
+			// Images in a mounted asset pack are decoded straight from the mapped pack
+			final var lPackedImage = FileUtils.loadByteBufferFromAssetPacks(pTexture.isResource() ? pTexture.textureLocation : cleanFilename(pTexture.textureLocation));
+			if (lPackedImage != null) {
+				if (lPackedImage.isDirect() && decodeWithStb(pTexture, lPackedImage))
+					return true;
+
+				final var lEncodedBytes = new byte[lPackedImage.remaining()];
+				lPackedImage.get(lEncodedBytes);
+				if (decodeWithStb(pTexture, lEncodedBytes) || decodeWithImageIO(pTexture, lEncodedBytes))
+					return true;
+
+				pTexture.setErrorMessage("Unsupported image format (" + STBImage.stbi_failure_reason() + ")");
+				return false;
+
+			}
+
+			final byte[] lEncodedBytes;
+			if (pTexture.isResource()) {
+				// Resource paths don't allow double slashes
+				try (InputStream lInputStream = TextureDecoder.class.getResourceAsStream(pTexture.textureLocation.replace("//", "/"))) {
+					if (lInputStream == null) {
+						pTexture.setErrorMessage("Resource not found");
+						return false;
+
+					}
+
+					lEncodedBytes = lInputStream.readAllBytes();
+
+				}
+
+			} else {
+				final var lFile = new File(cleanFilename(pTexture.textureLocation));
+				lEncodedBytes = Files.readAllBytes(lFile.toPath());
+				pTexture.setFileSize(lFile.length());
+
+			}
+
+			if (decodeWithStb(pTexture, lEncodedBytes) || decodeWithImageIO(pTexture, lEncodedBytes))
+				return true;
+
+			pTexture.setErrorMessage("Unsupported image format (" + STBImage.stbi_failure_reason() + ")");
+			return false;
+
+		} catch (IOException e) {
+			pTexture.setErrorMessage(e.getMessage());
+			return false;
+
+		}
+
+	}
+
+	private static boolean decodeWithStb(DecodedTexture pTexture, byte[] pEncodedBytes) {
+		final ByteBuffer lEncoded = MemoryUtil.memAlloc(pEncodedBytes.length);
+		try {
+			lEncoded.put(pEncodedBytes).flip();
+			return decodeWithStb(pTexture, lEncoded);
+
+		} finally {
+			MemoryUtil.memFree(lEncoded);
+
+		}
+
+	}
+
+	/** Decodes the image from a direct buffer. */
+	private static boolean decodeWithStb(DecodedTexture pTexture, ByteBuffer pEncoded) {
+		try (MemoryStack lStack = MemoryStack.stackPush()) {
+			final IntBuffer lWidth = lStack.mallocInt(1);
+			final IntBuffer lHeight = lStack.mallocInt(1);
+			final IntBuffer lChannels = lStack.mallocInt(1);
+
+			// Always expand to RGBA, which is what the textures are uploaded as
+			final ByteBuffer lPixels = STBImage.stbi_load_from_memory(pEncoded, lWidth, lHeight, lChannels, BYTES_PER_PIXEL);
+			if (lPixels == null)
+				return false;
+
+			pTexture.setPixels(lPixels, true, lWidth.get(0), lHeight.get(0));
+			return true;
+
+		}
+
+	}
+
+	private static boolean decodeWithImageIO(DecodedTexture pTexture, byte[] pEncodedBytes) throws IOException {
+		final BufferedImage lImage = ImageIO.read(new ByteArrayInputStream(pEncodedBytes));
+		if (lImage == null)
+			return false;
+
+		final int lWidth = lImage.getWidth();
+		final int lHeight = lImage.getHeight();
+
+		final int[] lARGB = new int[lWidth * lHeight];
+		lImage.getRGB(0, 0, lWidth, lHeight, lARGB, 0, lWidth);
+
+		final ByteBuffer lPixels = MemoryUtil.memAlloc(lARGB.length * BYTES_PER_PIXEL);
+		for (int i = 0; i < lARGB.length; i++) {
+			final int lPixel = lARGB[i];
+			lPixels.put((byte) (lPixel >> 16));
+			lPixels.put((byte) (lPixel >> 8));
+			lPixels.put((byte) lPixel);
+			lPixels.put((byte) (lPixel >> 24));
+
+		}
+
+		lPixels.flip();
+
+		pTexture.setPixels(lPixels, false, lWidth, lHeight);
+		return true;
+
+	}
+
+	static String cleanFilename(String pFilename) {
+		return pFilename.replaceAll("\\s+", "");
+	}
+
+}
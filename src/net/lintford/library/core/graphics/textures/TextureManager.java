@@ -0,0 +1,910 @@
+package net.lintford.library.core.graphics.textures;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.imageio.ImageIO;
+
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL12;
+import org.lwjgl.opengl.GL14;
+
+import com.google.gson.GsonBuilder;
+
+import net.lintford.library.core.EntityGroupManager;
+import net.lintford.library.core.LintfordCore;
+import net.lintford.library.core.ResourceManager;
+import net.lintford.library.core.debug.Debug;
+import net.lintford.library.core.debug.stats.DebugStats;
+import net.lintford.library.core.resources.IResourceChangedListener;
+import net.lintford.library.core.resources.ResourceWatcher;
+import net.lintford.library.core.storage.FileUtils;
+
+public class TextureManager extends EntityGroupManager implements IResourceChangedListener {
+
+	public class TextureDataDefinition {
+		public String textureName;
+		public String filepath;
+		public int filterIndex;
+		public int wrapSIndex;
+		public int wrapTIndex;
+	}
+
+	public class TextureMetaData {
+		public TextureDataDefinition[] textureDefinitions;
+
+	}
+
+	public class TextureGroup {
+
+		// --------------------------------------
+		// Variables
+		// --------------------------------------
+
+		Map<String, Texture> mTextureMap;
+
+		boolean automaticUnload = true;
+		int entityGroupID;
+		String name = "";
+		int referenceCount = 0;
+
+		// --------------------------------------
+		// Properties
+		// --------------------------------------
+
+		public Map<String, Texture> textureMap() {
+			return mTextureMap;
+		}
+
+		// --------------------------------------
+		// Constructor
+		// --------------------------------------
+
+		public TextureGroup(int pEntityGroupID) {
+			mTextureMap = new HashMap<>();
+
+			entityGroupID = pEntityGroupID;
+			referenceCount = 0;
+
+		}
+
+		// --------------------------------------
+		// Methods
+		// --------------------------------------
+
+		public Texture getTextureByName(String pTextureName) {
+			if (mTextureMap.containsKey(pTextureName)) {
+				return mTextureMap.get(pTextureName);
+
+			}
+
+			return mTextureNotFound;
+		}
+
+	}
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	/** When enabled, missing textures will be filled with a magenta color. */
+	public static final boolean USE_DEBUG_MISSING_TEXTURES = true;
+
+	public static final String TEXTURE_WHITE_NAME = "TEXTURE_WHITE";
+	public static final String TEXTURE_BLACK_NAME = "TEXTURE_BLACK";
+	public static final String TEXTURE_NOT_FOUND_NAME = "TEXTURE_NOT_FOUND";
+
+	public static final String TEXTURE_CHECKER_BOARD_NAME = "TEXTURE_CHECKER";
+	public static final String TEXTURE_CHECKER_BOARD_INDEXED_NAME = "TEXTURE_CHECKERI";
+	public static final String TEXTURE_CORE_UI_NAME = "TEXTURE_CORE_UI";
+
+	/** The default time per frame the GL thread spends on uploading textures which have been decoded asynchronously. */
+	public static final long DEFAULT_UPLOAD_TIME_BUDGET_NANOS = 2000000L;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private Map<Integer, TextureGroup> mTextureGroupMap;
+
+	private ResourceManager mResourceManager;
+
+	private Texture mTextureNotFound;
+	private Texture mTextureWhite;
+	private Texture mTextureBlack;
+	private Texture mTextureChecker;
+	private Texture mTextureCheckerIndexed;
+
+	private boolean mIsLoaded;
+
+	private TextureDecoder mTextureDecoder;
+	private final Map<DecodedTexture, Texture> mPendingTextures = new HashMap<>();
+	private long mUploadTimeBudgetNanos = DEFAULT_UPLOAD_TIME_BUDGET_NANOS;
+	private int mDefaultCpuResidency = Texture.DEFAULT_CPU_RESIDENCY;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int defaultCpuResidency() {
+		return mDefaultCpuResidency;
+	}
+
+	/**
+	 * Sets the CPU residency of the textures loaded from now on (see {@link Texture#CPU_RESIDENCY_ON_DEMAND}). Textures which need fast access to their pixels should rather be set to
+	 * {@link Texture#CPU_RESIDENCY_RETAINED} individually, with {@link Texture#cpuResidency(int)}.
+	 */
+	public void defaultCpuResidency(int pCpuResidency) {
+		mDefaultCpuResidency = pCpuResidency;
+	}
+
+	/** The decoder used by the asynchronous loading methods. Created on first use. */
+	public TextureDecoder textureDecoder() {
+		if (mTextureDecoder == null)
+			mTextureDecoder = new TextureDecoder();
+
+		return mTextureDecoder;
+	}
+
+	/** Returns the number of textures which are being loaded asynchronously and have not been uploaded yet. */
+	public int pendingTextureCount() {
+		return mPendingTextures.size();
+	}
+
+	public boolean isLoadingTextures() {
+		return !mPendingTextures.isEmpty();
+	}
+
+	public long uploadTimeBudgetNanos() {
+		return mUploadTimeBudgetNanos;
+	}
+
+	/** Sets the time per frame {@link #uploadPendingTextures()} spends on uploading decoded textures. At least one texture is uploaded per frame, regardless of the budget. */
+	public void uploadTimeBudgetNanos(long pNewValue) {
+		mUploadTimeBudgetNanos = pNewValue;
+	}
+
+	public ResourceManager resourceManager() {
+		return mResourceManager;
+	}
+
+	public Map<Integer, TextureGroup> textureGroups() {
+		return mTextureGroupMap;
+	}
+
+	public TextureGroup textureGroup(int pEntityGroupID) {
+		if (!mTextureGroupMap.containsKey(pEntityGroupID)) {
+			TextureGroup lNewTextureGroup = new TextureGroup(pEntityGroupID);
+			mTextureGroupMap.put(pEntityGroupID, lNewTextureGroup);
+
+			return lNewTextureGroup;
+		}
+
+		return mTextureGroupMap.get(pEntityGroupID);
+	}
+
+	public int textureGroupCount() {
+		return mTextureGroupMap.size();
+	}
+
+	public boolean isLoaded() {
+		return mIsLoaded;
+	}
+
+	public Texture textureCore() {
+		return getTexture(TEXTURE_CORE_UI_NAME, LintfordCore.CORE_ENTITY_GROUP_ID);
+	}
+
+	public Texture textureNotFound() {
+		return mTextureNotFound;
+	}
+
+	public Texture textureWhite() {
+		return mTextureWhite;
+	}
+
+	public Texture textureBlack() {
+		return mTextureBlack;
+	}
+
+	public Texture checkerTexture() {
+		return mTextureChecker;
+	}
+
+	public Texture checkerIndexedTexture() {
+		return mTextureCheckerIndexed;
+	}
+
+	/** Returns the {@link Texture} with the given name. If no {@link Texture} by the given name is found, a default MAGENTA texture will be returned. */
+	public Texture getTexture(String pName, int pEntityGroupID) {
+		TextureGroup lTextureGroup = mTextureGroupMap.get(pEntityGroupID);
+
+		if (lTextureGroup == null) {
+			Debug.debugManager().logger().w(getClass().getSimpleName(), String.format("Couldn't getTexture %s: TextureGroup %d doesn't exit", pName, pEntityGroupID));
+			return mTextureNotFound;
+
+		}
+
+		if (lTextureGroup.mTextureMap.containsKey(pName)) {
+			return lTextureGroup.mTextureMap.get(pName);
+
+		}
+
+		return mTextureNotFound;
+
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public TextureManager() {
+		mTextureGroupMap = new HashMap<>();
+
+		// Setup the LintfordCore EntityGroupID and load the core textures
+		TextureGroup lCoreTextureGroup = new TextureGroup(LintfordCore.CORE_ENTITY_GROUP_ID);
+		lCoreTextureGroup.automaticUnload = false;
+		lCoreTextureGroup.name = "CORE";
+		lCoreTextureGroup.referenceCount = 1;
+		mTextureGroupMap.put(LintfordCore.CORE_ENTITY_GROUP_ID, lCoreTextureGroup);
+
+		loadTexture(TEXTURE_CORE_UI_NAME, "/res/textures/core/system.png", GL11.GL_NEAREST, LintfordCore.CORE_ENTITY_GROUP_ID);
+
+		mTextureNotFound = loadTexture(TEXTURE_NOT_FOUND_NAME, new int[] { 0xFFFF00FF, 0xFFFF00FF, 0xFFFF00FF, 0xFFFF00FF }, 2, 2, LintfordCore.CORE_ENTITY_GROUP_ID);
+		mTextureChecker = loadTexture(TEXTURE_CHECKER_BOARD_NAME, "/res/textures/CheckerBoard.png", GL11.GL_NEAREST, LintfordCore.CORE_ENTITY_GROUP_ID);
+		mTextureCheckerIndexed = loadTexture(TEXTURE_CHECKER_BOARD_INDEXED_NAME, "/res/textures/CheckerBoardIndexed.png", GL11.GL_NEAREST, LintfordCore.CORE_ENTITY_GROUP_ID);
+		mTextureWhite = loadTexture(TEXTURE_WHITE_NAME, new int[] { 0xFFFFFFFF, 0xFFFFFFFF, 0xFFFFFFFF, 0xFFFFFFFF }, 2, 2, GL11.GL_NEAREST, GL12.GL_REPEAT, GL12.GL_REPEAT, LintfordCore.CORE_ENTITY_GROUP_ID);
+		mTextureBlack = loadTexture(TEXTURE_BLACK_NAME, new int[] { 0xFF000000, 0xFF000000, 0xFF000000, 0xFF000000 }, 2, 2, GL11.GL_NEAREST, GL12.GL_REPEAT, GL12.GL_REPEAT, LintfordCore.CORE_ENTITY_GROUP_ID);
+
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	public void loadGLContent(ResourceManager pResourceManager) {
+		mResourceManager = pResourceManager;
+
+		mIsLoaded = true;
+
+	}
+
+	public void unloadGLContent() {
+		if (!mIsLoaded)
+			return;
+
+		if (mTextureDecoder != null) {
+			mTextureDecoder.shutdown();
+			mTextureDecoder = null;
+
+		}
+
+		mPendingTextures.clear();
+
+		final var map = mTextureGroupMap;
+		for (final var entry : map.entrySet()) {
+			Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("TextureGroup %s (%d)..", entry.getValue().name, entry.getValue().entityGroupID));
+
+			final var lTextureGroup = entry.getValue();
+			final var lGroupMap = lTextureGroup.textureMap();
+			for (final var lTexture : lGroupMap.entrySet()) {
+
+				Texture.unloadTexture(lTexture.getValue());
+
+			}
+
+			lGroupMap.clear();
+
+		}
+		mTextureGroupMap.clear();
+
+		mIsLoaded = false;
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	@Override
+	public int increaseReferenceCounts(int pEntityGroupID) {
+		TextureGroup lTextureGroup = mTextureGroupMap.get(pEntityGroupID);
+
+		// Create a new TextureGroup for this EntityGroupID if one doesn't exist
+		if (lTextureGroup == null) {
+			lTextureGroup = new TextureGroup(pEntityGroupID);
+			lTextureGroup.referenceCount = 1;
+
+			mTextureGroupMap.put(pEntityGroupID, lTextureGroup);
+
+		} else {
+			lTextureGroup.referenceCount++;
+
+		}
+
+		return lTextureGroup.referenceCount;
+
+	}
+
+	@Override
+	public int decreaseReferenceCounts(int pEntityGroupID) {
+		TextureGroup lTextureGroup = mTextureGroupMap.get(pEntityGroupID);
+
+		// Create a new TextureGroup for this EntityGroupID if one doesn't exist
+		if (lTextureGroup == null) {
+			return 0;
+
+		} else {
+			lTextureGroup.referenceCount--;
+
+		}
+
+		if (lTextureGroup.referenceCount <= 0) {
+			// Unload textures for this entityGroupID
+			unloadEntityGroup(pEntityGroupID);
+
+			mTextureGroupMap.remove(pEntityGroupID);
+			lTextureGroup = null;
+
+			return 0;
+
+		}
+
+		return lTextureGroup.referenceCount;
+
+	}
+
+	public Texture loadTexture(String pName, String pTextureLocation, int pEntityGroupID) {
+		return loadTexture(pName, pTextureLocation, GL11.GL_NEAREST, pEntityGroupID);
+	}
+
+	public Texture loadTexture(String pName, String pTextureLocation, int pFilter, int pEntityGroupID) {
+		return loadTexture(pName, pTextureLocation, pFilter, false, pEntityGroupID);
+
+	}
+
+	public Texture loadTexture(String pName, String pTextureLocation, int pFilter, boolean pReload, int pEntityGroupID) {
+		return loadTexture(pName, pTextureLocation, pFilter, GL12.GL_REPEAT, GL12.GL_REPEAT, pReload, pEntityGroupID);
+	}
+
+	public Texture loadTexture(String pName, String pTextureLocation, int pFilter, int pWrapModeS, int pWrapModeT, int pEntityGroupID) {
+		return loadTexture(pName, pTextureLocation, pFilter, pWrapModeS, pWrapModeT, false, pEntityGroupID);
+	}
+
+	public Texture loadTexture(String pName, String pTextureLocation, int pFilter, int pWrapModeS, int pWrapModeT, boolean pReload, int pEntityGroupID) {
+		if (pTextureLocation == null || pTextureLocation.length() == 0) {
+			return null;
+
+		}
+
+		final var lTextureGroup = getTextureGroup(pEntityGroupID);
+
+		Texture lTexture = null;
+		if (lTextureGroup.mTextureMap.containsKey(pName)) {
+			lTexture = lTextureGroup.mTextureMap.get(pName);
+
+			if (!pReload)
+				return lTexture;
+
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Unloading " + pName + ", so it can be reloaded");
+			unloadTexture(lTexture, pEntityGroupID);
+
+		}
+
+		// Create new texture
+		final var lProfiler = Debug.debugManager().profiler();
+		lProfiler.begin("TextureManager.loadTexture");
+
+		if (pTextureLocation.charAt(0) == '/') {
+			lTexture = Texture.loadTextureFromResource(pName, pTextureLocation, pFilter, mDefaultCpuResidency);
+
+		} else {
+			lTexture = Texture.loadTextureFromFile(pName, pTextureLocation, pFilter, mDefaultCpuResidency);
+
+		}
+
+		lProfiler.end("TextureManager.loadTexture");
+
+		if (lTexture != null) {
+			lTextureGroup.mTextureMap.put(pName, lTexture);
+
+		}
+
+		if (lTexture == null) {
+			return mTextureNotFound;
+
+		}
+
+		Debug.debugManager().stats().incTag(DebugStats.TAG_ID_TEXTURES, 1);
+
+		return lTexture;
+	}
+
+	/**
+	 * Starts loading the texture on the worker threads of the {@link TextureDecoder}, and returns the texture straight away. The texture has no pixels (and a size of zero) until it has been uploaded by
+	 * {@link #uploadPendingTextures()}. If a texture with the same name is already loaded, it is returned instead and its pixels are replaced once the new image has been decoded, so that existing
+	 * references to the texture stay valid.
+	 */
+	public Texture loadTextureAsync(String pName, String pTextureLocation, int pFilter, int pWrapModeS, int pWrapModeT, int pEntityGroupID) {
+		if (pTextureLocation == null || pTextureLocation.length() == 0) {
+			return null;
+
+		}
+
+		final var lTextureGroup = getTextureGroup(pEntityGroupID);
+
+		var lTexture = lTextureGroup.mTextureMap.get(pName);
+		if (lTexture == null) {
+			lTexture = Texture.createEmptyTexture(pName, pTextureLocation, pFilter, pWrapModeS, pWrapModeT, mDefaultCpuResidency);
+			lTextureGroup.mTextureMap.put(pName, lTexture);
+
+			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_TEXTURES, 1);
+
+		}
+
+		// Don't attempt to reload textures loaded from the embedded resources
+		lTexture.reloadable(pTextureLocation.charAt(0) != '/');
+
+		final var lDecodedTexture = new DecodedTexture(pName, pTextureLocation, pEntityGroupID, pFilter, pWrapModeS, pWrapModeT);
+		mPendingTextures.put(lDecodedTexture, lTexture);
+		textureDecoder().submit(lDecodedTexture);
+
+		return lTexture;
+
+	}
+
+	/** Reloads the texture from its file on the worker threads of the {@link TextureDecoder}. The pixels are replaced once the new image has been decoded, and the texture keeps its GL texture name. */
+	public void reloadTextureAsync(Texture pTexture, int pEntityGroupID) {
+		if (pTexture == null)
+			return;
+
+		final var lDecodedTexture = new DecodedTexture(pTexture.name(), pTexture.textureLocation(), pEntityGroupID, pTexture.getTextureFilterMode(), pTexture.getWrapModeS(), pTexture.getWrapModeT());
+		mPendingTextures.put(lDecodedTexture, pTexture);
+		textureDecoder().submit(lDecodedTexture);
+
+	}
+
+	/** Uploads the textures which have finished decoding, for up to {@link #uploadTimeBudgetNanos()}. Called once per frame by the {@link ResourceManager}. Returns the number of textures uploaded. */
+	public int uploadPendingTextures() {
+		return uploadPendingTextures(mUploadTimeBudgetNanos);
+
+	}
+
+	/** Uploads the textures which have finished decoding, until the time budget has been used up. At least one texture is uploaded if any is ready. Returns the number of textures uploaded. */
+	public int uploadPendingTextures(long pTimeBudgetNanos) {
+		if (mPendingTextures.isEmpty())
+			return 0;
+
+		final long lStartTime = System.nanoTime();
+		int lNumUploaded = 0;
+
+		do {
+			final var lDecodedTexture = mTextureDecoder.pollDecoded();
+			if (lDecodedTexture == null)
+				break;
+
+			uploadDecodedTexture(lDecodedTexture);
+			lNumUploaded++;
+
+		} while (System.nanoTime() - lStartTime < pTimeBudgetNanos);
+
+		return lNumUploaded;
+
+	}
+
+	/** Blocks until all of the textures which are being loaded asynchronously have been decoded and uploaded. */
+	public void finishLoadingTextures() {
+		while (!mPendingTextures.isEmpty()) {
+			try {
+				final var lDecodedTexture = mTextureDecoder.pollDecoded(100000000L);
+				if (lDecodedTexture != null) {
+					uploadDecodedTexture(lDecodedTexture);
+
+				} else if (mTextureDecoder.texturesInFlight() == 0) {
+					// Nothing left which could complete the remaining textures
+					mPendingTextures.clear();
+
+				}
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+
+			}
+
+		}
+
+	}
+
+	private void uploadDecodedTexture(DecodedTexture pDecodedTexture) {
+		final var lTexture = mPendingTextures.remove(pDecodedTexture);
+
+		try {
+			// The texture (or its whole group) might have been unloaded while it was being decoded
+			final var lTextureGroup = mTextureGroupMap.get(pDecodedTexture.entityGroupID);
+			if (lTexture == null || lTextureGroup == null || lTextureGroup.mTextureMap.get(pDecodedTexture.textureName) != lTexture)
+				return;
+
+			if (!pDecodedTexture.isDecoded()) {
+				Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("Error loading texture %s (%s)", pDecodedTexture.textureLocation, pDecodedTexture.errorMessage()));
+
+				// A texture which never got its pixels is filled like the texture not found (a failed reload keeps the old pixels)
+				if (lTexture.getTextureWidth() == 0)
+					lTexture.updateGLTextureData(new int[] { 0xFFFF00FF, 0xFFFF00FF, 0xFFFF00FF, 0xFFFF00FF }, 2, 2);
+
+				return;
+
+			}
+
+			lTexture.uploadDecodedTexture(pDecodedTexture);
+
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Loaded texture: " + pDecodedTexture.textureLocation);
+
+		} finally {
+			pDecodedTexture.free();
+
+		}
+
+	}
+
+	private TextureGroup getTextureGroup(int pEntityGroupID) {
+		TextureGroup lTextureGroup = mTextureGroupMap.get(pEntityGroupID);
+		if (lTextureGroup == null) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("EntityGroupID does not exist! Creating a new one", pEntityGroupID));
+			lTextureGroup = new TextureGroup(pEntityGroupID);
+			mTextureGroupMap.put(pEntityGroupID, lTextureGroup);
+
+		}
+		return lTextureGroup;
+	}
+
+	public Texture loadTexture(String pName, int[] pColorData, int pWidth, int pHeight, int pEntityGroupID) {
+		return loadTexture(pName, pColorData, pWidth, pHeight, GL11.GL_NEAREST, GL12.GL_REPEAT, GL12.GL_REPEAT, pEntityGroupID);
+	}
+
+	public Texture loadTexture(String pName, int[] pColorData, int pWidth, int pHeight, int pFilter, int pWrapSMode, int pWrapTMode, int pEntityGroupID) {
+		Texture lResult = null;
+		TextureGroup lTextureGroup = getTextureGroup(pEntityGroupID);
+
+		if (lTextureGroup.mTextureMap.containsKey(pName)) {
+			lResult = lTextureGroup.mTextureMap.get(pName);
+			unloadTexture(lResult, pEntityGroupID);
+
+		}
+
+		if (lResult != null) {
+			lResult.updateGLTextureData(pColorData, pWidth, pHeight);
+
+			return lResult;
+		} else {
+			Texture lTex = Texture.createTexture(pName, pName, pColorData, pWidth, pHeight, pFilter, pWrapSMode, pWrapTMode, mDefaultCpuResidency);
+			if (lTex != null) {
+				// Can't reload rgb data on-the-fly
+				lTex.reloadable(false);
+				lTextureGroup.mTextureMap.put(pName, lTex);
+
+			}
+
+			return lTex;
+
+		}
+
+	}
+
+	public boolean saveTextureToFile(int pWidth, int pHeight, int[] pData, String pFileLocation) {
+		BufferedImage lImage = new BufferedImage(pWidth, pHeight, BufferedImage.TYPE_INT_ARGB);
+
+		// Convert our ARGB to output ABGR
+		int[] lTextureData = new int[pWidth * pHeight];
+		for (int i = 0; i < pWidth * pHeight; i++) {
+			int a = (pData[i] & 0xff000000) >> 24;
+			int r = (pData[i] & 0xff0000) >> 16;
+			int g = (pData[i] & 0xff00) >> 8;
+			int b = (pData[i] & 0xff);
+
+			lTextureData[i] = a << 24 | b << 16 | g << 8 | r;
+		}
+
+		lImage.setRGB(0, 0, pWidth, pHeight, lTextureData, 0, pWidth);
+
+		File outputfile = new File(pFileLocation);
+		try {
+			ImageIO.write(lImage, "png", outputfile);
+		} catch (IOException e) {
+			// e.printStackTrace();
+			return false;
+		}
+
+		return true;
+
+	}
+
+	public Texture createFontTexture(String pName, BufferedImage pImage, int pEntityGroupID) {
+		return createFontTexture(pName, pImage, GL11.GL_NEAREST, pEntityGroupID);
+	}
+
+	public Texture createFontTexture(String pName, BufferedImage pImage, int pFilter, int pEntityGroupID) {
+		TextureGroup lTextureGroup = mTextureGroupMap.get(pEntityGroupID);
+		if (lTextureGroup == null) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("Cannot load texture %s for EntityGroupID %d: EntityGroupID does not exist!", (pName + " (Font)"), pEntityGroupID));
+			return null;
+
+		} else if (lTextureGroup.mTextureMap.containsKey(pName)) {
+			// This texture group already contains a texture with the same name, so return it
+			return lTextureGroup.mTextureMap.get(pName);
+
+		}
+
+		Texture lNewTexture = Texture.createTexture(pName, pName, pImage, pFilter, mDefaultCpuResidency);
+		lNewTexture.reloadable(false); // no need to reload font textures (on-the-fly)
+
+		lTextureGroup.mTextureMap.put(pName, lNewTexture);
+
+		return lNewTexture;
+	}
+
+	/** Reloads (asynchronously) only the textures which have been loaded from the changed file. */
+	@Override
+	public void onResourceFileChanged(ResourceWatcher pResourceWatcher, Path pChangedFile) {
+		for (final var lTextureGroup : mTextureGroupMap.values()) {
+			for (final var lTexture : lTextureGroup.mTextureMap.values()) {
+				if (lTexture != null && lTexture.reloadable() && ResourceWatcher.isResourceFile(pChangedFile, lTexture.textureLocation())) {
+					Debug.debugManager().logger().i(getClass().getSimpleName(), "Reloading texture " + lTexture.name());
+					reloadTextureAsync(lTexture, lTextureGroup.entityGroupID);
+
+				}
+
+			}
+
+		}
+
+	}
+
+	public void reloadTextures() {
+		Debug.debugManager().logger().v(getClass().getSimpleName(), "Reloading all modified files");
+
+		for (TextureGroup lTextureGroup : mTextureGroupMap.values()) {
+			for (Texture lTexture : lTextureGroup.mTextureMap.values()) {
+				if (lTexture != null) {
+					lTexture.reload();
+				}
+
+			}
+
+		}
+
+	}
+
+	/** Unloads the specified texture in the texture group, if applicable. */
+	public void unloadTexture(Texture pTexture, int pEntityGroupID) {
+		if (pTexture == null)
+			return; // already lost reference
+
+		TextureGroup lTextureGroup = mTextureGroupMap.get(pEntityGroupID);
+		if (lTextureGroup == null) {
+			return;
+
+		} else if (lTextureGroup.mTextureMap.containsValue(pTexture)) {
+			String lTextureName = pTexture.name();
+
+			Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("unloading texture: %s from texture group %d", lTextureName, pEntityGroupID));
+
+			Texture.unloadTexture(pTexture);
+
+			lTextureGroup.mTextureMap.remove(lTextureName);
+			pTexture = null;
+
+		}
+
+		return;
+
+	}
+
+	public void unloadEntityGroup(int pEntityGroupID) {
+		TextureGroup lTextureGroup = mTextureGroupMap.get(pEntityGroupID);
+
+		if (lTextureGroup == null)
+			return;
+
+		final int lTextureCount = lTextureGroup.mTextureMap.size();
+		Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Unloading TextureGroup %d (freeing total %d textures)", pEntityGroupID, lTextureCount));
+
+		if (lTextureGroup != null) {
+			// Iterate over all the textures in the group and unload them
+			Iterator<Entry<String, Texture>> it = lTextureGroup.mTextureMap.entrySet().iterator();
+			while (it.hasNext()) {
+				Entry<String, Texture> lNextTexture = it.next();
+				Texture.unloadTexture(lNextTexture.getValue());
+
+				it.remove();
+
+			}
+
+		}
+
+	}
+
+	/** Batch load textures */
+	public void loadTexturesFromMetafile(String pMetaFileLocation, int pEntityGroupID) {
+		loadTexturesFromMetafile(pMetaFileLocation, pEntityGroupID, false);
+
+	}
+
+	/**
+	 * Batch load textures, decoding them on the worker threads of the {@link TextureDecoder}. The textures are added to the group straight away, and are uploaded over the following frames (see
+	 * {@link #loadTextureAsync(String, String, int, int, int, int)}). Call {@link #finishLoadingTextures()} to wait for all of them.
+	 */
+	public void loadTexturesFromMetafileAsync(String pMetaFileLocation, int pEntityGroupID) {
+		loadTexturesFromMetafile(pMetaFileLocation, pEntityGroupID, true);
+
+	}
+
+	private void loadTexturesFromMetafile(String pMetaFileLocation, int pEntityGroupID, boolean pAsync) {
+
+		Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Loading textures from meta-file %s", pMetaFileLocation));
+
+		final var lGson = new GsonBuilder().create();
+
+		String lMetaFileContentsString = null;
+		TextureMetaData lTextureMetaData = null;
+
+		lMetaFileContentsString = FileUtils.loadString(pMetaFileLocation);
+
+		try {
+			lTextureMetaData = lGson.fromJson(lMetaFileContentsString, TextureMetaData.class);
+
+			if (lTextureMetaData == null || lTextureMetaData.textureDefinitions == null || lTextureMetaData.textureDefinitions.length == 0) {
+				Debug.debugManager().logger().e(getClass().getSimpleName(), "There was an error reading the PObject meta file");
+				return;
+
+			}
+
+			final var lTextureGroup = mTextureGroupMap.get(pEntityGroupID);
+			if (lTextureGroup == null) {
+				Debug.debugManager().logger().e(getClass().getSimpleName(), String.format("Cannot load texture %s for EntityGroupID %d: EntityGroupID does not exist!", (pMetaFileLocation + " (META)"), pEntityGroupID));
+				return;
+
+			}
+
+			final int lNumberOfTextureDefinitions = lTextureMetaData.textureDefinitions.length;
+			for (int i = 0; i < lNumberOfTextureDefinitions; i++) {
+				final var lTextureDataDefinition = lTextureMetaData.textureDefinitions[i];
+
+				final var lTextureName = lTextureDataDefinition.textureName;
+				final var lFilepath = lTextureDataDefinition.filepath;
+
+				int lGlFilterMode = mapTextureFilterMode(lTextureDataDefinition.filterIndex);
+				int lGlWrapSFilter = mapWrapMode(lTextureDataDefinition.filterIndex);
+				int lGlWrapTFilter = mapWrapMode(lTextureDataDefinition.filterIndex);
+
+				if (pAsync) {
+					final var lNewTexture = loadTextureAsync(lTextureName, lFilepath, lGlFilterMode, lGlWrapSFilter, lGlWrapTFilter, pEntityGroupID);
+					if (lNewTexture != null)
+						lNewTexture.reloadable(true);
+
+					continue;
+
+				}
+
+				final var lNewTexture = loadTexture(lTextureName, lFilepath, lGlFilterMode, lGlWrapSFilter, lGlWrapTFilter, true, pEntityGroupID);
+
+				if (lNewTexture != null) {
+					// All textures that we manualy load can be reloaded be re-calling this method
+					lNewTexture.reloadable(true);
+
+					Debug.debugManager().logger().i(getClass().getSimpleName(), "Loaded texture from Meta '" + lTextureName + "' into EntityGroupID: " + pEntityGroupID);
+
+					lTextureGroup.mTextureMap.put(lTextureName, lNewTexture);
+
+				}
+
+			}
+
+		} catch (Exception e) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), "");
+
+		}
+
+	}
+
+	/**
+	 * Maps the index from the Texture Meta data file to the GL filter mode.
+	 * 
+	 * 1 = GL_NEAREST 
+	 * 2 = GL_LINEAR
+	 */
+	private int mapTextureFilterMode(int pIndex) {
+		switch (pIndex) {
+		case 1:
+			return GL11.GL_NEAREST;
+		default:
+			return GL11.GL_LINEAR;
+		}
+	}
+
+	/**
+	 * Maps the index from the Texture Meta data file to the GL Wrap mode.
+	 * 
+	 * 1 = GL_CLAMP_TO_EDGE 
+	 * 2 = GL_MIRRORED_REPEAT 
+	 * 3 = GL_REPEAT
+	 */
+	private int mapWrapMode(int pIndex) {
+		switch (pIndex) {
+		case 1:
+			return GL12.GL_CLAMP_TO_EDGE;
+		case 2:
+			return GL14.GL_MIRRORED_REPEAT;
+		case 3:
+			return GL12.GL_REPEAT;
+		default:
+			return GL12.GL_CLAMP_TO_EDGE;
+		}
+	}
+
+	public void dumpTextureInformation() {
+		long lTotalGpuBytes = 0;
+		long lTotalCpuBytes = 0;
+
+		Map<Integer, TextureGroup> map = mTextureGroupMap;
+		for (Map.Entry<Integer, TextureGroup> entry : map.entrySet()) {
+
+			Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("TextureGroup %s (%d)..", entry.getValue().name, entry.getValue().entityGroupID));
+
+			TextureGroup lTextureGroup = entry.getValue();
+			long lGroupGpuBytes = 0;
+			long lGroupCpuBytes = 0;
+
+			Map<String, Texture> lGroupMap = lTextureGroup.textureMap();
+			for (Map.Entry<String, Texture> lTextureEntry : lGroupMap.entrySet()) {
+				final var lTexture = lTextureEntry.getValue();
+
+				Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("  Texture %s (%d) %dx%d, GPU %s, CPU %s (%s)", lTexture.name(), lTexture.getTextureID(), lTexture.getTextureWidth(),
+						lTexture.getTextureHeight(), formatBytes(lTexture.gpuMemoryBytes()), formatBytes(lTexture.cpuMemoryBytes()), cpuResidencyName(lTexture.cpuResidency())));
+
+				lGroupGpuBytes += lTexture.gpuMemoryBytes();
+				lGroupCpuBytes += lTexture.cpuMemoryBytes();
+
+			}
+
+			Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("  %d textures, GPU %s, CPU %s", lGroupMap.size(), formatBytes(lGroupGpuBytes), formatBytes(lGroupCpuBytes)));
+
+			lTotalGpuBytes += lGroupGpuBytes;
+			lTotalCpuBytes += lGroupCpuBytes;
+
+		}
+
+		Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Total texture memory: GPU %s, CPU %s", formatBytes(lTotalGpuBytes), formatBytes(lTotalCpuBytes)));
+
+	}
+
+	private static String cpuResidencyName(int pCpuResidency) {
+		switch (pCpuResidency) {
+		case Texture.CPU_RESIDENCY_NONE:
+			return "none";
+		case Texture.CPU_RESIDENCY_ON_DEMAND:
+			return "on-demand";
+		case Texture.CPU_RESIDENCY_RETAINED:
+			return "retained";
+		default:
+			return "unknown";
+		}
+	}
+
+	private static String formatBytes(long pBytes) {
+		if (pBytes < 1024)
+			return pBytes + " B";
+
+		if (pBytes < 1024 * 1024)
+			return String.format("%.1f KB", pBytes / 1024.);
+
+		return String.format("%.1f MB", pBytes / (1024. * 1024.));
+	}
+
+}
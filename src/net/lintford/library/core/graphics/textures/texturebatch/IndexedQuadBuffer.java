@@ -0,0 +1,212 @@
+package net.lintford.library.core.graphics.textures.texturebatch;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL32;
+import org.lwjgl.system.MemoryUtil;
+
+import net.lintford.library.core.debug.Debug;
+import net.lintford.library.core.debug.stats.DebugStats;
+
+/**
+ * The GL buffers behind the texture batches. Sprites are written as quads of four vertices (A, B, C, D), which are drawn as the triangles ABC and CBD using an index buffer shared between all batches.
+ * The vertex buffer storage is allocated once and streamed into as a ring: each flush writes into the next unused region (unsynchronized), and the storage is only orphaned once the ring wraps around.
+ */
+public class IndexedQuadBuffer {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_VERTS_PER_QUAD = 4;
+	public static final int NUM_INDICES_PER_QUAD = 6;
+
+	/** The number of full batches which fit into the vertex buffer storage before it is orphaned. */
+	public static final int NUM_RING_SEGMENTS = 4;
+
+	// The largest vertex index which can be addressed with unsigned short indices
+	private static final int MAX_INDEXED_QUADS = 65536 / NUM_VERTS_PER_QUAD;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private static int sIndexBufferId = -1;
+	private static int sIndexBufferQuads;
+	private static int sIndexBufferReferenceCount;
+
+	private final int mMaxQuads;
+	private final int mVertexStride;
+	private final int mVertexBufferSizeInBytes;
+	private int mVboId = -1;
+	private int mVboOffsetInBytes;
+	private ByteBuffer mMappedBuffer;
+	private boolean mIsLoaded;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int maxQuads() {
+		return mMaxQuads;
+	}
+
+	public int vboId() {
+		return mVboId;
+	}
+
+	public boolean isLoaded() {
+		return mIsLoaded;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	/** @param pMaxQuads The maximum number of quads uploaded with a single call to {@link #upload(FloatBuffer)}. */
+	public IndexedQuadBuffer(int pMaxQuads, int pVertexStride) {
+		if (pMaxQuads > MAX_INDEXED_QUADS)
+			throw new IllegalArgumentException("An IndexedQuadBuffer can hold at most " + MAX_INDEXED_QUADS + " quads");
+
+		mMaxQuads = pMaxQuads;
+		mVertexStride = pVertexStride;
+		mVertexBufferSizeInBytes = pMaxQuads * NUM_VERTS_PER_QUAD * pVertexStride * NUM_RING_SEGMENTS;
+
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/**
+	 * Creates the vertex buffer and binds it, together with the shared index buffer, to the vertex array object which is currently bound. The vertex attribute pointers should be set up by the caller
+	 * afterwards, while the vertex array object is still bound.
+	 */
+	public void loadGLContent() {
+		if (mIsLoaded)
+			return;
+
+		mVboId = GL15.glGenBuffers();
+		GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, mVboId);
+		GL15.glBufferData(GL15.GL_ARRAY_BUFFER, mVertexBufferSizeInBytes, GL15.GL_STREAM_DRAW);
+		mVboOffsetInBytes = 0;
+
+		acquireIndexBuffer(mMaxQuads);
+		GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, sIndexBufferId);
+
+		mIsLoaded = true;
+
+	}
+
+	public void unloadGLContent() {
+		if (!mIsLoaded)
+			return;
+
+		if (mVboId > -1)
+			GL15.glDeleteBuffers(mVboId);
+
+		mVboId = -1;
+		mMappedBuffer = null;
+
+		releaseIndexBuffer();
+
+		mIsLoaded = false;
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/**
+	 * Uploads the vertices between the position and limit of the given buffer into the next free region of the vertex buffer, which must be bound to GL_ARRAY_BUFFER. Returns the base vertex to pass to
+	 * {@link #drawQuads(int, int)}.
+	 */
+	public int upload(FloatBuffer pVertices) {
+		final int lSizeInBytes = pVertices.remaining() * Float.BYTES;
+		if (lSizeInBytes == 0)
+			return 0;
+
+		int lAccess = GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_UNSYNCHRONIZED_BIT | GL30.GL_MAP_INVALIDATE_RANGE_BIT;
+		if (mVboOffsetInBytes + lSizeInBytes > mVertexBufferSizeInBytes) {
+			// The ring is full. Orphan the storage, so that the driver can hand out fresh memory while the GPU still reads the old regions
+			lAccess = GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_INVALIDATE_BUFFER_BIT;
+			mVboOffsetInBytes = 0;
+
+		}
+
+		mMappedBuffer = GL30.glMapBufferRange(GL15.GL_ARRAY_BUFFER, mVboOffsetInBytes, lSizeInBytes, lAccess, mMappedBuffer);
+		if (mMappedBuffer == null)
+			return 0;
+
+		MemoryUtil.memCopy(MemoryUtil.memAddress(pVertices), MemoryUtil.memAddress(mMappedBuffer), lSizeInBytes);
+		GL15.glUnmapBuffer(GL15.GL_ARRAY_BUFFER);
+
+		Debug.debugManager().stats().incTag(DebugStats.TAG_ID_VB_UPLOADS, lSizeInBytes);
+
+		final int lBaseVertex = mVboOffsetInBytes / mVertexStride;
+		mVboOffsetInBytes += lSizeInBytes;
+
+		return lBaseVertex;
+
+	}
+
+	/** Draws the given number of quads, starting at the base vertex returned by {@link #upload(FloatBuffer)}. The vertex array object of the batch must be bound. */
+	public void drawQuads(int pNumQuads, int pBaseVertex) {
+		GL32.glDrawElementsBaseVertex(GL11.GL_TRIANGLES, pNumQuads * NUM_INDICES_PER_QUAD, GL11.GL_UNSIGNED_SHORT, 0, pBaseVertex);
+
+	}
+
+	private static void acquireIndexBuffer(int pNumQuads) {
+		sIndexBufferReferenceCount++;
+
+		if (sIndexBufferId == -1)
+			sIndexBufferId = GL15.glGenBuffers();
+		else if (sIndexBufferQuads >= pNumQuads)
+			return;
+
+		// The index pattern is the same for every quad, so it is only uploaded once (or when a larger batch is created)
+		final ShortBuffer lIndices = MemoryUtil.memAllocShort(pNumQuads * NUM_INDICES_PER_QUAD);
+		for (int i = 0; i < pNumQuads; i++) {
+			final int lFirstVertex = i * NUM_VERTS_PER_QUAD;
+
+			lIndices.put((short) (lFirstVertex + 0)); // A
+			lIndices.put((short) (lFirstVertex + 1)); // B
+			lIndices.put((short) (lFirstVertex + 2)); // C
+			lIndices.put((short) (lFirstVertex + 2)); // C
+			lIndices.put((short) (lFirstVertex + 1)); // B
+			lIndices.put((short) (lFirstVertex + 3)); // D
+
+		}
+		lIndices.flip();
+
+		GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, sIndexBufferId);
+		GL15.glBufferData(GL15.GL_ELEMENT_ARRAY_BUFFER, lIndices, GL15.GL_STATIC_DRAW);
+
+		Debug.debugManager().stats().incTag(DebugStats.TAG_ID_IB_UPLOADS, pNumQuads * NUM_INDICES_PER_QUAD * Short.BYTES);
+
+		MemoryUtil.memFree(lIndices);
+		sIndexBufferQuads = pNumQuads;
+
+	}
+
+	private static void releaseIndexBuffer() {
+		sIndexBufferReferenceCount--;
+		if (sIndexBufferReferenceCount > 0)
+			return;
+
+		if (sIndexBufferId > -1)
+			GL15.glDeleteBuffers(sIndexBufferId);
+
+		sIndexBufferId = -1;
+		sIndexBufferQuads = 0;
+		sIndexBufferReferenceCount = 0;
+
+	}
+
+}
@@ -0,0 +1,222 @@
+package net.lintford.library.core.graphics.textures.texturebatch;
+
+import java.util.Arrays;
+
+/**
+ * Records the sprites of a deferred texture batch, so that they can be sorted before their vertices are written into the batch. Each sprite is a quad of {@link IndexedQuadBuffer#NUM_VERTS_PER_QUAD}
+ * vertices and has a sort key made up of (in order of priority) its layer, texture and depth. Sprites with the same sort key keep the order in which they were recorded. The buffer doesn't touch
+ * any GL state.
+ */
+public class SpriteCommandBuffer {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int MIN_LAYER = Short.MIN_VALUE;
+	public static final int MAX_LAYER = Short.MAX_VALUE;
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final int mFloatsPerVertex;
+	private final int mFloatsPerSprite;
+
+	private float[] mVertexData;
+	private long[] mSortKeys;
+	private int[] mTextureIds;
+	private int[] mSortedSprites;
+	private int[] mSortScratch;
+
+	private int mSpriteCount;
+	private int mVertexCount;
+	private boolean mIsSorted;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int spriteCount() {
+		return mSpriteCount;
+	}
+
+	public int floatsPerSprite() {
+		return mFloatsPerSprite;
+	}
+
+	/** The recorded vertex data. The vertices of a sprite start at (sprite index * {@link #floatsPerSprite()}). */
+	public float[] vertexData() {
+		return mVertexData;
+	}
+
+	public long sortKey(int pSpriteIndex) {
+		return mSortKeys[pSpriteIndex];
+	}
+
+	public int textureId(int pSpriteIndex) {
+		return mTextureIds[pSpriteIndex];
+	}
+
+	/** Returns the index of the sprite at the given position in the sorted order. Only valid after {@link #sort()}. */
+	public int sortedSprite(int pPosition) {
+		return mSortedSprites[pPosition];
+	}
+
+	public boolean isSorted() {
+		return mIsSorted;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public SpriteCommandBuffer(int pFloatsPerVertex) {
+		mFloatsPerVertex = pFloatsPerVertex;
+		mFloatsPerSprite = pFloatsPerVertex * IndexedQuadBuffer.NUM_VERTS_PER_QUAD;
+
+		mVertexData = new float[INITIAL_CAPACITY * mFloatsPerSprite];
+		mSortKeys = new long[INITIAL_CAPACITY];
+		mTextureIds = new int[INITIAL_CAPACITY];
+		mSortedSprites = new int[INITIAL_CAPACITY];
+		mSortScratch = new int[INITIAL_CAPACITY];
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/**
+	 * Packs the sort key of a sprite. The layer takes the highest 16 bits, followed by 24 bits of the texture id and 24 bits of the depth (ascending). Texture ids which don't fit are truncated, which only
+	 * affects the grouping, never the texture a sprite is drawn with. The shader isn't part of the key, as a batch draws all the sprites between begin and end with the same shader.
+	 */
+	public static long createSortKey(int pLayer, int pTextureId, float pDepth) {
+		final long lLayer = (Math.max(MIN_LAYER, Math.min(MAX_LAYER, pLayer)) - MIN_LAYER) & 0xFFFFL;
+		final long lTexture = pTextureId & 0xFFFFFFL;
+
+		// Flip the bits of the float, so that negative and positive depths order correctly as unsigned ints
+		final int lDepthBits = Float.floatToIntBits(pDepth);
+		final int lSortableDepth = lDepthBits < 0 ? ~lDepthBits : lDepthBits | 0x80000000;
+		final long lDepth = (lSortableDepth >>> 8) & 0xFFFFFFL;
+
+		return (lLayer << 48) | (lTexture << 24) | lDepth;
+
+	}
+
+	/**
+	 * Adds a vertex of the sprite currently being recorded. A new sprite is started with every {@link IndexedQuadBuffer#NUM_VERTS_PER_QUAD} vertices, and its sort key is created from the first vertex.
+	 * Only the first pFloatsPerVertex values are read from pVertex.
+	 */
+	public void addVertex(int pLayer, int pTextureId, float pDepth, float[] pVertex) {
+		final int lVertexInSprite = mVertexCount % IndexedQuadBuffer.NUM_VERTS_PER_QUAD;
+		if (lVertexInSprite == 0) {
+			ensureCapacity(mSpriteCount + 1);
+
+			mSortKeys[mSpriteCount] = createSortKey(pLayer, pTextureId, pDepth);
+			mTextureIds[mSpriteCount] = pTextureId;
+			mSpriteCount++;
+			mIsSorted = false;
+
+		}
+
+		System.arraycopy(pVertex, 0, mVertexData, mVertexCount * mFloatsPerVertex, mFloatsPerVertex);
+		mVertexCount++;
+
+	}
+
+	/** Sorts the recorded sprites by their sort key. The sort is stable, so sprites with equal keys are drawn in the order they were recorded. */
+	public void sort() {
+		for (int i = 0; i < mSpriteCount; i++) {
+			mSortedSprites[i] = i;
+
+		}
+
+		// Bottom-up merge sort between the two index arrays, which avoids boxing the indices into a comparator sort
+		int[] lSource = mSortedSprites;
+		int[] lTarget = mSortScratch;
+		for (int lWidth = 1; lWidth < mSpriteCount; lWidth *= 2) {
+			for (int lLeft = 0; lLeft < mSpriteCount; lLeft += 2 * lWidth) {
+				final int lMid = Math.min(lLeft + lWidth, mSpriteCount);
+				final int lRight = Math.min(lLeft + 2 * lWidth, mSpriteCount);
+
+				int i = lLeft;
+				int j = lMid;
+				int k = lLeft;
+				while (i < lMid && j < lRight) {
+					if (Long.compareUnsigned(mSortKeys[lSource[j]], mSortKeys[lSource[i]]) < 0)
+						lTarget[k++] = lSource[j++];
+					else
+						lTarget[k++] = lSource[i++];
+
+				}
+
+				while (i < lMid)
+					lTarget[k++] = lSource[i++];
+				while (j < lRight)
+					lTarget[k++] = lSource[j++];
+
+			}
+
+			final int[] lTemp = lSource;
+			lSource = lTarget;
+			lTarget = lTemp;
+
+		}
+
+		if (lSource != mSortedSprites)
+			System.arraycopy(lSource, 0, mSortedSprites, 0, mSpriteCount);
+
+		mIsSorted = true;
+
+	}
+
+	/** Returns the number of draw calls the sorted sprites will be submitted in, for a batch which flushes on every texture change or after pMaxSpritesPerBatch sprites. */
+	public int countDrawCalls(int pMaxSpritesPerBatch) {
+		if (!mIsSorted)
+			sort();
+
+		int lDrawCalls = 0;
+		int lCurrentTextureId = -1;
+		int lSpritesInBatch = 0;
+		for (int i = 0; i < mSpriteCount; i++) {
+			final int lTextureId = mTextureIds[mSortedSprites[i]];
+			if (lSpritesInBatch == 0 || lTextureId != lCurrentTextureId || lSpritesInBatch >= pMaxSpritesPerBatch) {
+				lDrawCalls++;
+				lSpritesInBatch = 0;
+				lCurrentTextureId = lTextureId;
+
+			}
+
+			lSpritesInBatch++;
+
+		}
+
+		return lDrawCalls;
+
+	}
+
+	public void clear() {
+		mSpriteCount = 0;
+		mVertexCount = 0;
+		mIsSorted = false;
+
+	}
+
+	private void ensureCapacity(int pSpriteCount) {
+		if (pSpriteCount <= mSortKeys.length)
+			return;
+
+		final int lNewCapacity = Math.max(pSpriteCount, mSortKeys.length * 2);
+
+		mVertexData = Arrays.copyOf(mVertexData, lNewCapacity * mFloatsPerSprite);
+		mSortKeys = Arrays.copyOf(mSortKeys, lNewCapacity);
+		mTextureIds = Arrays.copyOf(mTextureIds, lNewCapacity);
+		mSortedSprites = new int[lNewCapacity];
+		mSortScratch = new int[lNewCapacity];
+
+	}
+
+}
@@ -1,7 +1,6 @@
 package net.lintford.library.core.graphics.textures.texturebatch;
 
 import java.nio.FloatBuffer;
-import java.util.List;
 
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL13;
@@ -23,10 +22,8 @@ import net.lintford.library.core.graphics.shaders.ShaderSubPixel;
 import net.lintford.library.core.graphics.textures.Texture;
 import net.lintford.library.core.graphics.textures.TextureManager;
 import net.lintford.library.core.maths.Matrix4f;
-import net.lintford.library.core.maths.Vector2f;
 import net.lintford.library.core.maths.Vector4f;
 
-// TODO: Non of the Batch rendering classes are using indices I notice...
 // TODO: The SpriteBatch doesn't actually allow to cache buffers between frames if there is no change (no vertex + transformations).
 // TODO: Add Batch types (call, texture, Z-Order).
 public class SubPixelTextureBatch {
@@ -40,7 +37,7 @@ public class SubPixelTextureBatch {
 	protected static final String VERT_FILENAME = "/res/shaders/shader_basic_pct.vert";
 	protected static final String FRAG_FILENAME = "/res/shaders/shader_subpixel_pct.frag";
 
-	protected static final int NUM_VERTS_PER_SPRITE = 6;
+	protected static final int NUM_VERTS_PER_SPRITE = IndexedQuadBuffer.NUM_VERTS_PER_QUAD;
 
 	// The number of bytes an element has (all elements are floats here)
 	protected static final int elementBytes = 4;
@@ -71,13 +68,15 @@ public class SubPixelTextureBatch {
 	// --------------------------------------
 
 	protected Vector4f mTempVector;
+	protected final float[] mTempVertices = new float[Rectangle.NUM_VERTICES * 2];
 	protected ICamera mCamera;
 	protected ShaderSubPixel mShader;
 	protected Matrix4f mModelMatrix;
 	protected FloatBuffer mBuffer;
 	private int mVaoId = -1;
-	private int mVboId = -1;
+	private final IndexedQuadBuffer mQuadBuffer;
 	private int mVertexCount = 0;
+	private int mBaseVertex;
 	protected int mCurrentTexID;
 	protected int mCurNumSprites;
 	private boolean mIsLoaded;
@@ -141,6 +140,7 @@ public class SubPixelTextureBatch {
 
 		mModelMatrix = new Matrix4f();
 		mTempVector = new Vector4f();
+		mQuadBuffer = new IndexedQuadBuffer(MAX_SPRITES, stride);
 
 	}
 
@@ -159,10 +159,13 @@ public class SubPixelTextureBatch {
 		if (mVaoId == -1)
 			mVaoId = GL30.glGenVertexArrays();
 
-		if (mVboId == -1)
-			mVboId = GL15.glGenBuffers();
+		// The vertex array object keeps the buffer bindings and the attribute layout, so these only need setting up once
+		GL30.glBindVertexArray(mVaoId);
+		mQuadBuffer.loadGLContent();
+		enableVertexAttributes();
+		GL30.glBindVertexArray(0);
 
-		mBuffer = MemoryUtil.memAllocFloat(MAX_SPRITES * NUM_VERTS_PER_SPRITE * stride);
+		mBuffer = MemoryUtil.memAllocFloat(MAX_SPRITES * NUM_VERTS_PER_SPRITE * elementCount);
 
 		mIsLoaded = true;
 
@@ -176,13 +179,11 @@ public class SubPixelTextureBatch {
 
 		mShader.unloadGLContent();
 
-		if (mVboId > -1)
-			GL15.glDeleteBuffers(mVboId);
+		mQuadBuffer.unloadGLContent();
 
 		if (mVaoId > -1)
 			GL30.glDeleteVertexArrays(mVaoId);
 
-		mVboId = -1;
 		mVaoId = -1;
 
 		if (mBuffer != null) {
@@ -282,38 +283,37 @@ public class SubPixelTextureBatch {
 			flush();
 		}
 
-		final List<Vector2f> lVertList = pDestRect.getVertices();
+		final float[] lDestVertices = mTempVertices;
+		pDestRect.fillVertices(lDestVertices);
 
 		// Vertex 0
-		float x0 = lVertList.get(0).x;
-		float y0 = lVertList.get(0).y;
+		float x0 = lDestVertices[0];
+		float y0 = lDestVertices[1];
 		float u0 = pSX / pTexture.getTextureWidth();
 		float v0 = pSY / pTexture.getTextureHeight();
 
 		// Vertex 1
-		float x1 = lVertList.get(1).x;
-		float y1 = lVertList.get(1).y;
+		float x1 = lDestVertices[2];
+		float y1 = lDestVertices[3];
 		float u1 = (pSX + pSW) / pTexture.getTextureWidth();
 		float v1 = pSY / pTexture.getTextureHeight();
 
 		// Vertex 2
-		float x2 = lVertList.get(2).x;
-		float y2 = lVertList.get(2).y;
+		float x2 = lDestVertices[4];
+		float y2 = lDestVertices[5];
 		float u2 = pSX / pTexture.getTextureWidth();
 		float v2 = (pSY + pSH) / pTexture.getTextureHeight();
 
 		// Vertex 3
-		float x3 = lVertList.get(3).x;
-		float y3 = lVertList.get(3).y;
+		float x3 = lDestVertices[6];
+		float y3 = lDestVertices[7];
 		float u3 = (pSX + pSW) / pTexture.getTextureWidth();
 		float v3 = (pSY + pSH) / pTexture.getTextureHeight();
 
-		// CCW 102123
-		addVertToBuffer(x1, y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
+		// Quad ABCD = 0213 (triangles 021 and 123)
 		addVertToBuffer(x0, y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 		addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
 		addVertToBuffer(x1, y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
-		addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
 		addVertToBuffer(x3, y3, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u3, v3); // 3
 
 		mCurNumSprites++;
@@ -375,12 +375,10 @@ public class SubPixelTextureBatch {
 		float u3 = (pSX + pSW) / pTexture.getTextureWidth();
 		float v3 = (pSY + pSH) / pTexture.getTextureHeight();
 
-		// 102203
+		// Quad ABCD = 1023 (triangles 102 and 203)
 		addVertToBuffer(x1, y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
 		addVertToBuffer(x0, y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 		addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
-		addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
-		addVertToBuffer(x0, y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 		addVertToBuffer(x3, y3, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u3, v3); // 3
 
 		mCurNumSprites++;
@@ -455,12 +453,10 @@ public class SubPixelTextureBatch {
 		pDX += pROX;
 		pDY += pROY;
 
-		// CCW 102203
+		// Quad ABCD = 1023 (triangles 102 and 203)
 		addVertToBuffer(pDX + x1, pDY + y1, pZ, 1f, pR, pG, pB, pA, u1, v1); // 1
 		addVertToBuffer(pDX + x0, pDY + y0, pZ, 1f, pR, pG, pB, pA, u0, v0); // 0
 		addVertToBuffer(pDX + x2, pDY + y2, pZ, 1f, pR, pG, pB, pA, u2, v2); // 2
-		addVertToBuffer(pDX + x2, pDY + y2, pZ, 1f, pR, pG, pB, pA, u2, v2); // 2
-		addVertToBuffer(pDX + x0, pDY + y0, pZ, 1f, pR, pG, pB, pA, u0, v0); // 0
 		addVertToBuffer(pDX + x3, pDY + y3, pZ, 1f, pR, pG, pB, pA, u3, v3); // 3
 
 		mCurNumSprites++;
@@ -505,6 +501,10 @@ public class SubPixelTextureBatch {
 		float angle = 0;
 		float intervalSize = (float) (Math.PI * 2 / POINTS);
 		for (int i = 0; i < POINTS; i++) {
+			if (mCurNumSprites >= MAX_SPRITES) {
+				flush();
+			}
+
 			// Vertex 0
 			float x0 = dstCircle.centerX();
 			float y0 = dstCircle.centerY();
@@ -525,22 +525,19 @@ public class SubPixelTextureBatch {
 			float u2 = 0.5f + ((float) Math.cos(angle) * 0.5f);
 			float v2 = 0.5f + ((float) Math.sin(angle) * 0.5f);
 
+			// Each triangle is written as a quad with a repeated vertex
 			addVertToBuffer(x1, y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
 			addVertToBuffer(x0, y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 			addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
-		}
+			addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
 
-		mCurNumSprites++;
+			mCurNumSprites++;
+
+		}
 
 	}
 
 	protected void addVertToBuffer(float x, float y, float z, float w, float r, float g, float b, float a, float u, float v) {
-		// If the buffer is already full, we need to draw what is currently in the buffer and start a new one.
-		if (mCurNumSprites >= MAX_SPRITES * NUM_VERTS_PER_SPRITE - 1) {
-			flush();
-
-		}
-
 		mBuffer.put(x);
 		mBuffer.put(y);
 		mBuffer.put(z);
@@ -578,16 +575,8 @@ public class SubPixelTextureBatch {
 
 		GL30.glBindVertexArray(mVaoId);
 
-		GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, mVboId);
-		GL15.glBufferData(GL15.GL_ARRAY_BUFFER, mBuffer, GL15.GL_STATIC_DRAW);
-
-		GL20.glVertexAttribPointer(0, positionElementCount, GL11.GL_FLOAT, false, stride, positionByteOffset);
-		GL20.glVertexAttribPointer(1, colorElementCount, GL11.GL_FLOAT, false, stride, colorByteOffset);
-		GL20.glVertexAttribPointer(2, textureElementCount, GL11.GL_FLOAT, false, stride, textureByteOffset);
-
-		GL20.glEnableVertexAttribArray(0);
-		GL20.glEnableVertexAttribArray(1);
-		GL20.glEnableVertexAttribArray(2);
+		GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, mQuadBuffer.vboId());
+		mBaseVertex = mQuadBuffer.upload(mBuffer);
 
 		int_redraw();
 
@@ -607,6 +596,17 @@ public class SubPixelTextureBatch {
 
 	}
 
+	private void enableVertexAttributes() {
+		GL20.glVertexAttribPointer(0, positionElementCount, GL11.GL_FLOAT, false, stride, positionByteOffset);
+		GL20.glVertexAttribPointer(1, colorElementCount, GL11.GL_FLOAT, false, stride, colorByteOffset);
+		GL20.glVertexAttribPointer(2, textureElementCount, GL11.GL_FLOAT, false, stride, textureByteOffset);
+
+		GL20.glEnableVertexAttribArray(0);
+		GL20.glEnableVertexAttribArray(1);
+		GL20.glEnableVertexAttribArray(2);
+
+	}
+
 	private void int_redraw() {
 		if (mCurrentTexID != -1) {
 			GL13.glActiveTexture(GL13.GL_TEXTURE0);
@@ -627,10 +627,10 @@ public class SubPixelTextureBatch {
 		{
 			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_DRAWCALLS);
 			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_VERTS, mVertexCount);
-			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_TRIS, mVertexCount / 3);
+			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_TRIS, mVertexCount / NUM_VERTS_PER_SPRITE * 2);
 		}
 
-		GL11.glDrawArrays(GL11.GL_TRIANGLES, 0, mVertexCount);
+		mQuadBuffer.drawQuads(mVertexCount / NUM_VERTS_PER_SPRITE, mBaseVertex);
 
 		GL11.glBindTexture(GL11.GL_TEXTURE_2D, 0);
 
@@ -1,7 +1,6 @@
 package net.lintford.library.core.graphics.textures.texturebatch;
 
 import java.nio.FloatBuffer;
-import java.util.List;
 
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL13;
@@ -22,12 +21,9 @@ import net.lintford.library.core.graphics.textures.Texture;
 import net.lintford.library.core.graphics.textures.TextureManager;
 import net.lintford.library.core.graphics.vertices.VertexDataStructurePCT;
 import net.lintford.library.core.maths.Matrix4f;
-import net.lintford.library.core.maths.Vector2f;
 import net.lintford.library.core.maths.Vector4f;
 
-// TODO: Non of the Batch rendering classes are using indices I notice...
 // TODO: The SpriteBatch doesn't actually allow to cache buffers between frames if there is no change (no vertex + transformations).
-// TODO: Add Batch types (call, texture, Z-Order).
 public class TextureBatchPCT {
 
 	// --------------------------------------
@@ -39,13 +35,14 @@ public class TextureBatchPCT {
 	protected static final String VERT_FILENAME = "/res/shaders/shader_basic_pct.vert";
 	protected static final String FRAG_FILENAME = "/res/shaders/shader_basic_pct.frag";
 
-	protected static final int NUM_VERTS_PER_SPRITE = 6;
+	protected static final int NUM_VERTS_PER_SPRITE = IndexedQuadBuffer.NUM_VERTS_PER_QUAD;
 
 	// --------------------------------------
 	// Variables
 	// --------------------------------------
 
 	protected Vector4f mTempVector;
+	protected final float[] mTempVertices = new float[Rectangle.NUM_VERTICES * 2];
 	protected ICamera mCamera;
 	protected ShaderMVP_PCT mShader;
 	protected ShaderMVP_PCT mCustomShader;
@@ -55,8 +52,9 @@ public class TextureBatchPCT {
 	private int mBlendFuncSrcFactor;
 	private int mBlendFuncDstFactor;
 	private int mVaoId = -1;
-	private int mVboId = -1;
+	private final IndexedQuadBuffer mQuadBuffer;
 	private int mVertexCount = 0;
+	private int mBaseVertex;
 	protected int mCurrentTexID;
 	protected int mCurNumSprites;
 	private boolean mIsLoaded;
@@ -64,6 +62,12 @@ public class TextureBatchPCT {
 	protected boolean mUseCheckerPattern;
 	protected ResourceManager mResourceManager;
 
+	private SpriteCommandBuffer mSpriteCommands;
+	private final float[] mDeferredVertex = new float[VertexDataStructurePCT.elementCount];
+	private boolean mUseDeferredSorting;
+	private boolean mIsEmittingDeferredSprites;
+	private int mLayer;
+
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
@@ -80,6 +84,38 @@ public class TextureBatchPCT {
 		return mIsDrawing;
 	}
 
+	/**
+	 * If true, the sprites drawn between begin and end are recorded and sorted by layer, texture and depth before they are written into the batch, so that sprites sharing a texture are drawn
+	 * together. The order of sprites with the same layer and texture is preserved, but sprites of different textures within a layer may no longer overlap in the order they were drawn. Can only be
+	 * changed outside of begin/end.
+	 */
+	public boolean useDeferredSorting() {
+		return mUseDeferredSorting;
+	}
+
+	public void useDeferredSorting(boolean pNewValue) {
+		if (mIsDrawing)
+			return;
+
+		mUseDeferredSorting = pNewValue;
+		if (mUseDeferredSorting && mSpriteCommands == null)
+			mSpriteCommands = new SpriteCommandBuffer(VertexDataStructurePCT.elementCount);
+
+	}
+
+	/** The layer of the sprites subsequently drawn. With deferred sorting, sprites on lower layers are always drawn before sprites on higher layers. */
+	public int layer() {
+		return mLayer;
+	}
+
+	public void layer(int pNewValue) {
+		mLayer = pNewValue;
+	}
+
+	public SpriteCommandBuffer spriteCommands() {
+		return mSpriteCommands;
+	}
+
 	public boolean isLoaded() {
 		return mIsLoaded;
 	}
@@ -113,6 +149,7 @@ public class TextureBatchPCT {
 
 		mModelMatrix = new Matrix4f();
 		mTempVector = new Vector4f();
+		mQuadBuffer = new IndexedQuadBuffer(MAX_SPRITES, VertexDataStructurePCT.stride);
 
 		mBlendEnabled = true;
 		mBlendFuncSrcFactor = GL11.GL_SRC_ALPHA;
@@ -135,10 +172,13 @@ public class TextureBatchPCT {
 		if (mVaoId == -1)
 			mVaoId = GL30.glGenVertexArrays();
 
-		if (mVboId == -1)
-			mVboId = GL15.glGenBuffers();
+		// The vertex array object keeps the buffer bindings and the attribute layout, so these only need setting up once
+		GL30.glBindVertexArray(mVaoId);
+		mQuadBuffer.loadGLContent();
+		enableVertexAttributes();
+		GL30.glBindVertexArray(0);
 
-		mBuffer = MemoryUtil.memAllocFloat(MAX_SPRITES * NUM_VERTS_PER_SPRITE * VertexDataStructurePCT.stride);
+		mBuffer = MemoryUtil.memAllocFloat(MAX_SPRITES * NUM_VERTS_PER_SPRITE * VertexDataStructurePCT.elementCount);
 
 		mIsLoaded = true;
 
@@ -152,13 +192,11 @@ public class TextureBatchPCT {
 
 		mShader.unloadGLContent();
 
-		if (mVboId > -1)
-			GL15.glDeleteBuffers(mVboId);
+		mQuadBuffer.unloadGLContent();
 
 		if (mVaoId > -1)
 			GL30.glDeleteVertexArrays(mVaoId);
 
-		mVboId = -1;
 		mVaoId = -1;
 
 		if (mBuffer != null) {
@@ -194,8 +232,12 @@ public class TextureBatchPCT {
 		if (mBuffer != null)
 			mBuffer.clear();
 
+		if (mSpriteCommands != null)
+			mSpriteCommands.clear();
+
 		mVertexCount = 0;
 		mCurNumSprites = 0;
+		mLayer = 0;
 		mIsDrawing = true;
 
 	}
@@ -253,38 +295,37 @@ public class TextureBatchPCT {
 			flush();
 		}
 
-		final List<Vector2f> lVertList = pDestRect.getVertices();
+		final float[] lDestVertices = mTempVertices;
+		pDestRect.fillVertices(lDestVertices);
 
 		// Vertex 0
-		float x0 = lVertList.get(0).x;
-		float y0 = lVertList.get(0).y;
+		float x0 = lDestVertices[0];
+		float y0 = lDestVertices[1];
 		float u0 = pSX / pTexture.getTextureWidth();
 		float v0 = pSY / pTexture.getTextureHeight();
 
 		// Vertex 1
-		float x1 = lVertList.get(1).x;
-		float y1 = lVertList.get(1).y;
+		float x1 = lDestVertices[2];
+		float y1 = lDestVertices[3];
 		float u1 = (pSX + pSW) / pTexture.getTextureWidth();
 		float v1 = pSY / pTexture.getTextureHeight();
 
 		// Vertex 2
-		float x2 = lVertList.get(2).x;
-		float y2 = lVertList.get(2).y;
+		float x2 = lDestVertices[4];
+		float y2 = lDestVertices[5];
 		float u2 = pSX / pTexture.getTextureWidth();
 		float v2 = (pSY + pSH) / pTexture.getTextureHeight();
 
 		// Vertex 3
-		float x3 = lVertList.get(3).x;
-		float y3 = lVertList.get(3).y;
+		float x3 = lDestVertices[6];
+		float y3 = lDestVertices[7];
 		float u3 = (pSX + pSW) / pTexture.getTextureWidth();
 		float v3 = (pSY + pSH) / pTexture.getTextureHeight();
 
-		// CCW 102123
-		addVertToBuffer(x1, y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
+		// Quad ABCD = 0213 (triangles 021 and 123)
 		addVertToBuffer(x0, y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 		addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
 		addVertToBuffer(x1, y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
-		addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
 		addVertToBuffer(x3, y3, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u3, v3); // 3
 
 		mCurNumSprites++;
@@ -346,12 +387,10 @@ public class TextureBatchPCT {
 		float u3 = (pSX + pSW) / pTexture.getTextureWidth();
 		float v3 = (pSY + pSH) / pTexture.getTextureHeight();
 
-		// 102203
+		// Quad ABCD = 1023 (triangles 102 and 203)
 		addVertToBuffer(x1, y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
 		addVertToBuffer(x0, y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 		addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
-		addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
-		addVertToBuffer(x0, y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 		addVertToBuffer(x3, y3, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u3, v3); // 3
 
 		mCurNumSprites++;
@@ -436,12 +475,10 @@ public class TextureBatchPCT {
 		// pDX += pROX;
 		// pDY += pROY;
 
-		// CCW 102203
+		// Quad ABCD = 1023 (triangles 102 and 203)
 		addVertToBuffer(pDX + x1, pDY + y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
 		addVertToBuffer(pDX + x0, pDY + y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 		addVertToBuffer(pDX + x2, pDY + y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
-		addVertToBuffer(pDX + x2, pDY + y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
-		addVertToBuffer(pDX + x0, pDY + y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 		addVertToBuffer(pDX + x3, pDY + y3, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u3, v3); // 3
 
 		mCurNumSprites++;
@@ -486,6 +523,10 @@ public class TextureBatchPCT {
 		float angle = 0;
 		float intervalSize = (float) (Math.PI * 2 / POINTS);
 		for (int i = 0; i < POINTS; i++) {
+			if (mCurNumSprites >= MAX_SPRITES) {
+				flush();
+			}
+
 			// Vertex 0
 			float x0 = dstCircle.centerX();
 			float y0 = dstCircle.centerY();
@@ -506,19 +547,89 @@ public class TextureBatchPCT {
 			float u2 = 0.5f + ((float) Math.cos(angle) * 0.5f);
 			float v2 = 0.5f + ((float) Math.sin(angle) * 0.5f);
 
+			// Each triangle is written as a quad with a repeated vertex
 			addVertToBuffer(x1, y1, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u1, v1); // 1
 			addVertToBuffer(x0, y0, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u0, v0); // 0
 			addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
+			addVertToBuffer(x2, y2, pZ, 1f, pTint.r, pTint.g, pTint.b, pTint.a, u2, v2); // 2
+
+			mCurNumSprites++;
+
 		}
 
-		mCurNumSprites++;
+	}
+
+	/**
+	 * Draws vertices which have already been written in the layout of {@link VertexDataStructurePCT} (i.e. by a ParticleVertexBuilder), as quads of four vertices in the order expected by
+	 * {@link IndexedQuadBuffer}. Any sprites already batched are flushed first, then the given buffer (from its position) is uploaded and drawn with the given texture, in chunks of MAX_SPRITES quads.
+	 */
+	public void drawVertices(Texture pTexture, FloatBuffer pVertexBuffer, int pVertexCount) {
+		if (!mIsLoaded || !mIsDrawing)
+			return;
+
+		if (pVertexCount <= 0)
+			return;
+
+		if (pTexture == null && TextureManager.USE_DEBUG_MISSING_TEXTURES) {
+			pTexture = mResourceManager.textureManager().textureNotFound();
+
+		}
+
+		// Pre-built vertices are drawn straight away, so anything recorded up to this point needs drawing first
+		if (mUseDeferredSorting)
+			drawDeferredSprites();
+
+		flush();
+
+		mCurrentTexID = pTexture != null ? pTexture.getTextureID() : -1;
+
+		GL30.glBindVertexArray(mVaoId);
+
+		GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, mQuadBuffer.vboId());
+
+		final int lFloatsPerSprite = NUM_VERTS_PER_SPRITE * VertexDataStructurePCT.elementCount;
+		final int lLimit = pVertexBuffer.limit();
+		final int lStartPosition = pVertexBuffer.position();
+
+		int lPosition = lStartPosition;
+		int lSpritesRemaining = pVertexCount / NUM_VERTS_PER_SPRITE;
+		while (lSpritesRemaining > 0) {
+			final int lNumSprites = Math.min(lSpritesRemaining, MAX_SPRITES);
+
+			pVertexBuffer.limit(lPosition + lNumSprites * lFloatsPerSprite);
+			pVertexBuffer.position(lPosition);
+			mBaseVertex = mQuadBuffer.upload(pVertexBuffer);
+
+			mVertexCount = lNumSprites * NUM_VERTS_PER_SPRITE;
+			int_redraw();
+
+			lPosition += lNumSprites * lFloatsPerSprite;
+			lSpritesRemaining -= lNumSprites;
+
+		}
+
+		pVertexBuffer.limit(lLimit);
+		pVertexBuffer.position(lStartPosition);
+		mVertexCount = 0;
 
 	}
 
 	protected void addVertToBuffer(float x, float y, float z, float w, float r, float g, float b, float a, float u, float v) {
-		// If the buffer is already full, we need to draw what is currently in the buffer and start a new one.
-		if (mCurNumSprites >= MAX_SPRITES * NUM_VERTS_PER_SPRITE - 1) {
-			flush();
+		if (mUseDeferredSorting) {
+			final float[] lVertex = mDeferredVertex;
+			lVertex[0] = x;
+			lVertex[1] = y;
+			lVertex[2] = z;
+			lVertex[3] = w;
+			lVertex[4] = r;
+			lVertex[5] = g;
+			lVertex[6] = b;
+			lVertex[7] = a;
+			lVertex[8] = u;
+			lVertex[9] = v;
+
+			mSpriteCommands.addVertex(mLayer, mCurrentTexID, z, lVertex);
+			return;
 
 		}
 
@@ -543,6 +654,9 @@ public class TextureBatchPCT {
 		if (!mIsDrawing)
 			return;
 
+		if (mUseDeferredSorting)
+			drawDeferredSprites();
+
 		flush();
 		mIsDrawing = false;
 
@@ -552,26 +666,30 @@ public class TextureBatchPCT {
 		if (!mIsLoaded || !mIsDrawing)
 			return;
 
+		// While recording deferred sprites, nothing is written into the buffer until end()
+		if (mUseDeferredSorting && !mIsEmittingDeferredSprites) {
+			mCurNumSprites = 0;
+			return;
+
+		}
+
 		if (mVertexCount == 0)
 			return;
 
+		final var lProfiler = Debug.debugManager().profiler();
+		lProfiler.begin("TextureBatch.flush");
+
 		mBuffer.flip();
 
 		GL30.glBindVertexArray(mVaoId);
 
-		GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, mVboId);
-		GL15.glBufferData(GL15.GL_ARRAY_BUFFER, mBuffer, GL15.GL_STATIC_DRAW);
-
-		GL20.glVertexAttribPointer(0, VertexDataStructurePCT.positionElementCount, GL11.GL_FLOAT, false, VertexDataStructurePCT.stride, VertexDataStructurePCT.positionByteOffset);
-		GL20.glVertexAttribPointer(1, VertexDataStructurePCT.colorElementCount, GL11.GL_FLOAT, false, VertexDataStructurePCT.stride, VertexDataStructurePCT.colorByteOffset);
-		GL20.glVertexAttribPointer(2, VertexDataStructurePCT.textureElementCount, GL11.GL_FLOAT, false, VertexDataStructurePCT.stride, VertexDataStructurePCT.textureByteOffset);
-
-		GL20.glEnableVertexAttribArray(0);
-		GL20.glEnableVertexAttribArray(1);
-		GL20.glEnableVertexAttribArray(2);
+		GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, mQuadBuffer.vboId());
+		mBaseVertex = mQuadBuffer.upload(mBuffer);
 
 		int_redraw();
 
+		lProfiler.end("TextureBatch.flush");
+
 		mBuffer.clear();
 
 		// FIXME: This is fundamentally incorrect. Cannot reset ver count here and maintain 'redraw' functionality
@@ -580,6 +698,41 @@ public class TextureBatchPCT {
 
 	}
 
+	/** Sorts the recorded sprites and writes them into the batch, flushing whenever the texture changes or the batch is full. */
+	private void drawDeferredSprites() {
+		final int lNumSprites = mSpriteCommands.spriteCount();
+		if (lNumSprites == 0)
+			return;
+
+		mSpriteCommands.sort();
+
+		mIsEmittingDeferredSprites = true;
+
+		final float[] lVertexData = mSpriteCommands.vertexData();
+		final int lFloatsPerSprite = mSpriteCommands.floatsPerSprite();
+		for (int i = 0; i < lNumSprites; i++) {
+			final int lSpriteIndex = mSpriteCommands.sortedSprite(i);
+			final int lTextureId = mSpriteCommands.textureId(lSpriteIndex);
+
+			if (lTextureId != mCurrentTexID || mCurNumSprites >= MAX_SPRITES) {
+				flush();
+				mCurrentTexID = lTextureId;
+
+			}
+
+			mBuffer.put(lVertexData, lSpriteIndex * lFloatsPerSprite, lFloatsPerSprite);
+			mVertexCount += NUM_VERTS_PER_SPRITE;
+			mCurNumSprites++;
+
+		}
+
+		flush();
+
+		mIsEmittingDeferredSprites = false;
+		mSpriteCommands.clear();
+
+	}
+
 	public void redraw() {
 		if (mVertexCount == 0)
 			return;
@@ -600,6 +753,17 @@ public class TextureBatchPCT {
 		mBlendFuncDstFactor = pDstFactor;
 	}
 
+	private void enableVertexAttributes() {
+		GL20.glVertexAttribPointer(0, VertexDataStructurePCT.positionElementCount, GL11.GL_FLOAT, false, VertexDataStructurePCT.stride, VertexDataStructurePCT.positionByteOffset);
+		GL20.glVertexAttribPointer(1, VertexDataStructurePCT.colorElementCount, GL11.GL_FLOAT, false, VertexDataStructurePCT.stride, VertexDataStructurePCT.colorByteOffset);
+		GL20.glVertexAttribPointer(2, VertexDataStructurePCT.textureElementCount, GL11.GL_FLOAT, false, VertexDataStructurePCT.stride, VertexDataStructurePCT.textureByteOffset);
+
+		GL20.glEnableVertexAttribArray(0);
+		GL20.glEnableVertexAttribArray(1);
+		GL20.glEnableVertexAttribArray(2);
+
+	}
+
 	private void int_redraw() {
 		if (mCurrentTexID != -1) {
 			GL13.glActiveTexture(GL13.GL_TEXTURE0);
@@ -626,10 +790,10 @@ public class TextureBatchPCT {
 		{
 			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_DRAWCALLS);
 			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_VERTS, mVertexCount);
-			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_TRIS, mVertexCount / 3);
+			Debug.debugManager().stats().incTag(DebugStats.TAG_ID_TRIS, mVertexCount / NUM_VERTS_PER_SPRITE * 2);
 		}
 
-		GL11.glDrawArrays(GL11.GL_TRIANGLES, 0, mVertexCount);
+		mQuadBuffer.drawQuads(mVertexCount / NUM_VERTS_PER_SPRITE, mBaseVertex);
 
 		GL11.glBindTexture(GL11.GL_TEXTURE_2D, 0);
 
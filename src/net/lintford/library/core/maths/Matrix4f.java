@@ -259,6 +259,94 @@ public class Matrix4f implements Serializable {
 		return dest;
 	}
 
+	/** Returns the determinant of the given matrix. */
+	public static float determinant(Matrix4f src) {
+		final float s0 = src.m00 * src.m11 - src.m10 * src.m01;
+		final float s1 = src.m00 * src.m12 - src.m10 * src.m02;
+		final float s2 = src.m00 * src.m13 - src.m10 * src.m03;
+		final float s3 = src.m01 * src.m12 - src.m11 * src.m02;
+		final float s4 = src.m01 * src.m13 - src.m11 * src.m03;
+		final float s5 = src.m02 * src.m13 - src.m12 * src.m03;
+
+		final float c5 = src.m22 * src.m33 - src.m32 * src.m23;
+		final float c4 = src.m21 * src.m33 - src.m31 * src.m23;
+		final float c3 = src.m21 * src.m32 - src.m31 * src.m22;
+		final float c2 = src.m20 * src.m33 - src.m30 * src.m23;
+		final float c1 = src.m20 * src.m32 - src.m30 * src.m22;
+		final float c0 = src.m20 * src.m31 - src.m30 * src.m21;
+
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+
+	/**
+	 * Invert the source matrix and put the result in the destination matrix (the source and destination may be the same instance).
+	 * 
+	 * @param src  The source matrix to be inverted
+	 * @param dest The destination matrix, or null if a new one is to be created
+	 * @return the inverted matrix, or null if the source matrix is singular (in which case dest is left unchanged)
+	 */
+	public static Matrix4f invert(Matrix4f src, Matrix4f dest) {
+		// 2x2 sub-determinants of the first two and the last two columns, which are shared between the cofactors
+		final float s0 = src.m00 * src.m11 - src.m10 * src.m01;
+		final float s1 = src.m00 * src.m12 - src.m10 * src.m02;
+		final float s2 = src.m00 * src.m13 - src.m10 * src.m03;
+		final float s3 = src.m01 * src.m12 - src.m11 * src.m02;
+		final float s4 = src.m01 * src.m13 - src.m11 * src.m03;
+		final float s5 = src.m02 * src.m13 - src.m12 * src.m03;
+
+		final float c5 = src.m22 * src.m33 - src.m32 * src.m23;
+		final float c4 = src.m21 * src.m33 - src.m31 * src.m23;
+		final float c3 = src.m21 * src.m32 - src.m31 * src.m22;
+		final float c2 = src.m20 * src.m33 - src.m30 * src.m23;
+		final float c1 = src.m20 * src.m32 - src.m30 * src.m22;
+		final float c0 = src.m20 * src.m31 - src.m30 * src.m21;
+
+		final float lDeterminant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+		if (lDeterminant == 0)
+			return null;
+
+		if (dest == null)
+			dest = new Matrix4f();
+
+		final float lInvDet = 1f / lDeterminant;
+
+		float m00 = (src.m11 * c5 - src.m12 * c4 + src.m13 * c3) * lInvDet;
+		float m01 = (-src.m01 * c5 + src.m02 * c4 - src.m03 * c3) * lInvDet;
+		float m02 = (src.m31 * s5 - src.m32 * s4 + src.m33 * s3) * lInvDet;
+		float m03 = (-src.m21 * s5 + src.m22 * s4 - src.m23 * s3) * lInvDet;
+		float m10 = (-src.m10 * c5 + src.m12 * c2 - src.m13 * c1) * lInvDet;
+		float m11 = (src.m00 * c5 - src.m02 * c2 + src.m03 * c1) * lInvDet;
+		float m12 = (-src.m30 * s5 + src.m32 * s2 - src.m33 * s1) * lInvDet;
+		float m13 = (src.m20 * s5 - src.m22 * s2 + src.m23 * s1) * lInvDet;
+		float m20 = (src.m10 * c4 - src.m11 * c2 + src.m13 * c0) * lInvDet;
+		float m21 = (-src.m00 * c4 + src.m01 * c2 - src.m03 * c0) * lInvDet;
+		float m22 = (src.m30 * s4 - src.m31 * s2 + src.m33 * s0) * lInvDet;
+		float m23 = (-src.m20 * s4 + src.m21 * s2 - src.m23 * s0) * lInvDet;
+		float m30 = (-src.m10 * c3 + src.m11 * c1 - src.m12 * c0) * lInvDet;
+		float m31 = (src.m00 * c3 - src.m01 * c1 + src.m02 * c0) * lInvDet;
+		float m32 = (-src.m30 * s3 + src.m31 * s1 - src.m32 * s0) * lInvDet;
+		float m33 = (src.m20 * s3 - src.m21 * s1 + src.m22 * s0) * lInvDet;
+
+		dest.m00 = m00;
+		dest.m01 = m01;
+		dest.m02 = m02;
+		dest.m03 = m03;
+		dest.m10 = m10;
+		dest.m11 = m11;
+		dest.m12 = m12;
+		dest.m13 = m13;
+		dest.m20 = m20;
+		dest.m21 = m21;
+		dest.m22 = m22;
+		dest.m23 = m23;
+		dest.m30 = m30;
+		dest.m31 = m31;
+		dest.m32 = m32;
+		dest.m33 = m33;
+
+		return dest;
+	}
+
 	/**
 	 * Transform a Vector by a matrix and return the result in a destination vector.
 	 * 
@@ -0,0 +1,255 @@
+package net.lintford.library.core.particles;
+
+import java.io.Serializable;
+
+/**
+ * A structure-of-arrays store for the particles of a single particle system. Each particle attribute is held in its own primitive array, indexed by the slot of the particle. The slots of all live particles are
+ * packed into the front of {@link #aliveIndices}, so that initializers, modifiers and renderers only ever walk live particles.
+ */
+public class ParticleArrays implements Serializable {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final long serialVersionUID = 5296143640211617207L;
+
+	public static final int NO_SLOT = -1;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final int mCapacity;
+
+	public final float[] timeSinceStart;
+	public final float[] lifeTime;
+
+	public final float[] width;
+	public final float[] height;
+	public final float[] sx, sy, sw, sh; // The src tex rect
+
+	public final float[] rox;
+	public final float[] roy;
+
+	public final float[] dx, dy, dr;
+	public final float[] r, g, b, a;
+	public final float[] scale;
+
+	public final float[] worldPositionX;
+	public final float[] worldPositionY;
+	public final float[] rotationInRadians;
+
+	/** The slots of the live particles. Only the first {@link #aliveCount()} entries are valid. */
+	public final int[] aliveIndices;
+	private int mAliveCount;
+	private int mHighWaterMark;
+
+	/** Maps a slot back to its position within {@link #aliveIndices}, so that particles can be removed in constant time. */
+	private final int[] mAlivePositions;
+	private final int[] mFreeSlots;
+	private int mFreeCount;
+
+	private final Particle mScratchParticle = new Particle();
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int capacity() {
+		return mCapacity;
+	}
+
+	/** Returns the number of live particles, which is also the number of valid entries in {@link #aliveIndices}. */
+	public int aliveCount() {
+		return mAliveCount;
+	}
+
+	/** Returns the largest number of particles which have been alive at the same time. */
+	public int highWaterMark() {
+		return mHighWaterMark;
+	}
+
+	public boolean isFull() {
+		return mFreeCount == 0;
+	}
+
+	public boolean isAlive(int pSlot) {
+		return mAlivePositions[pSlot] != NO_SLOT;
+	}
+
+	/** A {@link Particle} instance which can be used to bridge this store to initializers and modifiers which only operate on {@link Particle} objects. */
+	public Particle scratchParticle() {
+		return mScratchParticle;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public ParticleArrays(final int pCapacity) {
+		mCapacity = pCapacity;
+
+		timeSinceStart = new float[pCapacity];
+		lifeTime = new float[pCapacity];
+
+		width = new float[pCapacity];
+		height = new float[pCapacity];
+		sx = new float[pCapacity];
+		sy = new float[pCapacity];
+		sw = new float[pCapacity];
+		sh = new float[pCapacity];
+
+		rox = new float[pCapacity];
+		roy = new float[pCapacity];
+
+		dx = new float[pCapacity];
+		dy = new float[pCapacity];
+		dr = new float[pCapacity];
+		r = new float[pCapacity];
+		g = new float[pCapacity];
+		b = new float[pCapacity];
+		a = new float[pCapacity];
+		scale = new float[pCapacity];
+
+		worldPositionX = new float[pCapacity];
+		worldPositionY = new float[pCapacity];
+		rotationInRadians = new float[pCapacity];
+
+		aliveIndices = new int[pCapacity];
+		mAlivePositions = new int[pCapacity];
+		mFreeSlots = new int[pCapacity];
+
+		reset();
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Claims a free slot and initializes it with the given values. Returns the slot of the new particle, or {@link #NO_SLOT} if the store is full. */
+	public int spawnParticle(float pWorldX, float pWorldY, float pVelX, float pVelY, float pLife) {
+		if (mFreeCount == 0)
+			return NO_SLOT;
+
+		final int lSlot = mFreeSlots[--mFreeCount];
+
+		mAlivePositions[lSlot] = mAliveCount;
+		aliveIndices[mAliveCount++] = lSlot;
+		if (mAliveCount > mHighWaterMark)
+			mHighWaterMark = mAliveCount;
+
+		lifeTime[lSlot] = pLife;
+		timeSinceStart[lSlot] = 0;
+
+		sx[lSlot] = sy[lSlot] = 1;
+		r[lSlot] = g[lSlot] = b[lSlot] = a[lSlot] = 1.f;
+		scale[lSlot] = 1.f;
+		rotationInRadians[lSlot] = 0;
+		dr[lSlot] = 0;
+
+		worldPositionX[lSlot] = pWorldX;
+		worldPositionY[lSlot] = pWorldY;
+		dx[lSlot] = pVelX;
+		dy[lSlot] = pVelY;
+
+		return lSlot;
+
+	}
+
+	/** Releases the given slot. The last live particle is swapped into the vacated position of {@link #aliveIndices}, so iterate the live list backwards when killing particles during a pass. */
+	public void killParticle(int pSlot) {
+		final int lPosition = mAlivePositions[pSlot];
+		if (lPosition == NO_SLOT)
+			return;
+
+		final int lLastSlot = aliveIndices[--mAliveCount];
+		aliveIndices[lPosition] = lLastSlot;
+		mAlivePositions[lLastSlot] = lPosition;
+
+		mAlivePositions[pSlot] = NO_SLOT;
+		mFreeSlots[mFreeCount++] = pSlot;
+
+	}
+
+	public void setupSourceTexture(int pSlot, float pSX, float pSY, float pSW, float pSH) {
+		sx[pSlot] = pSX;
+		sy[pSlot] = pSY;
+		sw[pSlot] = pSW;
+		sh[pSlot] = pSH;
+
+	}
+
+	public void setupDestTexture(int pSlot, float pWidth, float pHeight) {
+		width[pSlot] = pWidth;
+		height[pSlot] = pHeight;
+
+	}
+
+	/** Copies the state of the particle in the given slot into the {@link Particle} instance. */
+	public void copyToParticle(int pSlot, Particle pParticle) {
+		pParticle.spawnParticle(worldPositionX[pSlot], worldPositionY[pSlot], dx[pSlot], dy[pSlot], lifeTime[pSlot]);
+		pParticle.timeSinceStart = timeSinceStart[pSlot];
+
+		pParticle.width = width[pSlot];
+		pParticle.height = height[pSlot];
+		pParticle.setupSourceTexture(sx[pSlot], sy[pSlot], sw[pSlot], sh[pSlot]);
+
+		pParticle.rox = rox[pSlot];
+		pParticle.roy = roy[pSlot];
+
+		pParticle.dr = dr[pSlot];
+		pParticle.color.setRGBA(r[pSlot], g[pSlot], b[pSlot], a[pSlot]);
+		pParticle.scale = scale[pSlot];
+		pParticle.rotationInRadians = rotationInRadians[pSlot];
+
+	}
+
+	/** Copies the state of the {@link Particle} instance back into the given slot. If the particle was reset in the meantime, the slot is released. */
+	public void copyFromParticle(int pSlot, Particle pParticle) {
+		if (!pParticle.isAssigned()) {
+			killParticle(pSlot);
+			return;
+
+		}
+
+		timeSinceStart[pSlot] = pParticle.timeSinceStart;
+
+		width[pSlot] = pParticle.width;
+		height[pSlot] = pParticle.height;
+		setupSourceTexture(pSlot, pParticle.sx, pParticle.sy, pParticle.sw, pParticle.sh);
+
+		rox[pSlot] = pParticle.rox;
+		roy[pSlot] = pParticle.roy;
+
+		dx[pSlot] = pParticle.dx;
+		dy[pSlot] = pParticle.dy;
+		dr[pSlot] = pParticle.dr;
+		r[pSlot] = pParticle.color.r;
+		g[pSlot] = pParticle.color.g;
+		b[pSlot] = pParticle.color.b;
+		a[pSlot] = pParticle.color.a;
+		scale[pSlot] = pParticle.scale;
+
+		worldPositionX[pSlot] = pParticle.worldPositionX;
+		worldPositionY[pSlot] = pParticle.worldPositionY;
+		rotationInRadians[pSlot] = pParticle.rotationInRadians;
+
+	}
+
+	/** Kills all particles and returns every slot to the free list. */
+	public void reset() {
+		mAliveCount = 0;
+		mFreeCount = 0;
+
+		// Push the slots in reverse, so that they are handed out in ascending order
+		for (int i = mCapacity - 1; i >= 0; i--) {
+			mAlivePositions[i] = NO_SLOT;
+			mFreeSlots[mFreeCount++] = i;
+
+		}
+
+	}
+
+}
@@ -153,10 +153,7 @@ public class ParticleEmitterInstance extends WorldEntity {
 
 		if (mParticleSystem != null && mEmitTimer < 0) {
 			final int lAmtToSpawn = RandomNumbers.random(mEmitterDefinition.emitAmountMin, mEmitterDefinition.emitAmountMax);
-			for (int i = 0; i < lAmtToSpawn; i++) {
-				mParticleSystem.spawnParticle(worldPositionX, worldPositionY, 0, 0);
-
-			}
+			mParticleSystem.spawnParticles(worldPositionX, worldPositionY, 0, 0, lAmtToSpawn);
 
 			// Set the time to wait until another round of spawns occurs
 			mEmitTimer = RandomNumbers.random(mEmitterDefinition.emitTimeMin, mEmitterDefinition.emitTimeMax);
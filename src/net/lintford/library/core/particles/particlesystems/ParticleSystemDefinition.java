@@ -4,10 +4,22 @@ import java.util.ArrayList;
 import java.util.List;
 
 import net.lintford.library.core.entity.definitions.BaseDefinition;
+import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 import net.lintford.library.core.particles.particlesystems.initializers.ParticleInitializerBase;
 import net.lintford.library.core.particles.particlesystems.modifiers.ParticleModifierBase;
 
 public class ParticleSystemDefinition extends BaseDefinition {
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	/** Instances store each particle as a {@link Particle} object. */
+	public static final int STORAGE_MODE_OBJECTS = 0;
+
+	/** Instances store the particles in a {@link ParticleArrays} (structure-of-arrays). */
+	public static final int STORAGE_MODE_ARRAYS = 1;
+
 	// --------------------------------------
 	// Variables
 	// --------------------------------------
@@ -17,6 +29,7 @@ public class ParticleSystemDefinition extends BaseDefinition {
 
 	public int maxParticleCount;
 	public float particleLife;
+	public int storageMode;
 
 	public String textureName;
 	public String textureFilename;
@@ -39,6 +52,11 @@ public class ParticleSystemDefinition extends BaseDefinition {
 		return maxParticleCount;
 	}
 
+	/** Returns the layout used by instances of this {@link ParticleSystemDefinition} to store their particles. Either {@link #STORAGE_MODE_OBJECTS} or {@link #STORAGE_MODE_ARRAYS}. */
+	public int storageMode() {
+		return storageMode;
+	}
+
 	/** Returns the internal texture name. */
 	public String textureName() {
 		return textureName;
@@ -6,6 +6,7 @@ import java.util.List;
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.entity.BaseInstanceData;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 import net.lintford.library.core.particles.particlesystems.initializers.ParticleInitializerBase;
 import net.lintford.library.core.particles.particlesystems.modifiers.ParticleModifierBase;
 
@@ -19,6 +20,9 @@ public class ParticleSystemInstance extends BaseInstanceData {
 
 	public static final int NO_RENDERER_ASSIGNED = -1;
 
+	/** Returned by the spawnParticle methods when the system is full. */
+	public static final int NO_PARTICLE = ParticleArrays.NO_SLOT;
+
 	// --------------------------------------
 	// Variables
 	// --------------------------------------
@@ -26,10 +30,15 @@ public class ParticleSystemInstance extends BaseInstanceData {
 	protected int mParticleSystemID;
 	protected ParticleSystemDefinition mParticleSystemDefinition;
 	private List<Particle> mParticles;
+	private ParticleArrays mParticleArrays;
 	private transient int mRendererId;
 
 	private int mCapacity;
 
+	/** The number of live {@link Particle}s. With object storage, the live particles are kept compacted at the front of {@link #mParticles}. */
+	private int mAliveCount;
+	private int mHighWaterMark;
+
 	// --------------------------------------
 	// Properties
 	// --------------------------------------
@@ -38,11 +47,40 @@ public class ParticleSystemInstance extends BaseInstanceData {
 		return mParticleSystemDefinition != null;
 	}
 
-	/** Returns the collection of {@link Particle}s in this {@link ParticleSystemInstance}. */
+	/** Returns the collection of {@link Particle}s in this {@link ParticleSystemInstance}. null is returned if the system uses array storage. */
 	public List<Particle> particles() {
 		return mParticles;
 	}
 
+	/** Returns the {@link ParticleArrays} of this {@link ParticleSystemInstance}. null is returned if the system uses object storage. */
+	public ParticleArrays particleArrays() {
+		return mParticleArrays;
+	}
+
+	public boolean usesArrayStorage() {
+		return mParticleArrays != null;
+	}
+
+	/** Returns the number of live particles in this {@link ParticleSystemInstance}. With object storage, these are the first aliveCount() entries of {@link #particles()}. */
+	public int aliveCount() {
+		if (mParticleArrays != null)
+			return mParticleArrays.aliveCount();
+
+		return mAliveCount;
+	}
+
+	/** Returns the largest number of particles which have been alive at the same time in this {@link ParticleSystemInstance}. */
+	public int highWaterMark() {
+		if (mParticleArrays != null)
+			return mParticleArrays.highWaterMark();
+
+		return mHighWaterMark;
+	}
+
+	public int capacity() {
+		return mCapacity;
+	}
+
 	public ParticleSystemDefinition definition() {
 		return mParticleSystemDefinition;
 	}
@@ -78,6 +116,16 @@ public class ParticleSystemInstance extends BaseInstanceData {
 
 		mRendererId = NO_RENDERER_ASSIGNED;
 
+		if (mParticleSystemDefinition.storageMode() == ParticleSystemDefinition.STORAGE_MODE_ARRAYS) {
+			mParticles = null;
+			mParticleArrays = new ParticleArrays(mCapacity);
+			return;
+
+		}
+
+		mParticleArrays = null;
+		mAliveCount = 0;
+		mHighWaterMark = 0;
 		mParticles = new ArrayList<>();
 		for (int i = 0; i < mCapacity; i++) {
 			mParticles.add(new Particle());
@@ -90,35 +138,152 @@ public class ParticleSystemInstance extends BaseInstanceData {
 		if (!isInitialized())
 			return;
 
-		// Update the modifiers independently of the particles
-		List<ParticleModifierBase> lModifers = mParticleSystemDefinition.modifiers();
+		updateModifiers(pCore);
+		updateParticles(pCore);
+
+	}
+
+	/** Updates the state of the modifiers independently of the particles. This is called once per frame on the game-loop thread, before any particles are updated. */
+	public void updateModifiers(LintfordCore pCore) {
+		final List<ParticleModifierBase> lModifers = mParticleSystemDefinition.modifiers();
 		final int lNumModifiers = lModifers.size();
 		for (int j = 0; j < lNumModifiers; j++) {
 			lModifers.get(j).update(pCore);
 
 		}
 
-		for (int i = 0; i < mCapacity; i++) {
-			final Particle p = mParticles.get(i);
+	}
 
-			if (!p.isAssigned())
-				continue;
+	/** Ages, modifies and removes all the live particles on the calling thread. */
+	public void updateParticles(LintfordCore pCore) {
+		final List<ParticleModifierBase> lModifers = mParticleSystemDefinition.modifiers();
+		final int lNumModifiers = lModifers.size();
+
+		if (mParticleArrays != null) {
+			updateParticleArrays(pCore, lModifers);
+			return;
+
+		}
+
+		// Only the live particles are iterated. Walk backwards, as killed particles are swap-removed from the front of the list
+		for (int i = mAliveCount - 1; i >= 0; i--) {
+			final Particle p = mParticles.get(i);
 
 			// Kill the particle if it exceeds its lifetime (unless lifeTime is NO_DO_DESPAWN
 			if (p.lifeTime() != Particle.DO_NOT_DESPAWN_LIFETIME) {
 				p.timeSinceStart += pCore.appTime().elapsedTimeMilli();
 				if (p.timeSinceStart >= p.lifeTime()) {
-					// kill the particle
-					p.reset();
+					killParticle(i);
+					continue;
 
 				}
 			}
 
+			for (int j = 0; j < lNumModifiers; j++) {
+				lModifers.get(j).updateParticle(pCore, p);
+
+			}
+
+			// Modifiers are allowed to reset particles
 			if (!p.isAssigned())
+				killParticle(i);
+
+		}
+
+	}
+
+	private void updateParticleArrays(LintfordCore pCore, List<ParticleModifierBase> pModifiers) {
+		final var lParticles = mParticleArrays;
+		final float lElapsed = (float) pCore.appTime().elapsedTimeMilli();
+
+		// Age the particles first, killing those which exceed their lifetime (walk backwards, killed particles are swap-removed)
+		final int[] lAliveIndices = lParticles.aliveIndices;
+		for (int i = lParticles.aliveCount() - 1; i >= 0; i--) {
+			final int lSlot = lAliveIndices[i];
+			if (lParticles.lifeTime[lSlot] == Particle.DO_NOT_DESPAWN_LIFETIME)
 				continue;
 
+			lParticles.timeSinceStart[lSlot] += lElapsed;
+			if (lParticles.timeSinceStart[lSlot] >= lParticles.lifeTime[lSlot]) {
+				lParticles.killParticle(lSlot);
+
+			}
+
+		}
+
+		// Then let each modifier operate on all the remaining particles in one pass
+		final int lNumModifiers = pModifiers.size();
+		for (int j = 0; j < lNumModifiers; j++) {
+			pModifiers.get(j).updateParticles(pCore, lParticles);
+
+		}
+
+	}
+
+	/**
+	 * Returns true if all the modifiers of this system are thread-safe, in which case disjoint ranges of the particles can be updated concurrently with {@link #updateParticleRange(LintfordCore, int, int)}. When
+	 * the particles are held in a {@link ParticleArrays} store, the modifiers must also update the arrays directly, as the scratch particle used to bridge the others is shared by the whole store.
+	 */
+	public boolean canUpdateParticlesConcurrently() {
+		final List<ParticleModifierBase> lModifers = mParticleSystemDefinition.modifiers();
+		final int lNumModifiers = lModifers.size();
+		for (int j = 0; j < lNumModifiers; j++) {
+			final var lModifier = lModifers.get(j);
+			if (!lModifier.isThreadSafe())
+				return false;
+
+			if (mParticleArrays != null && !lModifier.updatesParticleArraysDirectly())
+				return false;
+
+		}
+
+		return true;
+
+	}
+
+	/**
+	 * Ages and modifies the live particles in the range [pFirstAliveIndex, pFirstAliveIndex + pCount) without removing any of them, so that disjoint ranges can be updated from different threads (see
+	 * {@link #canUpdateParticlesConcurrently()}). Particles which expire are only marked, {@link #compactParticles()} must be called once all the ranges have been updated.
+	 */
+	public void updateParticleRange(LintfordCore pCore, int pFirstAliveIndex, int pCount) {
+		final List<ParticleModifierBase> lModifers = mParticleSystemDefinition.modifiers();
+		final int lNumModifiers = lModifers.size();
+		final float lElapsed = (float) pCore.appTime().elapsedTimeMilli();
+		final int lEnd = pFirstAliveIndex + pCount;
+
+		if (mParticleArrays != null) {
+			final var lParticles = mParticleArrays;
+			final int[] lAliveIndices = lParticles.aliveIndices;
+			for (int i = pFirstAliveIndex; i < lEnd; i++) {
+				final int lSlot = lAliveIndices[i];
+				if (lParticles.lifeTime[lSlot] != Particle.DO_NOT_DESPAWN_LIFETIME)
+					lParticles.timeSinceStart[lSlot] += lElapsed;
+
+			}
+
 			for (int j = 0; j < lNumModifiers; j++) {
-				lModifers.get(j).updateParticle(pCore, mParticles.get(i));
+				lModifers.get(j).updateParticles(pCore, lParticles, pFirstAliveIndex, pCount);
+
+			}
+
+			return;
+		}
+
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final Particle p = mParticles.get(i);
+
+			if (p.lifeTime() != Particle.DO_NOT_DESPAWN_LIFETIME) {
+				p.timeSinceStart += lElapsed;
+				if (p.timeSinceStart >= p.lifeTime()) {
+					// Only mark the particle, it is removed from the alive list in compactParticles()
+					p.reset();
+					continue;
+
+				}
+			}
+
+			for (int j = 0; j < lNumModifiers; j++) {
+				lModifers.get(j).updateParticle(pCore, p);
 
 			}
 
@@ -126,6 +291,31 @@ public class ParticleSystemInstance extends BaseInstanceData {
 
 	}
 
+	/** Removes the particles which expired during {@link #updateParticleRange(LintfordCore, int, int)} from the alive list. Must be called from a single thread. */
+	public void compactParticles() {
+		if (mParticleArrays != null) {
+			final var lParticles = mParticleArrays;
+			final int[] lAliveIndices = lParticles.aliveIndices;
+			for (int i = lParticles.aliveCount() - 1; i >= 0; i--) {
+				final int lSlot = lAliveIndices[i];
+				if (lParticles.lifeTime[lSlot] != Particle.DO_NOT_DESPAWN_LIFETIME && lParticles.timeSinceStart[lSlot] >= lParticles.lifeTime[lSlot]) {
+					lParticles.killParticle(lSlot);
+
+				}
+
+			}
+
+			return;
+		}
+
+		for (int i = mAliveCount - 1; i >= 0; i--) {
+			if (!mParticles.get(i).isAssigned())
+				killParticle(i);
+
+		}
+
+	}
+
 	// --------------------------------------
 	// Methods
 	// --------------------------------------
@@ -136,19 +326,26 @@ public class ParticleSystemInstance extends BaseInstanceData {
 	}
 
 	/**
-	 * Spawns a new {@link Particle} instance, foregoing the {@link IParticleinitializer}s attached to this {@link ParticleSystemInstance}. Insteadm you can specifiy the individual components of the particles.
+	 * Spawns a new particle and applies the {@link IParticleinitializer}s attached to this {@link ParticleSystemInstance}, then sets the given source and destination texture rectangles. Returns the index of the
+	 * new particle (see {@link #spawnParticle(float, float, float, float)}), or {@link #NO_PARTICLE}.
 	 */
-	public Particle spawnParticle(float pX, float pY, float pVelX, float pVelY, float pSX, float pSY, float pSW, float pSH, float pWidth, float pHeight) {
-		Particle lNewParticle = spawnParticle(pX, pY, pVelX, pVelY);
-		if (lNewParticle != null) {
+	public int spawnParticle(float pX, float pY, float pVelX, float pVelY, float pSX, float pSY, float pSW, float pSH, float pWidth, float pHeight) {
+		final int lIndex = spawnParticle(pX, pY, pVelX, pVelY);
+		if (lIndex == NO_PARTICLE)
+			return NO_PARTICLE;
+
+		if (mParticleArrays != null) {
+			mParticleArrays.setupSourceTexture(lIndex, pSX, pSY, pSW, pSH);
+			mParticleArrays.setupDestTexture(lIndex, pWidth, pHeight);
+
+		} else {
+			final var lNewParticle = mParticles.get(lIndex);
 			lNewParticle.setupSourceTexture(pSX, pSY, pSW, pSH);
 			lNewParticle.setupDestTexture(pWidth, pHeight);
 
-			return lNewParticle;
 		}
 
-		// No particle created.
-		return null;
+		return lIndex;
 
 	}
 
@@ -166,21 +363,98 @@ public class ParticleSystemInstance extends BaseInstanceData {
 
 	}
 
-	/** Spawns a new {@link Particle} and applys the {@link IParticleinitializer} attached to this {@link ParticleSystemInstance}. */
-	public Particle spawnParticle(float pX, float pY, float pVelX, float pVelY) {
-		for (int i = 0; i < mCapacity; i++) {
-			Particle lSpawnedParticle = mParticles.get(i);
-			if (lSpawnedParticle.isAssigned())
-				continue;
+	/** Resets the live particle at the given position and swaps the last live particle into its place. */
+	private void killParticle(int pAliveIndex) {
+		final Particle lKilledParticle = mParticles.get(pAliveIndex);
+		lKilledParticle.reset();
+
+		final int lLastAliveIndex = --mAliveCount;
+		if (pAliveIndex != lLastAliveIndex) {
+			mParticles.set(pAliveIndex, mParticles.get(lLastAliveIndex));
+			mParticles.set(lLastAliveIndex, lKilledParticle);
+
+		}
+
+	}
+
+	/**
+	 * Spawns a new particle and applys the {@link IParticleinitializer}s attached to this {@link ParticleSystemInstance}. Returns the index of the new particle, which is its slot in {@link #particleArrays()}
+	 * with array storage, or its position in {@link #particles()} with object storage (which is only valid until the next update, as dead particles are compacted away). Returns {@link #NO_PARTICLE} if the
+	 * system is full.
+	 */
+	public int spawnParticle(float pX, float pY, float pVelX, float pVelY) {
+		if (mParticleArrays != null)
+			return spawnParticleSlot(pX, pY, pVelX, pVelY);
+
+		// The first free particle is always the one directly after the live particles
+		if (mAliveCount >= mCapacity)
+			return NO_PARTICLE;
+
+		final Particle lSpawnedParticle = mParticles.get(mAliveCount++);
+		if (mAliveCount > mHighWaterMark)
+			mHighWaterMark = mAliveCount;
+
+		lSpawnedParticle.spawnParticle(pX, pY, pVelX, pVelY, mParticleSystemDefinition.particleLife);
 
-			lSpawnedParticle.spawnParticle(pX, pY, pVelX, pVelY, mParticleSystemDefinition.particleLife);
+		applyInitializers(lSpawnedParticle);
 
-			applyInitializers(lSpawnedParticle);
+		return mAliveCount - 1;
+
+	}
+
+	/** Spawns up to pAmount particles at the given position and applies the {@link ParticleInitializerBase}s to them. Returns the number of particles actually spawned. */
+	public int spawnParticles(float pX, float pY, float pVelX, float pVelY, int pAmount) {
+		if (mParticleArrays == null) {
+			int lNumSpawned = 0;
+			for (int i = 0; i < pAmount; i++) {
+				if (spawnParticle(pX, pY, pVelX, pVelY) == NO_PARTICLE)
+					break;
+
+				lNumSpawned++;
+
+			}
+
+			return lNumSpawned;
+		}
+
+		// With array storage, the new slots are appended to the alive list, so the initializers can be applied to the whole range at once
+		final int lFirstAliveIndex = mParticleArrays.aliveCount();
+		int lNumSpawned = 0;
+		for (int i = 0; i < pAmount; i++) {
+			if (mParticleArrays.spawnParticle(pX, pY, pVelX, pVelY, mParticleSystemDefinition.particleLife) == ParticleArrays.NO_SLOT)
+				break;
+
+			lNumSpawned++;
 
-			return lSpawnedParticle;
 		}
 
-		return null;
+		applyInitializers(lFirstAliveIndex, lNumSpawned);
+
+		return lNumSpawned;
+
+	}
+
+	private int spawnParticleSlot(float pX, float pY, float pVelX, float pVelY) {
+		final int lSlot = mParticleArrays.spawnParticle(pX, pY, pVelX, pVelY, mParticleSystemDefinition.particleLife);
+		if (lSlot != ParticleArrays.NO_SLOT) {
+			applyInitializers(mParticleArrays.aliveCount() - 1, 1);
+
+		}
+
+		return lSlot;
+
+	}
+
+	private void applyInitializers(int pFirstAliveIndex, int pCount) {
+		if (pCount == 0)
+			return;
+
+		final List<ParticleInitializerBase> lInitializers = mParticleSystemDefinition.initializers();
+		final int lNumInitializers = lInitializers.size();
+		for (int j = 0; j < lNumInitializers; j++) {
+			lInitializers.get(j).initialize(mParticleArrays, pFirstAliveIndex, pCount);
+
+		}
 
 	}
 
@@ -205,12 +479,20 @@ public class ParticleSystemInstance extends BaseInstanceData {
 	}
 
 	public void reset() {
-		for (int i = 0; i < mCapacity; i++) {
+		if (mParticleArrays != null) {
+			mParticleArrays.reset();
+			return;
+
+		}
+
+		for (int i = 0; i < mAliveCount; i++) {
 			Particle p = mParticles.get(i);
 			p.reset();
 
 		}
 
+		mAliveCount = 0;
+
 	}
 
 }
@@ -1,9 +1,13 @@
 package net.lintford.library.core.particles.particlesystems;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import com.google.gson.GsonBuilder;
 
+import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.debug.Debug;
 import net.lintford.library.core.entity.EntityLocationProvider;
 import net.lintford.library.core.entity.definitions.DefinitionManager;
@@ -19,6 +23,57 @@ public class ParticleSystemManager extends InstanceManager<ParticleSystemInstanc
 
 	private static final long serialVersionUID = -5013183501163339554L;
 
+	/** The live particles of a system are updated in chunks of (at most) this size, with one fork-join task per chunk. */
+	public static final int PARALLEL_UPDATE_CHUNK_SIZE = 2048;
+
+	/** A fork-join task which updates a range of the live particles of a single {@link ParticleSystemInstance}. The tasks are pooled, and set up again (see {@link #setup}) for each frame. */
+	private static class ParticleRangeUpdateTask extends RecursiveAction {
+
+		// --------------------------------------
+		// Constants
+		// --------------------------------------
+
+		private static final long serialVersionUID = 1520773613372462129L;
+
+		// --------------------------------------
+		// Variables
+		// --------------------------------------
+
+		private transient LintfordCore mCore;
+		private transient ParticleSystemInstance mParticleSystem;
+		private int mFirstAliveIndex;
+		private int mCount;
+
+		// --------------------------------------
+		// Methods
+		// --------------------------------------
+
+		/** Sets the range to update. The task must have completed (or never been run) before it is set up again. */
+		public void setup(LintfordCore pCore, ParticleSystemInstance pParticleSystem, int pFirstAliveIndex, int pCount) {
+			reinitialize();
+
+			mCore = pCore;
+			mParticleSystem = pParticleSystem;
+			mFirstAliveIndex = pFirstAliveIndex;
+			mCount = pCount;
+
+		}
+
+		/** Drops the references to the core and particle system, so a pooled task doesn't keep them alive. */
+		public void reset() {
+			mCore = null;
+			mParticleSystem = null;
+
+		}
+
+		@Override
+		protected void compute() {
+			mParticleSystem.updateParticleRange(mCore, mFirstAliveIndex, mCount);
+
+		}
+
+	}
+
 	public class ParticleSystemDefinitionManager extends DefinitionManager<ParticleSystemDefinition> {
 
 		// --------------------------------------
@@ -67,6 +122,10 @@ public class ParticleSystemManager extends InstanceManager<ParticleSystemInstanc
 
 	protected ParticleFrameworkData mParticleFrameworkData;
 	protected ParticleSystemDefinitionManager mParticleSystemDefinitionManager;
+	private boolean mUseParallelUpdate;
+	private transient ForkJoinPool mForkJoinPool;
+	private transient List<ParticleRangeUpdateTask> mUpdateTasks;
+	private transient List<ParticleRangeUpdateTask> mUpdateTaskPool;
 
 	// --------------------------------------
 	// Properties
@@ -85,6 +144,20 @@ public class ParticleSystemManager extends InstanceManager<ParticleSystemInstanc
 		return mParticleSystemDefinitionManager;
 	}
 
+	/** Returns true if the particle systems are updated across a {@link ForkJoinPool}, rather than serially on the game-loop thread. */
+	public boolean useParallelUpdate() {
+		return mUseParallelUpdate;
+	}
+
+	public void useParallelUpdate(boolean pNewValue) {
+		mUseParallelUpdate = pNewValue;
+	}
+
+	/** Sets the {@link ForkJoinPool} used to update the particle systems when {@link #useParallelUpdate()} is enabled. If null, the common pool is used. */
+	public void forkJoinPool(ForkJoinPool pForkJoinPool) {
+		mForkJoinPool = pForkJoinPool;
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
@@ -97,6 +170,136 @@ public class ParticleSystemManager extends InstanceManager<ParticleSystemInstanc
 
 	}
 
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/**
+	 * Updates all the assigned {@link ParticleSystemInstance}s. In parallel mode, the modifiers of every system are first updated on the calling thread, then the particles of systems whose modifiers are all
+	 * thread-safe are updated in chunks across the fork-join pool, while the remaining systems are updated on the calling thread.
+	 */
+	public void update(LintfordCore pCore) {
+		final int lNumParticleSystems = mInstances.size();
+
+		if (!mUseParallelUpdate) {
+			for (int i = 0; i < lNumParticleSystems; i++) {
+				final var lParticleSystemInstance = mInstances.get(i);
+				if (!lParticleSystemInstance.isAssigned())
+					continue;
+
+				lParticleSystemInstance.update(pCore);
+
+			}
+
+			return;
+		}
+
+		if (mUpdateTasks == null) {
+			mUpdateTasks = new ArrayList<>();
+			mUpdateTaskPool = new ArrayList<>();
+
+		}
+
+		final var lForkJoinPool = mForkJoinPool != null ? mForkJoinPool : ForkJoinPool.commonPool();
+
+		// Modifier-level state is updated once per frame, before any of the particles
+		for (int i = 0; i < lNumParticleSystems; i++) {
+			final var lParticleSystemInstance = mInstances.get(i);
+			if (!lParticleSystemInstance.isAssigned())
+				continue;
+
+			lParticleSystemInstance.updateModifiers(pCore);
+
+		}
+
+		for (int i = 0; i < lNumParticleSystems; i++) {
+			final var lParticleSystemInstance = mInstances.get(i);
+			if (!lParticleSystemInstance.isAssigned() || lParticleSystemInstance.aliveCount() == 0)
+				continue;
+
+			if (!lParticleSystemInstance.canUpdateParticlesConcurrently())
+				continue;
+
+			final int lAliveCount = lParticleSystemInstance.aliveCount();
+			for (int lFirstAliveIndex = 0; lFirstAliveIndex < lAliveCount; lFirstAliveIndex += PARALLEL_UPDATE_CHUNK_SIZE) {
+				final var lUpdateTask = getFreeUpdateTask();
+				lUpdateTask.setup(pCore, lParticleSystemInstance, lFirstAliveIndex, Math.min(PARALLEL_UPDATE_CHUNK_SIZE, lAliveCount - lFirstAliveIndex));
+				mUpdateTasks.add(lUpdateTask);
+				lForkJoinPool.execute(lUpdateTask);
+
+			}
+
+		}
+
+		// Systems with modifiers which are not thread-safe are updated on this thread, while the workers are busy
+		for (int i = 0; i < lNumParticleSystems; i++) {
+			final var lParticleSystemInstance = mInstances.get(i);
+			if (!lParticleSystemInstance.isAssigned())
+				continue;
+
+			if (!lParticleSystemInstance.canUpdateParticlesConcurrently())
+				lParticleSystemInstance.updateParticles(pCore);
+
+		}
+
+		try {
+			joinUpdateTasks();
+
+		} finally {
+			// The tasks have all completed by now (even if one of them failed), so they can be returned to the pool
+			final int lNumUpdateTasks = mUpdateTasks.size();
+			for (int i = 0; i < lNumUpdateTasks; i++) {
+				final var lUpdateTask = mUpdateTasks.get(i);
+				lUpdateTask.reset();
+				mUpdateTaskPool.add(lUpdateTask);
+
+			}
+
+			mUpdateTasks.clear();
+
+		}
+
+	}
+
+	/** Waits for all of the update tasks of this frame, then compacts the particles of each updated system once. If a task failed, its exception is rethrown once the others have completed. */
+	private void joinUpdateTasks() {
+		RuntimeException lTaskException = null;
+
+		final int lNumUpdateTasks = mUpdateTasks.size();
+		for (int i = 0; i < lNumUpdateTasks; i++) {
+			try {
+				mUpdateTasks.get(i).join();
+
+			} catch (RuntimeException e) {
+				if (lTaskException == null)
+					lTaskException = e;
+
+			}
+
+		}
+
+		// The tasks of a system are consecutive
+		for (int i = 0; i < lNumUpdateTasks; i++) {
+			final var lParticleSystem = mUpdateTasks.get(i).mParticleSystem;
+			if (i + 1 == lNumUpdateTasks || mUpdateTasks.get(i + 1).mParticleSystem != lParticleSystem)
+				lParticleSystem.compactParticles();
+
+		}
+
+		if (lTaskException != null)
+			throw lTaskException;
+
+	}
+
+	private ParticleRangeUpdateTask getFreeUpdateTask() {
+		final int lNumFreeTasks = mUpdateTaskPool.size();
+		if (lNumFreeTasks > 0)
+			return mUpdateTaskPool.remove(lNumFreeTasks - 1);
+
+		return new ParticleRangeUpdateTask();
+
+	}
+
 	// --------------------------------------
 	// Methods
 	// --------------------------------------
@@ -31,6 +31,7 @@ public class ParticleSystemDeserializer implements JsonDeserializer<ParticleSyst
 	public static final String PARTICLE_SYSTEM_TEXTURE_FILENAME = "textureFilename";
 	public static final String PARTICLE_SYSTEM_TEXTURE_FILTER = "textureFilterMode";
 	public static final String PARTICLE_SYSTEM_PARTICLE_LIFE = "particleLife";
+	public static final String PARTICLE_SYSTEM_STORAGE_MODE = "storageMode";
 
 	public static final String PARTICLE_SYSTEM_INITIALIZER_LIST = "initializers";
 	public static final String PARTICLE_SYSTEM_MODIFIER_LIST = "modifiers";
@@ -76,6 +77,11 @@ public class ParticleSystemDeserializer implements JsonDeserializer<ParticleSyst
 			lNewParticleSystemDefinition.particleLife = lTempPrimitive.getAsFloat();
 		}
 
+		lTempPrimitive = pElement.getAsJsonObject().getAsJsonPrimitive(PARTICLE_SYSTEM_STORAGE_MODE);
+		if (lTempPrimitive != null && !lTempPrimitive.isJsonNull()) {
+			lNewParticleSystemDefinition.storageMode = lTempPrimitive.getAsInt();
+		}
+
 		// Get the initializers
 		JsonArray lInitializerArray = pElement.getAsJsonObject().getAsJsonArray(PARTICLE_SYSTEM_INITIALIZER_LIST);
 
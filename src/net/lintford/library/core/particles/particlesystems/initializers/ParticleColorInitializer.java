@@ -1,6 +1,7 @@
 package net.lintford.library.core.particles.particlesystems.initializers;
 
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleColorInitializer extends ParticleInitializerBase {
 
@@ -43,4 +44,19 @@ public class ParticleColorInitializer extends ParticleInitializerBase {
 
 	}
 
+	@Override
+	public void initialize(ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = pParticles.aliveIndices[i];
+
+			pParticles.r[lSlot] = r;
+			pParticles.g[lSlot] = g;
+			pParticles.b[lSlot] = b;
+			pParticles.a[lSlot] = a;
+
+		}
+
+	}
+
 }
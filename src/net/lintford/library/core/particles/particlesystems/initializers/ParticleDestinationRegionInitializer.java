@@ -1,6 +1,7 @@
 package net.lintford.library.core.particles.particlesystems.initializers;
 
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 /** Sets the initial size of a {@link Particle} when it is spawned in the {@link SimpleAnimationRenderer}. This is effectively setting the particle dimensions. */
 public class ParticleDestinationRegionInitializer extends ParticleInitializerBase {
@@ -39,4 +40,16 @@ public class ParticleDestinationRegionInitializer extends ParticleInitializerBas
 
 	}
 
+	@Override
+	public void initialize(ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = pParticles.aliveIndices[i];
+
+			pParticles.setupDestTexture(lSlot, width, height);
+
+		}
+
+	}
+
 }
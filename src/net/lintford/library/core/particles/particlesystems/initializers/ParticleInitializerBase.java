@@ -3,6 +3,7 @@ package net.lintford.library.core.particles.particlesystems.initializers;
 import java.io.Serializable;
 
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public abstract class ParticleInitializerBase implements Serializable {
 
@@ -38,4 +39,22 @@ public abstract class ParticleInitializerBase implements Serializable {
 	/** Initializes the particle instances. */
 	public abstract void initialize(Particle pParticle);
 
+	/**
+	 * Initializes the particles in the range [pFirstAliveIndex, pFirstAliveIndex + pCount) of {@link ParticleArrays#aliveIndices}. The default implementation copies each particle through
+	 * {@link ParticleArrays#scratchParticle()} and calls {@link #initialize(Particle)}, sub-classes should override this to write to the arrays directly.
+	 */
+	public void initialize(ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final var lParticle = pParticles.scratchParticle();
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = pParticles.aliveIndices[i];
+
+			pParticles.copyToParticle(lSlot, lParticle);
+			initialize(lParticle);
+			pParticles.copyFromParticle(lSlot, lParticle);
+
+		}
+
+	}
+
 }
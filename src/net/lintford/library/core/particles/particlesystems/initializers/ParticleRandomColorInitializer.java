@@ -1,6 +1,7 @@
 package net.lintford.library.core.particles.particlesystems.initializers;
 
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleRandomColorInitializer extends ParticleTripleValueInitializer {
 
@@ -34,4 +35,19 @@ public class ParticleRandomColorInitializer extends ParticleTripleValueInitializ
 
 	}
 
+	@Override
+	public void initialize(ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = pParticles.aliveIndices[i];
+
+			pParticles.r[lSlot] = getRandomValue();
+			pParticles.g[lSlot] = getRandomValue();
+			pParticles.b[lSlot] = getRandomValue();
+			pParticles.a[lSlot] = 1.f;
+
+		}
+
+	}
+
 }
@@ -1,6 +1,7 @@
 package net.lintford.library.core.particles.particlesystems.initializers;
 
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleRandomOffsetInitializer extends ParticleDoubleValueInitializer {
 
@@ -32,4 +33,17 @@ public class ParticleRandomOffsetInitializer extends ParticleDoubleValueInitiali
 
 	}
 
+	@Override
+	public void initialize(ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = pParticles.aliveIndices[i];
+
+			pParticles.worldPositionX[lSlot] += getRandomValue(minValue0, maxValue0);
+			pParticles.worldPositionY[lSlot] += getRandomValue(minValue1, maxValue1);
+
+		}
+
+	}
+
 }
@@ -1,6 +1,7 @@
 package net.lintford.library.core.particles.particlesystems.initializers;
 
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleRandomRotationInitializer extends ParticleSingleValueInitializer {
 
@@ -32,4 +33,18 @@ public class ParticleRandomRotationInitializer extends ParticleSingleValueInitia
 
 	}
 
+	@Override
+	public void initialize(ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = pParticles.aliveIndices[i];
+
+			final float lValue = getRandomValue();
+			pParticles.rotationInRadians[lSlot] = lValue;
+			pParticles.dr[lSlot] = lValue;
+
+		}
+
+	}
+
 }
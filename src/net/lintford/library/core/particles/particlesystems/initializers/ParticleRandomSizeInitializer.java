@@ -1,6 +1,7 @@
 package net.lintford.library.core.particles.particlesystems.initializers;
 
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleRandomSizeInitializer extends ParticleSingleValueInitializer {
 
@@ -31,4 +32,16 @@ public class ParticleRandomSizeInitializer extends ParticleSingleValueInitialize
 
 	}
 
+	@Override
+	public void initialize(ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = pParticles.aliveIndices[i];
+
+			pParticles.scale[lSlot] = getRandomValue();
+
+		}
+
+	}
+
 }
@@ -5,6 +5,7 @@ import java.util.Random;
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.geometry.Rectangle;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 /**
  * This {@link ParticleModifierBase} updates {@link Particle} instances to mimic the behavior of clouds/mist within a city. Particles with this modifier will only die when they
@@ -48,6 +49,11 @@ public class ParticleCityCloudModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 		// Update the position of the camera kill rectangle
@@ -62,6 +68,12 @@ public class ParticleCityCloudModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		// Nothing to update until the cloud movement is implemented, see updateParticle
+
+	}
+
 	public boolean hasCollision(int PCX, int pCY) {
 		// TODO: Collision check elsewhere
 		return false;
@@ -2,6 +2,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleDragModifier extends ParticleModifierBase {
 
@@ -47,6 +48,11 @@ public class ParticleDragModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 
@@ -63,4 +69,27 @@ public class ParticleDragModifier extends ParticleModifierBase {
 			pParticle.dy = 0;
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final float[] lDX = pParticles.dx;
+		final float[] lDY = pParticles.dy;
+
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = lAliveIndices[i];
+
+			lDX[lSlot] *= mDrag;
+			lDY[lSlot] *= mDrag;
+
+			if (Math.abs(lDX[lSlot]) < EPSILON)
+				lDX[lSlot] = 0;
+
+			if (Math.abs(lDY[lSlot]) < EPSILON)
+				lDY[lSlot] = 0;
+
+		}
+
+	}
+
 }
@@ -2,6 +2,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleGravityModifier extends ParticleModifierBase {
 
@@ -37,6 +38,11 @@ public class ParticleGravityModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 
@@ -49,4 +55,17 @@ public class ParticleGravityModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final float lGravityDelta = gravity * (float) pCore.appTime().elapsedTimeMilli();
+
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			pParticles.dy[lAliveIndices[i]] += lGravityDelta;
+
+		}
+
+	}
+
 }
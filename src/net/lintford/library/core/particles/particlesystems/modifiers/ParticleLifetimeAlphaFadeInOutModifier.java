@@ -2,6 +2,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleLifetimeAlphaFadeInOutModifier extends ParticleModifierBase {
 
@@ -33,6 +34,11 @@ public class ParticleLifetimeAlphaFadeInOutModifier extends ParticleModifierBase
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 
@@ -60,4 +66,18 @@ public class ParticleLifetimeAlphaFadeInOutModifier extends ParticleModifierBase
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = lAliveIndices[i];
+
+			final float normalizedLifetime = pParticles.timeSinceStart[lSlot] / pParticles.lifeTime[lSlot];
+			pParticles.a[lSlot] = 4 * normalizedLifetime * (1 - normalizedLifetime) * maxAlpha;
+
+		}
+
+	}
+
 }
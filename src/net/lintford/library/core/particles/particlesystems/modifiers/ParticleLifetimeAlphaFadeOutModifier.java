@@ -2,6 +2,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleLifetimeAlphaFadeOutModifier extends ParticleModifierBase {
 
@@ -31,6 +32,11 @@ public class ParticleLifetimeAlphaFadeOutModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 
@@ -58,4 +64,18 @@ public class ParticleLifetimeAlphaFadeOutModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = lAliveIndices[i];
+
+			final float normalizedLifetime = pParticles.timeSinceStart[lSlot] / pParticles.lifeTime[lSlot];
+			pParticles.a[lSlot] = (1 - normalizedLifetime);
+
+		}
+
+	}
+
 }
@@ -2,6 +2,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleLifetimeModifier extends ParticleModifierBase {
 
@@ -51,4 +52,23 @@ public class ParticleLifetimeModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final float lDeltaTime = (float) pCore.appTime().elapsedTimeMilli();
+
+		// Walk backwards, as killed particles are swap-removed from the alive list
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		for (int i = pFirstAliveIndex + pCount - 1; i >= pFirstAliveIndex; i--) {
+			final int lSlot = lAliveIndices[i];
+
+			pParticles.timeSinceStart[lSlot] += lDeltaTime;
+			if (pParticles.timeSinceStart[lSlot] >= pParticles.lifeTime[lSlot]) {
+				pParticles.killParticle(lSlot);
+
+			}
+
+		}
+
+	}
+
 }
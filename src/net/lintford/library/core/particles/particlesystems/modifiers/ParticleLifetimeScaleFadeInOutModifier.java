@@ -2,6 +2,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleLifetimeScaleFadeInOutModifier extends ParticleModifierBase {
 
@@ -38,6 +39,11 @@ public class ParticleLifetimeScaleFadeInOutModifier extends ParticleModifierBase
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 
@@ -65,4 +71,18 @@ public class ParticleLifetimeScaleFadeInOutModifier extends ParticleModifierBase
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = lAliveIndices[i];
+
+			final float normalizedLifetime = pParticles.timeSinceStart[lSlot] / pParticles.lifeTime[lSlot];
+			pParticles.scale[lSlot] = 4f * normalizedLifetime * (1 - normalizedLifetime);
+
+		}
+
+	}
+
 }
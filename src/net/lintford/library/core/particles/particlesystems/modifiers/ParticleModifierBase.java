@@ -4,6 +4,7 @@ import java.io.Serializable;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public abstract class ParticleModifierBase implements Serializable {
 
@@ -13,6 +14,23 @@ public abstract class ParticleModifierBase implements Serializable {
 
 	private static final long serialVersionUID = -2200502470690632635L;
 
+	/** Caches, per modifier class, whether the range version of updateParticles is overridden (rather than bridged through the scratch {@link Particle}). */
+	private static final ClassValue<Boolean> OVERRIDES_RANGE_UPDATE = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> pType) {
+			try {
+				final var lMethod = pType.getMethod("updateParticles", LintfordCore.class, ParticleArrays.class, int.class, int.class);
+				return lMethod.getDeclaringClass() != ParticleModifierBase.class;
+
+			} catch (NoSuchMethodException e) {
+				return false;
+
+			}
+
+		}
+
+	};
+
 	// --------------------------------------
 	// Variables
 	// --------------------------------------
@@ -35,10 +53,53 @@ public abstract class ParticleModifierBase implements Serializable {
 	/** A method to initialize the state of a {@link Particle} on creation */
 	public abstract void initialize(Particle pParticle);
 
+	/**
+	 * Returns true if {@link #updateParticle(LintfordCore, Particle)} and the range version of updateParticles can be called concurrently from worker threads for different particles. Thread-safe modifiers may
+	 * only change the state of the particles they are given (they must not kill them), and must not change their own state outside of {@link #update(LintfordCore)}, which is always called once per frame on the
+	 * game-loop thread before any particles are updated.
+	 */
+	public boolean isThreadSafe() {
+		return false;
+	}
+
+	/**
+	 * Returns true if this modifier overrides the range version of updateParticles to operate on the {@link ParticleArrays} directly. Modifiers which don't are bridged through the single
+	 * {@link ParticleArrays#scratchParticle()} of the store, and so are always run serially, regardless of {@link #isThreadSafe()}.
+	 */
+	public final boolean updatesParticleArraysDirectly() {
+		return OVERRIDES_RANGE_UPDATE.get(getClass());
+	}
+
 	/** A method to update the state of the modifier itself */
 	public abstract void update(LintfordCore pCore);
 
 	/** A method to update the state of a {@link Particle} instance. */
 	public abstract void updateParticle(LintfordCore pCore, Particle pParticle);
 
+	/** A method to update all the live particles of a {@link ParticleArrays} store. */
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles) {
+		updateParticles(pCore, pParticles, 0, pParticles.aliveCount());
+
+	}
+
+	/**
+	 * A method to update the particles in the range [pFirstAliveIndex, pFirstAliveIndex + pCount) of {@link ParticleArrays#aliveIndices}. The default implementation copies each particle through
+	 * {@link ParticleArrays#scratchParticle()} and calls {@link #updateParticle(LintfordCore, Particle)}, sub-classes should override this to operate on the arrays directly. As the scratch particle is shared, the
+	 * default implementation must not be called concurrently for the same store.
+	 */
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final var lParticle = pParticles.scratchParticle();
+
+		// Walk backwards, as particles killed by the modifier are swap-removed from the alive list
+		for (int i = pFirstAliveIndex + pCount - 1; i >= pFirstAliveIndex; i--) {
+			final int lSlot = pParticles.aliveIndices[i];
+
+			pParticles.copyToParticle(lSlot, lParticle);
+			updateParticle(pCore, lParticle);
+			pParticles.copyFromParticle(lSlot, lParticle);
+
+		}
+
+	}
+
 }
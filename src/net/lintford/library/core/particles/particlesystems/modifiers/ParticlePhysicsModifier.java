@@ -2,6 +2,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticlePhysicsModifier extends ParticleModifierBase {
 
@@ -34,6 +35,11 @@ public class ParticlePhysicsModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 
@@ -53,4 +59,22 @@ public class ParticlePhysicsModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final float lDelta = (float) pCore.appTime().elapsedTimeMilli() / 1000f;
+		final float lDeltaRadians = (float) Math.toRadians(lDelta);
+
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = lAliveIndices[i];
+
+			pParticles.worldPositionX[lSlot] += pParticles.dx[lSlot] * lDelta;
+			pParticles.worldPositionY[lSlot] += pParticles.dy[lSlot] * lDelta;
+			pParticles.rotationInRadians[lSlot] += pParticles.dr[lSlot] * lDeltaRadians;
+
+		}
+
+	}
+
 }
@@ -3,6 +3,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.maths.RandomNumbers;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleRotationModifier extends ParticleModifierBase {
 
@@ -32,6 +33,11 @@ public class ParticleRotationModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 
@@ -54,4 +60,20 @@ public class ParticleRotationModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final float lDelta = (float) pCore.appTime().elapsedTimeMilli();
+
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = lAliveIndices[i];
+
+			pParticles.rotationInRadians[lSlot] += pParticles.dr[lSlot] * lDelta;
+			pParticles.dr[lSlot] *= 0.98f;
+
+		}
+
+	}
+
 }
@@ -2,6 +2,7 @@ package net.lintford.library.core.particles.particlesystems.modifiers;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
 
 public class ParticleTurnToFaceModifier extends ParticleModifierBase {
 
@@ -31,6 +32,11 @@ public class ParticleTurnToFaceModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public void update(LintfordCore pCore) {
 
@@ -42,4 +48,19 @@ public class ParticleTurnToFaceModifier extends ParticleModifierBase {
 
 	}
 
+	@Override
+	public void updateParticles(LintfordCore pCore, ParticleArrays pParticles, int pFirstAliveIndex, int pCount) {
+		final float lQuarterTurn = (float) Math.toRadians(90.f);
+
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lEnd = pFirstAliveIndex + pCount;
+		for (int i = pFirstAliveIndex; i < lEnd; i++) {
+			final int lSlot = lAliveIndices[i];
+
+			pParticles.rotationInRadians[lSlot] = (float) Math.atan2(pParticles.dx[lSlot], -pParticles.dy[lSlot]) + lQuarterTurn;
+
+		}
+
+	}
+
 }
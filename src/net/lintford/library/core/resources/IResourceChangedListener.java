@@ -0,0 +1,13 @@
+package net.lintford.library.core.resources;
+
+import java.nio.file.Path;
+
+public interface IResourceChangedListener {
+
+	/**
+	 * Called on the game thread for each file which has been modified on disk (once the burst of change events has settled). Listeners should look up the resources loaded from the file, and reload only
+	 * those, preferably with {@link ResourceWatcher#reloadAsync(java.util.function.Supplier)}.
+	 */
+	void onResourceFileChanged(ResourceWatcher pResourceWatcher, Path pChangedFile);
+
+}
@@ -0,0 +1,314 @@
+package net.lintford.library.core.resources;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import net.lintford.library.core.debug.Debug;
+
+/**
+ * Watches the resource directories for modified files, on a background thread, and hands the changed files to the registered {@link IResourceChangedListener}s on the game thread. The events of a file are
+ * debounced (editors often write a file in several steps), so each save results in a single reload. The listeners map the file to the resources loaded from it, and reload only those: the expensive part
+ * (reading, decoding and parsing) runs on a reload thread via {@link #reloadAsync(Supplier)}, and only the swap is applied on the game thread in {@link #update()}.
+ *
+ * @References Path Watcher: https://docs.oracle.com/javase/tutorial/essential/io/notification.html
+ */
+public class ResourceWatcher {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	/** The time a file has to be left alone, after its last change event, before it is reloaded. */
+	public static final long DEFAULT_DEBOUNCE_TIME_MILLIS = 250;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final List<Path> mWatchedDirectories = new ArrayList<>();
+	private final List<IResourceChangedListener> mListeners = new ArrayList<>();
+
+	private final ConcurrentLinkedQueue<Path> mChangedFiles = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<Runnable> mPreparedReloads = new ConcurrentLinkedQueue<>();
+
+	// Only accessed by the watcher thread
+	private final Map<WatchKey, Path> mWatchKeys = new HashMap<>();
+	private final Map<Path, Long> mLastChangeTimes = new HashMap<>();
+
+	private WatchService mWatchService;
+	private Thread mWatcherThread;
+	private ExecutorService mReloadExecutor;
+	private volatile boolean mIsRunning;
+	private long mDebounceTimeMillis = DEFAULT_DEBOUNCE_TIME_MILLIS;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public boolean isRunning() {
+		return mIsRunning;
+	}
+
+	public long debounceTimeMillis() {
+		return mDebounceTimeMillis;
+	}
+
+	/** Sets the time a file has to be left alone after a change before it is reloaded. Takes effect when the watcher is (re)started. */
+	public void debounceTimeMillis(long pDebounceTimeMillis) {
+		mDebounceTimeMillis = Math.max(1, pDebounceTimeMillis);
+	}
+
+	// --------------------------------------
+	// Core-Methods
+	// --------------------------------------
+
+	/** Starts watching the directories (including their sub-directories) which have been added with {@link #watchDirectory(String)}. */
+	public void start() {
+		if (mIsRunning)
+			return;
+
+		try {
+			mWatchService = FileSystems.getDefault().newWatchService();
+
+		} catch (IOException e) {
+			Debug.debugManager().logger().e(getClass().getSimpleName(), "Couldn't create the WatchService: " + e.getMessage());
+			return;
+
+		}
+
+		for (final var lDirectory : mWatchedDirectories) {
+			if (!Files.isDirectory(lDirectory)) {
+				Debug.debugManager().logger().w(getClass().getSimpleName(), "Not watching missing resource directory " + lDirectory);
+				continue;
+
+			}
+
+			registerDirectoryTree(lDirectory);
+
+		}
+
+		mReloadExecutor = Executors.newSingleThreadExecutor(pRunnable -> {
+			final var lThread = new Thread(pRunnable, "ResourceReloader");
+			lThread.setDaemon(true);
+			return lThread;
+
+		});
+
+		Debug.debugManager().logger().i(getClass().getSimpleName(), String.format("Watching %d resource directories for changes", mWatchKeys.size()));
+
+		mIsRunning = true;
+		mWatcherThread = new Thread(this::watchLoop, "ResourceWatcher");
+		mWatcherThread.setDaemon(true);
+		mWatcherThread.start();
+
+	}
+
+	public void stop() {
+		if (!mIsRunning)
+			return;
+
+		mIsRunning = false;
+
+		try {
+			mWatchService.close();
+
+		} catch (IOException e) {
+			// nothing to do, the watcher is shutting down anyway
+
+		}
+
+		mWatcherThread.interrupt();
+		mReloadExecutor.shutdownNow();
+
+		mWatcherThread = null;
+		mReloadExecutor = null;
+		mWatchService = null;
+
+		mChangedFiles.clear();
+		mPreparedReloads.clear();
+
+	}
+
+	/** Hands the changed files to the listeners, and applies the reloads which have been prepared in the background. Called once per frame on the game thread. */
+	public void update() {
+		Path lChangedFile;
+		while ((lChangedFile = mChangedFiles.poll()) != null) {
+			Debug.debugManager().logger().i(getClass().getSimpleName(), "Resource file changed: " + lChangedFile);
+
+			final int lNumListeners = mListeners.size();
+			for (int i = 0; i < lNumListeners; i++) {
+				mListeners.get(i).onResourceFileChanged(this, lChangedFile);
+
+			}
+
+		}
+
+		Runnable lPreparedReload;
+		while ((lPreparedReload = mPreparedReloads.poll()) != null) {
+			lPreparedReload.run();
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Adds a directory to watch (recursively). Directories added after {@link #start()} are only watched once the watcher is restarted. */
+	public void watchDirectory(String pDirectory) {
+		mWatchedDirectories.add(Paths.get(pDirectory).toAbsolutePath().normalize());
+
+	}
+
+	public void addListener(IResourceChangedListener pListener) {
+		if (!mListeners.contains(pListener))
+			mListeners.add(pListener);
+
+	}
+
+	public void removeListener(IResourceChangedListener pListener) {
+		mListeners.remove(pListener);
+
+	}
+
+	/**
+	 * Runs the prepare task on the reload thread. The task must not touch any GL or AL state: it reads and decodes the resource, and returns the (cheap) work which swaps the reloaded resource in, which is
+	 * then run on the game thread during {@link #update()}. The task can return null if there is nothing to swap in.
+	 */
+	public void reloadAsync(Supplier<Runnable> pPrepareTask) {
+		if (!mIsRunning)
+			return;
+
+		mReloadExecutor.execute(() -> {
+			try {
+				final var lApplyTask = pPrepareTask.get();
+				if (lApplyTask != null)
+					mPreparedReloads.add(lApplyTask);
+
+			} catch (RuntimeException e) {
+				// Log on the game thread
+				mPreparedReloads.add(() -> {
+					Debug.debugManager().logger().e(ResourceWatcher.class.getSimpleName(), "Failed to reload resource: " + e.getMessage());
+					Debug.debugManager().logger().printException(ResourceWatcher.class.getSimpleName(), e);
+
+				});
+
+			}
+
+		});
+
+	}
+
+	/** Returns true if the resource location (as passed to the resource managers) refers to the changed file. Locations starting with '/' are embedded resources, which are never reloaded. */
+	public static boolean isResourceFile(Path pChangedFile, String pResourceLocation) {
+		if (pResourceLocation == null || pResourceLocation.length() == 0 || pResourceLocation.charAt(0) == '/')
+			return false;
+
+		// Rule out most resources with a cheap comparison of the filename, before resolving the path
+		final var lCleanLocation = pResourceLocation.replaceAll("\\s+", "");
+		if (!lCleanLocation.endsWith(pChangedFile.getFileName().toString()))
+			return false;
+
+		return Paths.get(lCleanLocation).toAbsolutePath().normalize().equals(pChangedFile);
+
+	}
+
+	private void watchLoop() {
+		final long lDebounceTimeNanos = TimeUnit.MILLISECONDS.toNanos(mDebounceTimeMillis);
+
+		while (mIsRunning) {
+			try {
+				// Wake up regularly while files are settling, otherwise block until something happens
+				final var lWatchKey = mLastChangeTimes.isEmpty() ? mWatchService.take() : mWatchService.poll(mDebounceTimeMillis / 2 + 1, TimeUnit.MILLISECONDS);
+				if (lWatchKey != null)
+					processEvents(lWatchKey);
+
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+
+			}
+
+			final long lCurrentTime = System.nanoTime();
+			final var lIterator = mLastChangeTimes.entrySet().iterator();
+			while (lIterator.hasNext()) {
+				final var lEntry = lIterator.next();
+				if (lCurrentTime - lEntry.getValue() >= lDebounceTimeNanos) {
+					mChangedFiles.add(lEntry.getKey());
+					lIterator.remove();
+
+				}
+
+			}
+
+		}
+
+	}
+
+	private void processEvents(WatchKey pWatchKey) {
+		final var lDirectory = mWatchKeys.get(pWatchKey);
+		final long lCurrentTime = System.nanoTime();
+
+		for (final WatchEvent<?> lEvent : pWatchKey.pollEvents()) {
+			if (lDirectory == null || lEvent.kind() == StandardWatchEventKinds.OVERFLOW)
+				continue;
+
+			final var lPath = lDirectory.resolve((Path) lEvent.context()).normalize();
+			if (Files.isDirectory(lPath)) {
+				// Watch new sub-directories too
+				if (lEvent.kind() == StandardWatchEventKinds.ENTRY_CREATE)
+					registerDirectoryTree(lPath);
+
+				continue;
+
+			}
+
+			// Every event restarts the debounce time of the file
+			mLastChangeTimes.put(lPath, lCurrentTime);
+
+		}
+
+		if (!pWatchKey.reset())
+			mWatchKeys.remove(pWatchKey);
+
+	}
+
+	private void registerDirectoryTree(Path pDirectory) {
+		try {
+			Files.walkFileTree(pDirectory, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+					final var lWatchKey = dir.register(mWatchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+					mWatchKeys.put(lWatchKey, dir);
+					return FileVisitResult.CONTINUE;
+				}
+			});
+
+		} catch (IOException e) {
+			// The directory could have been removed in the meantime, so just skip it
+
+		}
+
+	}
+
+}
@@ -0,0 +1,287 @@
+package net.lintford.library.core.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.util.lz4.LZ4;
+
+/**
+ * A read-only archive of assets, which is memory-mapped as a whole and read through an index in its header. Uncompressed entries are served as zero-copy views of the mapping, and LZ4 compressed entries are
+ * decompressed on access. Assets are looked up by the same paths the loaders use (see {@link #normalizeName(String)}), so mounting a pack with {@link FileUtils#mountAssetPack(AssetPack)} makes all
+ * loaders which read through {@link FileUtils} take their assets from the pack. Packs are written with the {@link AssetPackBuilder}.
+ *
+ * All values are little endian. The layout of a pack is:
+ *
+ * <pre>
+ * header:  int magic ('LDPK'), int version, int entry count, int index length in bytes
+ * index:   per entry: short name length, byte[] name (UTF-8), byte compression, long data offset, int stored length, int original length
+ * data:    the (compressed) bytes of the entries, each starting on a 16 byte boundary
+ * </pre>
+ *
+ * An AssetPack can be read from several threads at once.
+ */
+public class AssetPack implements Closeable {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	public static class AssetPackEntry {
+
+		public final String name;
+		public final int compression;
+		public final long dataOffset;
+		public final int storedLength;
+		public final int originalLength;
+
+		AssetPackEntry(String pName, int pCompression, long pDataOffset, int pStoredLength, int pOriginalLength) {
+			name = pName;
+			compression = pCompression;
+			dataOffset = pDataOffset;
+			storedLength = pStoredLength;
+			originalLength = pOriginalLength;
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int MAGIC = 'L' | 'D' << 8 | 'P' << 16 | 'K' << 24;
+	public static final int VERSION = 1;
+	public static final int HEADER_SIZE = 16;
+	public static final int DATA_ALIGNMENT = 16;
+
+	/** The size of an index entry, excluding the bytes of its name. */
+	public static final int INDEX_ENTRY_FIXED_SIZE = 2 + 1 + 8 + 4 + 4;
+
+	public static final int COMPRESSION_NONE = 0;
+	public static final int COMPRESSION_LZ4 = 1;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final String mPackFilepath;
+	private final Map<String, AssetPackEntry> mEntries;
+	// Read by the loader threads, and cleared by close() (possibly on another thread)
+	private volatile MappedByteBuffer mMappedBuffer;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public String packFilepath() {
+		return mPackFilepath;
+	}
+
+	public int entryCount() {
+		return mEntries.size();
+	}
+
+	public Collection<AssetPackEntry> entries() {
+		return Collections.unmodifiableCollection(mEntries.values());
+	}
+
+	public boolean isOpen() {
+		return mMappedBuffer != null;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	private AssetPack(String pPackFilepath, MappedByteBuffer pMappedBuffer, Map<String, AssetPackEntry> pEntries) {
+		mPackFilepath = pPackFilepath;
+		mMappedBuffer = pMappedBuffer;
+		mEntries = pEntries;
+
+	}
+
+	/**
+	 * Memory-maps the pack file and reads its index. The file can be closed straight away, the mapping stays valid until the pack is garbage collected. Throws an IOException if the header or index is
+	 * truncated, or an entry lies outside of the file.
+	 */
+	public static AssetPack open(String pPackFilepath) throws IOException {
+		final MappedByteBuffer lMappedBuffer;
+		try (FileChannel lChannel = FileChannel.open(Paths.get(pPackFilepath), StandardOpenOption.READ)) {
+			if (lChannel.size() > Integer.MAX_VALUE)
+				throw new IOException("Asset packs are limited to 2GB: " + pPackFilepath);
+
+			lMappedBuffer = lChannel.map(FileChannel.MapMode.READ_ONLY, 0, lChannel.size());
+
+		}
+
+		lMappedBuffer.order(ByteOrder.LITTLE_ENDIAN);
+		if (lMappedBuffer.limit() < HEADER_SIZE || lMappedBuffer.getInt(0) != MAGIC)
+			throw new IOException("Not an asset pack: " + pPackFilepath);
+
+		final int lVersion = lMappedBuffer.getInt(4);
+		if (lVersion != VERSION)
+			throw new IOException(String.format("Unsupported asset pack version %d: %s", lVersion, pPackFilepath));
+
+		final int lPackLength = lMappedBuffer.limit();
+		final int lEntryCount = lMappedBuffer.getInt(8);
+		final int lIndexLength = lMappedBuffer.getInt(12);
+
+		if (lIndexLength < 0 || lIndexLength > lPackLength - HEADER_SIZE)
+			throw new IOException(String.format("Corrupt asset pack index (length %d): %s", lIndexLength, pPackFilepath));
+
+		if (lEntryCount < 0 || lEntryCount > lIndexLength / INDEX_ENTRY_FIXED_SIZE)
+			throw new IOException(String.format("Corrupt asset pack index (%d entries): %s", lEntryCount, pPackFilepath));
+
+		final int lDataStart = HEADER_SIZE + lIndexLength;
+		final var lIndex = lMappedBuffer.slice(HEADER_SIZE, lIndexLength).order(ByteOrder.LITTLE_ENDIAN);
+		final var lEntries = new HashMap<String, AssetPackEntry>(lEntryCount * 2);
+		for (int i = 0; i < lEntryCount; i++) {
+			if (lIndex.remaining() < INDEX_ENTRY_FIXED_SIZE)
+				throw new IOException(String.format("Truncated asset pack index at entry %d: %s", i, pPackFilepath));
+
+			final int lNameLength = lIndex.getShort() & 0xffff;
+			if (lIndex.remaining() < lNameLength + INDEX_ENTRY_FIXED_SIZE - 2)
+				throw new IOException(String.format("Truncated asset pack index at entry %d: %s", i, pPackFilepath));
+
+			final var lNameBytes = new byte[lNameLength];
+			lIndex.get(lNameBytes);
+
+			final var lName = new String(lNameBytes, StandardCharsets.UTF_8);
+			final int lCompression = lIndex.get();
+			final long lDataOffset = lIndex.getLong();
+			final int lStoredLength = lIndex.getInt();
+			final int lOriginalLength = lIndex.getInt();
+
+			if (lDataOffset < lDataStart || lStoredLength < 0 || lOriginalLength < 0 || lDataOffset + lStoredLength > lPackLength)
+				throw new IOException(String.format("Corrupt asset pack entry %s: %s", lName, pPackFilepath));
+
+			lEntries.put(lName, new AssetPackEntry(lName, lCompression, lDataOffset, lStoredLength, lOriginalLength));
+
+		}
+
+		return new AssetPack(pPackFilepath, lMappedBuffer, lEntries);
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public boolean contains(String pName) {
+		return pName != null && mEntries.containsKey(normalizeName(pName));
+	}
+
+	public AssetPackEntry getEntry(String pName) {
+		if (pName == null)
+			return null;
+
+		return mEntries.get(normalizeName(pName));
+	}
+
+	/**
+	 * Returns the contents of the asset (from position 0 to its limit), or null if the pack doesn't contain it. Uncompressed assets are returned as a read-only view of the mapped file (no copy is made), and
+	 * compressed assets are decompressed into a new direct buffer. Each call returns a new buffer object, so the buffers can be used on different threads.
+	 */
+	public ByteBuffer getByteBuffer(String pName) throws IOException {
+		final var lEntry = getEntry(pName);
+		final var lMappedBuffer = mMappedBuffer;
+		if (lEntry == null || lMappedBuffer == null)
+			return null;
+
+		final var lStoredData = lMappedBuffer.slice((int) lEntry.dataOffset, lEntry.storedLength);
+		switch (lEntry.compression) {
+		case COMPRESSION_NONE:
+			return lStoredData.asReadOnlyBuffer();
+
+		case COMPRESSION_LZ4:
+			final var lDecompressedData = BufferUtils.createByteBuffer(lEntry.originalLength);
+			final int lDecompressedLength = LZ4.LZ4_decompress_safe(lStoredData, lDecompressedData);
+			if (lDecompressedLength != lEntry.originalLength)
+				throw new IOException(String.format("Failed to decompress %s from asset pack %s", lEntry.name, mPackFilepath));
+
+			return lDecompressedData;
+
+		default:
+			throw new IOException(String.format("Unknown compression %d of %s in asset pack %s", lEntry.compression, lEntry.name, mPackFilepath));
+		}
+
+	}
+
+	/** Returns an InputStream over the contents of the asset, or null if the pack doesn't contain it. */
+	public InputStream openInputStream(String pName) throws IOException {
+		final var lByteBuffer = getByteBuffer(pName);
+		if (lByteBuffer == null)
+			return null;
+
+		return new ByteBufferInputStream(lByteBuffer);
+
+	}
+
+	/** Returns a copy of the contents of the asset, or null if the pack doesn't contain it. */
+	public byte[] readBytes(String pName) throws IOException {
+		final var lByteBuffer = getByteBuffer(pName);
+		if (lByteBuffer == null)
+			return null;
+
+		final var lBytes = new byte[lByteBuffer.remaining()];
+		lByteBuffer.get(lBytes);
+		return lBytes;
+
+	}
+
+	/** Releases the reference to the mapping. The memory is unmapped once the buffers handed out by this pack have been garbage collected. */
+	@Override
+	public void close() {
+		mMappedBuffer = null;
+
+	}
+
+	/**
+	 * Converts a path, as passed to the loaders, into the name of an asset in a pack: separators are forward slashes, repeated separators are collapsed and leading slashes or './' are removed. This way
+	 * 'res//textures//a.png', '/res/textures/a.png' and 'res\textures\a.png' all refer to the asset 'res/textures/a.png'.
+	 */
+	public static String normalizeName(String pPath) {
+		var lName = pPath.replace('\\', '/');
+		if (lName.indexOf("//") >= 0)
+			lName = lName.replaceAll("/+", "/");
+
+		int lStart = 0;
+		while (true) {
+			if (lName.startsWith("/", lStart))
+				lStart += 1;
+			else if (lName.startsWith("./", lStart))
+				lStart += 2;
+			else
+				break;
+
+		}
+
+		return lStart > 0 ? lName.substring(lStart) : lName;
+
+	}
+
+	/** Returns the name an asset in the directory gets in a pack, e.g. the file res/textures/a.png in the directory res with the prefix 'res' is named 'res/textures/a.png'. */
+	static String entryName(Path pDirectory, Path pFile, String pNamePrefix) {
+		final var lRelativeName = pDirectory.relativize(pFile).toString().replace('\\', '/');
+		if (pNamePrefix == null || pNamePrefix.length() == 0)
+			return normalizeName(lRelativeName);
+
+		return normalizeName(pNamePrefix + "/" + lRelativeName);
+
+	}
+
+}
@@ -0,0 +1,275 @@
+package net.lintford.library.core.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.lwjgl.system.MemoryUtil;
+import org.lwjgl.util.lz4.LZ4;
+import org.lwjgl.util.lz4.LZ4HC;
+
+/**
+ * Writes {@link AssetPack}s. Assets are compressed with LZ4 (high compression, as packs are built offline and LZ4 decompresses equally fast either way) unless they are stored in a format which is already
+ * compressed, or compressing them doesn't save enough space to be worth the decompression.
+ *
+ * Can be run from the command line: AssetPackBuilder &lt;output pack&gt; &lt;directory&gt; [&lt;directory&gt; ...], where each directory is added under its own path, e.g. 'res' adds res/textures/a.png as
+ * 'res/textures/a.png'.
+ */
+public class AssetPackBuilder {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	private static class PendingEntry {
+		String name;
+		byte[] nameBytes;
+		byte[] storedData;
+		int compression;
+		int originalLength;
+		long dataOffset;
+
+	}
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	/** File extensions of formats which are compressed already, and are always stored as they are. */
+	public static final String[] PRECOMPRESSED_EXTENSIONS = new String[] { ".png", ".jpg", ".jpeg", ".ogg", ".mp3", ".zip", ".jar", ".pack" };
+
+	/** Compressed assets have to be smaller than this fraction of their original size, otherwise they are stored uncompressed. */
+	public static final float DEFAULT_MIN_COMPRESSION_RATIO = 0.9f;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final List<PendingEntry> mEntries = new ArrayList<>();
+	private final Set<String> mEntryNames = new HashSet<>();
+	private boolean mCompressionEnabled = true;
+	private float mMinCompressionRatio = DEFAULT_MIN_COMPRESSION_RATIO;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int entryCount() {
+		return mEntries.size();
+	}
+
+	public boolean compressionEnabled() {
+		return mCompressionEnabled;
+	}
+
+	public void compressionEnabled(boolean pNewValue) {
+		mCompressionEnabled = pNewValue;
+	}
+
+	public float minCompressionRatio() {
+		return mMinCompressionRatio;
+	}
+
+	public void minCompressionRatio(float pNewValue) {
+		mMinCompressionRatio = pNewValue;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Adds the file under the given asset name (which is normalized, see {@link AssetPack#normalizeName(String)}). */
+	public void addFile(String pName, Path pFile) throws IOException {
+		addBytes(pName, Files.readAllBytes(pFile));
+
+	}
+
+	/** Adds all files in the directory (recursively), named by their path relative to the directory, preceded by the prefix. Returns the number of files added. */
+	public int addDirectory(Path pDirectory, String pNamePrefix) throws IOException {
+		final List<Path> lFiles;
+		try (Stream<Path> lFileStream = Files.walk(pDirectory)) {
+			lFiles = lFileStream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+
+		}
+
+		for (final var lFile : lFiles) {
+			addFile(AssetPack.entryName(pDirectory, lFile, pNamePrefix), lFile);
+
+		}
+
+		return lFiles.size();
+
+	}
+
+	public void addBytes(String pName, byte[] pData) {
+		final var lName = AssetPack.normalizeName(pName);
+		if (!mEntryNames.add(lName))
+			throw new IllegalArgumentException("The asset pack already contains an entry named " + lName);
+
+		final var lEntry = new PendingEntry();
+		lEntry.name = lName;
+		lEntry.nameBytes = lName.getBytes(StandardCharsets.UTF_8);
+		lEntry.originalLength = pData.length;
+		lEntry.storedData = pData;
+		lEntry.compression = AssetPack.COMPRESSION_NONE;
+
+		if (lEntry.nameBytes.length > 0xffff)
+			throw new IllegalArgumentException("Asset name too long: " + lName);
+
+		if (mCompressionEnabled && !isPrecompressed(lName)) {
+			final var lCompressedData = compress(pData);
+			if (lCompressedData != null && lCompressedData.length < pData.length * mMinCompressionRatio) {
+				lEntry.storedData = lCompressedData;
+				lEntry.compression = AssetPack.COMPRESSION_LZ4;
+
+			}
+
+		}
+
+		mEntries.add(lEntry);
+
+	}
+
+	/** Writes the pack. Returns the size of the pack in bytes. */
+	public long write(Path pOutputFile) throws IOException {
+		// The index is written first, so its size determines where the data starts
+		int lIndexLength = 0;
+		for (final var lEntry : mEntries) {
+			lIndexLength += 2 + lEntry.nameBytes.length + 1 + 8 + 4 + 4;
+
+		}
+
+		long lDataOffset = align(AssetPack.HEADER_SIZE + lIndexLength);
+		for (final var lEntry : mEntries) {
+			lEntry.dataOffset = lDataOffset;
+			lDataOffset = align(lDataOffset + lEntry.storedData.length);
+
+		}
+
+		final var lHeader = ByteBuffer.allocate(AssetPack.HEADER_SIZE + lIndexLength).order(ByteOrder.LITTLE_ENDIAN);
+		lHeader.putInt(AssetPack.MAGIC);
+		lHeader.putInt(AssetPack.VERSION);
+		lHeader.putInt(mEntries.size());
+		lHeader.putInt(lIndexLength);
+
+		for (final var lEntry : mEntries) {
+			lHeader.putShort((short) lEntry.nameBytes.length);
+			lHeader.put(lEntry.nameBytes);
+			lHeader.put((byte) lEntry.compression);
+			lHeader.putLong(lEntry.dataOffset);
+			lHeader.putInt(lEntry.storedData.length);
+			lHeader.putInt(lEntry.originalLength);
+
+		}
+
+		final var lPadding = new byte[AssetPack.DATA_ALIGNMENT];
+		long lPosition = 0;
+		try (OutputStream lOutputStream = new BufferedOutputStream(Files.newOutputStream(pOutputFile), 1 << 16)) {
+			lOutputStream.write(lHeader.array());
+			lPosition += lHeader.capacity();
+
+			for (final var lEntry : mEntries) {
+				lOutputStream.write(lPadding, 0, (int) (lEntry.dataOffset - lPosition));
+				lOutputStream.write(lEntry.storedData);
+				lPosition = lEntry.dataOffset + lEntry.storedData.length;
+
+			}
+
+		}
+
+		return lPosition;
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	private static boolean isPrecompressed(String pName) {
+		final var lName = pName.toLowerCase(Locale.ROOT);
+		for (final var lExtension : PRECOMPRESSED_EXTENSIONS) {
+			if (lName.endsWith(lExtension))
+				return true;
+
+		}
+
+		return false;
+
+	}
+
+	private static byte[] compress(byte[] pData) {
+		if (pData.length == 0)
+			return null;
+
+		final ByteBuffer lSource = MemoryUtil.memAlloc(pData.length);
+		final ByteBuffer lDestination = MemoryUtil.memAlloc(LZ4.LZ4_COMPRESSBOUND(pData.length));
+		try {
+			lSource.put(pData).flip();
+
+			final int lCompressedLength = LZ4HC.LZ4_compress_HC(lSource, lDestination, LZ4HC.LZ4HC_CLEVEL_DEFAULT);
+			if (lCompressedLength <= 0)
+				return null;
+
+			final var lCompressedData = new byte[lCompressedLength];
+			lDestination.get(lCompressedData);
+			return lCompressedData;
+
+		} finally {
+			MemoryUtil.memFree(lSource);
+			MemoryUtil.memFree(lDestination);
+
+		}
+
+	}
+
+	private static long align(long pOffset) {
+		return (pOffset + AssetPack.DATA_ALIGNMENT - 1) & ~(long) (AssetPack.DATA_ALIGNMENT - 1);
+
+	}
+
+	// --------------------------------------
+	// Command line
+	// --------------------------------------
+
+	public static void main(String[] pArgs) throws IOException {
+		if (pArgs.length < 2) {
+			System.out.println("Usage: AssetPackBuilder <output pack> <directory> [<directory> ...]");
+			return;
+
+		}
+
+		final var lBuilder = new AssetPackBuilder();
+		for (int i = 1; i < pArgs.length; i++) {
+			final int lNumFiles = lBuilder.addDirectory(Paths.get(pArgs[i]), pArgs[i]);
+			System.out.println(String.format("Added %d files from %s", lNumFiles, pArgs[i]));
+
+		}
+
+		long lOriginalSize = 0;
+		int lNumCompressed = 0;
+		for (final var lEntry : lBuilder.mEntries) {
+			lOriginalSize += lEntry.originalLength;
+			if (lEntry.compression != AssetPack.COMPRESSION_NONE)
+				lNumCompressed++;
+
+		}
+
+		final long lPackSize = lBuilder.write(Paths.get(pArgs[0]));
+		System.out.println(String.format("Wrote %s: %d entries (%d compressed), %d bytes (%d bytes uncompressed)", pArgs[0], lBuilder.entryCount(), lNumCompressed, lPackSize, lOriginalSize));
+
+	}
+
+}
@@ -0,0 +1,695 @@
+package net.lintford.library.core.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes object graphs to a compact binary form, and reads them back. The fields which are written are the ones Gson would read from a JSON file (i.e. all but static, transient and synthetic fields), so a
+ * definition which has just been parsed from JSON can be written and later restored without parsing the JSON again. Objects referenced more than once (e.g. as list element and map key) are written once and
+ * restored as a single object.
+ *
+ * The fields of each class are written in a fixed order, and each class is described (once per stream) by its name and field signature. If a class has changed since the stream was written, reading fails
+ * with an IOException, so the caller can fall back to the source file. Objects, collections and maps need a no-arg constructor (of any visibility); writing an object graph containing anything else fails
+ * with an IOException.
+ *
+ * Instances are not thread-safe, but each read or write uses its own instance, so the static methods can be used from any thread.
+ */
+class BinaryObjectCodec {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	/** The constructor and serialized fields of a class. */
+	private static class ClassLayout {
+
+		Constructor<?> constructor;
+		Field[] fields;
+		String signature;
+		String unsupportedReason;
+
+	}
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_REFERENCE = 1;
+	private static final byte TAG_OBJECT = 2;
+	private static final byte TAG_STRING = 3;
+	private static final byte TAG_ARRAY = 4;
+	private static final byte TAG_COLLECTION = 5;
+	private static final byte TAG_MAP = 6;
+	private static final byte TAG_ENUM = 7;
+	private static final byte TAG_INTEGER = 8;
+	private static final byte TAG_LONG = 9;
+	private static final byte TAG_FLOAT = 10;
+	private static final byte TAG_DOUBLE = 11;
+	private static final byte TAG_BOOLEAN = 12;
+	private static final byte TAG_SHORT = 13;
+	private static final byte TAG_BYTE = 14;
+	private static final byte TAG_CHARACTER = 15;
+
+	private static final Map<Class<?>, ClassLayout> sClassLayouts = new ConcurrentHashMap<>();
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	// Writing
+	private DataOutputStream mOutputStream;
+	private final Map<Object, Integer> mWrittenObjects = new IdentityHashMap<>();
+	private final Map<Class<?>, Integer> mWrittenClasses = new HashMap<>();
+
+	// Reading
+	private DataInputStream mInputStream;
+	private final List<Object> mReadObjects = new ArrayList<>();
+	private final List<Class<?>> mReadClasses = new ArrayList<>();
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	private BinaryObjectCodec() {
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static void write(DataOutputStream pOutputStream, Object pRootObject) throws IOException {
+		final var lCodec = new BinaryObjectCodec();
+		lCodec.mOutputStream = pOutputStream;
+		lCodec.writeValue(pRootObject);
+
+	}
+
+	public static Object read(DataInputStream pInputStream) throws IOException {
+		final var lCodec = new BinaryObjectCodec();
+		lCodec.mInputStream = pInputStream;
+		return lCodec.readValue();
+
+	}
+
+	/**
+	 * Reads the root object of the stream into the given object, which has to be of the same class as the object which was written. The fields are only assigned once all of them have been read, so the object is
+	 * left unchanged if reading fails.
+	 */
+	public static void readInto(DataInputStream pInputStream, Object pTargetObject) throws IOException {
+		final var lCodec = new BinaryObjectCodec();
+		lCodec.mInputStream = pInputStream;
+
+		if (pInputStream.readByte() != TAG_OBJECT)
+			throw new IOException("The stream doesn't start with an object");
+
+		final var lClass = lCodec.readClass(true);
+		if (lClass != pTargetObject.getClass())
+			throw new IOException(String.format("The stream contains a %s, not a %s", lClass.getName(), pTargetObject.getClass().getName()));
+
+		lCodec.mReadObjects.add(pTargetObject);
+
+		final var lFields = layout(lClass).fields;
+		final var lValues = new Object[lFields.length];
+		for (int i = 0; i < lFields.length; i++) {
+			final var lType = lFields[i].getType();
+			lValues[i] = lType.isPrimitive() ? lCodec.readPrimitive(lType) : checkType(lCodec.readValue(), lType);
+
+		}
+
+		try {
+			for (int i = 0; i < lFields.length; i++)
+				lFields[i].set(pTargetObject, lValues[i]);
+
+		} catch (IllegalAccessException e) {
+			throw new IOException("Cannot set the fields of " + lClass.getName(), e);
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Helpers (Writing)
+	// --------------------------------------
+
+	private void writeValue(Object pValue) throws IOException {
+		if (pValue == null) {
+			mOutputStream.writeByte(TAG_NULL);
+			return;
+
+		}
+
+		if (pValue instanceof String) {
+			mOutputStream.writeByte(TAG_STRING);
+			writeString((String) pValue);
+			return;
+
+		}
+
+		if (writeBoxedValue(pValue))
+			return;
+
+		if (pValue instanceof Enum<?>) {
+			final var lEnum = (Enum<?>) pValue;
+			mOutputStream.writeByte(TAG_ENUM);
+			writeClass(lEnum.getDeclaringClass(), false);
+			writeString(lEnum.name());
+			return;
+
+		}
+
+		final var lHandle = mWrittenObjects.get(pValue);
+		if (lHandle != null) {
+			mOutputStream.writeByte(TAG_REFERENCE);
+			mOutputStream.writeInt(lHandle);
+			return;
+
+		}
+
+		final var lClass = pValue.getClass();
+		if (lClass.isArray()) {
+			mWrittenObjects.put(pValue, mWrittenObjects.size());
+			mOutputStream.writeByte(TAG_ARRAY);
+			writeClass(lClass, false);
+			writeArray(pValue);
+			return;
+
+		}
+
+		final var lLayout = layout(lClass);
+		if (lLayout.unsupportedReason != null)
+			throw new IOException(lLayout.unsupportedReason);
+
+		mWrittenObjects.put(pValue, mWrittenObjects.size());
+
+		if (pValue instanceof Collection<?>) {
+			final var lCollection = (Collection<?>) pValue;
+			mOutputStream.writeByte(TAG_COLLECTION);
+			writeClass(lClass, false);
+			mOutputStream.writeInt(lCollection.size());
+			for (final var lElement : lCollection) {
+				writeValue(lElement);
+
+			}
+
+		} else if (pValue instanceof Map<?, ?>) {
+			final var lMap = (Map<?, ?>) pValue;
+			mOutputStream.writeByte(TAG_MAP);
+			writeClass(lClass, false);
+			mOutputStream.writeInt(lMap.size());
+			for (final var lEntry : lMap.entrySet()) {
+				writeValue(lEntry.getKey());
+				writeValue(lEntry.getValue());
+
+			}
+
+		} else {
+			mOutputStream.writeByte(TAG_OBJECT);
+			writeClass(lClass, true);
+			writeFields(pValue, lLayout);
+
+		}
+
+	}
+
+	private boolean writeBoxedValue(Object pValue) throws IOException {
+		if (pValue instanceof Integer) {
+			mOutputStream.writeByte(TAG_INTEGER);
+			mOutputStream.writeInt((Integer) pValue);
+
+		} else if (pValue instanceof Float) {
+			mOutputStream.writeByte(TAG_FLOAT);
+			mOutputStream.writeFloat((Float) pValue);
+
+		} else if (pValue instanceof Boolean) {
+			mOutputStream.writeByte(TAG_BOOLEAN);
+			mOutputStream.writeBoolean((Boolean) pValue);
+
+		} else if (pValue instanceof Double) {
+			mOutputStream.writeByte(TAG_DOUBLE);
+			mOutputStream.writeDouble((Double) pValue);
+
+		} else if (pValue instanceof Long) {
+			mOutputStream.writeByte(TAG_LONG);
+			mOutputStream.writeLong((Long) pValue);
+
+		} else if (pValue instanceof Short) {
+			mOutputStream.writeByte(TAG_SHORT);
+			mOutputStream.writeShort((Short) pValue);
+
+		} else if (pValue instanceof Byte) {
+			mOutputStream.writeByte(TAG_BYTE);
+			mOutputStream.writeByte((Byte) pValue);
+
+		} else if (pValue instanceof Character) {
+			mOutputStream.writeByte(TAG_CHARACTER);
+			mOutputStream.writeChar((Character) pValue);
+
+		} else {
+			return false;
+
+		}
+
+		return true;
+
+	}
+
+	private void writeArray(Object pArray) throws IOException {
+		final int lLength = Array.getLength(pArray);
+		mOutputStream.writeInt(lLength);
+
+		final var lComponentType = pArray.getClass().getComponentType();
+		if (lComponentType == float.class) {
+			final var lArray = (float[]) pArray;
+			for (int i = 0; i < lLength; i++)
+				mOutputStream.writeFloat(lArray[i]);
+
+		} else if (lComponentType == int.class) {
+			final var lArray = (int[]) pArray;
+			for (int i = 0; i < lLength; i++)
+				mOutputStream.writeInt(lArray[i]);
+
+		} else if (lComponentType == byte.class) {
+			mOutputStream.write((byte[]) pArray);
+
+		} else if (lComponentType.isPrimitive()) {
+			for (int i = 0; i < lLength; i++)
+				writePrimitive(lComponentType, Array.get(pArray, i));
+
+		} else {
+			final var lArray = (Object[]) pArray;
+			for (int i = 0; i < lLength; i++)
+				writeValue(lArray[i]);
+
+		}
+
+	}
+
+	private void writeFields(Object pObject, ClassLayout pLayout) throws IOException {
+		try {
+			for (final var lField : pLayout.fields) {
+				final var lType = lField.getType();
+				if (lType.isPrimitive())
+					writePrimitive(lType, lField.get(pObject));
+				else
+					writeValue(lField.get(pObject));
+
+			}
+
+		} catch (IllegalAccessException e) {
+			throw new IOException("Cannot read the fields of " + pObject.getClass().getName(), e);
+
+		}
+
+	}
+
+	private void writePrimitive(Class<?> pType, Object pValue) throws IOException {
+		if (pType == int.class)
+			mOutputStream.writeInt((Integer) pValue);
+		else if (pType == float.class)
+			mOutputStream.writeFloat((Float) pValue);
+		else if (pType == boolean.class)
+			mOutputStream.writeBoolean((Boolean) pValue);
+		else if (pType == double.class)
+			mOutputStream.writeDouble((Double) pValue);
+		else if (pType == long.class)
+			mOutputStream.writeLong((Long) pValue);
+		else if (pType == short.class)
+			mOutputStream.writeShort((Short) pValue);
+		else if (pType == byte.class)
+			mOutputStream.writeByte((Byte) pValue);
+		else
+			mOutputStream.writeChar((Character) pValue);
+
+	}
+
+	/** Writes the id of the class, preceded (on its first use) by its name and, for objects, the signature of its fields. */
+	private void writeClass(Class<?> pClass, boolean pWriteSignature) throws IOException {
+		final var lClassId = mWrittenClasses.get(pClass);
+		if (lClassId != null) {
+			mOutputStream.writeInt(lClassId);
+			return;
+
+		}
+
+		final int lNewClassId = mWrittenClasses.size();
+		mWrittenClasses.put(pClass, lNewClassId);
+
+		mOutputStream.writeInt(lNewClassId);
+		writeString(pClass.getName());
+		if (pWriteSignature)
+			writeString(layout(pClass).signature);
+
+	}
+
+	private void writeString(String pString) throws IOException {
+		final var lBytes = pString.getBytes(StandardCharsets.UTF_8);
+		mOutputStream.writeInt(lBytes.length);
+		mOutputStream.write(lBytes);
+
+	}
+
+	// --------------------------------------
+	// Helpers (Reading)
+	// --------------------------------------
+
+	private Object readValue() throws IOException {
+		final byte lTag = mInputStream.readByte();
+		switch (lTag) {
+		case TAG_NULL:
+			return null;
+
+		case TAG_STRING:
+			return readString();
+
+		case TAG_INTEGER:
+			return mInputStream.readInt();
+
+		case TAG_FLOAT:
+			return mInputStream.readFloat();
+
+		case TAG_BOOLEAN:
+			return mInputStream.readBoolean();
+
+		case TAG_DOUBLE:
+			return mInputStream.readDouble();
+
+		case TAG_LONG:
+			return mInputStream.readLong();
+
+		case TAG_SHORT:
+			return mInputStream.readShort();
+
+		case TAG_BYTE:
+			return mInputStream.readByte();
+
+		case TAG_CHARACTER:
+			return mInputStream.readChar();
+
+		case TAG_ENUM:
+			return readEnum(readClass(false), readString());
+
+		case TAG_REFERENCE:
+			final int lHandle = mInputStream.readInt();
+			if (lHandle < 0 || lHandle >= mReadObjects.size())
+				throw new IOException("Invalid object reference " + lHandle);
+
+			return mReadObjects.get(lHandle);
+
+		case TAG_ARRAY:
+			return readArray(readClass(false));
+
+		case TAG_COLLECTION: {
+			@SuppressWarnings("unchecked")
+			final var lCollection = (Collection<Object>) newInstance(readClass(false));
+			mReadObjects.add(lCollection);
+
+			final int lSize = mInputStream.readInt();
+			for (int i = 0; i < lSize; i++)
+				lCollection.add(readValue());
+
+			return lCollection;
+
+		}
+
+		case TAG_MAP: {
+			@SuppressWarnings("unchecked")
+			final var lMap = (Map<Object, Object>) newInstance(readClass(false));
+			mReadObjects.add(lMap);
+
+			final int lSize = mInputStream.readInt();
+			for (int i = 0; i < lSize; i++)
+				lMap.put(readValue(), readValue());
+
+			return lMap;
+
+		}
+
+		case TAG_OBJECT: {
+			final var lClass = readClass(true);
+			final var lObject = newInstance(lClass);
+			mReadObjects.add(lObject);
+
+			readFields(lObject, layout(lClass));
+			return lObject;
+
+		}
+
+		default:
+			throw new IOException("Unknown value tag " + lTag);
+		}
+
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object readEnum(Class<?> pEnumClass, String pName) throws IOException {
+		if (!pEnumClass.isEnum())
+			throw new IOException(pEnumClass.getName() + " is not an enum");
+
+		try {
+			return Enum.valueOf((Class) pEnumClass, pName);
+
+		} catch (IllegalArgumentException e) {
+			throw new IOException(String.format("%s has no constant %s", pEnumClass.getName(), pName));
+
+		}
+
+	}
+
+	private Object readArray(Class<?> pArrayClass) throws IOException {
+		if (!pArrayClass.isArray())
+			throw new IOException(pArrayClass.getName() + " is not an array");
+
+		final int lLength = mInputStream.readInt();
+		final var lComponentType = pArrayClass.getComponentType();
+		final var lArray = Array.newInstance(lComponentType, lLength);
+		mReadObjects.add(lArray);
+
+		if (lComponentType == float.class) {
+			final var lFloatArray = (float[]) lArray;
+			for (int i = 0; i < lLength; i++)
+				lFloatArray[i] = mInputStream.readFloat();
+
+		} else if (lComponentType == int.class) {
+			final var lIntArray = (int[]) lArray;
+			for (int i = 0; i < lLength; i++)
+				lIntArray[i] = mInputStream.readInt();
+
+		} else if (lComponentType == byte.class) {
+			mInputStream.readFully((byte[]) lArray);
+
+		} else if (lComponentType.isPrimitive()) {
+			for (int i = 0; i < lLength; i++)
+				Array.set(lArray, i, readPrimitive(lComponentType));
+
+		} else {
+			final var lObjectArray = (Object[]) lArray;
+			for (int i = 0; i < lLength; i++)
+				lObjectArray[i] = checkType(readValue(), lComponentType);
+
+		}
+
+		return lArray;
+
+	}
+
+	private void readFields(Object pObject, ClassLayout pLayout) throws IOException {
+		try {
+			for (final var lField : pLayout.fields) {
+				final var lType = lField.getType();
+				if (lType.isPrimitive())
+					lField.set(pObject, readPrimitive(lType));
+				else
+					lField.set(pObject, checkType(readValue(), lType));
+
+			}
+
+		} catch (IllegalAccessException e) {
+			throw new IOException("Cannot set the fields of " + pObject.getClass().getName(), e);
+
+		}
+
+	}
+
+	private Object readPrimitive(Class<?> pType) throws IOException {
+		if (pType == int.class)
+			return mInputStream.readInt();
+		else if (pType == float.class)
+			return mInputStream.readFloat();
+		else if (pType == boolean.class)
+			return mInputStream.readBoolean();
+		else if (pType == double.class)
+			return mInputStream.readDouble();
+		else if (pType == long.class)
+			return mInputStream.readLong();
+		else if (pType == short.class)
+			return mInputStream.readShort();
+		else if (pType == byte.class)
+			return mInputStream.readByte();
+		else
+			return mInputStream.readChar();
+
+	}
+
+	private Class<?> readClass(boolean pReadSignature) throws IOException {
+		final int lClassId = mInputStream.readInt();
+		if (lClassId >= 0 && lClassId < mReadClasses.size())
+			return mReadClasses.get(lClassId);
+
+		if (lClassId != mReadClasses.size())
+			throw new IOException("Invalid class id " + lClassId);
+
+		final var lClassName = readString();
+		final Class<?> lClass;
+		try {
+			lClass = Class.forName(lClassName, false, BinaryObjectCodec.class.getClassLoader());
+
+		} catch (ClassNotFoundException e) {
+			throw new IOException("Unknown class " + lClassName);
+
+		}
+
+		if (pReadSignature) {
+			final var lSignature = readString();
+			if (!lSignature.equals(layout(lClass).signature))
+				throw new IOException("The fields of " + lClassName + " have changed");
+
+		}
+
+		mReadClasses.add(lClass);
+		return lClass;
+
+	}
+
+	private String readString() throws IOException {
+		final int lLength = mInputStream.readInt();
+		if (lLength < 0 || lLength > mInputStream.available())
+			throw new IOException("Invalid string length " + lLength);
+
+		final var lBytes = new byte[lLength];
+		mInputStream.readFully(lBytes);
+		return new String(lBytes, StandardCharsets.UTF_8);
+
+	}
+
+	private static Object newInstance(Class<?> pClass) throws IOException {
+		final var lLayout = layout(pClass);
+		if (lLayout.unsupportedReason != null)
+			throw new IOException(lLayout.unsupportedReason);
+
+		try {
+			return lLayout.constructor.newInstance();
+
+		} catch (ReflectiveOperationException e) {
+			throw new IOException("Cannot create an instance of " + pClass.getName(), e);
+
+		}
+
+	}
+
+	private static Object checkType(Object pValue, Class<?> pType) throws IOException {
+		if (pValue != null && !pType.isInstance(pValue))
+			throw new IOException(String.format("A %s cannot be assigned to %s", pValue.getClass().getName(), pType.getName()));
+
+		return pValue;
+
+	}
+
+	// --------------------------------------
+	// Helpers (Layouts)
+	// --------------------------------------
+
+	private static ClassLayout layout(Class<?> pClass) {
+		return sClassLayouts.computeIfAbsent(pClass, BinaryObjectCodec::createLayout);
+
+	}
+
+	private static ClassLayout createLayout(Class<?> pClass) {
+		final var lLayout = new ClassLayout();
+		lLayout.fields = new Field[0];
+		lLayout.signature = "";
+
+		final boolean lIsContainer = Collection.class.isAssignableFrom(pClass) || Map.class.isAssignableFrom(pClass);
+		if (Modifier.isAbstract(pClass.getModifiers())) {
+			lLayout.unsupportedReason = "Cannot instantiate the abstract class " + pClass.getName();
+			return lLayout;
+
+		}
+
+		if (pClass.getEnclosingClass() != null && !Modifier.isStatic(pClass.getModifiers())) {
+			lLayout.unsupportedReason = "Cannot instantiate the inner class " + pClass.getName();
+			return lLayout;
+
+		}
+
+		// The internals of JDK classes differ between versions and are mostly inaccessible, only its containers are supported
+		final var lClassName = pClass.getName();
+		if (!lIsContainer && (lClassName.startsWith("java.") || lClassName.startsWith("javax.") || lClassName.startsWith("sun.") || lClassName.startsWith("jdk."))) {
+			lLayout.unsupportedReason = "Unsupported JDK class " + lClassName;
+			return lLayout;
+
+		}
+
+		try {
+			lLayout.constructor = pClass.getDeclaredConstructor();
+			lLayout.constructor.setAccessible(true);
+
+		} catch (NoSuchMethodException | RuntimeException e) {
+			lLayout.unsupportedReason = pClass.getName() + " has no accessible no-arg constructor";
+			return lLayout;
+
+		}
+
+		if (lIsContainer)
+			return lLayout;
+
+		final var lFields = new ArrayList<Field>();
+		final var lSignature = new StringBuilder();
+		for (Class<?> lClass = pClass; lClass != null && lClass != Object.class; lClass = lClass.getSuperclass()) {
+			final var lDeclaredFields = lClass.getDeclaredFields();
+			Arrays.sort(lDeclaredFields, Comparator.comparing(Field::getName));
+
+			for (final var lField : lDeclaredFields) {
+				final int lModifiers = lField.getModifiers();
+				if (Modifier.isStatic(lModifiers) || Modifier.isTransient(lModifiers) || lField.isSynthetic())
+					continue;
+
+				try {
+					lField.setAccessible(true);
+
+				} catch (RuntimeException e) {
+					lLayout.unsupportedReason = "Cannot access the field " + lField.getName() + " of " + lClass.getName();
+					return lLayout;
+
+				}
+
+				lFields.add(lField);
+				lSignature.append(lClass.getName()).append('.').append(lField.getName()).append(':').append(lField.getType().getName()).append(';');
+
+			}
+
+		}
+
+		lLayout.fields = lFields.toArray(new Field[lFields.size()]);
+		lLayout.signature = lSignature.toString();
+		return lLayout;
+
+	}
+
+}
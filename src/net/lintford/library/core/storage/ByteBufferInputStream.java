@@ -0,0 +1,85 @@
+package net.lintford.library.core.storage;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/** An InputStream reading the remaining bytes of a ByteBuffer (e.g. a view of a memory-mapped {@link AssetPack}), without copying them first. */
+public class ByteBufferInputStream extends InputStream {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final ByteBuffer mByteBuffer;
+	private int mMarkPosition;
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public ByteBufferInputStream(ByteBuffer pByteBuffer) {
+		mByteBuffer = pByteBuffer;
+		mMarkPosition = pByteBuffer.position();
+
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	@Override
+	public int read() {
+		if (!mByteBuffer.hasRemaining())
+			return -1;
+
+		return mByteBuffer.get() & 0xff;
+
+	}
+
+	@Override
+	public int read(byte[] pBytes, int pOffset, int pLength) {
+		if (pLength == 0)
+			return 0;
+
+		if (!mByteBuffer.hasRemaining())
+			return -1;
+
+		final int lLength = Math.min(pLength, mByteBuffer.remaining());
+		mByteBuffer.get(pBytes, pOffset, lLength);
+		return lLength;
+
+	}
+
+	@Override
+	public long skip(long pCount) {
+		final int lCount = (int) Math.max(0, Math.min(pCount, mByteBuffer.remaining()));
+		mByteBuffer.position(mByteBuffer.position() + lCount);
+		return lCount;
+
+	}
+
+	@Override
+	public int available() {
+		return mByteBuffer.remaining();
+
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+
+	}
+
+	@Override
+	public synchronized void mark(int pReadLimit) {
+		mMarkPosition = mByteBuffer.position();
+
+	}
+
+	@Override
+	public synchronized void reset() {
+		mByteBuffer.position(mMarkPosition);
+
+	}
+
+}
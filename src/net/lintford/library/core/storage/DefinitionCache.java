@@ -0,0 +1,286 @@
+package net.lintford.library.core.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches parsed definitions (emitters, particle systems, sprite sheets, sprite graphs, PObjects, ...) in a binary form, so the JSON files they are loaded from only need to be parsed again after they have
+ * changed. Each cache file is keyed by the path, size and modification time of its source file, and is ignored (and rewritten) as soon as one of these differs, or the classes of the definition have
+ * changed (see {@link BinaryObjectCodec}).
+ *
+ * Loaders call {@link #load(String, Class)} before parsing a file, and {@link #store(String, Object)} straight after parsing it (i.e. before they assign any runtime state). Sources in the file system and in
+ * mounted {@link AssetPack}s (keyed by the pack file) are cached, embedded resources are not. The methods can be called from any thread.
+ */
+public class DefinitionCache {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	/** Identifies the version of a source file. */
+	private static class SourceKey {
+
+		String path;
+		long size;
+		long lastModified;
+
+	}
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int MAGIC = 'L' | 'D' << 8 | 'D' << 16 | 'C' << 24;
+	public static final int VERSION = 1;
+	public static final String CACHE_FILE_EXTENSION = ".bin";
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private static volatile boolean sIsEnabled = true;
+	private static volatile String sCacheDirectory;
+
+	private static final AtomicInteger sHitCount = new AtomicInteger();
+	private static final AtomicInteger sMissCount = new AtomicInteger();
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public static boolean isEnabled() {
+		return sIsEnabled;
+	}
+
+	public static void isEnabled(boolean pNewValue) {
+		sIsEnabled = pNewValue;
+	}
+
+	/** Returns the directory the cache files are written to. Defaults to 'cache/definitions' in the game data directory. */
+	public static String cacheDirectory() {
+		if (sCacheDirectory == null)
+			sCacheDirectory = AppStorage.getGameDataDirectory() + "cache" + AppStorage.FILE_SEPERATOR + "definitions" + AppStorage.FILE_SEPERATOR;
+
+		return sCacheDirectory;
+	}
+
+	public static void cacheDirectory(String pCacheDirectory) {
+		sCacheDirectory = pCacheDirectory;
+	}
+
+	/** The number of definitions which were loaded from the cache. */
+	public static int hitCount() {
+		return sHitCount.get();
+	}
+
+	/** The number of cacheable definitions which had to be parsed from their source file. */
+	public static int missCount() {
+		return sMissCount.get();
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/** Returns the definition cached for the source file, or null if it isn't cached (or the source has changed since). */
+	public static <T> T load(String pSourcePath, Class<T> pDefinitionClass) {
+		final var lInputStream = openCacheFile(pSourcePath, pDefinitionClass);
+		if (lInputStream == null)
+			return null;
+
+		try {
+			final var lDefinition = pDefinitionClass.cast(BinaryObjectCodec.read(lInputStream));
+			sHitCount.incrementAndGet();
+			return lDefinition;
+
+		} catch (IOException | RuntimeException e) {
+			sMissCount.incrementAndGet();
+			return null;
+
+		}
+
+	}
+
+	/** Restores the definition cached for the source file into the given definition. Returns false, leaving the definition unchanged, if it isn't cached. */
+	public static boolean loadInto(String pSourcePath, Object pDefinition) {
+		final var lInputStream = openCacheFile(pSourcePath, pDefinition.getClass());
+		if (lInputStream == null)
+			return false;
+
+		try {
+			BinaryObjectCodec.readInto(lInputStream, pDefinition);
+			sHitCount.incrementAndGet();
+			return true;
+
+		} catch (IOException | RuntimeException e) {
+			sMissCount.incrementAndGet();
+			return false;
+
+		}
+
+	}
+
+	/** Writes the definition, which has just been parsed from the source file, to the cache. Definitions which cannot be cached are skipped. */
+	public static void store(String pSourcePath, Object pDefinition) {
+		if (!sIsEnabled || pDefinition == null)
+			return;
+
+		final var lSourceKey = sourceKey(pSourcePath);
+		if (lSourceKey == null)
+			return;
+
+		Path lTempFile = null;
+		try {
+			final var lByteStream = new ByteArrayOutputStream(4096);
+			final var lOutputStream = new DataOutputStream(lByteStream);
+			lOutputStream.writeInt(MAGIC);
+			lOutputStream.writeInt(VERSION);
+			lOutputStream.writeUTF(lSourceKey.path);
+			lOutputStream.writeLong(lSourceKey.size);
+			lOutputStream.writeLong(lSourceKey.lastModified);
+			lOutputStream.writeUTF(pDefinition.getClass().getName());
+			BinaryObjectCodec.write(lOutputStream, pDefinition);
+			lOutputStream.flush();
+
+			// Write to a temporary file first, so a concurrent load never sees half a file
+			final var lCacheFile = cacheFile(lSourceKey);
+			Files.createDirectories(lCacheFile.getParent());
+
+			lTempFile = Files.createTempFile(lCacheFile.getParent(), lCacheFile.getFileName().toString(), ".tmp");
+			Files.write(lTempFile, lByteStream.toByteArray());
+			Files.move(lTempFile, lCacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		} catch (IOException | RuntimeException e) {
+			// The definition can't be cached (or the cache directory isn't writable), it will be parsed from its source next time
+			if (lTempFile != null) {
+				try {
+					Files.deleteIfExists(lTempFile);
+
+				} catch (IOException e1) {
+					// nothing more to do, the temporary file is left behind
+
+				}
+
+			}
+
+		}
+
+	}
+
+	/** Deletes all cache files. */
+	public static void clear() {
+		final var lCacheDirectory = Paths.get(cacheDirectory());
+		if (!Files.isDirectory(lCacheDirectory))
+			return;
+
+		try (var lFiles = Files.list(lCacheDirectory)) {
+			lFiles.filter(pPath -> pPath.getFileName().toString().endsWith(CACHE_FILE_EXTENSION)).forEach(pPath -> pPath.toFile().delete());
+
+		} catch (IOException e) {
+			// nothing to delete
+
+		}
+
+	}
+
+	// --------------------------------------
+	// Helpers
+	// --------------------------------------
+
+	/** Opens the cache file of the source and checks its header. Returns a stream positioned at the cached definition, or null if there is no valid cache file. */
+	private static DataInputStream openCacheFile(String pSourcePath, Class<?> pDefinitionClass) {
+		if (!sIsEnabled)
+			return null;
+
+		final var lSourceKey = sourceKey(pSourcePath);
+		if (lSourceKey == null)
+			return null;
+
+		final var lCacheFile = cacheFile(lSourceKey);
+		if (!Files.isRegularFile(lCacheFile)) {
+			sMissCount.incrementAndGet();
+			return null;
+
+		}
+
+		try {
+			final var lInputStream = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(lCacheFile)));
+			if (lInputStream.readInt() == MAGIC && lInputStream.readInt() == VERSION && lInputStream.readUTF().equals(lSourceKey.path) && lInputStream.readLong() == lSourceKey.size
+					&& lInputStream.readLong() == lSourceKey.lastModified && lInputStream.readUTF().equals(pDefinitionClass.getName())) {
+				return lInputStream;
+
+			}
+
+		} catch (IOException e) {
+			// treated as a miss
+
+		}
+
+		sMissCount.incrementAndGet();
+		return null;
+
+	}
+
+	/** Returns the key of the current version of the source file, or null if the source cannot be cached. */
+	private static SourceKey sourceKey(String pSourcePath) {
+		if (pSourcePath == null || pSourcePath.length() == 0)
+			return null;
+
+		try {
+			final var lSourceKey = new SourceKey();
+
+			final var lAssetPack = FileUtils.findAssetPack(pSourcePath);
+			if (lAssetPack != null) {
+				final var lEntry = lAssetPack.getEntry(pSourcePath);
+				final var lPackFile = Paths.get(lAssetPack.packFilepath()).toAbsolutePath().normalize();
+				lSourceKey.path = lPackFile + "!" + lEntry.name;
+				lSourceKey.size = lEntry.originalLength;
+				lSourceKey.lastModified = Files.getLastModifiedTime(lPackFile).toMillis();
+				return lSourceKey;
+
+			}
+
+			// Embedded resources are only parsed once anyway, and have no modification time
+			if (pSourcePath.charAt(0) == '/')
+				return null;
+
+			final var lSourceFile = Paths.get(pSourcePath).toAbsolutePath().normalize();
+			if (!Files.isRegularFile(lSourceFile))
+				return null;
+
+			lSourceKey.path = lSourceFile.toString();
+			lSourceKey.size = Files.size(lSourceFile);
+			lSourceKey.lastModified = Files.getLastModifiedTime(lSourceFile).toMillis();
+			return lSourceKey;
+
+		} catch (IOException | RuntimeException e) {
+			return null;
+
+		}
+
+	}
+
+	private static Path cacheFile(SourceKey pSourceKey) {
+		// 64 bit FNV-1a hash of the source path
+		long lHash = 0xcbf29ce484222325L;
+		final var lPath = pSourceKey.path;
+		final int lLength = lPath.length();
+		for (int i = 0; i < lLength; i++) {
+			lHash ^= lPath.charAt(i);
+			lHash *= 0x100000001b3L;
+
+		}
+
+		return Paths.get(cacheDirectory(), String.format("%016x", lHash) + CACHE_FILE_EXTENSION);
+
+	}
+
+}
@@ -10,8 +10,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import net.lintford.library.core.debug.Debug;
 
@@ -26,6 +31,126 @@ public class FileUtils {
 	public static final String FILE_SEPARATOR = System.getProperty("file.separator");
 	public static final String NEW_LINE_CHARACTER = System.lineSeparator();
 
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	/** The mounted {@link AssetPack}s, which are searched (in the order they were mounted) before the resources and the file system. */
+	private static final List<AssetPack> sAssetPacks = new CopyOnWriteArrayList<>();
+
+	// --------------------------------------
+	// Asset Packs
+	// --------------------------------------
+
+	/** Mounts the pack, so that the loaders reading through FileUtils take the assets it contains from the pack, rather than from the resources or the file system. */
+	public static void mountAssetPack(AssetPack pAssetPack) {
+		if (pAssetPack != null && !sAssetPacks.contains(pAssetPack))
+			sAssetPacks.add(pAssetPack);
+
+	}
+
+	/** Opens and mounts the pack at the given location. Returns the pack, or null if it couldn't be opened. */
+	public static AssetPack mountAssetPack(String pPackFilepath) {
+		try {
+			final var lAssetPack = AssetPack.open(pPackFilepath);
+			mountAssetPack(lAssetPack);
+
+			Debug.debugManager().logger().i(FileUtils.class.getSimpleName(), String.format("Mounted asset pack %s (%d assets)", pPackFilepath, lAssetPack.entryCount()));
+			return lAssetPack;
+
+		} catch (IOException e) {
+			Debug.debugManager().logger().e(FileUtils.class.getSimpleName(), String.format("Error mounting asset pack %s", pPackFilepath));
+			Debug.debugManager().logger().e(FileUtils.class.getSimpleName(), e.getMessage());
+			return null;
+
+		}
+
+	}
+
+	public static void unmountAssetPack(AssetPack pAssetPack) {
+		sAssetPacks.remove(pAssetPack);
+
+	}
+
+	/** Returns the first mounted pack containing the asset, or null. */
+	public static AssetPack findAssetPack(String pPathName) {
+		if (pPathName == null || sAssetPacks.isEmpty())
+			return null;
+
+		for (final var lAssetPack : sAssetPacks) {
+			if (lAssetPack.contains(pPathName))
+				return lAssetPack;
+
+		}
+
+		return null;
+
+	}
+
+	/** Returns the contents of the asset from a mounted pack (a zero-copy view of the mapped pack, for uncompressed assets), or null if no mounted pack contains it. */
+	public static ByteBuffer loadByteBufferFromAssetPacks(String pPathName) throws IOException {
+		final var lAssetPack = findAssetPack(pPathName);
+		if (lAssetPack == null)
+			return null;
+
+		return lAssetPack.getByteBuffer(pPathName);
+
+	}
+
+	/** Returns true if the asset exists in a mounted pack, in the resources (for paths starting with '/') or on the file system. */
+	public static boolean exists(String pPathName) {
+		if (pPathName == null || pPathName.length() == 0)
+			return false;
+
+		if (findAssetPack(pPathName) != null)
+			return true;
+
+		if (pPathName.charAt(0) == '/')
+			return FileUtils.class.getResource(pPathName.replace("//", "/")) != null;
+
+		return new File(pPathName).exists();
+
+	}
+
+	/** Opens the asset from a mounted pack, the resources (for paths starting with '/') or the file system, in that order. Returns null if the asset doesn't exist. */
+	public static InputStream openInputStream(String pPathName) throws IOException {
+		if (pPathName == null || pPathName.length() == 0)
+			return null;
+
+		final var lAssetPack = findAssetPack(pPathName);
+		if (lAssetPack != null)
+			return lAssetPack.openInputStream(pPathName);
+
+		if (pPathName.charAt(0) == '/')
+			return FileUtils.class.getResourceAsStream(pPathName.replace("//", "/"));
+
+		final var lFile = new File(pPathName);
+		if (!lFile.exists())
+			return null;
+
+		return new FileInputStream(lFile);
+
+	}
+
+	/** Reads the whole asset from a mounted pack, the resources (for paths starting with '/') or the file system, in that order. */
+	public static byte[] readAllBytes(String pPathName) throws IOException {
+		final var lAssetPack = findAssetPack(pPathName);
+		if (lAssetPack != null)
+			return lAssetPack.readBytes(pPathName);
+
+		if (pPathName.charAt(0) != '/')
+			return Files.readAllBytes(Paths.get(pPathName));
+
+		try (InputStream lInputStream = openInputStream(pPathName)) {
+			if (lInputStream == null)
+				throw new FileNotFoundException(pPathName);
+
+			return lInputStream.readAllBytes();
+
+		}
+
+	}
+
 	// --------------------------------------
 	// Helper-Methods
 	// --------------------------------------
@@ -61,6 +186,20 @@ public class FileUtils {
 
 		}
 
+		final var lAssetPack = findAssetPack(pPathName);
+		if (lAssetPack != null) {
+			try {
+				return new String(lAssetPack.readBytes(pPathName), StandardCharsets.UTF_8);
+
+			} catch (IOException e) {
+				Debug.debugManager().logger().e(FileUtils.class.getSimpleName(), String.format("Error loading %s from asset pack %s", pPathName, lAssetPack.packFilepath()));
+				Debug.debugManager().logger().e(FileUtils.class.getSimpleName(), e.getMessage());
+				return null;
+
+			}
+
+		}
+
 		if (pPathName.charAt(0) == '/') {
 			return loadStringFromResource(pPathName);
 		} else {
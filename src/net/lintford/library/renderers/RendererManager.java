@@ -334,6 +334,8 @@ public class RendererManager {
 	}
 
 	public void draw(LintfordCore pCore) {
+		final var lProfiler = Debug.debugManager().profiler();
+
 		if (RENDER_GAME_RENDERABLES) {
 			final int lNumBaseRenderers = mRenderers.size();
 			for (int i = 0; i < lNumBaseRenderers; i++) {
@@ -348,7 +350,9 @@ public class RendererManager {
 				}
 
 				// Update the renderer
+				lProfiler.begin(lRenderer.rendererName());
 				lRenderer.draw(pCore);
+				lProfiler.end(lRenderer.rendererName());
 
 			}
 
@@ -367,7 +371,9 @@ public class RendererManager {
 				}
 
 				// Update the renderer
+				lProfiler.begin(lWindow.rendererName());
 				lWindow.draw(pCore);
+				lProfiler.end(lWindow.rendererName());
 
 			}
 		}
@@ -100,6 +100,18 @@ public class DebugParticleDrawer extends BaseRenderer {
 		int lSystemCount = mParticleFrameworkData.particleSystemManager().getNumParticleSystems();
 		Debug.debugManager().drawers().drawText(String.format("Num Systems: %d", lSystemCount), 0, 25);
 
+		// List the alive / high-water mark / capacity of each system, to help sizing maxParticleCount
+		final var lSystemInstanceList = mParticleFrameworkData.particleSystemManager().particleSystems();
+		for (int i = 0; i < lSystemCount; i++) {
+			final var lParticleSystemInstance = lSystemInstanceList.get(i);
+			if (!lParticleSystemInstance.isInitialized())
+				continue;
+
+			Debug.debugManager().drawers().drawText(String.format("%s: %d / %d / %d", lParticleSystemInstance.definition().name, lParticleSystemInstance.aliveCount(), lParticleSystemInstance.highWaterMark(),
+					lParticleSystemInstance.capacity()), 0, 50 + i * 25);
+
+		}
+
 		Debug.debugManager().drawers().endTextRenderer();
 
 	}
@@ -2,6 +2,7 @@ package net.lintford.library.renderers.particles;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import net.lintford.library.controllers.core.particles.ParticleFrameworkController;
 import net.lintford.library.core.LintfordCore;
@@ -29,6 +30,20 @@ public class ParticleFrameworkRenderer extends BaseRenderer {
 	private ParticleFrameworkController mParticleSystemController;
 
 	private int mEntityGroupID;
+	private boolean mBuildVerticesAsync;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** If true, the vertices of all particle systems are built in parallel on the common {@link ForkJoinPool} at the start of draw, while the GL thread uploads and draws the systems as they complete. */
+	public boolean buildVerticesAsync() {
+		return mBuildVerticesAsync;
+	}
+
+	public void buildVerticesAsync(boolean pNewValue) {
+		mBuildVerticesAsync = pNewValue;
+	}
 
 	public int getNewRendererId() {
 		return RENDERER_ID++;
@@ -105,6 +120,16 @@ public class ParticleFrameworkRenderer extends BaseRenderer {
 	@Override
 	public void draw(LintfordCore pCore) {
 		final int lNumParticleRenderers = mParticleRenderers.size();
+		if (mBuildVerticesAsync) {
+			final var lExecutor = ForkJoinPool.commonPool();
+			for (int i = 0; i < lNumParticleRenderers; i++) {
+				if (mParticleRenderers.get(i).isAssigned())
+					mParticleRenderers.get(i).buildVerticesAsync(lExecutor);
+
+			}
+
+		}
+
 		for (int i = 0; i < lNumParticleRenderers; i++) {
 			if (mParticleRenderers.get(i).isAssigned())
 				mParticleRenderers.get(i).draw(pCore);
@@ -1,14 +1,16 @@
 package net.lintford.library.renderers.particles;
 
-import java.util.List;
+import java.nio.FloatBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.lwjgl.opengl.GL11;
+import org.lwjgl.system.MemoryUtil;
 
 import net.lintford.library.core.LintfordCore;
 import net.lintford.library.core.ResourceManager;
 import net.lintford.library.core.graphics.textures.Texture;
 import net.lintford.library.core.graphics.textures.texturebatch.TextureBatchPCT;
-import net.lintford.library.core.particles.Particle;
 import net.lintford.library.core.particles.particlesystems.ParticleSystemDefinition;
 import net.lintford.library.core.particles.particlesystems.ParticleSystemInstance;
 
@@ -27,6 +29,10 @@ public class ParticleRenderer {
 	private boolean mIsLoaded;
 	private boolean mIsParticleLoaded;
 	private boolean mIsAssigned;
+	private final ParticleVertexBuilder mVertexBuilder = new ParticleVertexBuilder();
+	private FloatBuffer mVertexBuffer;
+	private int mVertexCount;
+	private CompletableFuture<Void> mPendingVertexBuild;
 
 	// --------------------------------------
 	// Properties
@@ -74,12 +80,30 @@ public class ParticleRenderer {
 		mResourceManager = pResourceManager;
 		mTextureBatch.loadGLContent(pResourceManager);
 
+		// The vertex buffer is freed with the GL content, so restore it if a particle system is still assigned
+		if (mIsAssigned && mParticleSystem != null)
+			ensureVertexBufferCapacity(mParticleSystem.capacity());
+
 		mIsLoaded = true;
 
 	}
 
 	public void unloadGLContent() {
 		mTextureBatch.unloadGLContent();
+
+		if (mPendingVertexBuild != null) {
+			mPendingVertexBuild.join();
+			mPendingVertexBuild = null;
+
+		}
+
+		if (mVertexBuffer != null) {
+			MemoryUtil.memFree(mVertexBuffer);
+			mVertexBuffer = null;
+
+		}
+
+		mVertexCount = 0;
 		mIsLoaded = false;
 
 	}
@@ -88,25 +112,22 @@ public class ParticleRenderer {
 		if (!mIsLoaded || !mIsParticleLoaded || !mIsAssigned)
 			return;
 
-		final List<Particle> lParticleSystem = mParticleSystem.particles();
-		final int lNumParticles = lParticleSystem.size();
-
-		mTextureBatch.begin(pCore.gameCamera());
+		// Use the vertices of a pending asynchronous build, or build them now
+		if (mPendingVertexBuild != null) {
+			mPendingVertexBuild.join();
+			mPendingVertexBuild = null;
 
-		for (int i = 0; i < lNumParticles; i++) {
-			final Particle lParticleInst = lParticleSystem.get(i);
-
-			if (!lParticleInst.isAssigned())
-				continue;
-
-			final float lWidthScaled = lParticleInst.width * lParticleInst.scale;
-			final float lHeightScaled = lParticleInst.height * lParticleInst.scale;
-
-			mTextureBatch.drawAroundCenter(mTexture, lParticleInst.sx, lParticleInst.sy, lParticleInst.sw, lParticleInst.sh, lParticleInst.worldPositionX, lParticleInst.worldPositionY, lWidthScaled, lHeightScaled, -0.2f,
-					lParticleInst.rotationInRadians, lParticleInst.rox, lParticleInst.roy, lParticleInst.scale, lParticleInst.color);
+		} else {
+			updateTextureSize();
+			buildVertices();
 
 		}
 
+		if (mVertexCount == 0)
+			return;
+
+		mTextureBatch.begin(pCore.gameCamera());
+		mTextureBatch.drawVertices(mTexture, mVertexBuffer, mVertexCount);
 		mTextureBatch.end();
 
 	}
@@ -115,6 +136,32 @@ public class ParticleRenderer {
 	// Methods
 	// --------------------------------------
 
+	/** Starts building the vertices of the assigned particle system on the given {@link Executor}. The next call to draw waits for the build to complete, rather than building the vertices itself. */
+	public void buildVerticesAsync(Executor pExecutor) {
+		if (!mIsLoaded || !mIsParticleLoaded || !mIsAssigned || mPendingVertexBuild != null)
+			return;
+
+		updateTextureSize();
+		mPendingVertexBuild = CompletableFuture.runAsync(this::buildVertices, pExecutor);
+
+	}
+
+	/** The size is read before every build (on the calling thread), as the texture can be reloaded with different dimensions, or still be waiting for its pixels when the system is assigned. */
+	private void updateTextureSize() {
+		final int lTextureWidth = mTexture.getTextureWidth();
+		final int lTextureHeight = mTexture.getTextureHeight();
+		if (lTextureWidth > 0 && lTextureHeight > 0)
+			mVertexBuilder.textureSize(lTextureWidth, lTextureHeight);
+
+	}
+
+	private void buildVertices() {
+		mVertexBuffer.clear();
+		mVertexCount = mVertexBuilder.buildVertices(mParticleSystem, mVertexBuffer);
+		mVertexBuffer.flip();
+
+	}
+
 	public void assignParticleSystem(final ParticleSystemInstance pParticleSystem) {
 		mParticleSystem = pParticleSystem;
 		loadParticleContent(pParticleSystem);
@@ -123,6 +170,12 @@ public class ParticleRenderer {
 	}
 
 	public void unassignedParticleSystem() {
+		if (mPendingVertexBuild != null) {
+			mPendingVertexBuild.join();
+			mPendingVertexBuild = null;
+
+		}
+
 		mIsAssigned = false;
 		mIsParticleLoaded = false;
 
@@ -134,6 +187,23 @@ public class ParticleRenderer {
 		mTexture = mResourceManager.textureManager().loadTexture(lParticleDefinition.textureName(), lParticleDefinition.textureFilename(), GL11.GL_NEAREST, mEntityGroupId);
 		mIsParticleLoaded = mTexture != null;
 
+		ensureVertexBufferCapacity(pParticleSystemInst.capacity());
+
+	}
+
+	/** The vertex buffer is kept between particle systems, and only grows when a larger system is assigned. */
+	private void ensureVertexBufferCapacity(int pParticleCapacity) {
+		final int lFloatsRequired = ParticleVertexBuilder.floatsRequired(pParticleCapacity);
+		if (mVertexBuffer == null || mVertexBuffer.capacity() < lFloatsRequired) {
+			if (mVertexBuffer != null)
+				MemoryUtil.memFree(mVertexBuffer);
+
+			mVertexBuffer = MemoryUtil.memAllocFloat(lFloatsRequired);
+
+		}
+
+		mVertexCount = 0;
+
 	}
 
 }
@@ -0,0 +1,190 @@
+package net.lintford.library.renderers.particles;
+
+import java.nio.FloatBuffer;
+import java.util.List;
+
+import net.lintford.library.core.graphics.textures.texturebatch.IndexedQuadBuffer;
+import net.lintford.library.core.graphics.vertices.VertexDataStructurePCT;
+import net.lintford.library.core.particles.Particle;
+import net.lintford.library.core.particles.ParticleArrays;
+import net.lintford.library.core.particles.particlesystems.ParticleSystemInstance;
+
+/**
+ * Writes the live particles of a {@link ParticleSystemInstance} into a {@link FloatBuffer}, using the vertex layout of {@link VertexDataStructurePCT} (one indexed quad per particle, see {@link IndexedQuadBuffer}). The builder doesn't touch
+ * any GL state, so the vertices can be built on any thread and the resulting buffer handed to the GL thread for upload.
+ */
+public class ParticleVertexBuilder {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int VERTICES_PER_PARTICLE = IndexedQuadBuffer.NUM_VERTS_PER_QUAD;
+	public static final int FLOATS_PER_PARTICLE = VERTICES_PER_PARTICLE * VertexDataStructurePCT.elementCount;
+
+	public static final float DEFAULT_PARTICLE_Z = -0.2f;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private float mInvTextureWidth = 1.f;
+	private float mInvTextureHeight = 1.f;
+	private float mZ = DEFAULT_PARTICLE_Z;
+
+	private final float[] mParticleVertices = new float[FLOATS_PER_PARTICLE];
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	/** Sets the size of the texture the particles are drawn with, which is needed to convert the source rectangles of the particles into texture coordinates. */
+	public void textureSize(float pTextureWidth, float pTextureHeight) {
+		mInvTextureWidth = 1.f / pTextureWidth;
+		mInvTextureHeight = 1.f / pTextureHeight;
+	}
+
+	public float z() {
+		return mZ;
+	}
+
+	public void z(float pNewValue) {
+		mZ = pNewValue;
+	}
+
+	/** Returns the number of floats required to hold the vertices of the given number of particles. */
+	public static int floatsRequired(int pParticleCount) {
+		return pParticleCount * FLOATS_PER_PARTICLE;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	/**
+	 * Writes the vertices of all live particles of the given particle system into the buffer, starting at its current position. Particles which no longer fit into the remaining space of the buffer are
+	 * skipped. Returns the number of vertices written.
+	 */
+	public int buildVertices(ParticleSystemInstance pParticleSystem, FloatBuffer pBuffer) {
+		if (pParticleSystem.usesArrayStorage())
+			return buildVertices(pParticleSystem.particleArrays(), pBuffer);
+
+		return buildVertices(pParticleSystem.particles(), pParticleSystem.aliveCount(), pBuffer);
+
+	}
+
+	/** Writes the vertices of the first pAliveCount particles of the list into the buffer. Returns the number of vertices written. */
+	public int buildVertices(List<Particle> pParticles, int pAliveCount, FloatBuffer pBuffer) {
+		final int lNumParticles = Math.min(pAliveCount, pBuffer.remaining() / FLOATS_PER_PARTICLE);
+
+		for (int i = 0; i < lNumParticles; i++) {
+			final Particle lParticle = pParticles.get(i);
+
+			putParticle(pBuffer, lParticle.worldPositionX, lParticle.worldPositionY, lParticle.width, lParticle.height, lParticle.scale, lParticle.rotationInRadians, lParticle.rox, lParticle.roy, lParticle.sx,
+					lParticle.sy, lParticle.sw, lParticle.sh, lParticle.color.r, lParticle.color.g, lParticle.color.b, lParticle.color.a);
+
+		}
+
+		return lNumParticles * VERTICES_PER_PARTICLE;
+
+	}
+
+	/** Writes the vertices of all live particles of the {@link ParticleArrays} into the buffer. Returns the number of vertices written. */
+	public int buildVertices(ParticleArrays pParticles, FloatBuffer pBuffer) {
+		final int[] lAliveIndices = pParticles.aliveIndices;
+		final int lNumParticles = Math.min(pParticles.aliveCount(), pBuffer.remaining() / FLOATS_PER_PARTICLE);
+
+		for (int i = 0; i < lNumParticles; i++) {
+			final int lSlot = lAliveIndices[i];
+
+			putParticle(pBuffer, pParticles.worldPositionX[lSlot], pParticles.worldPositionY[lSlot], pParticles.width[lSlot], pParticles.height[lSlot], pParticles.scale[lSlot], pParticles.rotationInRadians[lSlot],
+					pParticles.rox[lSlot], pParticles.roy[lSlot], pParticles.sx[lSlot], pParticles.sy[lSlot], pParticles.sw[lSlot], pParticles.sh[lSlot], pParticles.r[lSlot], pParticles.g[lSlot], pParticles.b[lSlot],
+					pParticles.a[lSlot]);
+
+		}
+
+		return lNumParticles * VERTICES_PER_PARTICLE;
+
+	}
+
+	/** Writes a single particle quad, rotated about its center and offset by the rotation origin, in the same vertex order as TextureBatchPCT.drawAroundCenter. */
+	private void putParticle(FloatBuffer pBuffer, float pX, float pY, float pWidth, float pHeight, float pScale, float pRot, float pROX, float pROY, float pSX, float pSY, float pSW, float pSH, float pR, float pG,
+			float pB, float pA) {
+		// Most particles are never rotated, so skip the trig for those
+		float sin = 0.f;
+		float cos = 1.f;
+		if (pRot != 0.f) {
+			sin = (float) Math.sin(pRot);
+			cos = (float) Math.cos(pRot);
+
+		}
+
+		// note: the scale is applied twice, as the particle renderer has always passed the scaled size as well as the scale into drawAroundCenter
+		final float lHalfW = pWidth * pScale * pScale / 2f;
+		final float lHalfH = pHeight * pScale * pScale / 2f;
+
+		final float originX = -pROX;
+		final float originY = -pROY;
+
+		final float lLeftCos = (originX - lHalfW) * cos;
+		final float lLeftSin = (originX - lHalfW) * sin;
+		final float lRightCos = (originX + lHalfW) * cos;
+		final float lRightSin = (originX + lHalfW) * sin;
+		final float lTopCos = (originY - lHalfH) * cos;
+		final float lTopSin = (originY - lHalfH) * sin;
+		final float lBottomCos = (originY + lHalfH) * cos;
+		final float lBottomSin = (originY + lHalfH) * sin;
+
+		// Vertex 0 (bottom left)
+		final float x0 = pX + lLeftCos - lBottomSin;
+		final float y0 = pY + lLeftSin + lBottomCos;
+
+		// Vertex 1 (top left)
+		final float x1 = pX + lLeftCos - lTopSin;
+		final float y1 = pY + lLeftSin + lTopCos;
+
+		// Vertex 2 (top right)
+		final float x2 = pX + lRightCos - lTopSin;
+		final float y2 = pY + lRightSin + lTopCos;
+
+		// Vertex 3 (bottom right)
+		final float x3 = pX + lRightCos - lBottomSin;
+		final float y3 = pY + lRightSin + lBottomCos;
+
+		final float lU0 = pSX * mInvTextureWidth;
+		final float lV0 = pSY * mInvTextureHeight;
+		final float lU1 = (pSX + pSW) * mInvTextureWidth;
+		final float lV1 = (pSY + pSH) * mInvTextureHeight;
+
+		final float[] lVerts = mParticleVertices;
+		int lIndex = 0;
+
+		// Quad ABCD = 1023 (triangles 102 and 203)
+		lIndex = putVertex(lVerts, lIndex, x1, y1, pR, pG, pB, pA, lU0, lV0); // 1
+		lIndex = putVertex(lVerts, lIndex, x0, y0, pR, pG, pB, pA, lU0, lV1); // 0
+		lIndex = putVertex(lVerts, lIndex, x2, y2, pR, pG, pB, pA, lU1, lV0); // 2
+		lIndex = putVertex(lVerts, lIndex, x3, y3, pR, pG, pB, pA, lU1, lV1); // 3
+
+		pBuffer.put(lVerts, 0, FLOATS_PER_PARTICLE);
+
+	}
+
+	private int putVertex(float[] pVerts, int pIndex, float pX, float pY, float pR, float pG, float pB, float pA, float pU, float pV) {
+		pVerts[pIndex++] = pX;
+		pVerts[pIndex++] = pY;
+		pVerts[pIndex++] = mZ;
+		pVerts[pIndex++] = 1f;
+
+		pVerts[pIndex++] = pR;
+		pVerts[pIndex++] = pG;
+		pVerts[pIndex++] = pB;
+		pVerts[pIndex++] = pA;
+
+		pVerts[pIndex++] = pU;
+		pVerts[pIndex++] = pV;
+
+		return pIndex;
+
+	}
+
+}